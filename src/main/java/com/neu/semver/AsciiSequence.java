@@ -0,0 +1,58 @@
+package com.neu.semver;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Read-only {@link CharSequence} view over a region of ASCII bytes, so
+ * raw buffers can be scanned without decoding them into Strings first.
+ * Bytes outside the ASCII range read as characters that no version
+ * grammar accepts.
+ *
+ * @author Yinlu Gong
+ * @version 0.1.0
+ */
+final class AsciiSequence implements CharSequence {
+
+    /** Mask selecting a byte's unsigned value. */
+    private static final int BYTE_MASK = 0xFF;
+
+    /** The backing bytes. */
+    private final byte[] bytes;
+    /** First index of the region. */
+    private final int offset;
+    /** Length of the region. */
+    private final int length;
+
+    /**
+     * Creates a view over a byte region.
+     *
+     * @param data the backing bytes
+     * @param start first index of the region
+     * @param count length of the region
+     */
+    AsciiSequence(final byte[] data, final int start, final int count) {
+        this.bytes = data;
+        this.offset = start;
+        this.length = count;
+    }
+
+    @Override
+    public int length() {
+        return length;
+    }
+
+    @Override
+    public char charAt(final int index) {
+        return (char) (bytes[offset + index] & BYTE_MASK);
+    }
+
+    @Override
+    public CharSequence subSequence(final int start, final int end) {
+        return new AsciiSequence(bytes, offset + start, end - start);
+    }
+
+    @Override
+    public String toString() {
+        return new String(bytes, offset, length, StandardCharsets.ISO_8859_1);
+    }
+}
@@ -0,0 +1,22 @@
+package com.neu.semver;
+
+/**
+ * A validator for versions held in ASCII byte regions, for
+ * implementations that {@link BatchValidator} selects at run time.
+ *
+ * @author Yinlu Gong
+ * @version 0.1.0
+ */
+interface AsciiValidator {
+
+    /**
+     * Checks whether a region of ASCII bytes is a valid version within
+     * the default parser limits. The region has been bounds-checked.
+     *
+     * @param ascii the bytes holding the version
+     * @param offset first index of the version
+     * @param length length of the version in bytes
+     * @return true if the region is a valid version
+     */
+    boolean isValid(byte[] ascii, int offset, int length);
+}
@@ -0,0 +1,224 @@
+package com.neu.semver;
+
+import java.util.BitSet;
+import java.util.List;
+
+/**
+ * Bulk validation of version strings without regular expressions or
+ * exceptions.
+ *
+ * Validation runs the table-driven {@link SemVerScanner}, which looks
+ * up each character's class once and checks the leading-zero and
+ * identifier rules as it goes. No objects are created per input. Inputs
+ * are validated exactly as given; unlike {@link SemVerUtils#isValidVersion}
+ * surrounding whitespace is not trimmed. The parser's
+ * {@link ParserLimits#DEFAULT} limits apply, so a version is valid
+ * exactly when {@link SemVerParser#parse(String)} accepts it.
+ *
+ * Byte regions can be validated with the incubating Vector API, which
+ * classifies up to 64 bytes per instruction sequence and leaves only the
+ * identifier structure to scalar code. It is used when the system
+ * property {@value #VECTOR_PROPERTY} is {@code true}, the JVM was
+ * started with {@code --add-modules jdk.incubator.vector} and the JAR
+ * was built with the {@code vector} profile; otherwise the scalar
+ * scanner is used.
+ *
+ * @author Yinlu Gong
+ * @version 0.1.0
+ */
+public final class BatchValidator {
+
+    /** System property that enables the Vector API validator. */
+    public static final String VECTOR_PROPERTY = "semver.vector";
+
+    /** Module holding the Vector API. */
+    private static final String VECTOR_MODULE = "jdk.incubator.vector";
+    /** Class of the Vector API validator, built by the vector profile. */
+    private static final String VECTOR_CLASS =
+        "com.neu.semver.VectorValidator";
+    /** The Vector API validator, or null if it is not enabled. */
+    private static final AsciiValidator VECTOR = loadVectorValidator();
+
+    /**
+     * Private constructor to prevent instantiation.
+     */
+    private BatchValidator() {
+    }
+
+    /**
+     * Checks whether a character sequence is a valid version.
+     *
+     * @param version the text to check
+     * @return true if valid, false if invalid or null
+     */
+    public static boolean isValid(final CharSequence version) {
+        return version != null && isValid(version, version.length(),
+            new int[SemVerScanner.MARKS_LENGTH]);
+    }
+
+    /**
+     * Checks whether text is a valid version once surrounding whitespace
+     * is ignored, exactly as {@link SemVerParser#parse(String)} decides:
+     * the length limit applies to the text including the whitespace, and
+     * the whitespace is skipped by index rather than trimmed off a copy.
+     *
+     * @param version the text to check
+     * @return true if the parser would accept the text
+     */
+    static boolean isValidIgnoringWhitespace(final CharSequence version) {
+        boolean result = false;
+        if (version != null
+            && version.length() <= ParserLimits.DEFAULT.getMaxLength()) {
+            int start = 0;
+            int end = version.length();
+            while (start < end && version.charAt(start) <= ' ') {
+                start++;
+            }
+            while (end > start && version.charAt(end - 1) <= ' ') {
+                end--;
+            }
+            result = scan(version, start, end,
+                new int[SemVerScanner.MARKS_LENGTH]);
+        }
+        return result;
+    }
+
+    /**
+     * Checks whether a region of ASCII bytes is a valid version.
+     *
+     * @param ascii the bytes holding the version
+     * @param offset first index of the version
+     * @param length length of the version in bytes
+     * @return true if the region is a valid version
+     * @throws IllegalArgumentException if ascii is null
+     * @throws IndexOutOfBoundsException if the region is out of bounds
+     */
+    public static boolean isValid(
+        final byte[] ascii,
+        final int offset,
+        final int length
+    ) {
+        if (ascii == null) {
+            throw new IllegalArgumentException("Bytes cannot be null");
+        }
+        if (offset < 0 || length < 0 || offset > ascii.length - length) {
+            throw new IndexOutOfBoundsException(
+                "Invalid region: offset " + offset + ", length " + length
+            );
+        }
+        return VECTOR == null ? isValidScalar(ascii, offset, length)
+            : VECTOR.isValid(ascii, offset, length);
+    }
+
+    /**
+     * Checks a bounds-checked byte region with the scalar scanner.
+     *
+     * @param ascii the bytes holding the version
+     * @param offset first index of the version
+     * @param length length of the version in bytes
+     * @return true if the region is a valid version
+     */
+    static boolean isValidScalar(
+        final byte[] ascii,
+        final int offset,
+        final int length
+    ) {
+        return isValid(new AsciiSequence(ascii, offset, length), length,
+            new int[SemVerScanner.MARKS_LENGTH]);
+    }
+
+    /**
+     * Returns whether byte regions are validated with the Vector API.
+     *
+     * @return true if the Vector API validator is in use
+     */
+    public static boolean isVectorized() {
+        return VECTOR != null;
+    }
+
+    /**
+     * Validates a list of versions.
+     *
+     * @param versions the versions to validate
+     * @return a bit set with bit {@code i} set when element {@code i} is
+     *         valid; null elements are invalid
+     * @throws IllegalArgumentException if versions is null
+     */
+    public static BitSet validate(final List<? extends CharSequence> versions) {
+        if (versions == null) {
+            throw new IllegalArgumentException(
+                "Versions list cannot be null"
+            );
+        }
+        final BitSet valid = new BitSet(versions.size());
+        final int[] marks = new int[SemVerScanner.MARKS_LENGTH];
+        int index = 0;
+        for (final CharSequence version : versions) {
+            if (version != null
+                && isValid(version, version.length(), marks)) {
+                valid.set(index);
+            }
+            index++;
+        }
+        return valid;
+    }
+
+    /**
+     * Loads the Vector API validator if it is enabled and available.
+     *
+     * @return the validator, or null to use the scalar scanner
+     */
+    private static AsciiValidator loadVectorValidator() {
+        AsciiValidator result = null;
+        if (Boolean.getBoolean(VECTOR_PROPERTY)
+            && ModuleLayer.boot().findModule(VECTOR_MODULE).isPresent()) {
+            try {
+                result = (AsciiValidator) Class.forName(VECTOR_CLASS)
+                    .getDeclaredConstructor().newInstance();
+            } catch (ReflectiveOperationException | LinkageError e) {
+                // Not built with the vector profile, or the module is
+                // not readable; the scalar scanner is always correct.
+                result = null;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Scans a whole sequence within the default parser limits.
+     *
+     * @param text the text to scan
+     * @param length the length of the text
+     * @param marks scratch space for the scanner
+     * @return true if the parser would accept the text
+     */
+    private static boolean isValid(
+        final CharSequence text,
+        final int length,
+        final int[] marks
+    ) {
+        return length <= ParserLimits.DEFAULT.getMaxLength()
+            && scan(text, 0, length, marks);
+    }
+
+    /**
+     * Scans a region within the default identifier limits.
+     *
+     * @param text the text to scan
+     * @param start first index of the region
+     * @param end end of the region, exclusive
+     * @param marks scratch space for the scanner
+     * @return true if the region is a valid version
+     */
+    private static boolean scan(
+        final CharSequence text,
+        final int start,
+        final int end,
+        final int[] marks
+    ) {
+        final ParserLimits limits = ParserLimits.DEFAULT;
+        return SemVerScanner.scan(text, start, end, marks,
+            limits.getMaxIdentifiers(), limits.getMaxIdentifierLength())
+            == SemVerScanner.VALID;
+    }
+}
@@ -0,0 +1,88 @@
+package com.neu.semver;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Executors for tasks that spend most of their time blocked on I/O,
+ * such as HTTP requests and version sources read over the network.
+ *
+ * This is the portable implementation, which runs each task on a
+ * daemon platform thread from a pool of at most {@link #concurrency()}
+ * threads. The pool has no queue: a task submitted while every thread
+ * is busy is rejected, so a burst of work cannot start thousands of
+ * platform threads or build a backlog. The multi-release JAR
+ * replaces it on Java 21 and later with one that starts a virtual
+ * thread per task, so callers get the cheapest thread the running
+ * JVM offers without depending on a newer API themselves.
+ *
+ * @author Yinlu Gong
+ * @version 0.1.0
+ */
+public final class BlockingExecutors {
+
+    /**
+     * Number of blocking tasks worth running at once on platform
+     * threads, each of which reserves a full stack.
+     */
+    private static final int PLATFORM_CONCURRENCY = 64;
+    /** Seconds an idle pool thread waits for work before it exits. */
+    private static final long KEEP_ALIVE_SECONDS = 60L;
+
+    /**
+     * Private constructor to prevent instantiation.
+     */
+    private BlockingExecutors() {
+    }
+
+    /**
+     * Creates an executor that runs every submitted task at once on its
+     * own thread, named {@code name-1}, {@code name-2} and so on. Threads
+     * do not keep the JVM alive; shut the executor down when done. Up
+     * to {@link #concurrency()} tasks run at once; further tasks are
+     * rejected with a {@code RejectedExecutionException} until one ends.
+     *
+     * @param name the thread name prefix
+     * @return a new executor
+     * @throws IllegalArgumentException if name is null
+     */
+    public static ExecutorService newExecutor(final String name) {
+        if (name == null) {
+            throw new IllegalArgumentException("Name cannot be null");
+        }
+        final AtomicInteger created = new AtomicInteger();
+        final ThreadFactory factory = runnable -> {
+            final Thread thread = new Thread(runnable,
+                name + "-" + created.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+        return new ThreadPoolExecutor(0, PLATFORM_CONCURRENCY,
+            KEEP_ALIVE_SECONDS, TimeUnit.SECONDS, new SynchronousQueue<>(),
+            factory);
+    }
+
+    /**
+     * Returns how many blocking tasks can run at once on an executor
+     * created here.
+     *
+     * @return the size of each executor's thread pool
+     */
+    public static int concurrency() {
+        return PLATFORM_CONCURRENCY;
+    }
+
+    /**
+     * Returns whether the executors created here run tasks on virtual
+     * threads.
+     *
+     * @return false for this implementation
+     */
+    public static boolean usesVirtualThreads() {
+        return false;
+    }
+}
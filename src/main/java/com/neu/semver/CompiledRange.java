@@ -0,0 +1,466 @@
+package com.neu.semver;
+
+import java.util.BitSet;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.Predicate;
+
+/**
+ * A version constraint lowered to flat arrays for repeated evaluation.
+ *
+ * The constraint is first normalized to the disjoint intervals of a
+ * {@link VersionRangeSet}; each bound is then stored as the packed core
+ * key of {@link SemVer}, its raw components and its prerelease. Testing
+ * a version walks the intervals in order and decides each bound with a
+ * single long comparison. Prerelease identifiers are consulted only when
+ * the cores tie and one side is a prerelease, so results always match
+ * {@link VersionRange#satisfies(SemVer)}.
+ *
+ * Besides single versions, a compiled range filters whole arrays of
+ * versions or of primitive version columns into a {@link BitSet},
+ * optionally splitting the work across the common fork/join pool.
+ *
+ * Instances are immutable and safe to share between threads.
+ *
+ * @author Yinlu Gong
+ * @version 0.1.0
+ */
+public final class CompiledRange implements Predicate<SemVer> {
+
+    /** Rows per fork/join leaf task; a multiple of the bit set word size. */
+    private static final int LEAF_ROWS = 8192;
+    /** Bits per long word of a bit set. */
+    private static final int WORD_BITS = 64;
+    /** Shift converting a row index to a word index. */
+    private static final int WORD_SHIFT = 6;
+
+    /** Lower bounds of the intervals. */
+    private final Bounds lowers;
+    /** Upper bounds of the intervals, unbounded where absent. */
+    private final Bounds uppers;
+    /** Whether each interval has no effective lower bound. */
+    private final boolean[] unboundedBelow;
+    /** The range text, for display. */
+    private final String source;
+
+    /**
+     * Compiles normalized intervals.
+     *
+     * @param lowerBounds lower bounds in ascending order
+     * @param lowerIncluded whether each lower bound is inclusive
+     * @param minimal whether each lower bound is the lowest version
+     * @param upperBounds upper bounds, null where unbounded
+     * @param upperIncluded whether each upper bound is inclusive
+     * @param text the range text
+     */
+    CompiledRange(
+        final SemVer[] lowerBounds,
+        final boolean[] lowerIncluded,
+        final boolean[] minimal,
+        final SemVer[] upperBounds,
+        final boolean[] upperIncluded,
+        final String text
+    ) {
+        this.lowers = new Bounds(lowerBounds, lowerIncluded);
+        this.uppers = new Bounds(upperBounds, upperIncluded);
+        this.unboundedBelow = minimal;
+        this.source = text;
+    }
+
+    /**
+     * Returns whether a version satisfies the compiled range.
+     *
+     * @param version the version to test
+     * @return true if the version lies in one of the intervals
+     * @throws IllegalArgumentException if version is null
+     */
+    public boolean matches(final SemVer version) {
+        if (version == null) {
+            throw new IllegalArgumentException("Version cannot be null");
+        }
+        return matches(version.coreKey(), version.getMajorLong(),
+            version.getMinorLong(), version.getPatchLong(),
+            version.isPrerelease() ? version.getPrerelease() : null);
+    }
+
+    /**
+     * Same as {@link #matches(SemVer)}.
+     *
+     * @param version the version to test
+     * @return true if the version satisfies the range
+     */
+    @Override
+    public boolean test(final SemVer version) {
+        return matches(version);
+    }
+
+    /**
+     * Returns the indexes of the versions that satisfy the range.
+     *
+     * @param versions the versions to test
+     * @return a bit set with bit {@code i} set if {@code versions[i]}
+     *         satisfies the range
+     * @throws IllegalArgumentException if the array or an element is null
+     */
+    public BitSet filter(final SemVer[] versions) {
+        return filter(versions, false);
+    }
+
+    /**
+     * Returns the indexes of the versions that satisfy the range,
+     * optionally evaluating slices of the array in parallel.
+     *
+     * @param versions the versions to test
+     * @param parallel whether to use the common fork/join pool
+     * @return a bit set with bit {@code i} set if {@code versions[i]}
+     *         satisfies the range
+     * @throws IllegalArgumentException if the array or an element is null
+     */
+    public BitSet filter(final SemVer[] versions, final boolean parallel) {
+        if (versions == null) {
+            throw new IllegalArgumentException("Versions cannot be null");
+        }
+        return run(versions.length, parallel, new Rows() {
+            @Override
+            public boolean matches(final int row) {
+                return CompiledRange.this.matches(versions[row]);
+            }
+        });
+    }
+
+    /**
+     * Returns the rows of a columnar version table that satisfy the
+     * range. Row {@code i} is the version
+     * {@code major[i].minor[i].patch[i]} with prerelease
+     * {@code prerelease[i]}; a null prerelease array, element or empty
+     * string means a release. Prerelease strings are taken as already
+     * validated and are not parsed again.
+     *
+     * @param major the major column
+     * @param minor the minor column
+     * @param patch the patch column
+     * @param prerelease the prerelease column, or null if all rows are
+     *                   releases
+     * @return a bit set with the bit of every matching row set
+     * @throws IllegalArgumentException if a number column is null, the
+     *         columns differ in length or a number is negative
+     */
+    public BitSet filter(
+        final int[] major,
+        final int[] minor,
+        final int[] patch,
+        final String[] prerelease
+    ) {
+        return filter(major, minor, patch, prerelease, false);
+    }
+
+    /**
+     * Columnar variant of {@link #filter(SemVer[], boolean)}; see
+     * {@link #filter(int[], int[], int[], String[])}.
+     *
+     * @param major the major column
+     * @param minor the minor column
+     * @param patch the patch column
+     * @param prerelease the prerelease column, or null if all rows are
+     *                   releases
+     * @param parallel whether to use the common fork/join pool
+     * @return a bit set with the bit of every matching row set
+     * @throws IllegalArgumentException if a number column is null, the
+     *         columns differ in length or a number is negative
+     */
+    public BitSet filter(
+        final int[] major,
+        final int[] minor,
+        final int[] patch,
+        final String[] prerelease,
+        final boolean parallel
+    ) {
+        if (major == null || minor == null || patch == null) {
+            throw new IllegalArgumentException(
+                "Version columns cannot be null");
+        }
+        final int rows = major.length;
+        if (minor.length != rows || patch.length != rows
+            || prerelease != null && prerelease.length != rows) {
+            throw new IllegalArgumentException(
+                "Version columns must have the same length");
+        }
+        return run(rows, parallel, new Rows() {
+            @Override
+            public boolean matches(final int row) {
+                final int x = major[row];
+                final int y = minor[row];
+                final int z = patch[row];
+                if (x < 0 || y < 0 || z < 0) {
+                    throw new IllegalArgumentException(
+                        "Version numbers cannot be negative at row " + row);
+                }
+                String pre = null;
+                if (prerelease != null && prerelease[row] != null
+                    && !prerelease[row].isEmpty()) {
+                    pre = prerelease[row];
+                }
+                return CompiledRange.this.matches(
+                    SemVer.packCore(x, y, z), x, y, z, pre);
+            }
+        });
+    }
+
+    /**
+     * Returns the number of intervals the range compiled to.
+     *
+     * @return the interval count
+     */
+    public int intervalCount() {
+        return unboundedBelow.length;
+    }
+
+    @Override
+    public String toString() {
+        return source;
+    }
+
+    /**
+     * Tests one version given as its parts.
+     *
+     * @param key the packed core key, or {@link SemVer#NO_CORE_KEY}
+     * @param major the major number
+     * @param minor the minor number
+     * @param patch the patch number
+     * @param prerelease the prerelease, or null for a release
+     * @return true if the version lies in one of the intervals
+     */
+    private boolean matches(
+        final long key,
+        final long major,
+        final long minor,
+        final long patch,
+        final String prerelease
+    ) {
+        boolean result = false;
+        boolean searching = true;
+        for (int i = 0; i < unboundedBelow.length && searching; i++) {
+            if (uppers.isPresent(i)) {
+                final int cmp = uppers.compare(i, key, major, minor, patch,
+                    prerelease);
+                // Intervals ascend, so a version below this upper bound
+                // either lies in this interval or in none.
+                searching = cmp > 0 || cmp == 0 && !uppers.isInclusive(i);
+            } else {
+                searching = false;
+            }
+            if (!searching && !unboundedBelow[i]) {
+                final int cmp = lowers.compare(i, key, major, minor, patch,
+                    prerelease);
+                result = cmp > 0 || cmp == 0 && lowers.isInclusive(i);
+            } else {
+                result = !searching;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Evaluates rows into a bit set, sequentially or on the common pool.
+     *
+     * @param count the number of rows
+     * @param parallel whether to fork
+     * @param rows the row predicate
+     * @return the matching rows
+     */
+    private static BitSet run(
+        final int count,
+        final boolean parallel,
+        final Rows rows
+    ) {
+        final long[] words = new long[(count + WORD_BITS - 1) >>> WORD_SHIFT];
+        final FilterTask task = new FilterTask(rows, words, 0, count);
+        if (parallel && count > LEAF_ROWS) {
+            ForkJoinPool.commonPool().invoke(task);
+        } else {
+            task.fill();
+        }
+        return BitSet.valueOf(words);
+    }
+
+    /** A predicate over row indexes. */
+    private interface Rows {
+        /**
+         * Tests one row.
+         *
+         * @param row the row index
+         * @return true if the row matches
+         */
+        boolean matches(int row);
+    }
+
+    /**
+     * Fills the words of a bit set for a slice of rows. Slices are split
+     * on word boundaries, so tasks never write the same word.
+     */
+    private static final class FilterTask extends RecursiveAction {
+
+        /** Serial version UID for serialization compatibility. */
+        private static final long serialVersionUID = 1L;
+
+        /** The row predicate. */
+        private final Rows rows;
+        /** The shared bit set words. */
+        private final long[] words;
+        /** First row of the slice. */
+        private final int from;
+        /** End of the slice, exclusive. */
+        private final int to;
+
+        /**
+         * Creates a task for a slice.
+         *
+         * @param predicate the row predicate
+         * @param target the bit set words
+         * @param start first row
+         * @param end end row, exclusive
+         */
+        FilterTask(
+            final Rows predicate,
+            final long[] target,
+            final int start,
+            final int end
+        ) {
+            this.rows = predicate;
+            this.words = target;
+            this.from = start;
+            this.to = end;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= LEAF_ROWS) {
+                fill();
+            } else {
+                final int middle = from
+                    + ((to - from) / 2 / WORD_BITS) * WORD_BITS;
+                invokeAll(new FilterTask(rows, words, from, middle),
+                    new FilterTask(rows, words, middle, to));
+            }
+        }
+
+        /** Evaluates the slice on the calling thread. */
+        void fill() {
+            for (int row = from; row < to; row++) {
+                if (rows.matches(row)) {
+                    words[row >>> WORD_SHIFT] |= 1L << row;
+                }
+            }
+        }
+    }
+
+    /** One side of the intervals, unpacked into parallel arrays. */
+    private static final class Bounds {
+
+        /** Packed core keys. */
+        private final long[] keys;
+        /** Major numbers. */
+        private final long[] majors;
+        /** Minor numbers. */
+        private final long[] minors;
+        /** Patch numbers. */
+        private final long[] patches;
+        /** Prereleases, null for releases. */
+        private final String[] prereleases;
+        /** Whether each bound is present. */
+        private final boolean[] present;
+        /** Whether each bound is inclusive. */
+        private final boolean[] inclusive;
+
+        /**
+         * Unpacks bounds.
+         *
+         * @param bounds the bound versions, null where absent
+         * @param included whether each bound is inclusive
+         */
+        Bounds(final SemVer[] bounds, final boolean[] included) {
+            final int count = bounds.length;
+            this.keys = new long[count];
+            this.majors = new long[count];
+            this.minors = new long[count];
+            this.patches = new long[count];
+            this.prereleases = new String[count];
+            this.present = new boolean[count];
+            this.inclusive = included;
+            for (int i = 0; i < count; i++) {
+                final SemVer bound = bounds[i];
+                if (bound != null) {
+                    present[i] = true;
+                    keys[i] = bound.coreKey();
+                    majors[i] = bound.getMajorLong();
+                    minors[i] = bound.getMinorLong();
+                    patches[i] = bound.getPatchLong();
+                    if (bound.isPrerelease()) {
+                        prereleases[i] = bound.getPrerelease();
+                    }
+                }
+            }
+        }
+
+        /**
+         * Returns whether a bound is present.
+         *
+         * @param index the interval
+         * @return true if bounded
+         */
+        boolean isPresent(final int index) {
+            return present[index];
+        }
+
+        /**
+         * Returns whether a bound is inclusive.
+         *
+         * @param index the interval
+         * @return true if inclusive
+         */
+        boolean isInclusive(final int index) {
+            return inclusive[index];
+        }
+
+        /**
+         * Compares a version with one bound by precedence.
+         *
+         * @param index the interval
+         * @param key the version's packed core key
+         * @param major the major number
+         * @param minor the minor number
+         * @param patch the patch number
+         * @param prerelease the prerelease, or null
+         * @return negative, zero or positive as the version is below,
+         *         equal to or above the bound
+         */
+        int compare(
+            final int index,
+            final long key,
+            final long major,
+            final long minor,
+            final long patch,
+            final String prerelease
+        ) {
+            int result;
+            if (key != SemVer.NO_CORE_KEY
+                && keys[index] != SemVer.NO_CORE_KEY) {
+                result = Long.compare(key, keys[index]);
+            } else {
+                result = Long.compare(major, majors[index]);
+                if (result == 0) {
+                    result = Long.compare(minor, minors[index]);
+                }
+                if (result == 0) {
+                    result = Long.compare(patch, patches[index]);
+                }
+            }
+            if (result == 0
+                && (prerelease != null || prereleases[index] != null)) {
+                result = SemVerComparator.comparePrerelease(
+                    prerelease, prereleases[index]);
+            }
+            return result;
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.neu.semver;
+
+/**
+ * Decimal digit accumulation for the numeric components of a version.
+ *
+ * Overflow is detected by comparing against a quotient by the radix,
+ * which the JIT compiles into a multiply.
+ *
+ * @author Yinlu Gong
+ * @version 0.1.0
+ */
+final class Digits {
+
+    /** Returned by {@link #append} when the value would overflow. */
+    static final long OVERFLOW = -1L;
+
+    /** Radix of numeric components. */
+    private static final int RADIX = 10;
+
+    /**
+     * Private constructor to prevent instantiation.
+     */
+    private Digits() {
+    }
+
+    /**
+     * Appends one decimal digit to a non-negative value.
+     *
+     * @param value the value so far, at least 0
+     * @param digit the digit, 0 to 9
+     * @return {@code value * 10 + digit}, or {@link #OVERFLOW} if that
+     *         is larger than {@link Long#MAX_VALUE}
+     */
+    static long append(final long value, final int digit) {
+        return value > (Long.MAX_VALUE - digit) / RADIX ? OVERFLOW
+            : value * RADIX + digit;
+    }
+}
@@ -0,0 +1,246 @@
+package com.neu.semver;
+
+import java.util.Iterator;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Bounded, thread-safe pool that deduplicates prerelease and build strings
+ * across parsed versions.
+ *
+ * Prerelease and build tags repeat heavily in real version streams
+ * ("alpha", "rc.1", "SNAPSHOT"), yet every parse would otherwise own a
+ * fresh String instance. Passing a pool to
+ * {@link SemVerParser#parse(String, IdentifierPool)} makes all versions
+ * share one instance per distinct value.
+ *
+ * A value is pooled on its second sighting: the first is only noted, by
+ * hash, in a fixed-size table of recent sightings, and the value itself
+ * is returned. A stream of unique build ids, each seen once, therefore
+ * only overwrites that table and never fills the pool, while a repeated
+ * tag is pooled as soon as it is seen again. When a value qualifies and
+ * the pool already holds {@code maxSize} entries, an arbitrary pooled
+ * value is evicted to make room, so a pool filled early by values that
+ * stop appearing does not keep later repeated tags out. Memory stays
+ * bounded for unbounded streams; instances handed out before an
+ * eviction stay valid but are no longer shared with later lookups.
+ *
+ * @author Yinlu Gong
+ * @version 0.1.0
+ */
+public final class IdentifierPool {
+
+    /** Smallest table of recent sightings. */
+    private static final int MIN_SIGHTINGS = 64;
+    /** Largest table of recent sightings, 4 MiB. */
+    private static final int MAX_SIGHTINGS = 1 << 20;
+    /** Marker stored for a value whose hash code is 0. */
+    private static final int ZERO_HASH = 1;
+
+    /** Canonical instances keyed by value. */
+    private final ConcurrentMap<String, String> entries;
+    /** Maximum number of distinct values held by the pool. */
+    private final int maxSize;
+    /**
+     * Number of pooled entries plus admissions in progress; never more
+     * than {@link #maxSize}.
+     */
+    private final AtomicInteger size = new AtomicInteger();
+    /** Hash codes of values seen once, by hash; 0 marks an empty slot. */
+    private final AtomicIntegerArray sightings;
+    /** Number of intern requests for non-null values. */
+    private final LongAdder lookups = new LongAdder();
+    /** Number of requests answered with an already pooled instance. */
+    private final LongAdder hits = new LongAdder();
+
+    /**
+     * Creates a pool holding at most {@code maxEntries} distinct values.
+     *
+     * @param maxEntries the maximum number of pooled values
+     * @throws IllegalArgumentException if maxEntries is not positive
+     */
+    public IdentifierPool(final int maxEntries) {
+        if (maxEntries <= 0) {
+            throw new IllegalArgumentException(
+                "Pool size must be positive: " + maxEntries
+            );
+        }
+        this.maxSize = maxEntries;
+        this.entries = new ConcurrentHashMap<>();
+        // The next power of two at or above the capacity, within bounds.
+        this.sightings = new AtomicIntegerArray(Math.max(MIN_SIGHTINGS,
+            Integer.highestOneBit(Math.min(maxEntries, MAX_SIGHTINGS) - 1)
+                << 1));
+    }
+
+    /**
+     * Returns the pooled instance equal to {@code value}, adding it to
+     * the pool if it was seen recently.
+     *
+     * @param value the string to deduplicate, may be null
+     * @return the shared instance, {@code value} itself when it is not
+     *         pooled, or null if {@code value} is null
+     */
+    public String intern(final String value) {
+        String result = value;
+        if (value != null) {
+            lookups.increment();
+            final String pooled = entries.get(value);
+            if (pooled != null) {
+                recordHit();
+                result = pooled;
+            } else if (seenBefore(value)) {
+                result = admit(value);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Notes a sighting of a value that is not pooled.
+     *
+     * @param value the value
+     * @return true if the value's hash was already noted
+     */
+    private boolean seenBefore(final String value) {
+        final int hash = value.hashCode();
+        final int mark = hash == 0 ? ZERO_HASH : hash;
+        final int slot = (hash ^ hash >>> Short.SIZE)
+            & sightings.length() - 1;
+        final boolean result = sightings.get(slot) == mark;
+        if (!result) {
+            sightings.set(slot, mark);
+        }
+        return result;
+    }
+
+    /**
+     * Adds a value to the pool, evicting another one if it is full.
+     *
+     * @param value the value
+     * @return the pooled instance, or value if no room could be made
+     */
+    private String admit(final String value) {
+        boolean reserved = reserve();
+        if (!reserved) {
+            evictOne();
+            reserved = reserve();
+        }
+        String result = value;
+        if (reserved) {
+            final String previous = entries.putIfAbsent(value, value);
+            if (previous != null) {
+                size.decrementAndGet();
+                recordHit();
+                result = previous;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Reserves room for one entry.
+     *
+     * @return true if the pool was below capacity
+     */
+    private boolean reserve() {
+        boolean result = false;
+        int current = size.get();
+        while (!result && current < maxSize) {
+            result = size.compareAndSet(current, current + 1);
+            current = size.get();
+        }
+        return result;
+    }
+
+    /**
+     * Removes one pooled entry, if any, and releases its room.
+     */
+    private void evictOne() {
+        final Iterator<String> keys = entries.keySet().iterator();
+        if (keys.hasNext() && entries.remove(keys.next()) != null) {
+            size.decrementAndGet();
+        }
+    }
+
+    /**
+     * Counts a deduplicated lookup.
+     */
+    private void recordHit() {
+        hits.increment();
+        final SemVerMetrics metrics = MetricsHolder.get();
+        if (metrics != null) {
+            metrics.identifierPoolHit();
+        }
+    }
+
+    /**
+     * Returns the number of distinct values currently pooled.
+     *
+     * @return the pool size
+     */
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * Returns the maximum number of distinct values this pool holds.
+     *
+     * @return the pool capacity
+     */
+    public int capacity() {
+        return maxSize;
+    }
+
+    /**
+     * Returns the number of non-null values passed to {@link #intern}.
+     *
+     * @return the lookup count
+     */
+    public long lookups() {
+        return lookups.sum();
+    }
+
+    /**
+     * Returns the number of lookups answered with a shared instance.
+     *
+     * @return the hit count
+     */
+    public long hits() {
+        return hits.sum();
+    }
+
+    /**
+     * Returns the fraction of lookups that were deduplicated.
+     *
+     * @return the dedupe ratio between 0.0 and 1.0, or 0.0 when the pool
+     *         has not been used
+     */
+    public double dedupeRatio() {
+        final long total = lookups.sum();
+        double ratio = 0.0;
+        if (total > 0) {
+            ratio = (double) hits.sum() / total;
+        }
+        return ratio;
+    }
+
+    /**
+     * Removes all pooled values and resets the statistics.
+     */
+    public void clear() {
+        for (final String key : entries.keySet()) {
+            if (entries.remove(key) != null) {
+                size.decrementAndGet();
+            }
+        }
+        for (int i = 0; i < sightings.length(); i++) {
+            sightings.set(i, 0);
+        }
+        lookups.reset();
+        hits.reset();
+    }
+}
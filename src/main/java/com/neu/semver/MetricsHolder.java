@@ -0,0 +1,37 @@
+package com.neu.semver;
+
+/**
+ * Holds the installed {@link SemVerMetrics} sink.
+ *
+ * @author Yinlu Gong
+ * @version 0.1.0
+ */
+final class MetricsHolder {
+
+    /** The installed sink, or null when metrics are disabled. */
+    private static volatile SemVerMetrics current;
+
+    /**
+     * Private constructor to prevent instantiation.
+     */
+    private MetricsHolder() {
+    }
+
+    /**
+     * Returns the installed sink.
+     *
+     * @return the installed sink, or null when metrics are disabled
+     */
+    static SemVerMetrics get() {
+        return current;
+    }
+
+    /**
+     * Installs a sink.
+     *
+     * @param metrics the sink, or null to disable metrics
+     */
+    static void set(final SemVerMetrics metrics) {
+        current = metrics;
+    }
+}
@@ -0,0 +1,23 @@
+package com.neu.semver;
+
+/**
+ * A change the parser made to its input to obtain a valid version.
+ * Reported through {@link ParseResult#getNormalizations()}.
+ *
+ * @author Yinlu Gong
+ * @version 0.1.0
+ */
+public enum Normalization {
+    /** Leading or trailing whitespace was removed. */
+    TRIMMED_WHITESPACE,
+    /** A "v" or "V" prefix was removed. */
+    STRIPPED_PREFIX,
+    /** The minor number was missing and defaulted to 0. */
+    DEFAULTED_MINOR,
+    /** The patch number was missing and defaulted to 0. */
+    DEFAULTED_PATCH,
+    /** Leading zeros were removed from a core number. */
+    STRIPPED_LEADING_ZEROS,
+    /** The version was extracted from surrounding text. */
+    EXTRACTED_SUBSTRING
+}
@@ -0,0 +1,96 @@
+package com.neu.semver;
+
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * The outcome of {@link SemVerParser#parseResult(String,
+ * SemVerParser.Options)}: the parsed version, the region of the input it
+ * was read from, and the normalizations applied to get there.
+ *
+ * @author Yinlu Gong
+ * @version 0.1.0
+ */
+public final class ParseResult {
+
+    /** The parsed version. */
+    private final SemVer version;
+    /** The normalizations applied, unmodifiable. */
+    private final Set<Normalization> normalizations;
+    /** Index of the first character of the version in the input. */
+    private final int start;
+    /** Index after the last character of the version in the input. */
+    private final int end;
+
+    /**
+     * Creates a result.
+     *
+     * @param parsed the parsed version
+     * @param applied the normalizations applied; not copied
+     * @param versionStart first index of the version in the input
+     * @param versionEnd index after the version in the input
+     */
+    ParseResult(
+        final SemVer parsed,
+        final EnumSet<Normalization> applied,
+        final int versionStart,
+        final int versionEnd
+    ) {
+        this.version = parsed;
+        this.normalizations = Collections.unmodifiableSet(applied);
+        this.start = versionStart;
+        this.end = versionEnd;
+    }
+
+    /**
+     * Returns the parsed version.
+     *
+     * @return the version
+     */
+    public SemVer getVersion() {
+        return version;
+    }
+
+    /**
+     * Returns the normalizations applied to the input.
+     *
+     * @return an unmodifiable set, empty if the input was canonical
+     */
+    public Set<Normalization> getNormalizations() {
+        return normalizations;
+    }
+
+    /**
+     * Returns whether the input needed any normalization.
+     *
+     * @return true if at least one normalization was applied
+     */
+    public boolean isNormalized() {
+        return !normalizations.isEmpty();
+    }
+
+    /**
+     * Returns the index in the input where the version text starts,
+     * after any whitespace or prefix.
+     *
+     * @return the start index, inclusive
+     */
+    public int getStart() {
+        return start;
+    }
+
+    /**
+     * Returns the index in the input where the version text ends.
+     *
+     * @return the end index, exclusive
+     */
+    public int getEnd() {
+        return end;
+    }
+
+    @Override
+    public String toString() {
+        return "ParseResult[" + version + ", " + normalizations + "]";
+    }
+}
@@ -0,0 +1,122 @@
+package com.neu.semver;
+
+/**
+ * Size limits applied by {@link SemVerParser} before and during parsing.
+ *
+ * The total length is checked before any other work, including trimming,
+ * so oversize untrusted input is rejected in constant time. Identifier
+ * limits apply to prerelease and build identifiers together and are
+ * enforced while scanning, so parsing stops as soon as one is exceeded.
+ * Instances are immutable.
+ *
+ * @author Yinlu Gong
+ * @version 0.1.0
+ */
+public final class ParserLimits {
+
+    /** Default maximum length of a version string. */
+    private static final int DEFAULT_MAX_LENGTH = 1024;
+    /** Default maximum number of prerelease and build identifiers. */
+    private static final int DEFAULT_MAX_IDENTIFIERS = 128;
+    /** Default maximum length of a single identifier. */
+    private static final int DEFAULT_MAX_IDENTIFIER_LENGTH = 256;
+
+    /**
+     * Limits used by {@link SemVerParser#parse(String)}: 1024 characters,
+     * 128 identifiers, 256 characters per identifier.
+     */
+    public static final ParserLimits DEFAULT = new ParserLimits(
+        DEFAULT_MAX_LENGTH,
+        DEFAULT_MAX_IDENTIFIERS,
+        DEFAULT_MAX_IDENTIFIER_LENGTH
+    );
+
+    /** Limits that accept any input a String can hold. */
+    public static final ParserLimits UNLIMITED = new ParserLimits(
+        Integer.MAX_VALUE, Integer.MAX_VALUE, Integer.MAX_VALUE
+    );
+
+    /** Maximum length of the input, including surrounding whitespace. */
+    private final int maxLength;
+    /** Maximum number of prerelease and build identifiers. */
+    private final int maxIdentifiers;
+    /** Maximum length of a single identifier. */
+    private final int maxIdentifierLength;
+
+    /**
+     * Creates limits.
+     *
+     * @param length the maximum input length
+     * @param identifiers the maximum identifier count
+     * @param identifierLength the maximum identifier length
+     */
+    private ParserLimits(
+        final int length,
+        final int identifiers,
+        final int identifierLength
+    ) {
+        this.maxLength = length;
+        this.maxIdentifiers = identifiers;
+        this.maxIdentifierLength = identifierLength;
+    }
+
+    /**
+     * Creates custom limits.
+     *
+     * @param maxLength the maximum input length, including whitespace
+     * @param maxIdentifiers the maximum number of prerelease and build
+     *                       identifiers
+     * @param maxIdentifierLength the maximum length of one identifier
+     * @return the limits
+     * @throws IllegalArgumentException if any limit is not positive
+     */
+    public static ParserLimits of(
+        final int maxLength,
+        final int maxIdentifiers,
+        final int maxIdentifierLength
+    ) {
+        if (maxLength <= 0 || maxIdentifiers <= 0
+            || maxIdentifierLength <= 0) {
+            throw new IllegalArgumentException(
+                "Parser limits must be positive"
+            );
+        }
+        return new ParserLimits(
+            maxLength, maxIdentifiers, maxIdentifierLength
+        );
+    }
+
+    /**
+     * Returns the maximum input length.
+     *
+     * @return the maximum input length
+     */
+    public int getMaxLength() {
+        return maxLength;
+    }
+
+    /**
+     * Returns the maximum number of prerelease and build identifiers.
+     *
+     * @return the maximum identifier count
+     */
+    public int getMaxIdentifiers() {
+        return maxIdentifiers;
+    }
+
+    /**
+     * Returns the maximum length of a single identifier.
+     *
+     * @return the maximum identifier length
+     */
+    public int getMaxIdentifierLength() {
+        return maxIdentifierLength;
+    }
+
+    @Override
+    public String toString() {
+        return "ParserLimits[maxLength=" + maxLength
+            + ", maxIdentifiers=" + maxIdentifiers
+            + ", maxIdentifierLength=" + maxIdentifierLength + "]";
+    }
+}
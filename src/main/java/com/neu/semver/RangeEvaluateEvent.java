@@ -0,0 +1,64 @@
+package com.neu.semver;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Threshold;
+
+/**
+ * Flight Recorder event for a slow evaluation of one
+ * {@link VersionRange} against many versions.
+ *
+ * @author Yinlu Gong
+ * @version 0.1.0
+ */
+@Name("com.neu.semver.RangeEvaluate")
+@Label("SemVer Range Evaluation")
+@Category("SemVer")
+@Description("Evaluation of a version range against a set of versions")
+@Enabled(false)
+@Threshold("10 ms")
+final class RangeEvaluateEvent extends Event {
+
+    /** The range expression. */
+    @Label("Range")
+    private String range;
+
+    /** Number of versions evaluated. */
+    @Label("Candidates")
+    private int candidates;
+
+    /** Number of versions satisfying the range. */
+    @Label("Matches")
+    private int matches;
+
+    /**
+     * Sets the range field.
+     *
+     * @param value the range expression
+     */
+    void setRange(final String value) {
+        this.range = value;
+    }
+
+    /**
+     * Sets the candidates field.
+     *
+     * @param value the number of versions evaluated
+     */
+    void setCandidates(final int value) {
+        this.candidates = value;
+    }
+
+    /**
+     * Sets the matches field.
+     *
+     * @param value the number of matching versions
+     */
+    void setMatches(final int value) {
+        this.matches = value;
+    }
+}
@@ -0,0 +1,530 @@
+package com.neu.semver;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * An index answering which of many ranges a single version satisfies.
+ *
+ * Each registered range is normalized to the disjoint intervals of a
+ * {@link VersionRangeSet}. All intervals of all ranges are kept in one
+ * interval tree: a treap ordered by lower bound, where every node also
+ * records the highest upper bound in its subtree. A lookup descends only
+ * into subtrees whose lowest lower bound is not above the version and
+ * whose highest upper bound is not below it, so it visits
+ * O(log n + k) nodes in expectation for k matches instead of testing
+ * every range. Ranges can be added and removed at any time in
+ * O(log n) expected time per interval.
+ *
+ * Bounds are ordered by {@link SemVerComparator} precedence. Lookups run
+ * concurrently with each other; updates are exclusive.
+ *
+ * @author Yinlu Gong
+ * @version 0.1.0
+ */
+public final class RangeMatcherIndex {
+
+    /** Empty lookup result. */
+    private static final int[] NONE = new int[0];
+
+    /** Registered ranges by subscriber id. */
+    private final Map<Integer, VersionRangeSet> ranges = new HashMap<>();
+    /** Node priorities. */
+    private final SplittableRandom random = new SplittableRandom();
+    /** Guards the tree and the range map. */
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    /** Root of the interval treap. */
+    private Node root;
+    /** Number of intervals in the treap. */
+    private int intervals;
+
+    /** Creates an empty index. */
+    public RangeMatcherIndex() { }
+
+    /**
+     * Registers a range, replacing any range already registered under
+     * the same id.
+     *
+     * @param id the subscriber id
+     * @param range the range
+     * @throws IllegalArgumentException if range is null
+     */
+    public void add(final int id, final VersionRange range) {
+        if (range == null) {
+            throw new IllegalArgumentException("Range cannot be null");
+        }
+        add(id, VersionRangeSet.of(range));
+    }
+
+    /**
+     * Registers a set of versions, replacing any range already
+     * registered under the same id.
+     *
+     * @param id the subscriber id
+     * @param set the versions the subscriber is interested in
+     * @throws IllegalArgumentException if set is null
+     */
+    public void add(final int id, final VersionRangeSet set) {
+        if (set == null) {
+            throw new IllegalArgumentException("Range cannot be null");
+        }
+        lock.writeLock().lock();
+        try {
+            final VersionRangeSet previous = ranges.put(id, set);
+            if (previous != null) {
+                detach(id, previous);
+            }
+            for (int i = 0; i < set.intervalCount(); i++) {
+                root = insert(root, new Node(id, set, i, random.nextInt()));
+                intervals++;
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Removes the range registered under an id.
+     *
+     * @param id the subscriber id
+     * @return true if a range was registered
+     */
+    public boolean remove(final int id) {
+        lock.writeLock().lock();
+        try {
+            final VersionRangeSet previous = ranges.remove(id);
+            if (previous != null) {
+                detach(id, previous);
+            }
+            return previous != null;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Returns whether a range is registered under an id.
+     *
+     * @param id the subscriber id
+     * @return true if registered
+     */
+    public boolean contains(final int id) {
+        lock.readLock().lock();
+        try {
+            return ranges.containsKey(id);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the number of registered ranges.
+     *
+     * @return the range count
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return ranges.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the number of intervals the registered ranges normalized
+     * to.
+     *
+     * @return the interval count
+     */
+    public int intervalCount() {
+        lock.readLock().lock();
+        try {
+            return intervals;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the ids of all ranges the version satisfies.
+     *
+     * @param version the version
+     * @return the matching ids in ascending order
+     * @throws IllegalArgumentException if version is null
+     */
+    public int[] matching(final SemVer version) {
+        if (version == null) {
+            throw new IllegalArgumentException("Version cannot be null");
+        }
+        lock.readLock().lock();
+        try {
+            int[] result = NONE;
+            if (root != null) {
+                final Matches matches = new Matches();
+                collect(root, version, matches);
+                result = matches.toSortedArray();
+            }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Removes the intervals of a range from the tree.
+     *
+     * @param id the subscriber id
+     * @param set the range
+     */
+    private void detach(final int id, final VersionRangeSet set) {
+        for (int i = 0; i < set.intervalCount(); i++) {
+            root = delete(root, id, set.lowerBound(i), set.isLowerInclusive(i));
+            intervals--;
+        }
+    }
+
+    /**
+     * Inserts a node below a subtree root.
+     *
+     * @param node the subtree root, or null
+     * @param inserted the node to insert
+     * @return the new subtree root
+     */
+    private static Node insert(final Node node, final Node inserted) {
+        Node result = inserted;
+        if (node != null) {
+            result = node;
+            if (inserted.compareKey(node) < 0) {
+                node.left = insert(node.left, inserted);
+                if (node.left.priority > node.priority) {
+                    result = rotateRight(node);
+                }
+            } else {
+                node.right = insert(node.right, inserted);
+                if (node.right.priority > node.priority) {
+                    result = rotateLeft(node);
+                }
+            }
+            node.update();
+            result.update();
+        }
+        return result;
+    }
+
+    /**
+     * Deletes the node with a given key below a subtree root.
+     *
+     * @param node the subtree root
+     * @param id the subscriber id of the node
+     * @param lower the lower bound of the node
+     * @param inclusive whether that bound is inclusive
+     * @return the new subtree root
+     */
+    private static Node delete(
+        final Node node,
+        final int id,
+        final SemVer lower,
+        final boolean inclusive
+    ) {
+        Node result = node;
+        if (node != null) {
+            final int cmp = Node.compareKeys(id, lower, inclusive,
+                node.id, node.lower, node.lowerInclusive);
+            if (cmp < 0) {
+                node.left = delete(node.left, id, lower, inclusive);
+            } else if (cmp > 0) {
+                node.right = delete(node.right, id, lower, inclusive);
+            } else {
+                result = merge(node.left, node.right);
+            }
+            if (result != null) {
+                result.update();
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Joins two treaps where every key of the first precedes the second.
+     *
+     * @param left the lower treap
+     * @param right the upper treap
+     * @return the joined treap
+     */
+    private static Node merge(final Node left, final Node right) {
+        Node result;
+        if (left == null) {
+            result = right;
+        } else if (right == null) {
+            result = left;
+        } else if (left.priority > right.priority) {
+            left.right = merge(left.right, right);
+            left.update();
+            result = left;
+        } else {
+            right.left = merge(left, right.left);
+            right.update();
+            result = right;
+        }
+        return result;
+    }
+
+    /**
+     * Rotates a subtree right.
+     *
+     * @param node the subtree root
+     * @return the new root
+     */
+    private static Node rotateRight(final Node node) {
+        final Node pivot = node.left;
+        node.left = pivot.right;
+        pivot.right = node;
+        return pivot;
+    }
+
+    /**
+     * Rotates a subtree left.
+     *
+     * @param node the subtree root
+     * @return the new root
+     */
+    private static Node rotateLeft(final Node node) {
+        final Node pivot = node.right;
+        node.right = pivot.left;
+        pivot.left = node;
+        return pivot;
+    }
+
+    /**
+     * Collects the ids of intervals containing a version.
+     *
+     * @param node the subtree root
+     * @param version the version
+     * @param matches the collected ids
+     */
+    private static void collect(
+        final Node node,
+        final SemVer version,
+        final Matches matches
+    ) {
+        if (node != null && !below(node.maxUpper, node.maxUpperInclusive,
+            version)) {
+            collect(node.left, version, matches);
+            final int cmp =
+                SemVerComparator.INSTANCE.compare(version, node.lower);
+            if (cmp > 0 || cmp == 0 && node.lowerInclusive) {
+                if (!below(node.upper, node.upperInclusive, version)) {
+                    matches.add(node.id);
+                }
+                // Right subtree lower bounds are at least this one, so
+                // it is only worth visiting when this one admits version.
+                collect(node.right, version, matches);
+            }
+        }
+    }
+
+    /**
+     * Returns whether an upper bound lies below a version.
+     *
+     * @param upper the upper bound, or null if unbounded
+     * @param inclusive whether the bound is inclusive
+     * @param version the version
+     * @return true if the version exceeds the bound
+     */
+    private static boolean below(
+        final SemVer upper,
+        final boolean inclusive,
+        final SemVer version
+    ) {
+        boolean result = false;
+        if (upper != null) {
+            final int cmp = SemVerComparator.INSTANCE.compare(version, upper);
+            result = cmp > 0 || cmp == 0 && !inclusive;
+        }
+        return result;
+    }
+
+    /**
+     * Compares two upper bounds; null is unbounded.
+     *
+     * @param upper1 the first bound
+     * @param inclusive1 whether the first bound is inclusive
+     * @param upper2 the second bound
+     * @param inclusive2 whether the second bound is inclusive
+     * @return negative, zero or positive as the first bound admits fewer,
+     *         the same or more versions
+     */
+    private static int compareUpper(
+        final SemVer upper1,
+        final boolean inclusive1,
+        final SemVer upper2,
+        final boolean inclusive2
+    ) {
+        int result;
+        if (upper1 == null || upper2 == null) {
+            result = Boolean.compare(upper1 == null, upper2 == null);
+        } else {
+            result = SemVerComparator.INSTANCE.compare(upper1, upper2);
+            if (result == 0) {
+                result = Boolean.compare(inclusive1, inclusive2);
+            }
+        }
+        return result;
+    }
+
+    /** A growable list of ids. */
+    private static final class Matches {
+
+        /** Initial capacity. */
+        private static final int INITIAL_CAPACITY = 16;
+
+        /** The ids. */
+        private int[] ids = new int[INITIAL_CAPACITY];
+        /** Number of ids. */
+        private int count;
+
+        /**
+         * Appends an id.
+         *
+         * @param id the id
+         */
+        void add(final int id) {
+            if (count == ids.length) {
+                ids = Arrays.copyOf(ids, count * 2);
+            }
+            ids[count++] = id;
+        }
+
+        /**
+         * Returns the ids in ascending order.
+         *
+         * @return the sorted ids
+         */
+        int[] toSortedArray() {
+            final int[] result = Arrays.copyOf(ids, count);
+            Arrays.sort(result);
+            return result;
+        }
+    }
+
+    /** One interval of one registered range. */
+    private static final class Node {
+
+        /** Subscriber id. */
+        private final int id;
+        /** Lower bound. */
+        private final SemVer lower;
+        /** Whether the lower bound is inclusive. */
+        private final boolean lowerInclusive;
+        /** Upper bound, or null if unbounded. */
+        private final SemVer upper;
+        /** Whether the upper bound is inclusive. */
+        private final boolean upperInclusive;
+        /** Heap priority. */
+        private final int priority;
+        /** Left child. */
+        private Node left;
+        /** Right child. */
+        private Node right;
+        /** Highest upper bound in this subtree, null if unbounded. */
+        private SemVer maxUpper;
+        /** Whether {@link #maxUpper} is inclusive. */
+        private boolean maxUpperInclusive;
+
+        /**
+         * Creates a node for one interval of a range.
+         *
+         * @param subscriber the subscriber id
+         * @param set the range
+         * @param index the interval
+         * @param heapPriority the heap priority
+         */
+        Node(
+            final int subscriber,
+            final VersionRangeSet set,
+            final int index,
+            final int heapPriority
+        ) {
+            this.id = subscriber;
+            this.lower = set.lowerBound(index);
+            this.lowerInclusive = set.isLowerInclusive(index);
+            this.upper = set.upperBound(index);
+            this.upperInclusive = set.isUpperInclusive(index);
+            this.priority = heapPriority;
+            this.maxUpper = upper;
+            this.maxUpperInclusive = upperInclusive;
+            this.left = null;
+            this.right = null;
+        }
+
+        /**
+         * Recomputes the subtree maximum from the children.
+         */
+        void update() {
+            maxUpper = upper;
+            maxUpperInclusive = upperInclusive;
+            absorb(left);
+            absorb(right);
+        }
+
+        /**
+         * Raises the subtree maximum to a child's.
+         *
+         * @param child the child, or null
+         */
+        private void absorb(final Node child) {
+            if (child != null && compareUpper(child.maxUpper,
+                child.maxUpperInclusive, maxUpper, maxUpperInclusive) > 0) {
+                maxUpper = child.maxUpper;
+                maxUpperInclusive = child.maxUpperInclusive;
+            }
+        }
+
+        /**
+         * Orders nodes by lower bound, then inclusivity, then id.
+         *
+         * @param other the other node
+         * @return the comparison result
+         */
+        int compareKey(final Node other) {
+            return compareKeys(id, lower, lowerInclusive,
+                other.id, other.lower, other.lowerInclusive);
+        }
+
+        /**
+         * Compares two keys.
+         *
+         * @param id the first key's id
+         * @param lower the first key's lower bound
+         * @param inclusive whether the first key's bound is inclusive
+         * @param otherId the second key's id
+         * @param otherLower the second key's lower bound
+         * @param otherInclusive whether the second key's bound is inclusive
+         * @return negative, zero or positive as the first key sorts before,
+         *         with or after the second
+         */
+        static int compareKeys(
+            final int id,
+            final SemVer lower,
+            final boolean inclusive,
+            final int otherId,
+            final SemVer otherLower,
+            final boolean otherInclusive
+        ) {
+            int result = SemVerComparator.INSTANCE.compare(lower, otherLower);
+            if (result == 0) {
+                // An inclusive bound admits more, so it sorts first.
+                result = Boolean.compare(otherInclusive, inclusive);
+            }
+            if (result == 0) {
+                result = Integer.compare(id, otherId);
+            }
+            return result;
+        }
+    }
+}
@@ -11,20 +11,39 @@ import java.util.Objects;
  */
 public final class SemVer implements Comparable<SemVer> {
 
-
+    /** Key value used when the core cannot be packed into 63 bits. */
+    static final long NO_CORE_KEY = -1L;
+    /** Bits reserved for each core component in the packed key. */
+    private static final int CORE_KEY_BITS = 21;
+    /** Exclusive upper bound of a core component that fits the key. */
+    private static final int CORE_KEY_LIMIT = 1 << CORE_KEY_BITS;
 
     /** The major version number. */
-    private final int major;
+    private final long major;
     /** The minor version number. */
-    private final int minor;
+    private final long minor;
     /** The patch version number. */
-    private final int patch;
+    private final long patch;
     /** The prerelease identifier, or null if not present. */
     private final String prerelease;
     /** The build metadata, or null if not present. */
     private final String build;
-    /** The original version string used to construct this SemVer object. */
+    /**
+     * The original version string used to construct this SemVer object,
+     * or null when it is identical to the canonical rendering of the
+     * parsed fields. Canonical inputs are not stored twice.
+     */
     private final String originalVersion;
+    /** Lazily rendered canonical string, cached on first use. */
+    private String rendered;
+    /**
+     * Major, minor and patch packed into one non-negative long whose
+     * natural order is core precedence, or {@link #NO_CORE_KEY} when a
+     * component is too large to pack.
+     */
+    private final long coreKey;
+    /** Whether this version carries a prerelease identifier. */
+    private final boolean hasPrerelease;
 
     /**
      * Internal constructor used by {@link SemVerParser} to create
@@ -41,12 +60,13 @@ public final class SemVer implements Comparable<SemVer> {
      *                          or null if not present
      * @param buildMetadata the build metadata,
      *                     or null if not present
-     * @param originalString the original version string
+     * @param originalString the original version string, or null when
+     *                       it equals the canonical rendering
      */
     SemVer(
-        final int majorVersion,
-        final int minorVersion,
-        final int patchVersion,
+        final long majorVersion,
+        final long minorVersion,
+        final long patchVersion,
         final String prereleaseVersion,
         final String buildMetadata,
         final String originalString
@@ -57,6 +77,9 @@ public final class SemVer implements Comparable<SemVer> {
         this.prerelease = prereleaseVersion;
         this.build = buildMetadata;
         this.originalVersion = originalString;
+        this.coreKey = packCore(majorVersion, minorVersion, patchVersion);
+        this.hasPrerelease = prereleaseVersion != null
+            && !prereleaseVersion.isEmpty();
     }
 
     /**
@@ -74,29 +97,101 @@ public final class SemVer implements Comparable<SemVer> {
         this.prerelease = parsed.prerelease;
         this.build = parsed.build;
         this.originalVersion = parsed.originalVersion;
+        this.coreKey = parsed.coreKey;
+        this.hasPrerelease = parsed.hasPrerelease;
+    }
+
+    /**
+     * Packs the core components into a precedence key.
+     *
+     * @param majorVersion the major version number
+     * @param minorVersion the minor version number
+     * @param patchVersion the patch version number
+     * @return the packed key, or {@link #NO_CORE_KEY} if any component
+     *         needs more than {@value #CORE_KEY_BITS} bits
+     */
+    static long packCore(
+        final long majorVersion,
+        final long minorVersion,
+        final long patchVersion
+    ) {
+        long key = NO_CORE_KEY;
+        if (majorVersion < CORE_KEY_LIMIT
+            && minorVersion < CORE_KEY_LIMIT
+            && patchVersion < CORE_KEY_LIMIT) {
+            key = (majorVersion << (2 * CORE_KEY_BITS))
+                | (minorVersion << CORE_KEY_BITS)
+                | patchVersion;
+        }
+        return key;
+    }
+
+    /**
+     * Returns the packed core precedence key used by
+     * {@link SemVerComparator} to compare major, minor and patch in a
+     * single long comparison.
+     *
+     * @return the core key, or {@link #NO_CORE_KEY} if it is unavailable
+     */
+    long coreKey() {
+        return coreKey;
     }
 
     /**
      * Returns the major version number.
      * @return the major version number
+     * @throws ArithmeticException if it does not fit in an int; use
+     *         {@link #getMajorLong()} for such versions
      */
     public int getMajor() {
-        return major;
+        return Math.toIntExact(major);
     }
 
     /** Return the minor version number.
      * @return the minor version number
+     * @throws ArithmeticException if it does not fit in an int; use
+     *         {@link #getMinorLong()} for such versions
      */
     public int getMinor() {
-        return minor;
+        return Math.toIntExact(minor);
     }
 
     /**
      * Returns the patch version number.
      *
      * @return the patch version number
+     * @throws ArithmeticException if it does not fit in an int; use
+     *         {@link #getPatchLong()} for such versions
      */
     public int getPatch() {
+        return Math.toIntExact(patch);
+    }
+
+    /**
+     * Returns the major version number at full range, e.g. for
+     * date-based versions such as {@code 20240101123000.0.0}.
+     *
+     * @return the major version number
+     */
+    public long getMajorLong() {
+        return major;
+    }
+
+    /**
+     * Returns the minor version number at full range.
+     *
+     * @return the minor version number
+     */
+    public long getMinorLong() {
+        return minor;
+    }
+
+    /**
+     * Returns the patch version number at full range.
+     *
+     * @return the patch version number
+     */
+    public long getPatchLong() {
         return patch;
     }
 
@@ -114,11 +209,13 @@ public final class SemVer implements Comparable<SemVer> {
         return build;
     }
 
-    /** Return the original version string.
+    /** Return the original version string. For a version parsed
+     * leniently or coerced from text this is the input as written, such
+     * as {@code v01.2}; otherwise it is the canonical form.
      * @return the original version string
      */
     public String getOriginalVersion() {
-        return originalVersion;
+        return originalVersion == null ? toString() : originalVersion;
     }
 
     /**
@@ -127,7 +224,7 @@ public final class SemVer implements Comparable<SemVer> {
      * @return true if it is prerelease version
      */
     public boolean isPrerelease() {
-        return prerelease != null && !prerelease.isEmpty();
+        return hasPrerelease;
     }
 
     /**
@@ -158,13 +255,38 @@ public final class SemVer implements Comparable<SemVer> {
     }
 
     /**
-     * Returns a string representation of this SemVer object.
+     * Returns the canonical string representation of this SemVer
+     * object, rendered from the fields once and cached.
      *
      * @return the string representation
      */
     @Override
     public String toString() {
-        return originalVersion;
+        String result = rendered;
+        if (result == null) {
+            result = render();
+            rendered = result;
+        }
+        return result;
+    }
+
+    /**
+     * Renders the canonical MAJOR.MINOR.PATCH[-PRERELEASE][+BUILD] form.
+     *
+     * @return the canonical version string
+     */
+    private String render() {
+        final StringBuilder builder = new StringBuilder();
+        builder.append(major).append('.')
+            .append(minor).append('.')
+            .append(patch);
+        if (prerelease != null) {
+            builder.append('-').append(prerelease);
+        }
+        if (build != null) {
+            builder.append('+').append(build);
+        }
+        return builder.toString();
     }
 
     /**
@@ -58,19 +58,63 @@ public final class SemVerComparator implements
         return INSTANCE.compare(version1, version2);
     }
 
+    /**
+     * Compares two SemVer objects according to SemVer 2.0.0 precedence.
+     * Identical references compare equal immediately. When both versions
+     * carry a packed core key, major, minor and patch are decided by one
+     * long comparison and prerelease identifiers are only inspected on a
+     * tie where at least one side is a prerelease.
+     *
+     * @param version1 the first SemVer object to compare
+     * @param version2 the second SemVer object to compare
+     * @return a negative integer, zero, or a positive integer as the first
+     *         argument is less than, equal to, or greater than the second
+     */
     @Override
     public int compare(final SemVer version1, final SemVer version2) {
-        int result = Integer.compare(version1.getMajor(), version2.getMajor());
-        if (result == 0) {
-            result = Integer.compare(version1.getMinor(), version2.getMinor());
+        final SemVerMetrics metrics = MetricsHolder.get();
+        if (metrics != null) {
+            metrics.compared();
         }
+        int result = 0;
+        if (version1 != version2) {
+            final long key1 = version1.coreKey();
+            final long key2 = version2.coreKey();
+            if (key1 != SemVer.NO_CORE_KEY && key2 != SemVer.NO_CORE_KEY) {
+                result = Long.compare(key1, key2);
+            } else {
+                result = compareCore(version1, version2);
+            }
+            if (result == 0
+                && (version1.isPrerelease() || version2.isPrerelease())) {
+                result = comparePrerelease(
+                    version1.getPrerelease(),
+                    version2.getPrerelease());
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Compares major, minor and patch component by component.
+     *
+     * @param version1 the first version
+     * @param version2 the second version
+     * @return comparison result of the version cores
+     */
+    private static int compareCore(
+        final SemVer version1,
+        final SemVer version2
+    ) {
+        int result = Long.compare(
+            version1.getMajorLong(), version2.getMajorLong());
         if (result == 0) {
-            result = Integer.compare(version1.getPatch(), version2.getPatch());
+            result = Long.compare(
+                version1.getMinorLong(), version2.getMinorLong());
         }
         if (result == 0) {
-            result = comparePrerelease(
-                version1.getPrerelease(),
-                version2.getPrerelease());
+            result = Long.compare(
+                version1.getPatchLong(), version2.getPatchLong());
         }
         return result;
     }
@@ -82,7 +126,7 @@ public final class SemVerComparator implements
      * @param prerelease2 second prerelease identifier
      * @return comparison result
      */
-    private static int comparePrerelease(
+    static int comparePrerelease(
         final String prerelease1,
         final String prerelease2) {
         int result;
@@ -93,76 +137,165 @@ public final class SemVerComparator implements
         } else if (prerelease2 == null) {
             result = -1;
         } else {
-            final String[] identifiers1 = prerelease1.split("\\.");
-            final String[] identifiers2 = prerelease2.split("\\.");
-            final int minLength = Math.min(
-                identifiers1.length,
-                identifiers2.length
-            );
-            result = 0;
-            for (int i = 0; i < minLength && result == 0; i++) {
-                result = compareIdentifier(
-                    identifiers1[i],
-                    identifiers2[i]
-                );
+            result = compareIdentifiers(prerelease1, prerelease2);
+        }
+        return result;
+    }
+
+    /**
+     * Compares two dot-separated identifier lists in place, without
+     * splitting or parsing them.
+     *
+     * @param prerelease1 first prerelease string
+     * @param prerelease2 second prerelease string
+     * @return comparison result
+     */
+    private static int compareIdentifiers(
+        final String prerelease1,
+        final String prerelease2
+    ) {
+        final int length1 = prerelease1.length();
+        final int length2 = prerelease2.length();
+        int start1 = 0;
+        int start2 = 0;
+        int result = 0;
+        while (result == 0 && start1 <= length1 && start2 <= length2) {
+            int end1 = prerelease1.indexOf('.', start1);
+            if (end1 < 0) {
+                end1 = length1;
             }
-            if (result == 0) {
-                result = Integer.compare(
-                    identifiers1.length,
-                    identifiers2.length
-                );
+            int end2 = prerelease2.indexOf('.', start2);
+            if (end2 < 0) {
+                end2 = length2;
             }
+            result = compareIdentifier(
+                prerelease1, start1, end1,
+                prerelease2, start2, end2
+            );
+            start1 = end1 + 1;
+            start2 = end2 + 1;
+        }
+        if (result == 0) {
+            // The list that still has identifiers left is greater.
+            result = Boolean.compare(start1 <= length1, start2 <= length2);
         }
         return result;
     }
 
     /**
-     * Compares two prerelease identifiers.
-     * Numeric identifiers have lower
-     * precedence than non-numeric identifiers.
+     * Compares two prerelease identifiers given as string regions.
+     * Numeric identifiers have lower precedence than non-numeric
+     * identifiers and compare by value at any length: the one with more
+     * significant digits is greater, and equal lengths compare digit by
+     * digit.
      *
-     * @param identifier1 first identifier
-     * @param identifier2 second identifier
+     * @param text1 string holding the first identifier
+     * @param start1 start of the first identifier
+     * @param end1 end of the first identifier
+     * @param text2 string holding the second identifier
+     * @param start2 start of the second identifier
+     * @param end2 end of the second identifier
      * @return comparison result
      */
     private static int compareIdentifier(
-        final String identifier1,
-        final String identifier2
+        final String text1,
+        final int start1,
+        final int end1,
+        final String text2,
+        final int start2,
+        final int end2
     ) {
-        final boolean isNumeric1 = isNumeric(identifier1);
-        final boolean isNumeric2 = isNumeric(identifier2);
+        final boolean isNumeric1 = isNumeric(text1, start1, end1);
+        final boolean isNumeric2 = isNumeric(text2, start2, end2);
         int result;
         if (isNumeric1 && isNumeric2) {
-            result = Integer.compare(
-                Integer.parseInt(identifier1),
-                Integer.parseInt(identifier2)
-            );
+            final int digits1 = skipZeros(text1, start1, end1);
+            final int digits2 = skipZeros(text2, start2, end2);
+            result = Integer.compare(end1 - digits1, end2 - digits2);
+            if (result == 0) {
+                result = compareChars(text1, digits1, end1,
+                    text2, digits2, end2);
+            }
         } else if (isNumeric1) {
             result = -1;
         } else if (isNumeric2) {
             result = 1;
         } else {
-            result = identifier1.compareTo(identifier2);
+            result = compareChars(text1, start1, end1, text2, start2, end2);
+            if (result == 0) {
+                result = Integer.compare(end1 - start1, end2 - start2);
+            }
         }
         return result;
     }
 
     /**
-     * Determines whether a string is a valid non-negative integer.
+     * Compares characters pairwise until the shorter region ends.
      *
-     * @param value value to test
+     * @param text1 first string
+     * @param start1 start of the first region
+     * @param end1 end of the first region
+     * @param text2 second string
+     * @param start2 start of the second region
+     * @param end2 end of the second region
+     * @return the difference of the first unequal characters, or 0
+     */
+    private static int compareChars(
+        final String text1,
+        final int start1,
+        final int end1,
+        final String text2,
+        final int start2,
+        final int end2
+    ) {
+        int result = 0;
+        final int length = Math.min(end1 - start1, end2 - start2);
+        for (int i = 0; i < length && result == 0; i++) {
+            result = text1.charAt(start1 + i) - text2.charAt(start2 + i);
+        }
+        return result;
+    }
+
+    /**
+     * Skips leading zeros of a numeric identifier, keeping its last digit.
+     *
+     * @param text string holding the identifier
+     * @param start start of the identifier
+     * @param end end of the identifier
+     * @return index of the first significant digit
+     */
+    private static int skipZeros(
+        final String text,
+        final int start,
+        final int end
+    ) {
+        int pos = start;
+        while (pos < end - 1 && text.charAt(pos) == '0') {
+            pos++;
+        }
+        return pos;
+    }
+
+    /**
+     * Determines whether a region holds only ASCII digits. No length
+     * limit applies, so identifiers beyond the range of any primitive
+     * type are still numeric.
+     *
+     * @param value string to test
+     * @param start start of the region
+     * @param end end of the region
      * @return true if numeric, false otherwise
      */
-    private static boolean isNumeric(final String value) {
-        boolean result = value != null && !value.isEmpty();
-        if (result) {
-            try {
-                Integer.parseInt(value);
-            } catch (NumberFormatException e) {
-                result = false;
-            }
+    private static boolean isNumeric(
+        final String value,
+        final int start,
+        final int end
+    ) {
+        boolean result = end > start;
+        for (int i = start; i < end && result; i++) {
+            final char c = value.charAt(i);
+            result = c >= '0' && c <= '9';
         }
         return result;
     }
 }
-
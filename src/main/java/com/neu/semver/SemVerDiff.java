@@ -0,0 +1,231 @@
+package com.neu.semver;
+
+import java.util.Iterator;
+
+/**
+ * Classifies the difference between two versions.
+ *
+ * {@link #classify(SemVer, SemVer)} names the most significant field
+ * that differs: major, minor, patch, then prerelease. Prerelease
+ * identifiers are compared with {@link SemVerComparator} rules, in place
+ * and without allocating. Build metadata does not take part in
+ * precedence, so two versions that differ only in build metadata have
+ * equal precedence and are classified as {@link Change#BUILD}; they are
+ * {@link Change#NONE} only when the build metadata is identical as well,
+ * with an absent build counting as different from any present one. The
+ * classification is symmetric and says nothing about direction; combine
+ * it with {@link SemVerComparator} when direction matters.
+ *
+ * {@link #transitions(Iterable, TransitionListener)} walks a version
+ * history once and reports the change between each pair of neighbours;
+ * {@link Summary} is a listener that tallies them.
+ *
+ * @author Yinlu Gong
+ * @version 0.1.0
+ */
+public final class SemVerDiff {
+
+    /** The kind of change between two versions, most significant first. */
+    public enum Change {
+        /** The major number differs. */
+        MAJOR,
+        /** The minor number differs. */
+        MINOR,
+        /** The patch number differs. */
+        PATCH,
+        /** Only the prerelease differs in precedence. */
+        PRERELEASE,
+        /** Precedence is equal but the build metadata differs. */
+        BUILD,
+        /** The versions are identical, including build metadata. */
+        NONE
+    }
+
+    /** Receives the transitions of a version history. */
+    public interface TransitionListener {
+        /**
+         * Called for each pair of neighbouring versions.
+         *
+         * @param from the earlier version
+         * @param to the later version
+         * @param change the kind of change between them
+         */
+        void onTransition(SemVer from, SemVer to, Change change);
+    }
+
+    /** Private constructor to prevent instantiation. */
+    private SemVerDiff() { }
+
+    /**
+     * Classifies the difference between two versions.
+     *
+     * @param version1 the first version
+     * @param version2 the second version
+     * @return the most significant kind of change
+     * @throws IllegalArgumentException if either version is null
+     */
+    public static Change classify(final SemVer version1, final SemVer version2) {
+        if (version1 == null || version2 == null) {
+            throw new IllegalArgumentException("Versions must not be null");
+        }
+        Change result;
+        if (version1.getMajorLong() != version2.getMajorLong()) {
+            result = Change.MAJOR;
+        } else if (version1.getMinorLong() != version2.getMinorLong()) {
+            result = Change.MINOR;
+        } else if (version1.getPatchLong() != version2.getPatchLong()) {
+            result = Change.PATCH;
+        } else if ((version1.isPrerelease() || version2.isPrerelease())
+            && SemVerComparator.comparePrerelease(
+                version1.isPrerelease() ? version1.getPrerelease() : null,
+                version2.isPrerelease() ? version2.getPrerelease() : null)
+                != 0) {
+            result = Change.PRERELEASE;
+        } else if (sameBuild(version1.getBuild(), version2.getBuild())) {
+            result = Change.NONE;
+        } else {
+            result = Change.BUILD;
+        }
+        return result;
+    }
+
+    /**
+     * Reports the change between each pair of neighbouring versions of a
+     * history in one pass. The history must be in ascending precedence
+     * order; equal neighbours are allowed.
+     *
+     * @param history the versions, oldest first
+     * @param listener receives each transition
+     * @return the number of transitions reported
+     * @throws IllegalArgumentException if an argument or element is null,
+     *         or the history is not in ascending order
+     */
+    public static int transitions(
+        final Iterable<SemVer> history,
+        final TransitionListener listener
+    ) {
+        if (history == null || listener == null) {
+            throw new IllegalArgumentException(
+                "History and listener must not be null");
+        }
+        final Iterator<SemVer> iterator = history.iterator();
+        int count = 0;
+        SemVer previous = iterator.hasNext() ? iterator.next() : null;
+        while (iterator.hasNext()) {
+            final SemVer current = iterator.next();
+            if (SemVerComparator.compareVersions(previous, current) > 0) {
+                throw new IllegalArgumentException(
+                    "History is not sorted: " + previous + " precedes "
+                        + current);
+            }
+            listener.onTransition(previous, current,
+                classify(previous, current));
+            previous = current;
+            count++;
+        }
+        return count;
+    }
+
+    /**
+     * Tallies the transitions of a history.
+     *
+     * @param history the versions, oldest first
+     * @return the tally
+     * @throws IllegalArgumentException as for
+     *         {@link #transitions(Iterable, TransitionListener)}
+     */
+    public static Summary summarize(final Iterable<SemVer> history) {
+        final Summary summary = new Summary();
+        transitions(history, summary);
+        return summary;
+    }
+
+    /**
+     * Compares two build metadata strings.
+     *
+     * @param build1 the first build, or null
+     * @param build2 the second build, or null
+     * @return true if both are absent or equal
+     */
+    private static boolean sameBuild(final String build1, final String build2) {
+        return build1 == null ? build2 == null : build1.equals(build2);
+    }
+
+    /**
+     * Counts of each kind of change over a history, with the span between
+     * its first and last versions.
+     */
+    public static final class Summary implements TransitionListener {
+
+        /** Transitions by kind, indexed by ordinal. */
+        private final int[] counts = new int[Change.values().length];
+        /** Earliest version seen. */
+        private SemVer first;
+        /** Latest version seen. */
+        private SemVer last;
+        /** Total transitions. */
+        private int total;
+
+        /** Creates an empty tally. */
+        public Summary() { }
+
+        @Override
+        public void onTransition(
+            final SemVer from,
+            final SemVer to,
+            final Change change
+        ) {
+            if (first == null) {
+                first = from;
+            }
+            last = to;
+            counts[change.ordinal()]++;
+            total++;
+        }
+
+        /**
+         * Returns the number of transitions of one kind.
+         *
+         * @param change the kind
+         * @return the count
+         */
+        public int getCount(final Change change) {
+            return counts[change.ordinal()];
+        }
+
+        /**
+         * Returns the total number of transitions.
+         *
+         * @return the count
+         */
+        public int getTransitions() {
+            return total;
+        }
+
+        /**
+         * Returns the most significant change between the first and last
+         * versions of the history.
+         *
+         * @return the overall change, or {@link Change#NONE} if there
+         *         were no transitions
+         */
+        public Change getOverall() {
+            Change result = Change.NONE;
+            if (first != null) {
+                result = classify(first, last);
+            }
+            return result;
+        }
+
+        @Override
+        public String toString() {
+            final StringBuilder builder = new StringBuilder("Summary{")
+                .append("transitions=").append(total);
+            for (final Change change : Change.values()) {
+                builder.append(", ").append(change).append('=')
+                    .append(counts[change.ordinal()]);
+            }
+            return builder.append('}').toString();
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package com.neu.semver;
+
+/**
+ * Instrumentation SPI fed by the parser, the comparator and the bulk
+ * methods of {@link SemVerUtils}.
+ *
+ * No implementation is installed by default; each instrumented call site
+ * then costs a single field read and a null check. Implementations are
+ * called concurrently from every thread using the library and must not
+ * block or contend; see {@code com.neu.semver.metrics.StripedMetrics}
+ * for a LongAdder-based implementation with JMX export.
+ *
+ * @author Yinlu Gong
+ * @version 0.1.0
+ */
+public interface SemVerMetrics {
+
+    /**
+     * Installs the metrics sink receiving all library events, replacing
+     * any previously installed sink.
+     *
+     * @param metrics the sink to install, or null to disable metrics
+     */
+    static void install(final SemVerMetrics metrics) {
+        MetricsHolder.set(metrics);
+    }
+
+    /**
+     * Returns the installed metrics sink.
+     *
+     * @return the installed sink, or null when metrics are disabled
+     */
+    static SemVerMetrics installed() {
+        return MetricsHolder.get();
+    }
+
+    /**
+     * Records a successful parse.
+     *
+     * @param nanos the time spent parsing, in nanoseconds
+     */
+    void parsed(long nanos);
+
+    /**
+     * Records a failed parse.
+     *
+     * @param errorClass the class of the exception thrown
+     */
+    void parseFailed(Class<? extends Throwable> errorClass);
+
+    /**
+     * Records a lookup answered by an {@link IdentifierPool}.
+     */
+    void identifierPoolHit();
+
+    /**
+     * Records one precedence comparison.
+     */
+    void compared();
+
+    /**
+     * Records a bulk operation such as sorting a version list.
+     *
+     * @param operation the operation name
+     * @param size the number of input elements
+     * @param nanos the time spent, in nanoseconds
+     */
+    void bulkOperation(String operation, int size, long nanos);
+}
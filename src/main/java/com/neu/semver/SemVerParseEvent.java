@@ -0,0 +1,67 @@
+package com.neu.semver;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+/**
+ * Flight Recorder event for a slow {@link SemVerParser#parse} call.
+ * Disabled by default; enable {@code com.neu.semver.Parse} in a JFR
+ * configuration to record parses slower than the threshold.
+ *
+ * @author Yinlu Gong
+ * @version 0.1.0
+ */
+@Name("com.neu.semver.Parse")
+@Label("SemVer Parse")
+@Category("SemVer")
+@Description("Parsing of a single version string")
+@Enabled(false)
+@StackTrace(false)
+@Threshold("1 ms")
+final class SemVerParseEvent extends Event {
+
+    /** Length of the input string, or -1 for null input. */
+    @Label("Input Length")
+    private int inputLength;
+
+    /** Whether the input parsed successfully. */
+    @Label("Success")
+    private boolean success;
+
+    /** Failure message, or null on success. */
+    @Label("Error")
+    private String error;
+
+    /**
+     * Sets the inputLength field.
+     *
+     * @param value the input length, or -1 for null input
+     */
+    void setInputLength(final int value) {
+        this.inputLength = value;
+    }
+
+    /**
+     * Sets the success field.
+     *
+     * @param value whether parsing succeeded
+     */
+    void setSuccess(final boolean value) {
+        this.success = value;
+    }
+
+    /**
+     * Sets the error field.
+     *
+     * @param value the failure message
+     */
+    void setError(final String value) {
+        this.error = value;
+    }
+}
@@ -1,38 +1,22 @@
 package com.neu.semver;
 
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
+import java.util.EnumSet;
 
 /**
  * Parser for semantic version strings compliant with SemVer 2.0.0.
- * with regex
-* @author Yinlu Gong
+ *
+ * Input is checked against {@link ParserLimits} first and then scanned in
+ * a single linear pass by {@link SemVerScanner}, so parse time is bounded
+ * by the input length regardless of its content. {@link Options} select
+ * a {@link Mode}: strict by default, or lenient and coerce modes that
+ * accept common non-canonical spellings and report what they changed
+ * through {@link #parseResult(String, Options)}.
+ *
+ * @author Yinlu Gong
  * @version 0.1.0
  */
 public final class SemVerParser {
 
-    /**
-     * Regular expression pattern for SemVer 2.0.0 strings.
-     * Matches MAJOR.MINOR.PATCH[-PRERELEASE][+BUILD].
-     */
-    private static final Pattern SEMVER_PATTERN = Pattern.compile(
-        "^(0|[1-9]\\d*)\\.(0|[1-9]\\d*)\\.(0|[1-9]\\d*)"
-        + "(?:-((?:0|[1-9]\\d*|[a-zA-Z][a-zA-Z0-9-]*[a-zA-Z0-9]|[a-zA-Z])"
-        + "(?:\\.(?:0|[1-9]\\d*|[a-zA-Z][a-zA-Z0-9-]*[a-zA-Z0-9]|[a-zA-Z]))*))?"
-        + "(?:\\+([0-9a-zA-Z-]+(?:\\.[0-9a-zA-Z-]+)*))?$"
-    );
-
-    // Group indices for SEMVER_PATTERN matcher
-    /** Group index for the major version. */
-    private static final int GROUP_MAJOR = 1;
-    /** Group index for the minor version. */
-    private static final int GROUP_MINOR = 2;
-    /** Group index for the patch version. */
-    private static final int GROUP_PATCH = 3;
-    /** Group index for the prerelease identifier. */
-    private static final int GROUP_PRERELEASE = 4;
-    /** Group index for the build metadata. */
-    private static final int GROUP_BUILD = 5;
     /**
      * Private constructor to prevent instantiation.
      */
@@ -48,36 +32,683 @@ public final class SemVerParser {
      * @throws InvalidSemVerException if the version is empty or invalid
      */
     public static SemVer parse(final String version) {
+        return parse(version, null, ParserLimits.DEFAULT);
+    }
+
+    /**
+     * Parses a version string under the given size limits.
+     *
+     * @param version the version string
+     * @param limits the size limits to enforce
+     * @return a instance representing the parsed version
+     * @throws IllegalArgumentException if {@code version} or
+     *         {@code limits} is null
+     * @throws InvalidSemVerException if the version is empty, invalid or
+     *         exceeds a limit
+     */
+    public static SemVer parse(
+        final String version,
+        final ParserLimits limits
+    ) {
+        return parse(version, null, limits);
+    }
+
+    /**
+     * Parses a version string, sharing prerelease and build strings
+     * through the given pool.
+     *
+     * @param version the version string
+     * @param pool the pool used to deduplicate prerelease and build
+     *             strings, or null to keep the parsed instances
+     * @return a instance representing the parsed version
+     * @throws IllegalArgumentException if {@code version} is null
+     * @throws InvalidSemVerException if the version is empty or invalid
+     */
+    public static SemVer parse(
+        final String version,
+        final IdentifierPool pool
+    ) {
+        return parse(version, pool, ParserLimits.DEFAULT);
+    }
+
+    /**
+     * Parses a version string under the given size limits, sharing
+     * prerelease and build strings through the given pool.
+     *
+     * @param version the version string
+     * @param pool the pool used to deduplicate prerelease and build
+     *             strings, or null to keep the parsed instances
+     * @param limits the size limits to enforce
+     * @return a instance representing the parsed version
+     * @throws IllegalArgumentException if {@code version} or
+     *         {@code limits} is null
+     * @throws InvalidSemVerException if the version is empty, invalid or
+     *         exceeds a limit
+     */
+    public static SemVer parse(
+        final String version,
+        final IdentifierPool pool,
+        final ParserLimits limits
+    ) {
+        if (limits == null) {
+            throw new IllegalArgumentException("Limits cannot be null");
+        }
+        return instrumented(version, Mode.STRICT, pool, limits, null, null);
+    }
+
+    /**
+     * Parses a version string with the given options.
+     *
+     * @param version the version string
+     * @param options the parsing mode, pool and limits
+     * @return a instance representing the parsed version
+     * @throws IllegalArgumentException if {@code version} or
+     *         {@code options} is null
+     * @throws InvalidSemVerException if no version can be read under the
+     *         options' mode, or a limit is exceeded
+     */
+    public static SemVer parse(final String version, final Options options) {
+        if (options == null) {
+            throw new IllegalArgumentException("Options cannot be null");
+        }
+        return instrumented(version, options.mode, options.pool,
+            options.limits, null, null);
+    }
+
+    /**
+     * Parses a version string with the given options and reports the
+     * normalizations that were needed.
+     *
+     * @param version the version string
+     * @param options the parsing mode, pool and limits
+     * @return the version with the normalizations applied to the input
+     * @throws IllegalArgumentException if {@code version} or
+     *         {@code options} is null
+     * @throws InvalidSemVerException if no version can be read under the
+     *         options' mode, or a limit is exceeded
+     */
+    public static ParseResult parseResult(
+        final String version,
+        final Options options
+    ) {
+        if (options == null) {
+            throw new IllegalArgumentException("Options cannot be null");
+        }
+        final EnumSet<Normalization> applied =
+            EnumSet.noneOf(Normalization.class);
+        final int[] region = new int[2];
+        final SemVer parsed = instrumented(version, options.mode,
+            options.pool, options.limits, applied, region);
+        return new ParseResult(parsed, applied, region[0], region[1]);
+    }
+
+    /**
+     * Parses a region of text as a strict version without copying it,
+     * returning null instead of throwing when the region is not one.
+     * Only the prerelease and build strings, when present, are copied out
+     * of the text. Default size limits apply.
+     *
+     * @param text the text holding the version
+     * @param start first index of the version
+     * @param end end of the version, exclusive
+     * @return the version, or null if the region is not a valid version
+     * @throws IllegalArgumentException if text is null
+     * @throws IndexOutOfBoundsException if the region is out of bounds
+     */
+    public static SemVer tryParse(
+        final CharSequence text,
+        final int start,
+        final int end
+    ) {
+        if (text == null) {
+            throw new IllegalArgumentException("Text cannot be null");
+        }
+        if (start < 0 || end > text.length() || start > end) {
+            throw new IndexOutOfBoundsException(
+                "Invalid region: start " + start + ", end " + end);
+        }
+        final SemVerMetrics metrics = MetricsHolder.get();
+        final long began = metrics == null ? 0L : System.nanoTime();
+        final ParserLimits limits = ParserLimits.DEFAULT;
+        final int[] marks = new int[SemVerScanner.MARKS_LENGTH];
+        SemVer result = null;
+        if (end - start <= limits.getMaxLength()
+            && SemVerScanner.scan(text, start, end, marks,
+                limits.getMaxIdentifiers(), limits.getMaxIdentifierLength())
+                == SemVerScanner.VALID) {
+            result = build(text, start, marks, null, null);
+        }
+        if (metrics != null) {
+            if (result == null) {
+                metrics.parseFailed(InvalidSemVerException.class);
+            } else {
+                metrics.parsed(System.nanoTime() - began);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Parses a region of ASCII bytes as a strict version without
+     * decoding it; see {@link #tryParse(CharSequence, int, int)}. Unlike
+     * that method, the region is given by offset and length, as byte
+     * regions are elsewhere in this library.
+     *
+     * @param ascii the bytes holding the version
+     * @param offset first index of the version
+     * @param length length of the version in bytes
+     * @return the version, or null if the region is not a valid version
+     * @throws IllegalArgumentException if ascii is null
+     * @throws IndexOutOfBoundsException if the region is out of bounds
+     */
+    public static SemVer tryParseAscii(
+        final byte[] ascii,
+        final int offset,
+        final int length
+    ) {
+        if (ascii == null) {
+            throw new IllegalArgumentException("Bytes cannot be null");
+        }
+        if (offset < 0 || length < 0 || offset > ascii.length - length) {
+            throw new IndexOutOfBoundsException(
+                "Invalid region: offset " + offset + ", length " + length);
+        }
+        return tryParse(new AsciiSequence(ascii, offset, length), 0, length);
+    }
+
+    /**
+     * Parses a version string, recording metrics and a JFR event.
+     *
+     * @param version the version string
+     * @param mode the parsing mode
+     * @param pool the identifier pool, or null
+     * @param limits the size limits to enforce
+     * @param applied receives the normalizations applied, or null
+     * @param region receives the start and end of the version text, or
+     *               null
+     * @return the parsed version
+     */
+    private static SemVer instrumented(
+        final String version,
+        final Mode mode,
+        final IdentifierPool pool,
+        final ParserLimits limits,
+        final EnumSet<Normalization> applied,
+        final int[] region
+    ) {
+        final SemVerMetrics metrics = MetricsHolder.get();
+        final SemVerParseEvent event = new SemVerParseEvent();
+        final long start = metrics == null ? 0L : System.nanoTime();
+        event.begin();
+        SemVer result;
+        try {
+            result = parseVersion(version, mode, pool, limits, applied,
+                region);
+        } catch (IllegalArgumentException e) {
+            if (metrics != null) {
+                metrics.parseFailed(e.getClass());
+            }
+            event.end();
+            if (event.shouldCommit()) {
+                event.setInputLength(version == null ? -1 : version.length());
+                event.setError(e.getMessage());
+                event.commit();
+            }
+            throw e;
+        }
+        if (metrics != null) {
+            metrics.parsed(System.nanoTime() - start);
+        }
+        event.end();
+        if (event.shouldCommit()) {
+            event.setInputLength(version.length());
+            event.setSuccess(true);
+            event.commit();
+        }
+        return result;
+    }
+
+    /**
+     * Parses a version string without instrumentation.
+     *
+     * @param version the version string
+     * @param mode the parsing mode
+     * @param pool the identifier pool, or null
+     * @param limits the size limits to enforce
+     * @param applied receives the normalizations applied, or null
+     * @param region receives the start and end of the version text, or
+     *               null
+     * @return the parsed version
+     */
+    private static SemVer parseVersion(
+        final String version,
+        final Mode mode,
+        final IdentifierPool pool,
+        final ParserLimits limits,
+        final EnumSet<Normalization> applied,
+        final int[] region
+    ) {
         if (version == null) {
             throw new IllegalArgumentException(
                 "Version string cannot be null"
                 );
         }
-        final String trimmed = version.trim();
-        if (trimmed.isEmpty()) {
+        if (version.length() > limits.getMaxLength()) {
+            throw new InvalidSemVerException(
+                "Version string exceeds maximum length of "
+                + limits.getMaxLength());
+        }
+        // Trim by index so invalid input never allocates a copy.
+        int start = 0;
+        int end = version.length();
+        while (start < end && version.charAt(start) <= ' ') {
+            start++;
+        }
+        while (end > start && version.charAt(end - 1) <= ' ') {
+            end--;
+        }
+        if (start == end) {
             throw new InvalidSemVerException(
                 "Version string cannot be empty"
                 );
         }
-        final Matcher matcher = SEMVER_PATTERN.matcher(trimmed);
-        if (!matcher.matches()) {
-            throw new InvalidSemVerException(
-                "Invalid semantic version: "
-                + trimmed);
-        }
-        // Extract all group values to avoid Law of Demeter violations
-        final String majorStr = matcher.group(GROUP_MAJOR);
-        final String minorStr = matcher.group(GROUP_MINOR);
-        final String patchStr = matcher.group(GROUP_PATCH);
-        final String prereleaseStr = matcher.group(GROUP_PRERELEASE);
-        final String buildStr = matcher.group(GROUP_BUILD);
+        final int trimmedStart = start;
+        final int[] marks = new int[SemVerScanner.MARKS_LENGTH];
+        int error;
+        if (mode == Mode.COERCE) {
+            final int found = coerce(version, start, end, marks, limits);
+            error = found < 0 ? start : SemVerScanner.VALID;
+            start = Math.max(found, start);
+        } else {
+            int flags = 0;
+            if (mode == Mode.LENIENT) {
+                flags = SemVerScanner.ALLOW_LEADING_ZEROS
+                    | SemVerScanner.ALLOW_MISSING_COMPONENTS;
+                final char first = version.charAt(start);
+                if (first == 'v' || first == 'V') {
+                    start++;
+                }
+            }
+            error = SemVerScanner.scan(version, start, end, marks,
+                limits.getMaxIdentifiers(), limits.getMaxIdentifierLength(),
+                flags);
+        }
+        if (error != SemVerScanner.VALID) {
+            throw limitOrSyntaxError(version, trimmedStart, end, marks,
+                limits, mode);
+        }
+        final int versionEnd = marks[SemVerScanner.SCAN_END];
+        EnumSet<Normalization> found = applied;
+        if (found == null && mode != Mode.STRICT) {
+            found = EnumSet.noneOf(Normalization.class);
+        }
+        if (found != null) {
+            recordNormalizations(version, trimmedStart, start, end, marks,
+                mode, found);
+        }
+        if (applied != null) {
+            region[0] = start;
+            region[1] = versionEnd;
+        }
+        // Only input whose text differs from the canonical rendering is
+        // retained; strict input never is.
+        String original = null;
+        if (found != null && rewritesText(found)) {
+            original = version.substring(
+                mode == Mode.COERCE ? start : trimmedStart, versionEnd);
+        }
+        return build(version, start, marks, pool, original);
+    }
+
+    /**
+     * Returns whether normalizations changed the text of the version
+     * itself, rather than only what surrounds it.
+     *
+     * @param applied the normalizations applied
+     * @return true if the canonical rendering differs from the input
+     */
+    private static boolean rewritesText(
+        final EnumSet<Normalization> applied
+    ) {
+        return applied.contains(Normalization.STRIPPED_PREFIX)
+            || applied.contains(Normalization.DEFAULTED_MINOR)
+            || applied.contains(Normalization.DEFAULTED_PATCH)
+            || applied.contains(Normalization.STRIPPED_LEADING_ZEROS);
+    }
+
+    /**
+     * Builds a version from the marks of a successful scan.
+     *
+     * @param text the scanned text
+     * @param start the first index of the major number
+     * @param marks the scan marks
+     * @param pool the identifier pool, or null
+     * @param original the input text to retain, or null if it is the
+     *                 canonical rendering
+     * @return the version
+     */
+    private static SemVer build(
+        final CharSequence text,
+        final int start,
+        final int[] marks,
+        final IdentifierPool pool,
+        final String original
+    ) {
+        final int versionEnd = marks[SemVerScanner.SCAN_END];
+        final int prereleaseStart = marks[SemVerScanner.PRERELEASE_START];
+        final int buildStart = marks[SemVerScanner.BUILD_START];
+        String prereleaseStr = prereleaseStart < 0 ? null
+            : text.subSequence(prereleaseStart,
+                marks[SemVerScanner.PRERELEASE_END]).toString();
+        String buildStr = buildStart < 0 ? null
+            : text.subSequence(buildStart, versionEnd).toString();
+        if (pool != null) {
+            prereleaseStr = pool.intern(prereleaseStr);
+            buildStr = pool.intern(buildStr);
+        }
+        final int majorEnd = marks[SemVerScanner.MAJOR_END];
+        final int minorEnd = marks[SemVerScanner.MINOR_END];
+        final int patchEnd = marks[SemVerScanner.PATCH_END];
         return new SemVer(
-            Integer.parseInt(majorStr),
-            Integer.parseInt(minorStr),
-            Integer.parseInt(patchStr),
+            SemVerScanner.parseNumber(text, start, majorEnd),
+            minorEnd < 0 ? 0
+                : SemVerScanner.parseNumber(text, majorEnd + 1, minorEnd),
+            patchEnd < 0 ? 0
+                : SemVerScanner.parseNumber(text, minorEnd + 1, patchEnd),
             prereleaseStr,
             buildStr,
-            trimmed
+            original
         );
     }
+
+    /**
+     * Finds the first version in arbitrary text. Candidates start at a
+     * digit that does not follow another digit, and the first one that
+     * scans as a relaxed version wins.
+     *
+     * @param text the text to search
+     * @param start first index to search
+     * @param end end of the region to search
+     * @param marks receives the marks of the version found
+     * @param limits the limits in force
+     * @return the start of the version found, or a negative value if
+     *         there is none
+     */
+    private static int coerce(
+        final String text,
+        final int start,
+        final int end,
+        final int[] marks,
+        final ParserLimits limits
+    ) {
+        final int flags = SemVerScanner.ALLOW_LEADING_ZEROS
+            | SemVerScanner.ALLOW_MISSING_COMPONENTS
+            | SemVerScanner.ALLOW_TRAILING;
+        int result = -1;
+        boolean afterDigit = false;
+        for (int i = start; i < end && result < 0; i++) {
+            final boolean digit = SemVerScanner.classify(text.charAt(i))
+                == SemVerScanner.DIGIT;
+            if (digit && !afterDigit) {
+                final int error = SemVerScanner.scan(text, i, end, marks,
+                    limits.getMaxIdentifiers(),
+                    limits.getMaxIdentifierLength(), flags);
+                if (error == SemVerScanner.VALID) {
+                    result = i;
+                } else if (marks[SemVerScanner.LIMIT_EXCEEDED] != 0) {
+                    result = end;
+                }
+            }
+            afterDigit = digit;
+        }
+        if (result == end) {
+            result = -1;
+        }
+        return result;
+    }
+
+    /**
+     * Records which normalizations a successful scan implies.
+     *
+     * @param version the version string
+     * @param trimmedStart first non-whitespace index
+     * @param start first index of the version text
+     * @param trimmedEnd end of the trimmed region
+     * @param marks the scanner marks
+     * @param mode the parsing mode
+     * @param applied receives the normalizations
+     */
+    private static void recordNormalizations(
+        final String version,
+        final int trimmedStart,
+        final int start,
+        final int trimmedEnd,
+        final int[] marks,
+        final Mode mode,
+        final EnumSet<Normalization> applied
+    ) {
+        if (trimmedStart > 0 || trimmedEnd < version.length()) {
+            applied.add(Normalization.TRIMMED_WHITESPACE);
+        }
+        if (mode == Mode.COERCE) {
+            if (start > trimmedStart
+                || marks[SemVerScanner.SCAN_END] < trimmedEnd) {
+                applied.add(Normalization.EXTRACTED_SUBSTRING);
+            }
+        } else if (start > trimmedStart) {
+            applied.add(Normalization.STRIPPED_PREFIX);
+        }
+        if (marks[SemVerScanner.MINOR_END] < 0) {
+            applied.add(Normalization.DEFAULTED_MINOR);
+        }
+        if (marks[SemVerScanner.PATCH_END] < 0) {
+            applied.add(Normalization.DEFAULTED_PATCH);
+        }
+        int numberStart = start;
+        for (int i = 0; i < marks[SemVerScanner.COMPONENTS]; i++) {
+            final int numberEnd = marks[i];
+            if (numberEnd - numberStart > 1
+                && version.charAt(numberStart) == '0') {
+                applied.add(Normalization.STRIPPED_LEADING_ZEROS);
+            }
+            numberStart = numberEnd + 1;
+        }
+    }
+
+    /**
+     * Builds the exception for a failed scan.
+     *
+     * @param version the version string
+     * @param start first non-whitespace index
+     * @param end end of the trimmed region
+     * @param marks the scanner marks
+     * @param limits the limits in force
+     * @param mode the parsing mode
+     * @return the exception to throw
+     */
+    private static InvalidSemVerException limitOrSyntaxError(
+        final String version,
+        final int start,
+        final int end,
+        final int[] marks,
+        final ParserLimits limits,
+        final Mode mode
+    ) {
+        final InvalidSemVerException result;
+        final int limit = marks[SemVerScanner.LIMIT_EXCEEDED];
+        if (limit == SemVerScanner.LIMIT_IDENTIFIERS) {
+            result = new InvalidSemVerException(
+                "Version string has more than "
+                + limits.getMaxIdentifiers() + " identifiers");
+        } else if (limit == SemVerScanner.LIMIT_IDENTIFIER_LENGTH) {
+            result = new InvalidSemVerException(
+                "Version identifier exceeds maximum length of "
+                + limits.getMaxIdentifierLength());
+        } else if (mode == Mode.COERCE) {
+            result = new InvalidSemVerException(
+                "No semantic version found in: "
+                + version.substring(start, end));
+        } else {
+            result = new InvalidSemVerException(
+                "Invalid semantic version: "
+                + version.substring(start, end));
+        }
+        return result;
+    }
+
+    /**
+     * How strictly input is matched against the SemVer grammar.
+     */
+    public enum Mode {
+        /** Only complete, canonical SemVer 2.0.0 strings are accepted. */
+        STRICT,
+        /**
+         * Also accepts a "v" prefix, missing minor or patch numbers and
+         * leading zeros in core numbers, e.g. {@code "v01.2"}.
+         */
+        LENIENT,
+        /**
+         * Extracts the first version-like substring from arbitrary text,
+         * with the lenient rules for its core numbers, e.g.
+         * {@code "1.2.3"} from {@code "release 1.2.3.4 (final)"}.
+         */
+        COERCE
+    }
+
+    /**
+     * Immutable parsing options: mode, identifier pool and size limits.
+     * Build instances with {@link #builder()}.
+     */
+    public static final class Options {
+
+        /** Strict mode, no pool and {@link ParserLimits#DEFAULT}. */
+        public static final Options DEFAULT = builder().build();
+
+        /** The parsing mode. */
+        private final Mode mode;
+        /** The identifier pool, or null. */
+        private final IdentifierPool pool;
+        /** The size limits. */
+        private final ParserLimits limits;
+
+        /**
+         * Creates options from a builder.
+         *
+         * @param builder the builder
+         */
+        private Options(final Builder builder) {
+            this.mode = builder.mode;
+            this.pool = builder.pool;
+            this.limits = builder.limits;
+        }
+
+        /**
+         * Returns a builder initialised with the defaults.
+         *
+         * @return a new builder
+         */
+        public static Builder builder() {
+            return new Builder();
+        }
+
+        /**
+         * Returns the parsing mode.
+         *
+         * @return the mode
+         */
+        public Mode getMode() {
+            return mode;
+        }
+
+        /**
+         * Returns the identifier pool.
+         *
+         * @return the pool, or null if strings are not pooled
+         */
+        public IdentifierPool getPool() {
+            return pool;
+        }
+
+        /**
+         * Returns the size limits.
+         *
+         * @return the limits
+         */
+        public ParserLimits getLimits() {
+            return limits;
+        }
+
+        /**
+         * Builder for {@link Options}.
+         */
+        public static final class Builder {
+
+            /** The parsing mode. */
+            private Mode mode = Mode.STRICT;
+            /** The identifier pool, or null. */
+            private IdentifierPool pool;
+            /** The size limits. */
+            private ParserLimits limits = ParserLimits.DEFAULT;
+
+            /**
+             * Creates a builder with the defaults.
+             */
+            private Builder() {
+            }
+
+            /**
+             * Sets the parsing mode.
+             *
+             * @param parseMode the mode
+             * @return this builder
+             * @throws IllegalArgumentException if {@code parseMode} is null
+             */
+            public Builder mode(final Mode parseMode) {
+                if (parseMode == null) {
+                    throw new IllegalArgumentException(
+                        "Mode cannot be null");
+                }
+                this.mode = parseMode;
+                return this;
+            }
+
+            /**
+             * Sets the pool used to deduplicate prerelease and build
+             * strings.
+             *
+             * @param identifierPool the pool, or null for no pooling
+             * @return this builder
+             */
+            public Builder pool(final IdentifierPool identifierPool) {
+                this.pool = identifierPool;
+                return this;
+            }
+
+            /**
+             * Sets the size limits.
+             *
+             * @param parserLimits the limits
+             * @return this builder
+             * @throws IllegalArgumentException if {@code parserLimits} is
+             *         null
+             */
+            public Builder limits(final ParserLimits parserLimits) {
+                if (parserLimits == null) {
+                    throw new IllegalArgumentException(
+                        "Limits cannot be null");
+                }
+                this.limits = parserLimits;
+                return this;
+            }
+
+            /**
+             * Builds the options.
+             *
+             * @return the options
+             */
+            public Options build() {
+                return new Options(this);
+            }
+        }
+    }
 }
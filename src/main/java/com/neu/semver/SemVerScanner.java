@@ -0,0 +1,410 @@
+package com.neu.semver;
+
+/**
+ * Single-pass, table-driven scanner for the SemVer 2.0.0 grammar.
+ *
+ * Each character is classified with one table lookup into digit, letter,
+ * '.', '-', '+' or invalid, and the structural rules are checked as the
+ * scan advances: no leading zeros in numeric components or numeric
+ * prerelease identifiers, and alphanumeric prerelease identifiers that
+ * start with a letter and do not end with a hyphen. The accepted
+ * language is exactly that of the parser's original regular expression,
+ * restricted to numeric components that fit in a {@code long},
+ * and every character is visited once.
+ *
+ * Flags relax the grammar for the parser's lenient and coerce modes:
+ * leading zeros in core numbers, missing minor or patch numbers, and
+ * text after the version. The relaxed scans still visit each character
+ * once and report what they relaxed through the marks array.
+ *
+ * @author Yinlu Gong
+ * @version 0.1.0
+ */
+final class SemVerScanner {
+
+    /** Index in the marks array of the end of the major number. */
+    static final int MAJOR_END = 0;
+    /** Index in the marks array of the end of the minor number. */
+    static final int MINOR_END = 1;
+    /** Index in the marks array of the end of the patch number. */
+    static final int PATCH_END = 2;
+    /** Index of the prerelease start, or -1 when absent. */
+    static final int PRERELEASE_START = 3;
+    /** Index of the prerelease end, or -1 when absent. */
+    static final int PRERELEASE_END = 4;
+    /** Index of the build metadata start, or -1 when absent. */
+    static final int BUILD_START = 5;
+    /** Index of the number of identifiers scanned so far. */
+    static final int IDENTIFIER_COUNT = 6;
+    /** Index of the limit that stopped the scan, or 0 if none did. */
+    static final int LIMIT_EXCEEDED = 7;
+    /** Index of the number of core components that were present. */
+    static final int COMPONENTS = 8;
+    /** Index of the end of the scanned version. */
+    static final int SCAN_END = 9;
+    /** Required length of the marks array. */
+    static final int MARKS_LENGTH = 10;
+    /** Flag allowing leading zeros in core numbers. */
+    static final int ALLOW_LEADING_ZEROS = 1;
+    /** Flag allowing the minor and patch numbers to be missing. */
+    static final int ALLOW_MISSING_COMPONENTS = 2;
+    /**
+     * Flag allowing text after the version. A malformed prerelease or
+     * build suffix is then left out of the version instead of failing.
+     */
+    static final int ALLOW_TRAILING = 4;
+    /** Limit code for too many identifiers. */
+    static final int LIMIT_IDENTIFIERS = 1;
+    /** Limit code for an overlong identifier. */
+    static final int LIMIT_IDENTIFIER_LENGTH = 2;
+    /** Return value of a successful scan. */
+    static final int VALID = -1;
+
+    /** Class of characters that cannot appear in a version. */
+    static final byte INVALID = 0;
+    /** Class of ASCII digits. */
+    static final byte DIGIT = 1;
+    /** Class of ASCII letters. */
+    static final byte LETTER = 2;
+    /** Class of '.'. */
+    static final byte DOT = 3;
+    /** Class of '-'. */
+    static final byte HYPHEN = 4;
+    /** Class of '+'. */
+    static final byte PLUS = 5;
+
+    /** Number of entries in the ASCII class table. */
+    private static final int ASCII = 128;
+    /** Number of numeric components in the version core. */
+    private static final int CORE_COMPONENTS = 3;
+    /** Radix of numeric components. */
+    private static final int RADIX = 10;
+    /** Character classes for ASCII characters. */
+    private static final byte[] CLASSES = new byte[ASCII];
+
+    static {
+        for (char c = '0'; c <= '9'; c++) {
+            CLASSES[c] = DIGIT;
+        }
+        for (char c = 'a'; c <= 'z'; c++) {
+            CLASSES[c] = LETTER;
+            CLASSES[Character.toUpperCase(c)] = LETTER;
+        }
+        CLASSES['.'] = DOT;
+        CLASSES['-'] = HYPHEN;
+        CLASSES['+'] = PLUS;
+    }
+
+    /**
+     * Private constructor to prevent instantiation.
+     */
+    private SemVerScanner() {
+    }
+
+    /**
+     * Classifies one character.
+     *
+     * @param c the character
+     * @return its character class
+     */
+    static byte classify(final char c) {
+        byte result = INVALID;
+        if (c < ASCII) {
+            result = CLASSES[c];
+        }
+        return result;
+    }
+
+    /**
+     * Scans a region as a complete version string without identifier
+     * limits.
+     *
+     * @param text the text to scan
+     * @param start first index of the region, inclusive
+     * @param end last index of the region, exclusive
+     * @param marks receives the component boundaries, at least
+     *              {@link #MARKS_LENGTH} long
+     * @return {@link #VALID}, or the index at which the text stops
+     *         matching the grammar
+     */
+    static int scan(
+        final CharSequence text,
+        final int start,
+        final int end,
+        final int[] marks
+    ) {
+        return scan(text, start, end, marks,
+            Integer.MAX_VALUE, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Scans a region as a complete version string, stopping as soon as
+     * an identifier limit is exceeded.
+     *
+     * @param text the text to scan
+     * @param start first index of the region, inclusive
+     * @param end last index of the region, exclusive
+     * @param marks receives the component boundaries, at least
+     *              {@link #MARKS_LENGTH} long; {@link #LIMIT_EXCEEDED}
+     *              tells a limit failure from a grammar failure
+     * @param maxIdentifiers maximum number of prerelease and build
+     *                       identifiers
+     * @param maxIdentifierLength maximum length of one identifier
+     * @return {@link #VALID}, or the index at which scanning stopped
+     */
+    static int scan(
+        final CharSequence text,
+        final int start,
+        final int end,
+        final int[] marks,
+        final int maxIdentifiers,
+        final int maxIdentifierLength
+    ) {
+        return scan(text, start, end, marks,
+            maxIdentifiers, maxIdentifierLength, 0);
+    }
+
+    /**
+     * Scans a region with the grammar relaxed by the given flags.
+     * Missing core components have their end mark set to -1, and
+     * {@link #SCAN_END} receives the index after the version, which is
+     * before {@code end} only with {@link #ALLOW_TRAILING}.
+     *
+     * @param text the text to scan
+     * @param start first index of the region, inclusive
+     * @param end last index of the region, exclusive
+     * @param marks receives the component boundaries, at least
+     *              {@link #MARKS_LENGTH} long
+     * @param maxIdentifiers maximum number of prerelease and build
+     *                       identifiers
+     * @param maxIdentifierLength maximum length of one identifier
+     * @param flags a combination of {@link #ALLOW_LEADING_ZEROS},
+     *              {@link #ALLOW_MISSING_COMPONENTS} and
+     *              {@link #ALLOW_TRAILING}
+     * @return {@link #VALID}, or the index at which scanning stopped
+     */
+    static int scan(
+        final CharSequence text,
+        final int start,
+        final int end,
+        final int[] marks,
+        final int maxIdentifiers,
+        final int maxIdentifierLength,
+        final int flags
+    ) {
+        final boolean trailing = (flags & ALLOW_TRAILING) != 0;
+        marks[IDENTIFIER_COUNT] = 0;
+        marks[LIMIT_EXCEEDED] = 0;
+        int pos = start;
+        int error = VALID;
+        int components = 0;
+        boolean more = true;
+        while (more && components < CORE_COMPONENTS) {
+            int numberStart = pos;
+            if (components > 0) {
+                numberStart = pos < end && text.charAt(pos) == '.'
+                    ? pos + 1 : -1;
+            }
+            final boolean present = numberStart >= 0 && numberStart < end
+                && classify(text.charAt(numberStart)) == DIGIT;
+            if (!present && components > 0
+                && (flags & ALLOW_MISSING_COMPONENTS) != 0) {
+                more = false;
+            } else {
+                final int numberEnd = numberStart < 0 ? -1
+                    : scanNumber(text, numberStart, end,
+                        (flags & ALLOW_LEADING_ZEROS) != 0);
+                if (numberEnd < 0) {
+                    error = numberStart < 0 ? pos : numberStart;
+                    more = false;
+                } else {
+                    marks[components] = numberEnd;
+                    components++;
+                    pos = numberEnd;
+                }
+            }
+        }
+        marks[COMPONENTS] = components;
+        for (int missing = components; missing < CORE_COMPONENTS;
+            missing++) {
+            marks[missing] = -1;
+        }
+        marks[PRERELEASE_START] = -1;
+        marks[PRERELEASE_END] = -1;
+        marks[BUILD_START] = -1;
+        if (error == VALID && pos < end && text.charAt(pos) == '-') {
+            marks[PRERELEASE_START] = pos + 1;
+            final int tail = scanIdentifiers(text, pos + 1, end, true, marks,
+                maxIdentifiers, maxIdentifierLength);
+            if (tail >= 0) {
+                marks[PRERELEASE_END] = tail;
+                pos = tail;
+            } else if (trailing && marks[LIMIT_EXCEEDED] == 0) {
+                marks[PRERELEASE_START] = -1;
+            } else {
+                error = -tail - 1;
+            }
+        }
+        if (error == VALID && pos < end && text.charAt(pos) == '+') {
+            marks[BUILD_START] = pos + 1;
+            final int tail = scanIdentifiers(text, pos + 1, end, false, marks,
+                maxIdentifiers, maxIdentifierLength);
+            if (tail >= 0) {
+                pos = tail;
+            } else if (trailing && marks[LIMIT_EXCEEDED] == 0) {
+                marks[BUILD_START] = -1;
+            } else {
+                error = -tail - 1;
+            }
+        }
+        if (error == VALID && pos != end && !trailing) {
+            error = pos;
+        }
+        marks[SCAN_END] = pos;
+        return error;
+    }
+
+    /**
+     * Scans a numeric component.
+     *
+     * @param text the text to scan
+     * @param start first index of the number
+     * @param end end of the region
+     * @param leadingZeros whether leading zeros are allowed
+     * @return the index after the number, or -1 if it is malformed or
+     *         too large to represent
+     */
+    private static int scanNumber(
+        final CharSequence text,
+        final int start,
+        final int end,
+        final boolean leadingZeros
+    ) {
+        int pos = start;
+        long value = 0;
+        while (pos < end && classify(text.charAt(pos)) == DIGIT) {
+            if (value != Digits.OVERFLOW) {
+                value = Digits.append(value, text.charAt(pos) - '0');
+            }
+            pos++;
+        }
+        int result = pos;
+        if (pos == start || value == Digits.OVERFLOW
+            || !leadingZeros && pos - start > 1 && text.charAt(start) == '0') {
+            result = -1;
+        }
+        return result;
+    }
+
+    /**
+     * Scans dot-separated prerelease or build identifiers.
+     *
+     * @param text the text to scan
+     * @param start first index of the first identifier
+     * @param end end of the region
+     * @param prerelease whether prerelease identifier rules apply
+     * @param marks holds the running identifier count and receives the
+     *              limit code when a limit is exceeded
+     * @param maxIdentifiers maximum number of identifiers
+     * @param maxIdentifierLength maximum length of one identifier
+     * @return the index after the last identifier, or
+     *         {@code -(errorIndex) - 1} if an identifier is malformed or
+     *         a limit is exceeded
+     */
+    private static int scanIdentifiers(
+        final CharSequence text,
+        final int start,
+        final int end,
+        final boolean prerelease,
+        final int[] marks,
+        final int maxIdentifiers,
+        final int maxIdentifierLength
+    ) {
+        int pos = start;
+        int result = 0;
+        boolean more = true;
+        while (more) {
+            final int identifierStart = pos;
+            marks[IDENTIFIER_COUNT]++;
+            if (marks[IDENTIFIER_COUNT] > maxIdentifiers) {
+                marks[LIMIT_EXCEEDED] = LIMIT_IDENTIFIERS;
+            }
+            boolean numeric = true;
+            byte last = INVALID;
+            byte type = pos < end ? classify(text.charAt(pos)) : INVALID;
+            while ((type == DIGIT || type == LETTER || type == HYPHEN)
+                && marks[LIMIT_EXCEEDED] == 0) {
+                numeric &= type == DIGIT;
+                last = type;
+                pos++;
+                if (pos - identifierStart > maxIdentifierLength) {
+                    marks[LIMIT_EXCEEDED] = LIMIT_IDENTIFIER_LENGTH;
+                }
+                type = pos < end ? classify(text.charAt(pos)) : INVALID;
+            }
+            if (marks[LIMIT_EXCEEDED] != 0 || !isValidIdentifier(text,
+                identifierStart, pos, numeric, last, prerelease)) {
+                result = -identifierStart - 1;
+                more = false;
+            } else if (type == DOT) {
+                pos++;
+            } else {
+                result = pos;
+                more = false;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Checks the shape of one identifier.
+     *
+     * @param text the text holding the identifier
+     * @param start first index of the identifier
+     * @param end index after the identifier
+     * @param numeric whether the identifier is all digits
+     * @param last class of the identifier's last character
+     * @param prerelease whether prerelease identifier rules apply
+     * @return true if the identifier is well formed
+     */
+    private static boolean isValidIdentifier(
+        final CharSequence text,
+        final int start,
+        final int end,
+        final boolean numeric,
+        final byte last,
+        final boolean prerelease
+    ) {
+        boolean valid = end > start;
+        if (valid && prerelease) {
+            if (numeric) {
+                valid = end - start == 1 || text.charAt(start) != '0';
+            } else {
+                valid = classify(text.charAt(start)) == LETTER
+                    && last != HYPHEN;
+            }
+        }
+        return valid;
+    }
+
+    /**
+     * Converts a numeric component that {@link #scan} has already
+     * accepted, so no further validation is done.
+     *
+     * @param text the scanned text
+     * @param start first digit, inclusive
+     * @param end last digit, exclusive
+     * @return the component value
+     */
+    static long parseNumber(
+        final CharSequence text,
+        final int start,
+        final int end
+    ) {
+        long value = 0;
+        for (int i = start; i < end; i++) {
+            value = value * RADIX + (text.charAt(i) - '0');
+        }
+        return value;
+    }
+}
@@ -0,0 +1,66 @@
+package com.neu.semver;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Threshold;
+
+/**
+ * Flight Recorder event for a slow bulk operation over a version list,
+ * such as {@link SemVerUtils#sortVersions}. Stack traces are recorded so
+ * that the caller sorting a large list on a latency-sensitive thread can
+ * be identified.
+ *
+ * @author Yinlu Gong
+ * @version 0.1.0
+ */
+@Name("com.neu.semver.Sort")
+@Label("SemVer Sort")
+@Category("SemVer")
+@Description("Sorting or scanning of a version list")
+@Enabled(false)
+@Threshold("10 ms")
+final class SemVerSortEvent extends Event {
+
+    /** Name of the bulk operation. */
+    @Label("Operation")
+    private String operation;
+
+    /** Number of input elements. */
+    @Label("Input Size")
+    private int inputSize;
+
+    /** Whether the operation completed without an exception. */
+    @Label("Success")
+    private boolean success;
+
+    /**
+     * Sets the operation field.
+     *
+     * @param value the operation name
+     */
+    void setOperation(final String value) {
+        this.operation = value;
+    }
+
+    /**
+     * Sets the inputSize field.
+     *
+     * @param value the number of input elements
+     */
+    void setInputSize(final int value) {
+        this.inputSize = value;
+    }
+
+    /**
+     * Sets the success field.
+     *
+     * @param value whether the operation completed normally
+     */
+    void setSuccess(final boolean value) {
+        this.success = value;
+    }
+}
@@ -32,7 +32,29 @@ public final class SemVerUtils {
                 "Versions list cannot be null"
             );
         }
+        final SemVerMetrics metrics = MetricsHolder.get();
+        final long start = metrics == null ? 0L : System.nanoTime();
+        final SemVerSortEvent event = new SemVerSortEvent();
+        event.begin();
+        boolean success = false;
+        final List<String> result;
+        try {
+            result = sortParsed(versions);
+            success = true;
+        } finally {
+            recordBulk(metrics, event, "sortVersions", versions.size(),
+                start, success);
+        }
+        return result;
+    }
 
+    /**
+     * Parses and sorts versions in descending order.
+     *
+     * @param versions the list of version strings to sort
+     * @return a new list containing the versions sorted in descending order
+     */
+    private static List<String> sortParsed(final List<String> versions) {
         // Validate all versions first and collect SemVer objects
         final List<SemVer> semVerObjects = new ArrayList<>();
         for (final String version : versions) {
@@ -49,10 +71,67 @@ public final class SemVerUtils {
             result.add(semVer.getOriginalVersion());
         }
         return result;
+    }
+
+    /**
+     * Parses versions and keeps the highest in one pass. Of versions with
+     * equal precedence, the first one listed is kept.
+     *
+     * @param versions the non-empty list of version strings
+     * @return the original text of the highest version
+     */
+    private static String highestParsed(final List<String> versions) {
+        SemVer highest = null;
+        for (final String version : versions) {
+            if (version == null) {
+                throw new IllegalArgumentException(
+                    "Version string cannot be null"
+                );
+            }
+            final SemVer semVer = SemVerParser.parse(version);
+            if (highest == null
+                || SemVerComparator.INSTANCE.compare(semVer, highest) > 0) {
+                highest = semVer;
+            }
+        }
+        return highest.getOriginalVersion();
+    }
 
+    /**
+     * Reports a finished bulk operation to the installed metrics and to
+     * Flight Recorder.
+     *
+     * @param metrics the installed metrics, or null
+     * @param event the started Flight Recorder event
+     * @param operation the operation name
+     * @param size the number of input elements
+     * @param start the start time from {@link System#nanoTime()}, used
+     *              only when metrics are installed
+     * @param success whether the operation completed normally
+     */
+    private static void recordBulk(
+        final SemVerMetrics metrics,
+        final SemVerSortEvent event,
+        final String operation,
+        final int size,
+        final long start,
+        final boolean success
+    ) {
+        if (metrics != null && success) {
+            metrics.bulkOperation(operation, size, System.nanoTime() - start);
+        }
+        event.end();
+        if (event.shouldCommit()) {
+            event.setOperation(operation);
+            event.setInputSize(size);
+            event.setSuccess(success);
+            event.commit();
+        }
     }
+
     /**
-     * Finds the highest version from a list of version strings.
+     * Finds the highest version from a list of version strings. The list
+     * is scanned once without sorting it.
      *
      * @param versions the list of version strings to compare
      * @return the highest version string
@@ -66,49 +145,58 @@ public final class SemVerUtils {
                 "Versions list cannot be null or empty"
             );
         }
-        final List<String> sortedVersions = sortVersions(versions);
-        // First element is the highest due to descending sort
-        final String highestVersion = sortedVersions.get(0);
+        final SemVerMetrics metrics = MetricsHolder.get();
+        final long start = metrics == null ? 0L : System.nanoTime();
+        final SemVerSortEvent event = new SemVerSortEvent();
+        event.begin();
+        boolean success = false;
+        final String highestVersion;
+        try {
+            highestVersion = highestParsed(versions);
+            success = true;
+        } finally {
+            recordBulk(metrics, event, "findHighestVersion",
+                versions.size(), start, success);
+        }
         return highestVersion;
     }
     /**
      * Checks if a version string is valid according
      * to SemVer 2.0.0 specification.
+     * Surrounding whitespace is ignored, as in {@link SemVerParser#parse},
+     * and the parser's default limits apply to the whole string, so a
+     * valid version can always be parsed.
      *
      * @param version the version string to validate
      * @return true if the version is valid, false otherwise
      */
     public static boolean isValidVersion(final String version) {
-        boolean isValid;
-        try {
-            SemVerParser.parse(version);
-            isValid = true;
-        } catch (IllegalArgumentException e) {
-            isValid = false;
-        }
-        return isValid;
+        return BatchValidator.isValidIgnoringWhitespace(version);
     }
     /**
      * Increments the major version and resets minor and patch to 0.
      *
      * @param semVer the SemVer object to increment
      * @return a new SemVer object with incremented major version
+     * @throws InvalidSemVerException if the major version is
+     *         {@link Long#MAX_VALUE}
      */
     public static SemVer nextMajor(final SemVer semVer) {
-        return new SemVer((semVer.getMajor() + 1) + ".0.0");
+        return new SemVer(increment(semVer.getMajorLong(), "Major") + ".0.0");
     }
 
     /**
      * Increments the minor version and resets patch to 0.
      * @param semVer the SemVersion object
      * @return a new SemVer object with incremented minor version
+     * @throws InvalidSemVerException if the minor version is
+     *         {@link Long#MAX_VALUE}
      */
     public static SemVer nextMinor(final SemVer semVer) {
         return new SemVer(
-            semVer.getMajor()
+            semVer.getMajorLong()
                 + "."
-                +
-                (semVer.getMinor() + 1)
+                + increment(semVer.getMinorLong(), "Minor")
                 + ".0"
         );
     }
@@ -117,15 +205,36 @@ public final class SemVerUtils {
      * Increments the patch version.
      * @param version the SemVersion object
      * @return a new SemVer object with incremented patch version
+     * @throws InvalidSemVerException if the patch version is
+     *         {@link Long#MAX_VALUE}
      */
     public static SemVer nextPatch(final SemVer version) {
         return new SemVer(
-            version.getMajor()
-                + "." + version.getMinor()
-                + "." + (version.getPatch() + 1)
+            version.getMajorLong()
+                + "." + version.getMinorLong()
+                + "." + increment(version.getPatchLong(), "Patch")
         );
     }
 
+    /**
+     * Adds one to a version number.
+     *
+     * @param number the major, minor or patch number
+     * @param part the name of the number, for the error message
+     * @return the next number
+     * @throws InvalidSemVerException if number is {@link Long#MAX_VALUE}
+     */
+    static long increment(final long number, final String part) {
+        final long next;
+        try {
+            next = Math.addExact(number, 1L);
+        } catch (ArithmeticException e) {
+            throw new InvalidSemVerException(
+                part + " version " + number + " cannot be incremented", e);
+        }
+        return next;
+    }
+
 
     /**
      * Sets the major version to the specified value and resets minor and
@@ -164,7 +273,7 @@ public final class SemVerUtils {
             );
         }
         return new SemVer(
-            version.getMajor() + "."
+            version.getMajorLong() + "."
                 + newMinor + ".0"
         );
     }
@@ -184,8 +293,8 @@ public final class SemVerUtils {
             );
         }
         return new SemVer(
-            version.getMajor()
-                + "." + version.getMinor()
+            version.getMajorLong()
+                + "." + version.getMinorLong()
                 + "." + newPatch
         );
     }
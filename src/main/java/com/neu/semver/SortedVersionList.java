@@ -0,0 +1,404 @@
+package com.neu.semver;
+
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * A list of versions kept in ascending SemVer precedence order at all
+ * times, backed by a gap-buffered sorted array.
+ *
+ * Lookups ({@link #rank}, {@link #contains}) are binary searches and
+ * {@link #select} is a constant-time index translation. Inserts and
+ * removals locate their position in O(log n) and then move the gap to
+ * that position; the move costs only the distance from the previous
+ * edit, so the common stream of new releases landing at the top of the
+ * list is amortized O(1) per insert after the search.
+ *
+ * Because {@link SemVer#equals} and precedence ignore build metadata,
+ * versions that differ only in build metadata are duplicates here; the
+ * {@link DuplicatePolicy} chosen at construction decides which one is
+ * kept. This class is not thread-safe.
+ *
+ * @author Yinlu Gong
+ * @version 0.1.0
+ */
+public final class SortedVersionList implements Iterable<SemVer> {
+
+    /**
+     * How {@link #insert} treats a version whose precedence equals an
+     * element already in the list.
+     */
+    public enum DuplicatePolicy {
+        /** Keep the element already present and ignore the new one. */
+        KEEP_EXISTING,
+        /** Replace the element already present with the new one. */
+        REPLACE
+    }
+
+    /** Initial capacity of the backing array. */
+    private static final int INITIAL_CAPACITY = 16;
+
+    /** Duplicate handling policy. */
+    private final DuplicatePolicy policy;
+    /** Backing array; the gap is {@code [gapStart, gapEnd)}. */
+    private SemVer[] buffer;
+    /** First index of the gap. */
+    private int gapStart;
+    /** First index after the gap. */
+    private int gapEnd;
+    /** Structural modification counter for fail-fast iteration. */
+    private int modCount;
+
+    /**
+     * Creates an empty list that keeps existing elements on duplicates.
+     */
+    public SortedVersionList() {
+        this(DuplicatePolicy.KEEP_EXISTING);
+    }
+
+    /**
+     * Creates an empty list with the given duplicate policy.
+     *
+     * @param duplicatePolicy how duplicates by precedence are handled
+     * @throws IllegalArgumentException if duplicatePolicy is null
+     */
+    public SortedVersionList(final DuplicatePolicy duplicatePolicy) {
+        if (duplicatePolicy == null) {
+            throw new IllegalArgumentException(
+                "Duplicate policy cannot be null"
+            );
+        }
+        this.policy = duplicatePolicy;
+        this.buffer = new SemVer[INITIAL_CAPACITY];
+        this.gapStart = 0;
+        this.gapEnd = INITIAL_CAPACITY;
+    }
+
+    /**
+     * Inserts a version at its precedence position.
+     *
+     * @param version the version to insert
+     * @return true if the list changed
+     * @throws IllegalArgumentException if version is null
+     */
+    public boolean insert(final SemVer version) {
+        requireVersion(version);
+        final int index = search(version);
+        boolean changed;
+        if (index >= 0) {
+            changed = policy == DuplicatePolicy.REPLACE;
+            if (changed) {
+                buffer[physical(index)] = version;
+            }
+        } else {
+            final int position = -index - 1;
+            if (gapStart == gapEnd) {
+                grow();
+            }
+            moveGap(position);
+            buffer[gapStart] = version;
+            gapStart++;
+            modCount++;
+            changed = true;
+        }
+        return changed;
+    }
+
+    /**
+     * Removes the element with the same precedence as {@code version}.
+     *
+     * @param version the version to remove
+     * @return true if an element was removed
+     * @throws IllegalArgumentException if version is null
+     */
+    public boolean remove(final SemVer version) {
+        requireVersion(version);
+        final int index = search(version);
+        final boolean found = index >= 0;
+        if (found) {
+            moveGap(index);
+            buffer[gapEnd] = null;
+            gapEnd++;
+            modCount++;
+        }
+        return found;
+    }
+
+    /**
+     * Returns whether an element with the same precedence is present.
+     *
+     * @param version the version to look up
+     * @return true if present
+     * @throws IllegalArgumentException if version is null
+     */
+    public boolean contains(final SemVer version) {
+        requireVersion(version);
+        return search(version) >= 0;
+    }
+
+    /**
+     * Returns the number of elements with lower precedence than
+     * {@code version}, which is its ascending index when present.
+     *
+     * @param version the version to rank
+     * @return the rank of the version
+     * @throws IllegalArgumentException if version is null
+     */
+    public int rank(final SemVer version) {
+        requireVersion(version);
+        final int index = search(version);
+        int result = index;
+        if (index < 0) {
+            result = -index - 1;
+        }
+        return result;
+    }
+
+    /**
+     * Returns the element at the given ascending index.
+     *
+     * @param index the ascending index, 0 being the lowest version
+     * @return the version at that index
+     * @throws IndexOutOfBoundsException if index is out of range
+     */
+    public SemVer select(final int index) {
+        if (index < 0 || index >= size()) {
+            throw new IndexOutOfBoundsException(
+                "Index: " + index + ", size: " + size()
+            );
+        }
+        return buffer[physical(index)];
+    }
+
+    /**
+     * Returns the lowest version.
+     *
+     * @return the lowest version
+     * @throws NoSuchElementException if the list is empty
+     */
+    public SemVer first() {
+        requireNotEmpty();
+        return select(0);
+    }
+
+    /**
+     * Returns the highest version.
+     *
+     * @return the highest version
+     * @throws NoSuchElementException if the list is empty
+     */
+    public SemVer last() {
+        requireNotEmpty();
+        return select(size() - 1);
+    }
+
+    /**
+     * Returns the number of elements.
+     *
+     * @return the size of the list
+     */
+    public int size() {
+        return buffer.length - (gapEnd - gapStart);
+    }
+
+    /**
+     * Returns whether the list has no elements.
+     *
+     * @return true if empty
+     */
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    /**
+     * Copies the elements into a new array in ascending order.
+     *
+     * @return the elements in ascending order
+     */
+    public SemVer[] toArray() {
+        final SemVer[] result = new SemVer[size()];
+        System.arraycopy(buffer, 0, result, 0, gapStart);
+        System.arraycopy(
+            buffer, gapEnd, result, gapStart, buffer.length - gapEnd
+        );
+        return result;
+    }
+
+    /**
+     * Returns an iterator from the lowest to the highest version.
+     *
+     * @return an ascending iterator
+     */
+    @Override
+    public Iterator<SemVer> iterator() {
+        return new Itr(0, 1);
+    }
+
+    /**
+     * Returns an iterator from the highest to the lowest version.
+     *
+     * @return a descending iterator
+     */
+    public Iterator<SemVer> descendingIterator() {
+        return new Itr(size() - 1, -1);
+    }
+
+    /**
+     * Binary search over logical indices.
+     *
+     * @param version the version to find
+     * @return the index if found, otherwise {@code -(insertion point) - 1}
+     */
+    private int search(final SemVer version) {
+        int low = 0;
+        int high = size() - 1;
+        int result = -1;
+        boolean found = false;
+        while (low <= high && !found) {
+            final int mid = (low + high) >>> 1;
+            final int cmp = SemVerComparator.INSTANCE.compare(
+                buffer[physical(mid)], version
+            );
+            if (cmp < 0) {
+                low = mid + 1;
+            } else if (cmp > 0) {
+                high = mid - 1;
+            } else {
+                result = mid;
+                found = true;
+            }
+        }
+        if (!found) {
+            result = -(low + 1);
+        }
+        return result;
+    }
+
+    /**
+     * Translates a logical index to an index in the backing array.
+     *
+     * @param index the logical index
+     * @return the physical index
+     */
+    private int physical(final int index) {
+        int result = index;
+        if (index >= gapStart) {
+            result = index + (gapEnd - gapStart);
+        }
+        return result;
+    }
+
+    /**
+     * Moves the gap so that it starts at the given logical index.
+     *
+     * @param position the logical index where the gap should start
+     */
+    private void moveGap(final int position) {
+        final int gapLength = gapEnd - gapStart;
+        if (position < gapStart) {
+            final int count = gapStart - position;
+            System.arraycopy(buffer, position, buffer,
+                position + gapLength, count);
+            clear(position, Math.min(gapStart, position + gapLength));
+        } else if (position > gapStart) {
+            final int count = position - gapStart;
+            System.arraycopy(buffer, gapEnd, buffer, gapStart, count);
+            clear(Math.max(position, gapEnd), position + gapLength);
+        }
+        gapStart = position;
+        gapEnd = position + gapLength;
+    }
+
+    /**
+     * Clears stale references inside the gap.
+     *
+     * @param from first index to clear, inclusive
+     * @param to last index to clear, exclusive
+     */
+    private void clear(final int from, final int to) {
+        for (int i = from; i < to; i++) {
+            buffer[i] = null;
+        }
+    }
+
+    /**
+     * Doubles the backing array, keeping the gap at the same position.
+     */
+    private void grow() {
+        final int tailLength = buffer.length - gapEnd;
+        final SemVer[] larger = new SemVer[
+            Math.max(INITIAL_CAPACITY, buffer.length * 2)];
+        System.arraycopy(buffer, 0, larger, 0, gapStart);
+        System.arraycopy(buffer, gapEnd, larger,
+            larger.length - tailLength, tailLength);
+        gapEnd = larger.length - tailLength;
+        buffer = larger;
+    }
+
+    /**
+     * Validates a version argument.
+     *
+     * @param version the version to check
+     * @throws IllegalArgumentException if version is null
+     */
+    private static void requireVersion(final SemVer version) {
+        if (version == null) {
+            throw new IllegalArgumentException("Version cannot be null");
+        }
+    }
+
+    /**
+     * Validates that the list has at least one element.
+     *
+     * @throws NoSuchElementException if the list is empty
+     */
+    private void requireNotEmpty() {
+        if (isEmpty()) {
+            throw new NoSuchElementException("Version list is empty");
+        }
+    }
+
+    /**
+     * Fail-fast iterator walking logical indices in either direction.
+     */
+    private final class Itr implements Iterator<SemVer> {
+
+        /** Next logical index to return. */
+        private int cursor;
+        /** Step applied after each element, 1 or -1. */
+        private final int step;
+        /** Modification count observed at creation. */
+        private final int expectedModCount;
+
+        /**
+         * Creates an iterator.
+         *
+         * @param start the first logical index
+         * @param direction 1 for ascending, -1 for descending
+         */
+        Itr(final int start, final int direction) {
+            this.cursor = start;
+            this.step = direction;
+            this.expectedModCount = modCount;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return cursor >= 0 && cursor < size();
+        }
+
+        @Override
+        public SemVer next() {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            final SemVer result = buffer[physical(cursor)];
+            cursor += step;
+            return result;
+        }
+    }
+}
@@ -0,0 +1,141 @@
+package com.neu.semver;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Loads versions from many sources at once, one version per line.
+ *
+ * Sources are opened and read on {@link BlockingExecutors} threads, so
+ * the latency of slow sources such as HTTP responses or network file
+ * systems overlaps instead of adding up. On Java 21 and later every
+ * source gets its own virtual thread; otherwise up to
+ * {@link BlockingExecutors#concurrency()} sources are read at once.
+ * Blank lines and lines that are not valid versions after trimming are
+ * skipped; use {@link BatchValidator} to report them instead.
+ *
+ * @author Yinlu Gong
+ * @version 0.1.0
+ */
+public final class VersionLoader {
+
+    /** Thread name prefix of the loader threads. */
+    private static final String THREAD_NAME = "semver-loader";
+
+    /**
+     * Private constructor to prevent instantiation.
+     */
+    private VersionLoader() {
+    }
+
+    /**
+     * Opens and reads every source, returning the versions of each in
+     * line order. The returned list is in source order.
+     *
+     * @param sources opens each source; the loader closes the reader
+     * @return the versions of each source, unmodifiable
+     * @throws IOException if a source cannot be opened or read; the
+     *         first failure in source order is thrown with the others
+     *         suppressed
+     * @throws InterruptedIOException if interrupted while waiting
+     * @throws IllegalArgumentException if sources or an element is null
+     */
+    public static List<List<SemVer>> loadAll(
+        final List<? extends Callable<? extends Reader>> sources
+    ) throws IOException {
+        if (sources == null || sources.contains(null)) {
+            throw new IllegalArgumentException(
+                "Sources cannot be null or contain null"
+            );
+        }
+        final int count = sources.size();
+        final List<List<SemVer>> loaded = new ArrayList<>(count);
+        final Exception[] failures = new Exception[count];
+        for (int i = 0; i < count; i++) {
+            loaded.add(Collections.emptyList());
+        }
+        final AtomicInteger next = new AtomicInteger();
+        final Callable<Void> worker = () -> {
+            for (int i = next.getAndIncrement(); i < count;
+                i = next.getAndIncrement()) {
+                try {
+                    loaded.set(i, read(sources.get(i)));
+                } catch (final Exception e) {
+                    failures[i] = e;
+                }
+            }
+            return null;
+        };
+        final int workers = Math.min(count, BlockingExecutors.concurrency());
+        final ExecutorService executor =
+            BlockingExecutors.newExecutor(THREAD_NAME);
+        try {
+            executor.invokeAll(Collections.nCopies(workers, worker));
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            final InterruptedIOException interrupted =
+                new InterruptedIOException("Interrupted loading versions");
+            interrupted.initCause(e);
+            throw interrupted;
+        } finally {
+            executor.shutdownNow();
+        }
+        rethrow(failures);
+        return Collections.unmodifiableList(loaded);
+    }
+
+    /**
+     * Opens one source and parses its lines.
+     *
+     * @param source opens the source
+     * @return the valid versions in line order
+     * @throws Exception if the source cannot be opened or read
+     */
+    private static List<SemVer> read(
+        final Callable<? extends Reader> source
+    ) throws Exception {
+        final List<SemVer> versions = new ArrayList<>();
+        try (BufferedReader reader = new BufferedReader(source.call())) {
+            for (String line = reader.readLine(); line != null;
+                line = reader.readLine()) {
+                final String text = line.trim();
+                final SemVer version =
+                    SemVerParser.tryParse(text, 0, text.length());
+                if (version != null) {
+                    versions.add(version);
+                }
+            }
+        }
+        return Collections.unmodifiableList(versions);
+    }
+
+    /**
+     * Throws the first recorded failure, if any.
+     *
+     * @param failures the failure of each source, or null
+     * @throws IOException wrapping the first failure
+     */
+    private static void rethrow(final Exception[] failures)
+        throws IOException {
+        IOException first = null;
+        for (int i = 0; i < failures.length; i++) {
+            if (failures[i] != null && first == null) {
+                first = new IOException(
+                    "Cannot load version source " + i, failures[i]);
+            } else if (failures[i] != null) {
+                first.addSuppressed(failures[i]);
+            }
+        }
+        if (first != null) {
+            throw first;
+        }
+    }
+}
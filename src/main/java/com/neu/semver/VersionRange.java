@@ -0,0 +1,408 @@
+package com.neu.semver;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+
+/**
+ * An immutable version constraint such as {@code ">=1.2.0 <2.0.0"} or
+ * {@code "^1.4.0 || ~2.1.3"}.
+ *
+ * A range is a set of alternatives separated by {@code ||}; a version
+ * satisfies the range when it satisfies every comparator of at least one
+ * alternative. Supported comparators are {@code =}, {@code >},
+ * {@code >=}, {@code <}, {@code <=}, a bare version (exact match),
+ * {@code *} (any version), and the shorthands {@code ^} and {@code ~}.
+ * All checks use {@link SemVerComparator} precedence, so build metadata
+ * is ignored.
+ *
+ * The caret and tilde shorthands exclude prereleases of the next line:
+ * {@code ^1.2.3} means {@code >=1.2.3 <2.0.0-0} and {@code ~1.2.3} means
+ * {@code >=1.2.3 <1.3.0-0}. A caret on a {@code 0.x} version only allows
+ * patch or minor changes that keep the left-most non-zero component.
+ *
+ * @author Yinlu Gong
+ * @version 0.1.0
+ */
+public final class VersionRange {
+
+    /** Comparison operators supported by a single comparator. */
+    enum Operator {
+        /** Equal precedence. */
+        EQ,
+        /** Strictly greater precedence. */
+        GT,
+        /** Greater or equal precedence. */
+        GTE,
+        /** Strictly lower precedence. */
+        LT,
+        /** Lower or equal precedence. */
+        LTE
+    }
+
+    /**
+     * A single operator and version pair.
+     */
+    static final class Term {
+
+        /** The comparison operator. */
+        private final Operator operator;
+        /** The version the operator compares against. */
+        private final SemVer version;
+
+        /**
+         * Creates a term.
+         *
+         * @param termOperator the operator
+         * @param termVersion the version operand
+         */
+        Term(final Operator termOperator, final SemVer termVersion) {
+            this.operator = termOperator;
+            this.version = termVersion;
+        }
+
+        /**
+         * Returns the operator.
+         *
+         * @return the operator
+         */
+        Operator operator() {
+            return operator;
+        }
+
+        /**
+         * Returns the version operand.
+         *
+         * @return the version operand
+         */
+        SemVer version() {
+            return version;
+        }
+
+        /**
+         * Tests a version against this term.
+         *
+         * @param candidate the version to test
+         * @return true if the candidate satisfies the term
+         */
+        boolean test(final SemVer candidate) {
+            final int cmp = SemVerComparator.INSTANCE.compare(
+                candidate, version
+            );
+            boolean result;
+            switch (operator) {
+                case GT:
+                    result = cmp > 0;
+                    break;
+                case GTE:
+                    result = cmp >= 0;
+                    break;
+                case LT:
+                    result = cmp < 0;
+                    break;
+                case LTE:
+                    result = cmp <= 0;
+                    break;
+                default:
+                    result = cmp == 0;
+                    break;
+            }
+            return result;
+        }
+    }
+
+    /** Separator between alternatives. */
+    private static final String OR = "||";
+
+    /** Alternatives, each a conjunction of terms. */
+    private final Term[][] alternatives;
+    /** The text the range was parsed from. */
+    private final String source;
+    /** The compiled form, built on first use of {@link #compile()}. */
+    private volatile CompiledRange compiled;
+
+    /**
+     * Creates a range from parsed alternatives.
+     *
+     * @param parsedAlternatives the alternatives
+     * @param sourceText the original range text
+     */
+    private VersionRange(
+        final Term[][] parsedAlternatives,
+        final String sourceText
+    ) {
+        this.alternatives = parsedAlternatives;
+        this.source = sourceText;
+    }
+
+    /**
+     * Parses a range expression.
+     *
+     * @param range the range expression
+     * @return the parsed range
+     * @throws IllegalArgumentException if range is null
+     * @throws InvalidSemVerException if the range or one of its versions
+     *         is invalid
+     */
+    public static VersionRange parse(final String range) {
+        if (range == null) {
+            throw new IllegalArgumentException(
+                "Version range cannot be null"
+            );
+        }
+        final String trimmed = range.trim();
+        if (trimmed.isEmpty()) {
+            throw new InvalidSemVerException(
+                "Version range cannot be empty"
+            );
+        }
+        final List<Term[]> parsed = new ArrayList<>();
+        int start = 0;
+        while (start <= trimmed.length()) {
+            int end = trimmed.indexOf(OR, start);
+            if (end < 0) {
+                end = trimmed.length();
+            }
+            parsed.add(parseAlternative(trimmed, start, end));
+            start = end + OR.length();
+        }
+        return new VersionRange(parsed.toArray(new Term[0][]), trimmed);
+    }
+
+    /**
+     * Parses one whitespace-separated conjunction of comparators.
+     *
+     * @param range the whole range text
+     * @param start start of the alternative, inclusive
+     * @param end end of the alternative, exclusive
+     * @return the terms of the alternative
+     */
+    private static Term[] parseAlternative(
+        final String range,
+        final int start,
+        final int end
+    ) {
+        final String alternative = range.substring(start, end).trim();
+        if (alternative.isEmpty()) {
+            throw new InvalidSemVerException(
+                "Invalid version range: " + range
+            );
+        }
+        final List<Term> terms = new ArrayList<>();
+        for (final String token : alternative.split("\\s+")) {
+            if (!"*".equals(token)) {
+                addTerms(token, range, terms);
+            }
+        }
+        return terms.toArray(new Term[0]);
+    }
+
+    /**
+     * Parses a single comparator token and appends its terms.
+     *
+     * @param token the comparator token
+     * @param range the whole range text, for error messages
+     * @param terms the list receiving the terms
+     */
+    private static void addTerms(
+        final String token,
+        final String range,
+        final List<Term> terms
+    ) {
+        int operatorLength = 1;
+        final char first = token.charAt(0);
+        if (token.startsWith(">=") || token.startsWith("<=")) {
+            operatorLength = 2;
+        } else if (first != '>' && first != '<' && first != '='
+            && first != '^' && first != '~') {
+            operatorLength = 0;
+        }
+        if (operatorLength == token.length()) {
+            throw new InvalidSemVerException(
+                "Invalid version range: " + range
+            );
+        }
+        final SemVer version = SemVerParser.parse(
+            token.substring(operatorLength)
+        );
+        final String operator = token.substring(0, operatorLength);
+        switch (operator) {
+            case ">":
+                terms.add(new Term(Operator.GT, version));
+                break;
+            case ">=":
+                terms.add(new Term(Operator.GTE, version));
+                break;
+            case "<":
+                terms.add(new Term(Operator.LT, version));
+                break;
+            case "<=":
+                terms.add(new Term(Operator.LTE, version));
+                break;
+            case "^":
+                terms.add(new Term(Operator.GTE, version));
+                terms.add(new Term(Operator.LT, caretUpper(version)));
+                break;
+            case "~":
+                terms.add(new Term(Operator.GTE, version));
+                terms.add(new Term(Operator.LT, tildeUpper(version)));
+                break;
+            default:
+                terms.add(new Term(Operator.EQ, version));
+                break;
+        }
+    }
+
+    /**
+     * Returns the exclusive upper bound of a caret range.
+     *
+     * @param version the caret operand
+     * @return the lowest version outside the caret range
+     * @throws InvalidSemVerException if the number to increment is
+     *         {@link Long#MAX_VALUE}
+     */
+    private static SemVer caretUpper(final SemVer version) {
+        String upper;
+        if (version.getMajorLong() > 0) {
+            upper = SemVerUtils.increment(version.getMajorLong(), "Major")
+                + ".0.0-0";
+        } else if (version.getMinorLong() > 0) {
+            upper = "0." + SemVerUtils.increment(version.getMinorLong(), "Minor")
+                + ".0-0";
+        } else {
+            upper = "0.0." + SemVerUtils.increment(version.getPatchLong(), "Patch")
+                + "-0";
+        }
+        return SemVerParser.parse(upper);
+    }
+
+    /**
+     * Returns the exclusive upper bound of a tilde range.
+     *
+     * @param version the tilde operand
+     * @return the lowest version outside the tilde range
+     * @throws InvalidSemVerException if the minor number is
+     *         {@link Long#MAX_VALUE}
+     */
+    private static SemVer tildeUpper(final SemVer version) {
+        return SemVerParser.parse(
+            version.getMajorLong() + "."
+                + SemVerUtils.increment(version.getMinorLong(), "Minor")
+                + ".0-0"
+        );
+    }
+
+    /**
+     * Returns whether the given version satisfies this range.
+     *
+     * @param version the version to test
+     * @return true if the version satisfies at least one alternative
+     * @throws IllegalArgumentException if version is null
+     */
+    public boolean satisfies(final SemVer version) {
+        if (version == null) {
+            throw new IllegalArgumentException("Version cannot be null");
+        }
+        boolean result = false;
+        for (int i = 0; i < alternatives.length && !result; i++) {
+            result = matches(alternatives[i], version);
+        }
+        return result;
+    }
+
+    /**
+     * Tests a version against every term of one alternative.
+     *
+     * @param terms the conjunction of terms
+     * @param version the version to test
+     * @return true if all terms are satisfied
+     */
+    private static boolean matches(final Term[] terms, final SemVer version) {
+        boolean result = true;
+        for (int i = 0; i < terms.length && result; i++) {
+            result = terms[i].test(version);
+        }
+        return result;
+    }
+
+    /**
+     * Returns this range compiled for repeated evaluation. The result is
+     * built once and cached; it matches exactly the versions that
+     * {@link #satisfies(SemVer)} accepts.
+     *
+     * @return the compiled range
+     */
+    public CompiledRange compile() {
+        CompiledRange result = compiled;
+        if (result == null) {
+            result = VersionRangeSet.of(this).compile();
+            compiled = result;
+        }
+        return result;
+    }
+
+    /**
+     * Returns the indexes of the versions that satisfy this range. Use
+     * {@code compile().filter(versions, true)} to evaluate large arrays
+     * on the common fork/join pool.
+     *
+     * @param versions the versions to test
+     * @return a bit set with bit {@code i} set if {@code versions[i]}
+     *         satisfies this range
+     * @throws IllegalArgumentException if the array or an element is null
+     */
+    public BitSet filter(final SemVer[] versions) {
+        return compile().filter(versions);
+    }
+
+    /**
+     * Returns the rows of a columnar version table that satisfy this
+     * range, without materializing {@link SemVer} objects.
+     *
+     * @param major the major column
+     * @param minor the minor column
+     * @param patch the patch column
+     * @param prerelease the prerelease column, or null if all rows are
+     *                   releases
+     * @return a bit set with the bit of every matching row set
+     * @throws IllegalArgumentException if the columns are malformed
+     * @see CompiledRange#filter(int[], int[], int[], String[])
+     */
+    public BitSet filter(
+        final int[] major,
+        final int[] minor,
+        final int[] patch,
+        final String[] prerelease
+    ) {
+        return compile().filter(major, minor, patch, prerelease);
+    }
+
+    /**
+     * Returns the number of alternatives.
+     *
+     * @return the alternative count
+     */
+    int alternativeCount() {
+        return alternatives.length;
+    }
+
+    /**
+     * Returns the terms of one alternative.
+     *
+     * @param index the alternative index
+     * @return a copy of the alternative's terms
+     */
+    Term[] alternative(final int index) {
+        return alternatives[index].clone();
+    }
+
+    /**
+     * Returns the range text this range was parsed from.
+     *
+     * @return the range text
+     */
+    @Override
+    public String toString() {
+        return source;
+    }
+}
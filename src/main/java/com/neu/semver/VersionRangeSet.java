@@ -0,0 +1,740 @@
+package com.neu.semver;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * An immutable set of versions held as a normalized list of disjoint
+ * intervals in ascending {@link SemVerComparator} order.
+ *
+ * Every {@link VersionRange} converts to a range set, and two range sets
+ * describe the same versions exactly when they are equal. Precedence is
+ * discrete: every version but the highest has a successor, the lowest
+ * version above it, so every interval is stored half-open as
+ * {@code >=lower <upper}. {@code >1.0.0} is stored as
+ * {@code >=1.0.1-0} and {@code <=1.0.0} as {@code <1.0.1-0}, so the two
+ * ways of writing a bound give one representation, and an interval is
+ * empty exactly when its lower bound is not below its upper bound.
+ * Intervals are never empty, never overlap and never touch, so
+ * {@code >=1.0.0 <2.0.0} united with {@code >=2.0.0 <3.0.0} is stored as
+ * the single interval {@code >=1.0.0 <3.0.0}. {@link #union}, {@link #intersect},
+ * {@link #complement} and {@link #isSubsetOf} walk the interval lists
+ * once, so their cost is linear in the interval count and independent of
+ * how many versions fall inside.
+ *
+ * @author Yinlu Gong
+ * @version 0.1.0
+ */
+public final class VersionRangeSet {
+
+    /**
+     * The lowest version in precedence order. Intervals without a lower
+     * bound start here, so a set has one representation however its
+     * lower end is written.
+     */
+    private static final SemVer MIN_VERSION = SemVerParser.parse("0.0.0-0");
+
+    /** The set of all versions. */
+    public static final VersionRangeSet ALL = new VersionRangeSet(
+        new Interval[] {new Interval(MIN_VERSION, null)});
+
+    /** The empty set. */
+    public static final VersionRangeSet EMPTY =
+        new VersionRangeSet(new Interval[0]);
+
+    /** Orders intervals by their lower bound. */
+    private static final Comparator<Interval> BY_LOWER =
+        VersionRangeSet::compareLower;
+
+    /** The normalized intervals in ascending order. */
+    private final Interval[] intervals;
+
+    /**
+     * Creates a set from normalized intervals.
+     *
+     * @param normalized the intervals, owned by the set
+     */
+    private VersionRangeSet(final Interval[] normalized) {
+        this.intervals = normalized;
+    }
+
+    /**
+     * Converts a range to the set of versions it allows.
+     *
+     * @param range the range
+     * @return the normalized set
+     * @throws IllegalArgumentException if range is null
+     */
+    public static VersionRangeSet of(final VersionRange range) {
+        if (range == null) {
+            throw new IllegalArgumentException("Range cannot be null");
+        }
+        final List<Interval> parts = new ArrayList<>();
+        for (int i = 0; i < range.alternativeCount(); i++) {
+            Interval interval = new Interval(MIN_VERSION, null);
+            for (VersionRange.Term term : range.alternative(i)) {
+                interval = intersect(interval, toInterval(term));
+            }
+            if (interval != null) {
+                parts.add(interval);
+            }
+        }
+        final Interval[] sorted = parts.toArray(new Interval[0]);
+        Arrays.sort(sorted, BY_LOWER);
+        return new VersionRangeSet(merge(sorted));
+    }
+
+    /**
+     * Parses a range expression into a range set.
+     *
+     * @param range the range expression
+     * @return the normalized set
+     * @throws IllegalArgumentException if range is null
+     * @throws InvalidSemVerException if the range is invalid
+     */
+    public static VersionRangeSet parse(final String range) {
+        return of(VersionRange.parse(range));
+    }
+
+    /**
+     * Returns the set holding exactly one version.
+     *
+     * @param version the version
+     * @return the singleton set
+     * @throws IllegalArgumentException if version is null
+     */
+    public static VersionRangeSet exactly(final SemVer version) {
+        if (version == null) {
+            throw new IllegalArgumentException("Version cannot be null");
+        }
+        return new VersionRangeSet(new Interval[] {
+            Interval.of(version, true, version, true)});
+    }
+
+    /**
+     * Returns the versions in this set or the other.
+     *
+     * @param other the other set
+     * @return the union
+     * @throws IllegalArgumentException if other is null
+     */
+    public VersionRangeSet union(final VersionRangeSet other) {
+        requireNonNull(other);
+        final Interval[] sorted =
+            new Interval[intervals.length + other.intervals.length];
+        int i = 0;
+        int j = 0;
+        int k = 0;
+        while (i < intervals.length || j < other.intervals.length) {
+            if (j == other.intervals.length || i < intervals.length
+                && compareLower(intervals[i], other.intervals[j]) <= 0) {
+                sorted[k++] = intervals[i++];
+            } else {
+                sorted[k++] = other.intervals[j++];
+            }
+        }
+        return new VersionRangeSet(merge(sorted));
+    }
+
+    /**
+     * Returns the versions in both this set and the other.
+     *
+     * @param other the other set
+     * @return the intersection
+     * @throws IllegalArgumentException if other is null
+     */
+    public VersionRangeSet intersect(final VersionRangeSet other) {
+        requireNonNull(other);
+        final List<Interval> result = new ArrayList<>();
+        int i = 0;
+        int j = 0;
+        while (i < intervals.length && j < other.intervals.length) {
+            final Interval overlap =
+                intersect(intervals[i], other.intervals[j]);
+            if (overlap != null) {
+                result.add(overlap);
+            }
+            if (compareUpper(intervals[i], other.intervals[j]) < 0) {
+                i++;
+            } else {
+                j++;
+            }
+        }
+        return new VersionRangeSet(result.toArray(new Interval[0]));
+    }
+
+    /**
+     * Returns the versions not in this set.
+     *
+     * @return the complement
+     */
+    public VersionRangeSet complement() {
+        final List<Interval> result = new ArrayList<>();
+        SemVer lower = MIN_VERSION;
+        boolean open = true;
+        for (Interval interval : intervals) {
+            final Interval gap = new Interval(lower, interval.lower);
+            if (!gap.isEmpty()) {
+                result.add(gap);
+            }
+            lower = interval.upper;
+            open = interval.upper != null;
+        }
+        if (open) {
+            result.add(new Interval(lower, null));
+        }
+        return new VersionRangeSet(result.toArray(new Interval[0]));
+    }
+
+    /**
+     * Returns whether every version in this set is also in the other.
+     *
+     * @param other the other set
+     * @return true if this set is a subset of other
+     * @throws IllegalArgumentException if other is null
+     */
+    public boolean isSubsetOf(final VersionRangeSet other) {
+        requireNonNull(other);
+        boolean result = true;
+        int j = 0;
+        for (int i = 0; i < intervals.length && result; i++) {
+            final Interval interval = intervals[i];
+            // An interval of other that ends first cannot hold this
+            // interval or any later one.
+            while (j < other.intervals.length
+                && compareUpper(other.intervals[j], interval) < 0) {
+                j++;
+            }
+            result = j < other.intervals.length
+                && compareLower(other.intervals[j], interval) <= 0
+                && compareUpper(other.intervals[j], interval) >= 0;
+        }
+        return result;
+    }
+
+    /**
+     * Returns whether this set holds no versions.
+     *
+     * @return true if empty
+     */
+    public boolean isEmpty() {
+        return intervals.length == 0;
+    }
+
+    /**
+     * Returns whether a version is in this set, by binary search over
+     * the intervals.
+     *
+     * @param version the version
+     * @return true if the version is in the set
+     * @throws IllegalArgumentException if version is null
+     */
+    public boolean contains(final SemVer version) {
+        if (version == null) {
+            throw new IllegalArgumentException("Version cannot be null");
+        }
+        int low = 0;
+        int high = intervals.length;
+        while (low < high) {
+            final int mid = (low + high) >>> 1;
+            if (belowUpper(version, intervals[mid])) {
+                high = mid;
+            } else {
+                low = mid + 1;
+            }
+        }
+        return low < intervals.length && aboveLower(version, intervals[low]);
+    }
+
+    /**
+     * Returns the number of disjoint intervals.
+     *
+     * @return the interval count
+     */
+    public int intervalCount() {
+        return intervals.length;
+    }
+
+    /**
+     * Returns the inclusive lower bound of an interval; the lowest
+     * version when the interval is unbounded below.
+     *
+     * @param index the interval, in ascending order
+     * @return the lower bound
+     */
+    SemVer lowerBound(final int index) {
+        return intervals[index].lower;
+    }
+
+    /**
+     * Returns whether the lower bound of an interval is included, which
+     * it always is once normalized.
+     *
+     * @param index the interval, in ascending order
+     * @return true
+     */
+    boolean isLowerInclusive(final int index) {
+        return true;
+    }
+
+    /**
+     * Returns the exclusive upper bound of an interval.
+     *
+     * @param index the interval, in ascending order
+     * @return the upper bound, or null if unbounded
+     */
+    SemVer upperBound(final int index) {
+        return intervals[index].upper;
+    }
+
+    /**
+     * Returns whether the upper bound of an interval is included, which
+     * it never is once normalized.
+     *
+     * @param index the interval, in ascending order
+     * @return false
+     */
+    boolean isUpperInclusive(final int index) {
+        return false;
+    }
+
+    /**
+     * Compiles this set for fast repeated membership tests.
+     *
+     * @return the compiled matcher
+     */
+    public CompiledRange compile() {
+        final int count = intervals.length;
+        final SemVer[] lowers = new SemVer[count];
+        final boolean[] lowerInclusive = new boolean[count];
+        final boolean[] minimal = new boolean[count];
+        final SemVer[] uppers = new SemVer[count];
+        final boolean[] upperInclusive = new boolean[count];
+        for (int i = 0; i < count; i++) {
+            final Interval interval = intervals[i];
+            lowers[i] = interval.lower;
+            lowerInclusive[i] = true;
+            minimal[i] = SemVerComparator.INSTANCE
+                .compare(interval.lower, MIN_VERSION) == 0;
+            uppers[i] = interval.upper;
+            upperInclusive[i] = false;
+        }
+        return new CompiledRange(lowers, lowerInclusive, minimal, uppers,
+            upperInclusive, toString());
+    }
+
+    /**
+     * Returns an equivalent range expression.
+     *
+     * @return a range that allows exactly the versions in this set
+     */
+    public VersionRange toRange() {
+        return VersionRange.parse(toString());
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+        boolean result = this == obj;
+        if (!result && obj instanceof VersionRangeSet) {
+            result = Arrays.equals(intervals, ((VersionRangeSet) obj).intervals);
+        }
+        return result;
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(intervals);
+    }
+
+    /**
+     * Returns the set in range syntax, e.g.
+     * {@code ">=1.0.0 <2.0.0 || 3.0.0"}. The empty set is written
+     * {@code "<0.0.0-0"}, which no version satisfies.
+     *
+     * @return the range expression
+     */
+    @Override
+    public String toString() {
+        final StringBuilder builder = new StringBuilder();
+        if (intervals.length == 0) {
+            builder.append("<0.0.0-0");
+        }
+        for (int i = 0; i < intervals.length; i++) {
+            if (i > 0) {
+                builder.append(" || ");
+            }
+            intervals[i].appendTo(builder);
+        }
+        return builder.toString();
+    }
+
+    /**
+     * Rejects a null argument.
+     *
+     * @param other the argument
+     */
+    private static void requireNonNull(final VersionRangeSet other) {
+        if (other == null) {
+            throw new IllegalArgumentException("Range set cannot be null");
+        }
+    }
+
+    /**
+     * Converts one comparator to an interval.
+     *
+     * @param term the comparator
+     * @return the interval it allows
+     */
+    private static Interval toInterval(final VersionRange.Term term) {
+        final SemVer version = term.version();
+        Interval result;
+        switch (term.operator()) {
+            case GT:
+                result = Interval.of(version, false, null, false);
+                break;
+            case GTE:
+                result = Interval.of(version, true, null, false);
+                break;
+            case LT:
+                result = Interval.of(null, false, version, false);
+                break;
+            case LTE:
+                result = Interval.of(null, false, version, true);
+                break;
+            default:
+                result = Interval.of(version, true, version, true);
+                break;
+        }
+        return result;
+    }
+
+    /**
+     * Returns the lowest version above a version in precedence order:
+     * the version with a {@code 0} identifier appended to its prerelease,
+     * or for a release, the next patch's lowest prerelease {@code -0}.
+     * Build metadata is dropped.
+     *
+     * @param version the version
+     * @return the successor, or null if version is the highest version
+     */
+    static SemVer successor(final SemVer version) {
+        final long major = version.getMajorLong();
+        final long minor = version.getMinorLong();
+        final long patch = version.getPatchLong();
+        String text = null;
+        if (version.isPrerelease()) {
+            text = major + "." + minor + "." + patch + "-"
+                + version.getPrerelease() + ".0";
+        } else if (patch < Long.MAX_VALUE) {
+            text = major + "." + minor + "." + (patch + 1) + "-0";
+        } else if (minor < Long.MAX_VALUE) {
+            text = major + "." + (minor + 1) + ".0-0";
+        } else if (major < Long.MAX_VALUE) {
+            text = (major + 1) + ".0.0-0";
+        }
+        return text == null ? null
+            : SemVerParser.parse(text, ParserLimits.UNLIMITED);
+    }
+
+    /**
+     * Returns the version whose successor is the given one, if there is
+     * one: dropping a trailing {@code 0} prerelease identifier, or
+     * turning {@code M.m.p-0} into the release {@code M.m.(p-1)}.
+     *
+     * @param version the version
+     * @return the predecessor, or null if versions below it have no
+     *         highest element
+     */
+    static SemVer predecessor(final SemVer version) {
+        final String prerelease = version.getPrerelease();
+        String text = null;
+        if ("0".equals(prerelease)) {
+            if (version.getPatchLong() > 0) {
+                text = version.getMajorLong() + "." + version.getMinorLong()
+                    + "." + (version.getPatchLong() - 1);
+            }
+        } else if (prerelease != null && prerelease.endsWith(".0")) {
+            text = version.getMajorLong() + "." + version.getMinorLong()
+                + "." + version.getPatchLong() + "-"
+                + prerelease.substring(0, prerelease.length() - 2);
+        }
+        return text == null ? null
+            : SemVerParser.parse(text, ParserLimits.UNLIMITED);
+    }
+
+    /**
+     * Drops build metadata, which takes no part in precedence.
+     *
+     * @param version the version
+     * @return the version without build metadata
+     */
+    private static SemVer withoutBuild(final SemVer version) {
+        SemVer result = version;
+        if (version.hasBuild()) {
+            String text = version.getMajorLong() + "." + version.getMinorLong()
+                + "." + version.getPatchLong();
+            if (version.isPrerelease()) {
+                text = text + "-" + version.getPrerelease();
+            }
+            result = SemVerParser.parse(text, ParserLimits.UNLIMITED);
+        }
+        return result;
+    }
+
+    /**
+     * Intersects two intervals.
+     *
+     * @param first the first interval, or null for the empty interval
+     * @param second the second interval
+     * @return the overlap, or null if they do not overlap
+     */
+    private static Interval intersect(
+        final Interval first,
+        final Interval second
+    ) {
+        Interval result = null;
+        if (first != null) {
+            final Interval lower =
+                compareLower(first, second) >= 0 ? first : second;
+            final Interval upper =
+                compareUpper(first, second) <= 0 ? first : second;
+            final Interval candidate = new Interval(lower.lower, upper.upper);
+            if (!candidate.isEmpty()) {
+                result = candidate;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Merges intervals sorted by lower bound into a normalized array,
+     * joining any that overlap or touch.
+     *
+     * @param sorted the intervals in lower bound order
+     * @return the normalized intervals
+     */
+    private static Interval[] merge(final Interval[] sorted) {
+        final List<Interval> result = new ArrayList<>();
+        Interval current = null;
+        for (Interval next : sorted) {
+            if (current == null) {
+                current = next;
+            } else if (reaches(current, next)) {
+                if (compareUpper(next, current) > 0) {
+                    current = new Interval(current.lower, next.upper);
+                }
+            } else {
+                result.add(current);
+                current = next;
+            }
+        }
+        if (current != null) {
+            result.add(current);
+        }
+        return result.toArray(new Interval[0]);
+    }
+
+    /**
+     * Returns whether an interval overlaps or touches a later one.
+     *
+     * @param first the interval with the lower or equal lower bound
+     * @param second the later interval
+     * @return true if their union is a single interval
+     */
+    private static boolean reaches(
+        final Interval first,
+        final Interval second
+    ) {
+        return first.upper == null || SemVerComparator.INSTANCE.compare(
+            first.upper, second.lower) >= 0;
+    }
+
+    /**
+     * Orders two intervals by lower bound.
+     *
+     * @param first the first interval
+     * @param second the second interval
+     * @return the comparison result
+     */
+    private static int compareLower(
+        final Interval first,
+        final Interval second
+    ) {
+        return SemVerComparator.INSTANCE.compare(first.lower, second.lower);
+    }
+
+    /**
+     * Orders two intervals by upper bound; an unbounded interval ends
+     * last.
+     *
+     * @param first the first interval
+     * @param second the second interval
+     * @return the comparison result
+     */
+    private static int compareUpper(
+        final Interval first,
+        final Interval second
+    ) {
+        int result;
+        if (first.upper == null || second.upper == null) {
+            result = Boolean.compare(first.upper == null,
+                second.upper == null);
+        } else {
+            result = SemVerComparator.INSTANCE.compare(
+                first.upper, second.upper);
+        }
+        return result;
+    }
+
+    /**
+     * Returns whether a version lies below an interval's upper bound.
+     *
+     * @param version the version
+     * @param interval the interval
+     * @return true if the version is below the upper bound
+     */
+    private static boolean belowUpper(
+        final SemVer version,
+        final Interval interval
+    ) {
+        return interval.upper == null
+            || SemVerComparator.INSTANCE.compare(version, interval.upper) < 0;
+    }
+
+    /**
+     * Returns whether a version lies above an interval's lower bound.
+     *
+     * @param version the version
+     * @param interval the interval
+     * @return true if the version is not below the lower bound
+     */
+    private static boolean aboveLower(
+        final SemVer version,
+        final Interval interval
+    ) {
+        return SemVerComparator.INSTANCE.compare(version, interval.lower) >= 0;
+    }
+
+    /**
+     * One half-open interval {@code >=lower <upper}. A null upper bound
+     * is unbounded; an interval unbounded below starts at
+     * {@link #MIN_VERSION}.
+     */
+    private static final class Interval {
+
+        /** Inclusive lower bound. */
+        private final SemVer lower;
+        /** Exclusive upper bound, or null if unbounded. */
+        private final SemVer upper;
+
+        /**
+         * Creates a half-open interval.
+         *
+         * @param from the inclusive lower bound
+         * @param to the exclusive upper bound, or null
+         */
+        Interval(final SemVer from, final SemVer to) {
+            this.lower = from;
+            this.upper = to;
+        }
+
+        /**
+         * Creates the half-open interval holding the versions between
+         * two bounds, moving an exclusive lower or inclusive upper bound
+         * to its successor.
+         *
+         * @param from the lower bound, or null if unbounded
+         * @param fromInclusive whether the lower bound is included
+         * @param to the upper bound, or null if unbounded
+         * @param toInclusive whether the upper bound is included
+         * @return the interval, possibly empty
+         */
+        static Interval of(
+            final SemVer from,
+            final boolean fromInclusive,
+            final SemVer to,
+            final boolean toInclusive
+        ) {
+            SemVer lower = MIN_VERSION;
+            if (from != null) {
+                lower = fromInclusive ? withoutBuild(from) : successor(from);
+            }
+            SemVer upper = null;
+            if (to != null) {
+                upper = toInclusive ? successor(to) : withoutBuild(to);
+            }
+            Interval result;
+            if (lower == null) {
+                // Nothing lies above the highest version.
+                result = new Interval(from, from);
+            } else {
+                result = new Interval(lower, upper);
+            }
+            return result;
+        }
+
+        /**
+         * Returns whether no version lies in this interval.
+         *
+         * @return true if empty
+         */
+        boolean isEmpty() {
+            return upper != null
+                && SemVerComparator.INSTANCE.compare(lower, upper) >= 0;
+        }
+
+        /**
+         * Appends this interval in range syntax, writing a bound as
+         * {@code >v} or {@code <=v} when it is the successor of v.
+         *
+         * @param builder the builder
+         */
+        void appendTo(final StringBuilder builder) {
+            final boolean unboundedBelow =
+                SemVerComparator.INSTANCE.compare(lower, MIN_VERSION) == 0;
+            final SemVer below = unboundedBelow ? null : predecessor(lower);
+            final SemVer last = upper == null ? null : predecessor(upper);
+            if (unboundedBelow && upper == null) {
+                builder.append('*');
+            } else if (last != null
+                && SemVerComparator.INSTANCE.compare(lower, last) == 0) {
+                builder.append(lower);
+            } else {
+                if (below != null) {
+                    builder.append('>').append(below);
+                } else if (!unboundedBelow) {
+                    builder.append(">=").append(lower);
+                }
+                if (upper != null) {
+                    if (!unboundedBelow) {
+                        builder.append(' ');
+                    }
+                    if (last != null) {
+                        builder.append("<=").append(last);
+                    } else {
+                        builder.append('<').append(upper);
+                    }
+                }
+            }
+        }
+
+        @Override
+        public boolean equals(final Object obj) {
+            boolean result = this == obj;
+            if (!result && obj instanceof Interval) {
+                final Interval other = (Interval) obj;
+                result = Objects.equals(lower, other.lower)
+                    && Objects.equals(upper, other.upper);
+            }
+            return result;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(lower, upper);
+        }
+    }
+}
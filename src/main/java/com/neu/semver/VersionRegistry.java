@@ -0,0 +1,373 @@
+package com.neu.semver;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Thread-safe registry mapping package names to sorted version sets.
+ *
+ * Each package holds an immutable, ascending array of versions that is
+ * replaced wholesale on every write (copy-on-write). Readers take a
+ * single volatile read of that array and never lock, so every query
+ * sees one consistent snapshot. Writers lock only the package they
+ * modify, so updates to different packages proceed in parallel.
+ *
+ * Versions that differ only in build metadata have equal precedence;
+ * the first one registered is kept. All ordering uses
+ * {@link SemVerComparator}.
+ *
+ * @author Yinlu Gong
+ * @version 0.1.0
+ */
+public final class VersionRegistry {
+
+    /** Shared empty snapshot. */
+    private static final SemVer[] EMPTY = new SemVer[0];
+
+    /** Per-package version sets. */
+    private final ConcurrentMap<String, PackageVersions> packages =
+        new ConcurrentHashMap<>();
+
+    /**
+     * Versions of one package; the monitor of this object is the
+     * package's write lock.
+     */
+    private static final class PackageVersions {
+
+        /** Current ascending snapshot, never mutated once published. */
+        private volatile SemVer[] snapshot = EMPTY;
+    }
+
+    /** Creates an empty registry. */
+    public VersionRegistry() { }
+
+    /**
+     * Registers a version for a package.
+     *
+     * @param name the package name
+     * @param version the version to register
+     * @return true if the version was added, false if a version with the
+     *         same precedence was already registered
+     * @throws IllegalArgumentException if name or version is null
+     */
+    public boolean add(final String name, final SemVer version) {
+        requireName(name);
+        if (version == null) {
+            throw new IllegalArgumentException("Version cannot be null");
+        }
+        final PackageVersions entry = packages.computeIfAbsent(
+            name, key -> new PackageVersions()
+        );
+        boolean added;
+        synchronized (entry) {
+            final SemVer[] current = entry.snapshot;
+            final int index = Arrays.binarySearch(
+                current, version, SemVerComparator.INSTANCE
+            );
+            added = index < 0;
+            if (added) {
+                final int position = -index - 1;
+                final SemVer[] next = new SemVer[current.length + 1];
+                System.arraycopy(current, 0, next, 0, position);
+                next[position] = version;
+                System.arraycopy(current, position, next, position + 1,
+                    current.length - position);
+                entry.snapshot = next;
+            }
+        }
+        return added;
+    }
+
+    /**
+     * Registers several versions for a package under one lock and one
+     * snapshot publication.
+     *
+     * @param name the package name
+     * @param versions the versions to register
+     * @return the number of versions added
+     * @throws IllegalArgumentException if name, versions or any element
+     *         is null
+     */
+    public int addAll(final String name, final List<SemVer> versions) {
+        requireName(name);
+        if (versions == null) {
+            throw new IllegalArgumentException(
+                "Versions list cannot be null"
+            );
+        }
+        final SortedVersionList incoming = new SortedVersionList();
+        for (final SemVer version : versions) {
+            incoming.insert(version);
+        }
+        final PackageVersions entry = packages.computeIfAbsent(
+            name, key -> new PackageVersions()
+        );
+        int added;
+        synchronized (entry) {
+            final SemVer[] current = entry.snapshot;
+            final SemVer[] merged = merge(current, incoming.toArray());
+            added = merged.length - current.length;
+            entry.snapshot = merged;
+        }
+        return added;
+    }
+
+    /**
+     * Removes a version from a package.
+     *
+     * @param name the package name
+     * @param version the version to remove
+     * @return true if a version with the same precedence was removed
+     * @throws IllegalArgumentException if name or version is null
+     */
+    public boolean remove(final String name, final SemVer version) {
+        requireName(name);
+        if (version == null) {
+            throw new IllegalArgumentException("Version cannot be null");
+        }
+        final PackageVersions entry = packages.get(name);
+        boolean removed = false;
+        if (entry != null) {
+            synchronized (entry) {
+                final SemVer[] current = entry.snapshot;
+                final int index = Arrays.binarySearch(
+                    current, version, SemVerComparator.INSTANCE
+                );
+                removed = index >= 0;
+                if (removed) {
+                    final SemVer[] next = new SemVer[current.length - 1];
+                    System.arraycopy(current, 0, next, 0, index);
+                    System.arraycopy(current, index + 1, next, index,
+                        next.length - index);
+                    entry.snapshot = next;
+                }
+            }
+        }
+        return removed;
+    }
+
+    /**
+     * Returns all versions of a package in ascending order.
+     *
+     * @param name the package name
+     * @return an unmodifiable snapshot, empty for unknown packages
+     * @throws IllegalArgumentException if name is null
+     */
+    public List<SemVer> versions(final String name) {
+        return Collections.unmodifiableList(Arrays.asList(snapshot(name)));
+    }
+
+    /**
+     * Returns the highest version of a package.
+     *
+     * @param name the package name
+     * @return the highest version, or empty for unknown packages
+     * @throws IllegalArgumentException if name is null
+     */
+    public Optional<SemVer> latest(final String name) {
+        final SemVer[] current = snapshot(name);
+        Optional<SemVer> result = Optional.empty();
+        if (current.length > 0) {
+            result = Optional.of(current[current.length - 1]);
+        }
+        return result;
+    }
+
+    /**
+     * Returns the highest version of a package without a prerelease.
+     *
+     * @param name the package name
+     * @return the highest stable version, or empty if there is none
+     * @throws IllegalArgumentException if name is null
+     */
+    public Optional<SemVer> latestStable(final String name) {
+        return latestStableBelow(snapshot(name), Integer.MAX_VALUE);
+    }
+
+    /**
+     * Returns the highest version of a package within one major line.
+     *
+     * @param name the package name
+     * @param major the major version number
+     * @param includePrerelease whether prerelease versions qualify
+     * @return the highest matching version, or empty if there is none
+     * @throws IllegalArgumentException if name is null
+     */
+    public Optional<SemVer> latestInMajor(
+        final String name,
+        final long major,
+        final boolean includePrerelease
+    ) {
+        final SemVer[] current = snapshot(name);
+        final int end = firstAboveMajor(current, major);
+        Optional<SemVer> result;
+        if (includePrerelease) {
+            result = Optional.empty();
+            if (end > 0 && current[end - 1].getMajorLong() == major) {
+                result = Optional.of(current[end - 1]);
+            }
+        } else {
+            result = latestStableBelow(current, end)
+                .filter(version -> version.getMajorLong() == major);
+        }
+        return result;
+    }
+
+    /**
+     * Returns the versions of a package that satisfy a range.
+     *
+     * @param name the package name
+     * @param range the range to match
+     * @return the matching versions in ascending order
+     * @throws IllegalArgumentException if name or range is null
+     */
+    public List<SemVer> matching(final String name, final VersionRange range) {
+        if (range == null) {
+            throw new IllegalArgumentException("Range cannot be null");
+        }
+        final SemVer[] current = snapshot(name);
+        final RangeEvaluateEvent event = new RangeEvaluateEvent();
+        event.begin();
+        final List<SemVer> result = new ArrayList<>();
+        for (final SemVer version : current) {
+            if (range.satisfies(version)) {
+                result.add(version);
+            }
+        }
+        event.end();
+        if (event.shouldCommit()) {
+            event.setRange(range.toString());
+            event.setCandidates(current.length);
+            event.setMatches(result.size());
+            event.commit();
+        }
+        return result;
+    }
+
+    /**
+     * Returns the names of all registered packages.
+     *
+     * @return an unmodifiable view of the package names
+     */
+    public Set<String> packages() {
+        return Collections.unmodifiableSet(packages.keySet());
+    }
+
+    /**
+     * Returns the current snapshot of a package.
+     *
+     * @param name the package name
+     * @return the ascending snapshot, empty for unknown packages
+     */
+    private SemVer[] snapshot(final String name) {
+        requireName(name);
+        final PackageVersions entry = packages.get(name);
+        SemVer[] result = EMPTY;
+        if (entry != null) {
+            result = entry.snapshot;
+        }
+        return result;
+    }
+
+    /**
+     * Scans downwards for the highest stable version before an index.
+     *
+     * @param versions the ascending snapshot
+     * @param end exclusive upper index, clamped to the snapshot length
+     * @return the highest stable version before {@code end}, if any
+     */
+    private static Optional<SemVer> latestStableBelow(
+        final SemVer[] versions,
+        final int end
+    ) {
+        Optional<SemVer> result = Optional.empty();
+        for (int i = Math.min(end, versions.length) - 1;
+            i >= 0 && !result.isPresent(); i--) {
+            if (!versions[i].isPrerelease()) {
+                result = Optional.of(versions[i]);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Finds the first index whose major version exceeds {@code major}.
+     *
+     * @param versions the ascending snapshot
+     * @param major the major version number
+     * @return the first index above the major line
+     */
+    private static int firstAboveMajor(
+        final SemVer[] versions,
+        final long major
+    ) {
+        int low = 0;
+        int high = versions.length;
+        while (low < high) {
+            final int mid = (low + high) >>> 1;
+            if (versions[mid].getMajorLong() <= major) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Merges two ascending arrays, keeping the first of equal elements.
+     *
+     * @param current the existing snapshot
+     * @param incoming the new versions, ascending and without duplicates
+     * @return the merged ascending array
+     */
+    private static SemVer[] merge(
+        final SemVer[] current,
+        final SemVer[] incoming
+    ) {
+        final SemVer[] merged = new SemVer[current.length + incoming.length];
+        int i = 0;
+        int j = 0;
+        int k = 0;
+        while (i < current.length && j < incoming.length) {
+            final int cmp = SemVerComparator.INSTANCE.compare(
+                current[i], incoming[j]
+            );
+            if (cmp <= 0) {
+                merged[k++] = current[i++];
+                if (cmp == 0) {
+                    j++;
+                }
+            } else {
+                merged[k++] = incoming[j++];
+            }
+        }
+        while (i < current.length) {
+            merged[k++] = current[i++];
+        }
+        while (j < incoming.length) {
+            merged[k++] = incoming[j++];
+        }
+        return Arrays.copyOf(merged, k);
+    }
+
+    /**
+     * Validates a package name.
+     *
+     * @param name the name to check
+     * @throws IllegalArgumentException if name is null
+     */
+    private static void requireName(final String name) {
+        if (name == null) {
+            throw new IllegalArgumentException(
+                "Package name cannot be null"
+            );
+        }
+    }
+}
@@ -0,0 +1,478 @@
+package com.neu.semver;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Per-line release statistics built in one pass over an unsorted stream
+ * of published versions.
+ *
+ * Each {@link #record(SemVer, Instant)} call updates the statistics of
+ * the version's major line and minor line in place; nothing is sorted
+ * and the records themselves are not retained. Memory grows with the
+ * number of lines, not with the number of records or patch versions.
+ *
+ * Release statistics (first, last, count, latest) cover stable
+ * releases only; prereleases are counted separately and feed the
+ * prerelease-to-release latency, which is the time from the earliest
+ * prerelease of a patch version to its earliest release. Each minor line
+ * tracks those two times for its most recent patch versions, so the
+ * latency does not depend on the order in which records arrive. It keeps
+ * at most a fixed number of patch versions ({@link #DEFAULT_PENDING_LIMIT}
+ * unless set in the constructor). When a new one arrives beyond that,
+ * the oldest is evicted, and its latency, if it has one, is folded into
+ * the running count, sum and maximum of its minor and major line. The
+ * latency statistics combine those running totals with the patch
+ * versions still tracked. A record of an evicted patch version starts
+ * it afresh. Duplicate records are counted each time they are seen. This
+ * class is not thread-safe.
+ *
+ * @author Yinlu Gong
+ * @version 0.1.0
+ */
+public final class VersionTimeline {
+
+    /** Default number of unpaired patch versions kept per minor line. */
+    public static final int DEFAULT_PENDING_LIMIT = 1024;
+
+    /** Marker for a missing prerelease or release time. */
+    private static final long NONE = Long.MAX_VALUE;
+
+    /** Major lines by major number. */
+    private final TreeMap<Long, Line> majors = new TreeMap<>();
+    /** Minor lines by major, then minor number. */
+    private final Map<Long, TreeMap<Long, Line>> minors = new HashMap<>();
+    /** Unpaired patch versions kept per minor line. */
+    private final int pendingLimit;
+    /** Number of records seen. */
+    private long records;
+
+    /** Creates an empty timeline with the default pending limit. */
+    public VersionTimeline() {
+        this(DEFAULT_PENDING_LIMIT);
+    }
+
+    /**
+     * Creates an empty timeline.
+     *
+     * @param limit unpaired patch versions kept per minor line
+     * @throws IllegalArgumentException if limit is less than 1
+     */
+    public VersionTimeline(final int limit) {
+        if (limit < 1) {
+            throw new IllegalArgumentException(
+                "Pending limit must be positive: " + limit);
+        }
+        this.pendingLimit = limit;
+    }
+
+    /**
+     * Adds one published version.
+     *
+     * @param version the version
+     * @param published when it was published
+     * @throws IllegalArgumentException if either argument is null
+     */
+    public void record(final SemVer version, final Instant published) {
+        if (version == null || published == null) {
+            throw new IllegalArgumentException(
+                "Version and timestamp must not be null");
+        }
+        final long major = version.getMajorLong();
+        final long minor = version.getMinorLong();
+        Line majorLine = majors.get(major);
+        if (majorLine == null) {
+            majorLine = new Line(major, -1L, 0, null);
+            majors.put(major, majorLine);
+            minors.put(major, new TreeMap<>());
+        }
+        final TreeMap<Long, Line> lines = minors.get(major);
+        Line minorLine = lines.get(minor);
+        if (minorLine == null) {
+            minorLine = new Line(major, minor, pendingLimit, majorLine);
+            lines.put(minor, minorLine);
+            majorLine.parts.add(minorLine);
+        }
+        final long millis = published.toEpochMilli();
+        majorLine.add(version, millis);
+        minorLine.add(version, millis);
+        minorLine.track(version, millis);
+        records++;
+    }
+
+    /**
+     * Returns the number of records seen.
+     *
+     * @return the record count
+     */
+    public long size() {
+        return records;
+    }
+
+    /**
+     * Returns the major lines in ascending order.
+     *
+     * @return an unmodifiable list of major lines
+     */
+    public List<Line> majorLines() {
+        return Collections.unmodifiableList(new ArrayList<>(majors.values()));
+    }
+
+    /**
+     * Returns the minor lines of one major line in ascending order.
+     *
+     * @param major the major number
+     * @return an unmodifiable list, empty if the major line is unknown
+     */
+    public List<Line> minorLines(final long major) {
+        final TreeMap<Long, Line> lines = minors.get(major);
+        List<Line> result = Collections.emptyList();
+        if (lines != null) {
+            result = Collections.unmodifiableList(
+                new ArrayList<>(lines.values()));
+        }
+        return result;
+    }
+
+    /**
+     * Returns one major line.
+     *
+     * @param major the major number
+     * @return the line, or null if no version of it was recorded
+     */
+    public Line line(final long major) {
+        return majors.get(major);
+    }
+
+    /**
+     * Returns one minor line.
+     *
+     * @param major the major number
+     * @param minor the minor number
+     * @return the line, or null if no version of it was recorded
+     */
+    public Line line(final long major, final long minor) {
+        final TreeMap<Long, Line> lines = minors.get(major);
+        return lines == null ? null : lines.get(minor);
+    }
+
+    /**
+     * Statistics of one major or minor line.
+     */
+    public static final class Line {
+
+        /** The major number. */
+        private final long major;
+        /** The minor number, or -1 for a major line. */
+        private final long minor;
+        /** Minor lines of a major line; empty for a minor line. */
+        private final List<Line> parts = new ArrayList<>();
+        /** Major line of a minor line; null for a major line. */
+        private final Line parent;
+        /**
+         * Earliest prerelease and release times of tracked patch
+         * versions, oldest first, for a minor line. A missing time is
+         * {@link #NONE}.
+         */
+        private final Map<Long, long[]> pending = new LinkedHashMap<>();
+        /** Most patch versions tracked; 0 for a major line. */
+        private final int limit;
+        /** Number of latency samples of evicted patch versions. */
+        private long latencyCount;
+        /** Sum of those samples in milliseconds. */
+        private long latencySum;
+        /** Largest of those samples in milliseconds. */
+        private long latencyMax;
+        /** Earliest stable release. */
+        private SemVer first;
+        /** Publication time of {@link #first}. */
+        private long firstMillis = Long.MAX_VALUE;
+        /** Most recently published stable release. */
+        private SemVer last;
+        /** Publication time of {@link #last}. */
+        private long lastMillis = Long.MIN_VALUE;
+        /** Highest stable release by precedence. */
+        private SemVer latest;
+        /** Number of stable releases. */
+        private long releases;
+        /** Number of prereleases. */
+        private long prereleases;
+
+        /**
+         * Creates an empty line.
+         *
+         * @param majorNumber the major number
+         * @param minorNumber the minor number, or -1 for a major line
+         * @param pendingLimit patch versions tracked
+         * @param majorLine the major line of a minor line, or null
+         */
+        Line(final long majorNumber, final long minorNumber,
+            final int pendingLimit, final Line majorLine) {
+            this.major = majorNumber;
+            this.minor = minorNumber;
+            this.limit = pendingLimit;
+            this.parent = majorLine;
+        }
+
+        /**
+         * Folds one record into the release statistics.
+         *
+         * @param version the version
+         * @param millis its publication time
+         */
+        void add(final SemVer version, final long millis) {
+            if (version.isPrerelease()) {
+                prereleases++;
+            } else {
+                releases++;
+                if (millis < firstMillis) {
+                    first = version;
+                    firstMillis = millis;
+                }
+                if (millis >= lastMillis) {
+                    last = version;
+                    lastMillis = millis;
+                }
+                if (latest == null || SemVerComparator.INSTANCE
+                    .compare(version, latest) > 0) {
+                    latest = version;
+                }
+            }
+        }
+
+        /**
+         * Updates the earliest prerelease or release time of the
+         * record's patch version, evicting the oldest tracked patch
+         * version when there are too many.
+         *
+         * @param version the version
+         * @param millis its publication time
+         */
+        void track(final SemVer version, final long millis) {
+            final Long patch = version.getPatchLong();
+            long[] times = pending.get(patch);
+            if (times == null) {
+                times = new long[] {NONE, NONE};
+                pending.put(patch, times);
+                if (pending.size() > limit) {
+                    final Iterator<long[]> oldest =
+                        pending.values().iterator();
+                    final long[] evicted = oldest.next();
+                    oldest.remove();
+                    if (hasLatency(evicted)) {
+                        sample(evicted[1] - evicted[0]);
+                        parent.sample(evicted[1] - evicted[0]);
+                    }
+                }
+            }
+            final int slot = version.isPrerelease() ? 0 : 1;
+            times[slot] = Math.min(times[slot], millis);
+        }
+
+        /**
+         * Folds one latency sample into the running totals.
+         *
+         * @param latency the latency in milliseconds
+         */
+        void sample(final long latency) {
+            latencyCount++;
+            latencySum += latency;
+            latencyMax = Math.max(latencyMax, latency);
+        }
+
+        /**
+         * Returns the number of patch versions tracked.
+         *
+         * @return the tracked count, always 0 for a major line
+         */
+        int pendingCount() {
+            return pending.size();
+        }
+
+        /**
+         * Returns the major number.
+         *
+         * @return the major number
+         */
+        public long getMajor() {
+            return major;
+        }
+
+        /**
+         * Returns the minor number.
+         *
+         * @return the minor number, or -1 for a major line
+         */
+        public long getMinor() {
+            return minor;
+        }
+
+        /**
+         * Returns whether this is a major line.
+         *
+         * @return true for a major line, false for a minor line
+         */
+        public boolean isMajorLine() {
+            return minor < 0;
+        }
+
+        /**
+         * Returns the earliest published stable release.
+         *
+         * @return the version, or null if the line has no release
+         */
+        public SemVer getFirstRelease() {
+            return first;
+        }
+
+        /**
+         * Returns when the first stable release was published.
+         *
+         * @return the time, or null if the line has no release
+         */
+        public Instant getFirstReleaseTime() {
+            return first == null ? null : Instant.ofEpochMilli(firstMillis);
+        }
+
+        /**
+         * Returns the most recently published stable release.
+         *
+         * @return the version, or null if the line has no release
+         */
+        public SemVer getLastRelease() {
+            return last;
+        }
+
+        /**
+         * Returns when the last stable release was published.
+         *
+         * @return the time, or null if the line has no release
+         */
+        public Instant getLastReleaseTime() {
+            return last == null ? null : Instant.ofEpochMilli(lastMillis);
+        }
+
+        /**
+         * Returns the highest stable release by precedence, which is the
+         * latest patch of a minor line.
+         *
+         * @return the version, or null if the line has no release
+         */
+        public SemVer getLatest() {
+            return latest;
+        }
+
+        /**
+         * Returns the number of stable releases.
+         *
+         * @return the release count
+         */
+        public long getReleaseCount() {
+            return releases;
+        }
+
+        /**
+         * Returns the number of prereleases.
+         *
+         * @return the prerelease count
+         */
+        public long getPrereleaseCount() {
+            return prereleases;
+        }
+
+        /**
+         * Returns the number of patch versions whose earliest prerelease
+         * was published no later than their earliest release.
+         *
+         * @return the number of latency samples
+         */
+        public long getLatencyCount() {
+            return latencies()[0];
+        }
+
+        /**
+         * Returns the mean prerelease-to-release latency.
+         *
+         * @return the mean, or null if there are no samples
+         */
+        public Duration getMeanLatency() {
+            final long[] stats = latencies();
+            return stats[0] == 0 ? null : Duration.ofMillis(stats[1] / stats[0]);
+        }
+
+        /**
+         * Returns the longest prerelease-to-release latency.
+         *
+         * @return the maximum, or null if there are no samples
+         */
+        public Duration getMaxLatency() {
+            final long[] stats = latencies();
+            return stats[0] == 0 ? null : Duration.ofMillis(stats[2]);
+        }
+
+        /**
+         * Combines the running totals with the tracked patch versions of
+         * this line and, for a major line, of its minor lines.
+         *
+         * @return {count, sum, max} in milliseconds
+         */
+        private long[] latencies() {
+            final long[] result =
+                new long[] {latencyCount, latencySum, latencyMax};
+            accumulate(result);
+            for (final Line part : parts) {
+                part.accumulate(result);
+            }
+            return result;
+        }
+
+        /**
+         * Adds the latencies of this line's tracked patch versions.
+         *
+         * @param stats {count, sum, max} in milliseconds
+         */
+        private void accumulate(final long[] stats) {
+            for (final long[] times : pending.values()) {
+                if (hasLatency(times)) {
+                    final long latency = times[1] - times[0];
+                    stats[0]++;
+                    stats[1] += latency;
+                    stats[2] = Math.max(stats[2], latency);
+                }
+            }
+        }
+
+        /**
+         * Returns whether a patch version has a prerelease published no
+         * later than its release.
+         *
+         * @param times its earliest prerelease and release times
+         * @return true if it gives a latency sample
+         */
+        private static boolean hasLatency(final long[] times) {
+            return times[0] != NONE && times[1] != NONE
+                && times[0] <= times[1];
+        }
+
+        @Override
+        public String toString() {
+            final StringBuilder builder = new StringBuilder("Line{")
+                .append(major);
+            if (minor >= 0) {
+                builder.append('.').append(minor);
+            }
+            return builder.append(", releases=").append(releases)
+                .append(", prereleases=").append(prereleases)
+                .append(", latest=").append(latest)
+                .append('}').toString();
+        }
+    }
+}
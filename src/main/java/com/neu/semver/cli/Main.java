@@ -0,0 +1,619 @@
+package com.neu.semver.cli;
+
+import com.neu.semver.InvalidSemVerException;
+import com.neu.semver.SemVer;
+import com.neu.semver.SemVerComparator;
+import com.neu.semver.SemVerUtils;
+import com.neu.semver.VersionRange;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.FileDescriptor;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Entry point of the {@code semver} command-line tool.
+ *
+ * <pre>
+ * semver validate [file...]           print the lines that are not versions
+ * semver sort [--reverse] [file...]   print versions in precedence order
+ * semver max [file...]                print the highest version
+ * semver filter --range R [file...]   print versions that satisfy R
+ * semver bump major|minor|patch [file...]
+ * semver batch [file...]              run one command per input line
+ * </pre>
+ *
+ * Each input line holds one version; blank lines are skipped and
+ * {@code -} or no file reads standard input. Output order is
+ * deterministic: input order for {@code validate} and {@code filter},
+ * and a stable sort for {@code sort}, whatever the degree of parallelism
+ * used for large inputs. In {@code batch} mode every line is a command
+ * followed by its options and versions, such as
+ * {@code filter --range ">=1.0.0 <2.0.0" 1.2.0 2.0.0}, and produces
+ * exactly one output line with its results separated by spaces; double
+ * quotes group words that contain spaces.
+ *
+ * The exit status is 0 on success, 1 if some input was not a valid
+ * version (or {@code max} found none) and 2 on usage or I/O errors.
+ *
+ * @author Yinlu Gong
+ * @version 0.1.0
+ */
+public final class Main {
+
+    /** Exit status on success. */
+    static final int OK = 0;
+    /** Exit status when some input was invalid. */
+    static final int INVALID = 1;
+    /** Exit status on usage or I/O errors. */
+    static final int USAGE = 2;
+
+    /** Size of the standard stream buffers. */
+    private static final int BUFFER_SIZE = 65536;
+    /** Option selecting the range of {@code filter}. */
+    private static final String RANGE_OPTION = "--range";
+    /** Option reversing {@code sort}. */
+    private static final String REVERSE_OPTION = "--reverse";
+    /** Name standing for standard input. */
+    private static final String STDIN = "-";
+    /** Usage text. */
+    private static final String USAGE_TEXT =
+        "usage: semver <command> [options] [file...]\n"
+        + "commands:\n"
+        + "  validate                 print the lines that are not versions\n"
+        + "  sort [--reverse]         print versions in precedence order\n"
+        + "  max                      print the highest version\n"
+        + "  filter --range RANGE     print versions that satisfy RANGE\n"
+        + "  bump major|minor|patch   print each version incremented\n"
+        + "  batch                    run one command per input line\n";
+
+    /** Private constructor to prevent instantiation. */
+    private Main() { }
+
+    /**
+     * Runs the tool and exits with its status.
+     *
+     * @param args the command line
+     * @throws IOException if standard output cannot be written
+     */
+    public static void main(final String[] args) throws IOException {
+        final Writer out = new BufferedWriter(new OutputStreamWriter(
+            new FileOutputStream(FileDescriptor.out), StandardCharsets.UTF_8),
+            BUFFER_SIZE);
+        final Writer err = new BufferedWriter(new OutputStreamWriter(
+            new FileOutputStream(FileDescriptor.err), StandardCharsets.UTF_8));
+        final int status = run(args, System.in, out, err);
+        out.flush();
+        err.flush();
+        if (status != OK) {
+            System.exit(status);
+        }
+    }
+
+    /**
+     * Runs the tool.
+     *
+     * @param args the command line
+     * @param stdin standard input
+     * @param out standard output
+     * @param err standard error
+     * @return the exit status
+     * @throws IOException if output cannot be written
+     */
+    static int run(
+        final String[] args,
+        final InputStream stdin,
+        final Writer out,
+        final Writer err
+    ) throws IOException {
+        int status;
+        final Command command = args.length == 0 ? null
+            : Command.parse(args, 0, err);
+        if (command == null) {
+            err.write(USAGE_TEXT);
+            status = USAGE;
+        } else if (command.help) {
+            out.write(USAGE_TEXT);
+            status = OK;
+        } else {
+            final List<String> names = command.operands.isEmpty()
+                ? Collections.singletonList(STDIN) : command.operands;
+            final List<BufferedReader> readers = new ArrayList<>();
+            try {
+                status = open(names, stdin, readers, err);
+                VersionInput input = null;
+                if (status == OK) {
+                    try {
+                        input = VersionInput.read(readers, names);
+                    } catch (IOException e) {
+                        err.write("semver: " + e.getMessage() + "\n");
+                        status = USAGE;
+                    }
+                }
+                if (input != null && command.name.equals("batch")) {
+                    status = batch(input, out, err);
+                } else if (input != null) {
+                    status = command.execute(input,
+                        new Emitter(out, '\n'), err);
+                }
+            } finally {
+                for (final BufferedReader reader : readers) {
+                    reader.close();
+                }
+            }
+        }
+        return status;
+    }
+
+    /**
+     * Opens the inputs.
+     *
+     * @param names the file names, {@code -} for standard input
+     * @param stdin standard input
+     * @param readers receives the opened readers
+     * @param err standard error
+     * @return {@link #OK}, or {@link #USAGE} if a file cannot be opened
+     * @throws IOException if standard error cannot be written
+     */
+    private static int open(
+        final List<String> names,
+        final InputStream stdin,
+        final List<BufferedReader> readers,
+        final Writer err
+    ) throws IOException {
+        int status = OK;
+        for (int i = 0; i < names.size() && status == OK; i++) {
+            final String name = names.get(i);
+            if (STDIN.equals(name)) {
+                readers.add(new BufferedReader(new InputStreamReader(stdin,
+                    StandardCharsets.UTF_8), BUFFER_SIZE));
+            } else {
+                final Path path = Paths.get(name);
+                try {
+                    readers.add(Files.newBufferedReader(path,
+                        StandardCharsets.UTF_8));
+                } catch (IOException e) {
+                    err.write("semver: cannot read " + name + "\n");
+                    status = USAGE;
+                }
+            }
+        }
+        return status;
+    }
+
+    /**
+     * Runs one command per input line.
+     *
+     * @param input the command lines
+     * @param out standard output
+     * @param err standard error
+     * @return the highest status of the commands
+     * @throws IOException if output cannot be written
+     */
+    private static int batch(
+        final VersionInput input,
+        final Writer out,
+        final Writer err
+    ) throws IOException {
+        int status = OK;
+        for (int i = 0; i < input.size(); i++) {
+            final String[] words = split(input.text(i));
+            final Command command = Command.parse(words, 0, err);
+            int result = USAGE;
+            if (command != null && !command.help
+                && !command.name.equals("batch")) {
+                final Emitter emitter = new Emitter(out, ' ');
+                result = command.execute(
+                    VersionInput.of(command.operands.toArray(new String[0]),
+                        0), emitter, err);
+            } else if (command != null) {
+                err.write("semver: not allowed in batch: " + command.name
+                    + "\n");
+            }
+            out.write('\n');
+            status = Math.max(status, result);
+        }
+        return status;
+    }
+
+    /**
+     * Splits a batch line into words at whitespace outside double quotes.
+     *
+     * @param line the line
+     * @return the words, without the quotes
+     */
+    static String[] split(final String line) {
+        final List<String> words = new ArrayList<>();
+        final StringBuilder word = new StringBuilder();
+        boolean quoted = false;
+        boolean inWord = false;
+        for (int i = 0; i < line.length(); i++) {
+            final char c = line.charAt(i);
+            if (c == '"') {
+                quoted = !quoted;
+                inWord = true;
+            } else if (!quoted && Character.isWhitespace(c)) {
+                if (inWord) {
+                    words.add(word.toString());
+                    word.setLength(0);
+                    inWord = false;
+                }
+            } else {
+                word.append(c);
+                inWord = true;
+            }
+        }
+        if (inWord) {
+            words.add(word.toString());
+        }
+        return words.toArray(new String[0]);
+    }
+
+    /** Writes result items, one per line or space separated. */
+    private static final class Emitter {
+
+        /** The output. */
+        private final Writer out;
+        /** Separator written between or after items. */
+        private final char separator;
+        /** Whether no item has been written. */
+        private boolean first = true;
+
+        /**
+         * Creates an emitter.
+         *
+         * @param writer the output
+         * @param itemSeparator a newline to end every item, or a space
+         *                      to separate items on one line
+         */
+        Emitter(final Writer writer, final char itemSeparator) {
+            this.out = writer;
+            this.separator = itemSeparator;
+        }
+
+        /**
+         * Writes one item.
+         *
+         * @param item the item
+         * @throws IOException if output cannot be written
+         */
+        void item(final String item) throws IOException {
+            if (separator == '\n') {
+                out.write(item);
+                out.write('\n');
+            } else {
+                if (!first) {
+                    out.write(separator);
+                }
+                out.write(item);
+            }
+            first = false;
+        }
+    }
+
+    /** A parsed command line. */
+    private static final class Command {
+
+        /** The command name. */
+        private final String name;
+        /** Whether help was requested. */
+        private final boolean help;
+        /** The {@code filter} range, or null. */
+        private final VersionRange range;
+        /** Whether {@code sort} is reversed. */
+        private final boolean reverse;
+        /** The {@code bump} part, or null. */
+        private final String part;
+        /** Files, or versions in batch mode. */
+        private final List<String> operands;
+
+        /**
+         * Creates a command.
+         *
+         * @param commandName the command name
+         * @param filterRange the filter range, or null
+         * @param reversed whether sort is reversed
+         * @param bumpPart the bump part, or null
+         * @param rest the operands
+         */
+        private Command(
+            final String commandName,
+            final VersionRange filterRange,
+            final boolean reversed,
+            final String bumpPart,
+            final List<String> rest
+        ) {
+            this.name = commandName;
+            this.help = "help".equals(commandName)
+                || "--help".equals(commandName) || "-h".equals(commandName);
+            this.range = filterRange;
+            this.reverse = reversed;
+            this.part = bumpPart;
+            this.operands = rest;
+        }
+
+        /**
+         * Parses a command line.
+         *
+         * @param words the words
+         * @param from index of the command name
+         * @param err receives error messages
+         * @return the command, or null if the words are not valid
+         * @throws IOException if standard error cannot be written
+         */
+        static Command parse(
+            final String[] words,
+            final int from,
+            final Writer err
+        ) throws IOException {
+            final String commandName = words[from];
+            VersionRange filterRange = null;
+            boolean reversed = false;
+            String bumpPart = null;
+            final List<String> rest = new ArrayList<>();
+            String error = null;
+            int i = from + 1;
+            if ("bump".equals(commandName) && i < words.length) {
+                bumpPart = words[i++];
+                if (!Arrays.asList("major", "minor", "patch")
+                    .contains(bumpPart)) {
+                    error = "unknown bump part: " + bumpPart;
+                }
+            }
+            while (i < words.length && error == null) {
+                final String word = words[i++];
+                if (RANGE_OPTION.equals(word) && i < words.length) {
+                    filterRange = parseRange(words[i++]);
+                    error = filterRange == null ? "invalid range: "
+                        + words[i - 1] : null;
+                } else if (word.startsWith(RANGE_OPTION + "=")) {
+                    final String text = word.substring(
+                        RANGE_OPTION.length() + 1);
+                    filterRange = parseRange(text);
+                    error = filterRange == null ? "invalid range: " + text
+                        : null;
+                } else if (REVERSE_OPTION.equals(word)) {
+                    reversed = true;
+                } else if (RANGE_OPTION.equals(word)) {
+                    error = RANGE_OPTION + " requires a value";
+                } else if (word.startsWith("--")) {
+                    error = "unknown option: " + word;
+                } else {
+                    rest.add(word);
+                }
+            }
+            if (error == null) {
+                error = check(commandName, filterRange, reversed, bumpPart);
+            }
+            Command result = null;
+            if (error == null) {
+                result = new Command(commandName, filterRange, reversed,
+                    bumpPart, rest);
+            } else {
+                err.write("semver: " + error + "\n");
+            }
+            return result;
+        }
+
+        /**
+         * Checks that options suit the command.
+         *
+         * @param commandName the command name
+         * @param filterRange the range, or null
+         * @param reversed whether --reverse was given
+         * @param bumpPart the bump part, or null
+         * @return an error message, or null if valid
+         */
+        private static String check(
+            final String commandName,
+            final VersionRange filterRange,
+            final boolean reversed,
+            final String bumpPart
+        ) {
+            String error = null;
+            if (!Arrays.asList("validate", "sort", "max", "filter", "bump",
+                "batch", "help", "--help", "-h").contains(commandName)) {
+                error = "unknown command: " + commandName;
+            } else if ("filter".equals(commandName) && filterRange == null) {
+                error = "filter requires " + RANGE_OPTION;
+            } else if (!"filter".equals(commandName) && filterRange != null) {
+                error = RANGE_OPTION + " only applies to filter";
+            } else if (!"sort".equals(commandName) && reversed) {
+                error = REVERSE_OPTION + " only applies to sort";
+            } else if ("bump".equals(commandName) && bumpPart == null) {
+                error = "bump requires major, minor or patch";
+            }
+            return error;
+        }
+
+        /**
+         * Parses a range.
+         *
+         * @param text the range text
+         * @return the range, or null if invalid
+         */
+        private static VersionRange parseRange(final String text) {
+            VersionRange result;
+            try {
+                result = VersionRange.parse(text);
+            } catch (InvalidSemVerException e) {
+                result = null;
+            }
+            return result;
+        }
+
+        /**
+         * Runs the command over its input.
+         *
+         * @param input the versions
+         * @param emitter receives the results
+         * @param err receives messages about invalid input
+         * @return the exit status
+         * @throws IOException if output cannot be written
+         */
+        int execute(
+            final VersionInput input,
+            final Emitter emitter,
+            final Writer err
+        ) throws IOException {
+            int status = OK;
+            if ("validate".equals(name)) {
+                for (int i = 0; i < input.size(); i++) {
+                    if (input.version(i) == null) {
+                        emitter.item(input.text(i));
+                        status = INVALID;
+                    }
+                }
+            } else {
+                status = reportInvalid(input, err);
+                final SemVer[] versions = input.validVersions();
+                if ("sort".equals(name)) {
+                    sort(versions, emitter);
+                } else if ("max".equals(name)) {
+                    status = max(versions, emitter, err, status);
+                } else if ("filter".equals(name)) {
+                    final BitSet matches = range.compile().filter(versions,
+                        versions.length >= VersionInput.PARALLEL_THRESHOLD);
+                    for (int i = matches.nextSetBit(0); i >= 0;
+                        i = matches.nextSetBit(i + 1)) {
+                        emitter.item(versions[i].toString());
+                    }
+                } else {
+                    for (final SemVer version : versions) {
+                        status = bump(version, emitter, err, status);
+                    }
+                }
+            }
+            return status;
+        }
+
+        /**
+         * Writes versions in a stable precedence order.
+         *
+         * @param versions the versions, reordered in place
+         * @param emitter receives the versions
+         * @throws IOException if output cannot be written
+         */
+        private void sort(final SemVer[] versions, final Emitter emitter)
+            throws IOException {
+            // parallelSort is stable for objects, so versions of equal
+            // precedence keep their input order.
+            Arrays.parallelSort(versions, SemVerComparator.INSTANCE);
+            if (reverse) {
+                for (int i = versions.length - 1; i >= 0; i--) {
+                    emitter.item(versions[i].toString());
+                }
+            } else {
+                for (final SemVer version : versions) {
+                    emitter.item(version.toString());
+                }
+            }
+        }
+
+        /**
+         * Writes the highest version; the first one wins among equals.
+         *
+         * @param versions the versions
+         * @param emitter receives the version
+         * @param err receives a message if there is none
+         * @param status the status so far
+         * @return the exit status
+         * @throws IOException if output cannot be written
+         */
+        private static int max(
+            final SemVer[] versions,
+            final Emitter emitter,
+            final Writer err,
+            final int status
+        ) throws IOException {
+            int result = status;
+            SemVer highest = null;
+            for (final SemVer version : versions) {
+                if (highest == null || SemVerComparator.INSTANCE
+                    .compare(version, highest) > 0) {
+                    highest = version;
+                }
+            }
+            if (highest == null) {
+                err.write("semver: no valid versions\n");
+                result = INVALID;
+            } else {
+                emitter.item(highest.toString());
+            }
+            return result;
+        }
+
+        /**
+         * Writes a version with the selected part incremented, or reports
+         * that the part cannot be incremented.
+         *
+         * @param version the version
+         * @param emitter receives the bumped version
+         * @param err receives a message if the part is at its maximum
+         * @param status the status so far
+         * @return the exit status
+         * @throws IOException if output cannot be written
+         */
+        private int bump(
+            final SemVer version,
+            final Emitter emitter,
+            final Writer err,
+            final int status
+        ) throws IOException {
+            int result = status;
+            try {
+                final SemVer bumped;
+                if ("major".equals(part)) {
+                    bumped = SemVerUtils.nextMajor(version);
+                } else if ("minor".equals(part)) {
+                    bumped = SemVerUtils.nextMinor(version);
+                } else {
+                    bumped = SemVerUtils.nextPatch(version);
+                }
+                emitter.item(bumped.toString());
+            } catch (InvalidSemVerException e) {
+                err.write("semver: cannot bump " + part + " of " + version
+                    + "\n");
+                result = INVALID;
+            }
+            return result;
+        }
+
+        /**
+         * Reports each invalid line.
+         *
+         * @param input the input
+         * @param err standard error
+         * @return {@link #INVALID} if any line is invalid, else {@link #OK}
+         * @throws IOException if standard error cannot be written
+         */
+        private static int reportInvalid(
+            final VersionInput input,
+            final Writer err
+        ) throws IOException {
+            int status = OK;
+            for (int i = 0; i < input.size(); i++) {
+                if (input.version(i) == null) {
+                    err.write("semver: invalid version: " + input.text(i)
+                        + "\n");
+                    status = INVALID;
+                }
+            }
+            return status;
+        }
+    }
+}
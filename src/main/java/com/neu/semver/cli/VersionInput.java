@@ -0,0 +1,204 @@
+package com.neu.semver.cli;
+
+import com.neu.semver.SemVer;
+import com.neu.semver.SemVerParser;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Versions read from the command's inputs: the trimmed text of every
+ * non-blank line, in input order, and its parsed version or null if it
+ * is not a valid version.
+ *
+ * Lines are parsed with {@link SemVerParser#tryParse(CharSequence, int,
+ * int)}, so invalid input costs no exception. Large inputs are parsed on
+ * the common fork/join pool; each line's result lands at its own index,
+ * so the output does not depend on scheduling.
+ *
+ * @author Yinlu Gong
+ * @version 0.1.0
+ */
+final class VersionInput {
+
+    /** Line count from which parsing runs in parallel. */
+    static final int PARALLEL_THRESHOLD = 16384;
+    /** Lines per parallel parsing task. */
+    private static final int LEAF_LINES = 4096;
+    /** Initial line capacity. */
+    private static final int INITIAL_CAPACITY = 64;
+
+    /** Trimmed non-blank lines. */
+    private final String[] texts;
+    /** Parsed versions, null where invalid. */
+    private final SemVer[] versions;
+
+    /**
+     * Creates input from lines.
+     *
+     * @param lines the trimmed lines
+     * @param count the number of lines used
+     */
+    private VersionInput(final String[] lines, final int count) {
+        this.texts = lines.length == count ? lines
+            : Arrays.copyOf(lines, count);
+        this.versions = new SemVer[count];
+        final ParseTask task = new ParseTask(texts, versions, 0, count);
+        if (count >= PARALLEL_THRESHOLD) {
+            ForkJoinPool.commonPool().invoke(task);
+        } else {
+            task.parse();
+        }
+    }
+
+    /**
+     * Reads every non-blank line of the readers in order.
+     *
+     * @param readers the inputs, read to their end but not closed
+     * @param names the name of each input, for error messages
+     * @return the input
+     * @throws IOException if a reader fails; the message names the input
+     */
+    static VersionInput read(
+        final List<BufferedReader> readers,
+        final List<String> names
+    ) throws IOException {
+        String[] lines = new String[INITIAL_CAPACITY];
+        int count = 0;
+        for (int i = 0; i < readers.size(); i++) {
+            final BufferedReader reader = readers.get(i);
+            try {
+                String line = reader.readLine();
+                while (line != null) {
+                    final String text = line.trim();
+                    if (!text.isEmpty()) {
+                        if (count == lines.length) {
+                            lines = Arrays.copyOf(lines, count * 2);
+                        }
+                        lines[count++] = text;
+                    }
+                    line = reader.readLine();
+                }
+            } catch (IOException e) {
+                throw new IOException("cannot read " + names.get(i), e);
+            }
+        }
+        return new VersionInput(lines, count);
+    }
+
+    /**
+     * Wraps already split words, as given on a batch line.
+     *
+     * @param words the words
+     * @param from first word to use
+     * @return the input
+     */
+    static VersionInput of(final String[] words, final int from) {
+        final String[] lines = Arrays.copyOfRange(words, from, words.length);
+        return new VersionInput(lines, lines.length);
+    }
+
+    /**
+     * Returns the number of lines.
+     *
+     * @return the line count
+     */
+    int size() {
+        return texts.length;
+    }
+
+    /**
+     * Returns the text of a line.
+     *
+     * @param index the line
+     * @return the trimmed text
+     */
+    String text(final int index) {
+        return texts[index];
+    }
+
+    /**
+     * Returns the version of a line.
+     *
+     * @param index the line
+     * @return the version, or null if the line is not one
+     */
+    SemVer version(final int index) {
+        return versions[index];
+    }
+
+    /**
+     * Returns the versions of all valid lines, in input order.
+     *
+     * @return the valid versions
+     */
+    SemVer[] validVersions() {
+        final SemVer[] result = new SemVer[versions.length];
+        int count = 0;
+        for (final SemVer version : versions) {
+            if (version != null) {
+                result[count++] = version;
+            }
+        }
+        return Arrays.copyOf(result, count);
+    }
+
+    /** Parses a slice of lines. */
+    private static final class ParseTask extends RecursiveAction {
+
+        /** Serial version UID for serialization compatibility. */
+        private static final long serialVersionUID = 1L;
+
+        /** The lines. */
+        private final String[] lines;
+        /** Receives the versions. */
+        private final SemVer[] parsed;
+        /** First line of the slice. */
+        private final int from;
+        /** End of the slice, exclusive. */
+        private final int to;
+
+        /**
+         * Creates a task.
+         *
+         * @param source the lines
+         * @param target receives the versions
+         * @param start first line
+         * @param end end line, exclusive
+         */
+        ParseTask(
+            final String[] source,
+            final SemVer[] target,
+            final int start,
+            final int end
+        ) {
+            this.lines = source;
+            this.parsed = target;
+            this.from = start;
+            this.to = end;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= LEAF_LINES) {
+                parse();
+            } else {
+                final int middle = (from + to) >>> 1;
+                invokeAll(new ParseTask(lines, parsed, from, middle),
+                    new ParseTask(lines, parsed, middle, to));
+            }
+        }
+
+        /** Parses the slice on the calling thread. */
+        void parse() {
+            for (int i = from; i < to; i++) {
+                parsed[i] = SemVerParser.tryParse(lines[i], 0,
+                    lines[i].length());
+            }
+        }
+    }
+}
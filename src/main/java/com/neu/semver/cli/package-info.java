@@ -0,0 +1,14 @@
+/**
+ * Command-line front end for bulk version processing.
+ *
+ * <p>{@link com.neu.semver.cli.Main} validates, sorts, filters and bumps
+ * versions read from files or standard input, and its {@code batch}
+ * command runs many small requests in one JVM. The code path is kept
+ * cheap to start: no reflection, no lambdas or streams, and classes are
+ * only loaded by the commands that need them.
+ *
+ * @author Yinlu Gong
+ * @version 0.1.0
+ * @since 0.1.0
+ */
+package com.neu.semver.cli;
@@ -0,0 +1,252 @@
+package com.neu.semver.flow;
+
+import java.util.Objects;
+import java.util.concurrent.Flow;
+
+/**
+ * Base class for single-subscriber processors that map or drop items
+ * while honouring downstream demand.
+ *
+ * Demand requested by the subscriber is passed upstream unchanged. Each
+ * item is passed to {@link #transform}; a non-null result is emitted and
+ * a null result drops the item and requests one replacement upstream,
+ * so the number of items in flight never exceeds outstanding demand.
+ * Upstream signals are serial per the Flow contract, so subclasses may
+ * keep unsynchronized state in {@link #transform}.
+ *
+ * @param <T> the type of items received
+ * @param <R> the type of items emitted
+ * @author Yinlu Gong
+ * @version 0.1.0
+ */
+public abstract class AbstractVersionProcessor<T, R>
+    implements Flow.Processor<T, R> {
+
+    /**
+     * Subscription handed to rejected subscribers, which must not reach
+     * the accepted subscriber's pipeline.
+     */
+    private static final Flow.Subscription REJECTED = new Flow.Subscription() {
+        @Override
+        public void request(final long n) {
+            // The rejected subscriber only receives onError.
+        }
+
+        @Override
+        public void cancel() {
+            // Nothing to cancel.
+        }
+    };
+
+    /** Guards subscription state shared between both directions. */
+    private final Object lock = new Object();
+    /** The upstream subscription, once received. */
+    private Flow.Subscription upstream;
+    /** The single downstream subscriber, once subscribed. */
+    private Flow.Subscriber<? super R> downstream;
+    /** Demand requested before the upstream subscription arrived. */
+    private long pendingDemand;
+    /** Whether upstream has terminated. */
+    private boolean terminated;
+    /** The upstream failure, or null on normal completion. */
+    private Throwable failure;
+    /** Whether the terminal signal was delivered downstream. */
+    private boolean terminalDelivered;
+    /** Whether downstream cancelled or processing failed. */
+    private volatile boolean cancelled;
+
+    /** Creates a processor with no subscriber and no subscription. */
+    protected AbstractVersionProcessor() { }
+
+    /**
+     * Maps one upstream item.
+     *
+     * @param item the received item
+     * @return the item to emit, or null to drop it
+     */
+    protected abstract R transform(T item);
+
+    @Override
+    public final void subscribe(final Flow.Subscriber<? super R> subscriber) {
+        Objects.requireNonNull(subscriber, "Subscriber cannot be null");
+        boolean accepted;
+        synchronized (lock) {
+            accepted = downstream == null;
+            if (accepted) {
+                downstream = subscriber;
+            }
+        }
+        if (accepted) {
+            subscriber.onSubscribe(new DownstreamSubscription());
+            deliverTerminal();
+        } else {
+            subscriber.onSubscribe(REJECTED);
+            subscriber.onError(new IllegalStateException(
+                getClass().getSimpleName()
+                    + " supports a single subscriber"));
+        }
+    }
+
+    @Override
+    public final void onSubscribe(final Flow.Subscription subscription) {
+        Objects.requireNonNull(subscription, "Subscription cannot be null");
+        boolean duplicate;
+        long demand = 0;
+        synchronized (lock) {
+            duplicate = upstream != null;
+            if (!duplicate) {
+                upstream = subscription;
+                demand = pendingDemand;
+                pendingDemand = 0;
+            }
+        }
+        if (duplicate || cancelled) {
+            subscription.cancel();
+        } else if (demand > 0) {
+            subscription.request(demand);
+        }
+    }
+
+    @Override
+    public final void onNext(final T item) {
+        if (!cancelled) {
+            R result = null;
+            boolean failed = false;
+            try {
+                result = transform(item);
+            } catch (RuntimeException e) {
+                failed = true;
+                cancelUpstream();
+                onError(e);
+            }
+            if (!failed) {
+                if (result != null) {
+                    subscriber().onNext(result);
+                } else {
+                    upstreamSubscription().request(1);
+                }
+            }
+        }
+    }
+
+    @Override
+    public final void onError(final Throwable throwable) {
+        synchronized (lock) {
+            if (!terminated) {
+                terminated = true;
+                failure = throwable;
+            }
+        }
+        deliverTerminal();
+    }
+
+    @Override
+    public final void onComplete() {
+        synchronized (lock) {
+            terminated = true;
+        }
+        deliverTerminal();
+    }
+
+    /**
+     * Delivers the terminal signal once both it and the subscriber exist.
+     */
+    private void deliverTerminal() {
+        Flow.Subscriber<? super R> target = null;
+        Throwable error = null;
+        synchronized (lock) {
+            if (terminated && downstream != null && !terminalDelivered) {
+                terminalDelivered = true;
+                target = downstream;
+                error = failure;
+            }
+        }
+        if (target != null) {
+            if (error != null) {
+                target.onError(error);
+            } else {
+                target.onComplete();
+            }
+        }
+    }
+
+    /**
+     * Cancels the upstream subscription if there is one.
+     */
+    private void cancelUpstream() {
+        cancelled = true;
+        final Flow.Subscription subscription = upstreamSubscription();
+        if (subscription != null) {
+            subscription.cancel();
+        }
+    }
+
+    /**
+     * Returns the upstream subscription.
+     *
+     * @return the upstream subscription, or null before onSubscribe
+     */
+    private Flow.Subscription upstreamSubscription() {
+        synchronized (lock) {
+            return upstream;
+        }
+    }
+
+    /**
+     * Returns the downstream subscriber.
+     *
+     * @return the downstream subscriber
+     */
+    private Flow.Subscriber<? super R> subscriber() {
+        synchronized (lock) {
+            return downstream;
+        }
+    }
+
+    /**
+     * Subscription handed to the downstream subscriber.
+     */
+    private final class DownstreamSubscription implements Flow.Subscription {
+
+        @Override
+        public void request(final long n) {
+            if (n <= 0) {
+                cancelUpstream();
+                onError(new IllegalArgumentException(
+                    "Demand must be positive: " + n));
+            } else {
+                Flow.Subscription subscription;
+                synchronized (lock) {
+                    subscription = upstream;
+                    if (subscription == null) {
+                        pendingDemand = addCapped(pendingDemand, n);
+                    }
+                }
+                if (subscription != null && !cancelled) {
+                    subscription.request(n);
+                }
+            }
+        }
+
+        @Override
+        public void cancel() {
+            cancelUpstream();
+        }
+    }
+
+    /**
+     * Adds demand, saturating at {@link Long#MAX_VALUE}.
+     *
+     * @param current the current demand
+     * @param n the additional demand
+     * @return the combined demand
+     */
+    private static long addCapped(final long current, final long n) {
+        final long sum = current + n;
+        long result = sum;
+        if (sum < 0) {
+            result = Long.MAX_VALUE;
+        }
+        return result;
+    }
+}
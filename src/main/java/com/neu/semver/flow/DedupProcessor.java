@@ -0,0 +1,82 @@
+package com.neu.semver.flow;
+
+import com.neu.semver.SemVer;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Processor dropping versions already seen recently.
+ *
+ * Versions are compared with {@link SemVer#equals}, so versions that
+ * differ only in build metadata are duplicates. The set of remembered
+ * versions is an LRU bounded by the configured capacity, so memory stays
+ * fixed on unbounded streams; a duplicate older than the window is
+ * emitted again.
+ *
+ * @author Yinlu Gong
+ * @version 0.1.0
+ */
+public final class DedupProcessor
+    extends AbstractVersionProcessor<SemVer, SemVer> {
+
+    /** Load factor of the LRU map. */
+    private static final float LOAD_FACTOR = 0.75f;
+
+    /** Recently seen versions in access order. */
+    private final Map<SemVer, Boolean> seen;
+
+    /**
+     * Creates a dedup processor remembering up to {@code capacity}
+     * versions.
+     *
+     * @param capacity the number of versions remembered
+     * @throws IllegalArgumentException if capacity is not positive
+     */
+    public DedupProcessor(final int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException(
+                "Capacity must be positive: " + capacity
+            );
+        }
+        this.seen = new RecentVersions(capacity);
+    }
+
+    /**
+     * Access-ordered map that evicts its eldest entry beyond a capacity.
+     */
+    private static final class RecentVersions
+        extends LinkedHashMap<SemVer, Boolean> {
+
+        /** Serial version UID for serialization compatibility. */
+        private static final long serialVersionUID = 1L;
+
+        /** Maximum number of entries kept. */
+        private final int capacity;
+
+        /**
+         * Creates an empty map.
+         *
+         * @param maxEntries maximum number of entries kept
+         */
+        RecentVersions(final int maxEntries) {
+            super(maxEntries, LOAD_FACTOR, true);
+            this.capacity = maxEntries;
+        }
+
+        @Override
+        protected boolean removeEldestEntry(
+            final Map.Entry<SemVer, Boolean> eldest) {
+            return size() > capacity;
+        }
+    }
+
+    @Override
+    protected SemVer transform(final SemVer item) {
+        SemVer result = null;
+        if (seen.put(item, Boolean.TRUE) == null) {
+            result = item;
+        }
+        return result;
+    }
+}
@@ -0,0 +1,38 @@
+package com.neu.semver.flow;
+
+import com.neu.semver.SemVer;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Processor tracking the highest version seen per key.
+ *
+ * An item is emitted only when it raises the highest version of its key,
+ * so the output is the stream of new maxima. Precedence follows
+ * {@link SemVer#compareTo}; a version equal to the current maximum, such
+ * as one differing only in build metadata, is not re-emitted.
+ *
+ * @author Yinlu Gong
+ * @version 0.1.0
+ */
+public final class HighestVersionProcessor
+    extends AbstractVersionProcessor<KeyedVersion, KeyedVersion> {
+
+    /** Highest version seen per key. */
+    private final Map<String, SemVer> highest = new HashMap<>();
+
+    /** Creates a processor that has seen no versions. */
+    public HighestVersionProcessor() { }
+
+    @Override
+    protected KeyedVersion transform(final KeyedVersion item) {
+        final SemVer current = highest.get(item.getKey());
+        KeyedVersion result = null;
+        if (current == null || item.getVersion().compareTo(current) > 0) {
+            highest.put(item.getKey(), item.getVersion());
+            result = item;
+        }
+        return result;
+    }
+}
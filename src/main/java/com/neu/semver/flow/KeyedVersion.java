@@ -0,0 +1,74 @@
+package com.neu.semver.flow;
+
+import com.neu.semver.SemVer;
+
+import java.util.Objects;
+
+/**
+ * A version associated with a key, typically a package name.
+ *
+ * @author Yinlu Gong
+ * @version 0.1.0
+ */
+public final class KeyedVersion {
+
+    /** The key, such as a package name. */
+    private final String key;
+    /** The version announced for the key. */
+    private final SemVer version;
+
+    /**
+     * Creates a keyed version.
+     *
+     * @param itemKey the key
+     * @param itemVersion the version
+     * @throws IllegalArgumentException if either argument is null
+     */
+    public KeyedVersion(final String itemKey, final SemVer itemVersion) {
+        if (itemKey == null || itemVersion == null) {
+            throw new IllegalArgumentException(
+                "Key and version cannot be null"
+            );
+        }
+        this.key = itemKey;
+        this.version = itemVersion;
+    }
+
+    /**
+     * Returns the key.
+     *
+     * @return the key
+     */
+    public String getKey() {
+        return key;
+    }
+
+    /**
+     * Returns the version.
+     *
+     * @return the version
+     */
+    public SemVer getVersion() {
+        return version;
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+        boolean result = this == obj;
+        if (!result && obj != null && getClass() == obj.getClass()) {
+            final KeyedVersion other = (KeyedVersion) obj;
+            result = key.equals(other.key) && version.equals(other.version);
+        }
+        return result;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(key, version);
+    }
+
+    @Override
+    public String toString() {
+        return key + "@" + version;
+    }
+}
@@ -0,0 +1,58 @@
+package com.neu.semver.flow;
+
+import com.neu.semver.IdentifierPool;
+import com.neu.semver.SemVer;
+import com.neu.semver.SemVerParser;
+
+import java.util.function.BiConsumer;
+
+/**
+ * Processor parsing version strings into {@link SemVer} instances.
+ *
+ * Strings that fail to parse are not emitted; they are handed to the
+ * rejection side channel together with the parse failure, and a
+ * replacement item is requested upstream.
+ *
+ * @author Yinlu Gong
+ * @version 0.1.0
+ */
+public final class SemVerParsingProcessor
+    extends AbstractVersionProcessor<String, SemVer> {
+
+    /** Receives each rejected input and its failure. */
+    private final BiConsumer<String, IllegalArgumentException> rejected;
+    /** Optional pool for prerelease and build strings. */
+    private final IdentifierPool pool;
+
+    /**
+     * Creates a parsing processor.
+     *
+     * @param rejectedSink receives inputs that are not valid versions
+     * @param identifierPool pool used to share prerelease and build
+     *                       strings, or null
+     * @throws IllegalArgumentException if rejectedSink is null
+     */
+    public SemVerParsingProcessor(
+        final BiConsumer<String, IllegalArgumentException> rejectedSink,
+        final IdentifierPool identifierPool
+    ) {
+        if (rejectedSink == null) {
+            throw new IllegalArgumentException(
+                "Rejected sink cannot be null"
+            );
+        }
+        this.rejected = rejectedSink;
+        this.pool = identifierPool;
+    }
+
+    @Override
+    protected SemVer transform(final String item) {
+        SemVer result = null;
+        try {
+            result = SemVerParser.parse(item, pool);
+        } catch (IllegalArgumentException e) {
+            rejected.accept(item, e);
+        }
+        return result;
+    }
+}
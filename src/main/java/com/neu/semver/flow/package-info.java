@@ -0,0 +1,13 @@
+/**
+ * {@link java.util.concurrent.Flow} processors for parsing and reducing
+ * streams of version announcements.
+ *
+ * <p>Every processor forwards downstream demand upstream one-for-one and
+ * re-requests a replacement for each item it drops, so no stage buffers
+ * more than the subscriber asked for, however bursty the source is.
+ *
+ * @author Yinlu Gong
+ * @version 0.1.0
+ * @since 0.1.0
+ */
+package com.neu.semver.flow;
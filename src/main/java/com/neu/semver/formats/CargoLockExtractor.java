@@ -0,0 +1,223 @@
+package com.neu.semver.formats;
+
+import com.neu.semver.SemVer;
+import com.neu.semver.SemVerParser;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Extracts versions from Rust {@code Cargo.lock} files.
+ *
+ * The file is scanned line by line over the raw bytes. Within each
+ * {@code [[package]]} table the {@code name} and {@code version} keys
+ * are picked out and the version is parsed in place; the package is
+ * reported with its name as coordinates when the table ends. Other
+ * keys, other tables and the top-level lockfile {@code version} are
+ * ignored, and so are versions that do not parse strictly.
+ *
+ * @author Yinlu Gong
+ * @version 0.1.0
+ */
+public final class CargoLockExtractor {
+
+    /** Header of a package table. */
+    private static final String PACKAGE_HEADER = "[[package]]";
+    /** Key of the package name. */
+    private static final String NAME_KEY = "name";
+    /** Key of the package version. */
+    private static final String VERSION_KEY = "version";
+
+    /** Private constructor to prevent instantiation. */
+    private CargoLockExtractor() { }
+
+    /**
+     * Extracts versions from a region of lockfile bytes.
+     *
+     * @param data the input
+     * @param offset first index of the region
+     * @param length length of the region
+     * @param sink receives the versions
+     * @return the number of versions reported
+     * @throws IllegalArgumentException if data or sink is null
+     * @throws IndexOutOfBoundsException if the region is out of bounds
+     * @throws FormatException if a name or version string is unterminated
+     */
+    public static int extract(
+        final byte[] data,
+        final int offset,
+        final int length,
+        final VersionSink sink
+    ) {
+        if (data == null || sink == null) {
+            throw new IllegalArgumentException(
+                "Data and sink cannot be null");
+        }
+        if (offset < 0 || length < 0 || offset > data.length - length) {
+            throw new IndexOutOfBoundsException(
+                "Invalid region: offset " + offset + ", length " + length);
+        }
+        final int limit = offset + length;
+        int count = 0;
+        boolean inPackage = false;
+        String name = null;
+        SemVer version = null;
+        int lineStart = offset;
+        while (lineStart < limit) {
+            int lineEnd = lineStart;
+            while (lineEnd < limit && data[lineEnd] != '\n') {
+                lineEnd++;
+            }
+            int start = lineStart;
+            int end = lineEnd;
+            while (start < end && data[start] <= ' ') {
+                start++;
+            }
+            while (end > start && data[end - 1] <= ' ') {
+                end--;
+            }
+            if (start < end && data[start] == '[') {
+                count += report(sink, name, version);
+                name = null;
+                version = null;
+                inPackage = matches(data, start, end, PACKAGE_HEADER);
+            } else if (inPackage) {
+                final int nameValue = valueStart(data, start, end, NAME_KEY);
+                final int versionValue =
+                    valueStart(data, start, end, VERSION_KEY);
+                if (nameValue >= 0) {
+                    name = new String(data, nameValue,
+                        valueEnd(data, nameValue, end) - nameValue,
+                        StandardCharsets.UTF_8);
+                } else if (versionValue >= 0) {
+                    version = SemVerParser.tryParseAscii(data, versionValue,
+                        valueEnd(data, versionValue, end) - versionValue);
+                }
+            }
+            lineStart = lineEnd + 1;
+        }
+        return count + report(sink, name, version);
+    }
+
+    /**
+     * Extracts versions from a lockfile stream.
+     *
+     * @param in the input, read to its end but not closed
+     * @param sink receives the versions
+     * @return the number of versions reported
+     * @throws IllegalArgumentException if in or sink is null
+     * @throws IOException if the stream cannot be read
+     * @throws FormatException if a name or version string is unterminated
+     */
+    public static int extract(final InputStream in, final VersionSink sink)
+        throws IOException {
+        if (in == null) {
+            throw new IllegalArgumentException("Input cannot be null");
+        }
+        final byte[] bytes = in.readAllBytes();
+        return extract(bytes, 0, bytes.length, sink);
+    }
+
+    /**
+     * Reports a finished package table.
+     *
+     * @param sink receives the version
+     * @param name the package name, or null
+     * @param version the package version, or null
+     * @return 1 if a version was reported, otherwise 0
+     */
+    private static int report(
+        final VersionSink sink,
+        final String name,
+        final SemVer version
+    ) {
+        int result = 0;
+        if (name != null && version != null) {
+            sink.accept(name, version);
+            result = 1;
+        }
+        return result;
+    }
+
+    /**
+     * Finds the string value of a {@code key = "value"} line.
+     *
+     * @param data the input
+     * @param start start of the trimmed line
+     * @param end end of the trimmed line
+     * @param key the key
+     * @return the index after the opening quote, or -1 if the line does
+     *         not assign a string to the key
+     */
+    private static int valueStart(
+        final byte[] data,
+        final int start,
+        final int end,
+        final String key
+    ) {
+        int result = -1;
+        int pos = start + key.length();
+        if (pos < end && matches(data, start, pos, key)) {
+            while (pos < end && data[pos] == ' ') {
+                pos++;
+            }
+            if (pos < end && data[pos] == '=') {
+                pos++;
+                while (pos < end && data[pos] == ' ') {
+                    pos++;
+                }
+                if (pos < end && data[pos] == '"') {
+                    result = pos + 1;
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Finds the closing quote of a string value.
+     *
+     * @param data the input
+     * @param start index after the opening quote
+     * @param end end of the line
+     * @return the index of the closing quote
+     * @throws FormatException if the string is unterminated
+     */
+    private static int valueEnd(
+        final byte[] data,
+        final int start,
+        final int end
+    ) {
+        int pos = start;
+        while (pos < end && data[pos] != '"') {
+            pos++;
+        }
+        if (pos == end) {
+            throw new FormatException("Unterminated string", start - 1);
+        }
+        return pos;
+    }
+
+    /**
+     * Returns whether a region equals an ASCII literal.
+     *
+     * @param data the input
+     * @param start start of the region
+     * @param end end of the region
+     * @param literal the literal
+     * @return true if equal
+     */
+    private static boolean matches(
+        final byte[] data,
+        final int start,
+        final int end,
+        final String literal
+    ) {
+        boolean result = end - start == literal.length();
+        for (int i = 0; result && i < literal.length(); i++) {
+            result = data[start + i] == literal.charAt(i);
+        }
+        return result;
+    }
+}
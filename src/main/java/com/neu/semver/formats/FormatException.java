@@ -0,0 +1,52 @@
+package com.neu.semver.formats;
+
+/**
+ * Thrown when an input is not well-formed in the format being read.
+ *
+ * @author Yinlu Gong
+ * @version 0.1.0
+ */
+public final class FormatException extends IllegalArgumentException {
+
+    /** Serial version UID for serialization compatibility. */
+    private static final long serialVersionUID = 1L;
+
+    /** Offset of the error in the input, or -1 if unknown. */
+    private final long offset;
+
+    /**
+     * Creates an exception.
+     *
+     * @param message the detail message
+     * @param position offset of the error in the input, or -1
+     */
+    public FormatException(final String message, final long position) {
+        super(position < 0 ? message : message + " at offset " + position);
+        this.offset = position;
+    }
+
+    /**
+     * Creates an exception wrapping a parser error.
+     *
+     * @param message the detail message
+     * @param position offset of the error in the input, or -1
+     * @param cause the underlying error
+     */
+    public FormatException(
+        final String message,
+        final long position,
+        final Throwable cause
+    ) {
+        this(message, position);
+        initCause(cause);
+    }
+
+    /**
+     * Returns the offset of the error in the input.
+     *
+     * @return the offset, or -1 if unknown
+     */
+    public long getOffset() {
+        return offset;
+    }
+}
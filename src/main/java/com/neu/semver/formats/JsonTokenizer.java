@@ -0,0 +1,375 @@
+package com.neu.semver.formats;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * A minimal pull tokenizer over UTF-8 JSON bytes.
+ *
+ * Strings are reported as byte regions of the input and decoded only on
+ * request, so skipping a document allocates nothing. A string directly
+ * followed by a colon is reported as a {@link #NAME}. Numbers and the
+ * literals {@code true}, {@code false} and {@code null} are reported as
+ * {@link #SCALAR} without being interpreted. Brackets must balance;
+ * commas and colons are otherwise not checked.
+ *
+ * @author Yinlu Gong
+ * @version 0.1.0
+ */
+final class JsonTokenizer {
+
+    /** End of input. */
+    static final int END = 0;
+    /** Start of an object. */
+    static final int BEGIN_OBJECT = 1;
+    /** End of an object. */
+    static final int END_OBJECT = 2;
+    /** Start of an array. */
+    static final int BEGIN_ARRAY = 3;
+    /** End of an array. */
+    static final int END_ARRAY = 4;
+    /** An object member name. */
+    static final int NAME = 5;
+    /** A string value. */
+    static final int STRING = 6;
+    /** A number or literal value. */
+    static final int SCALAR = 7;
+
+    /** Initial container nesting capacity. */
+    private static final int INITIAL_DEPTH = 16;
+    /** Radix of unicode escapes. */
+    private static final int HEX_RADIX = 16;
+    /** Number of hex digits in a unicode escape. */
+    private static final int UNICODE_DIGITS = 4;
+
+    /** The input. */
+    private final byte[] data;
+    /** End of the input region. */
+    private final int limit;
+    /** Open container brackets. */
+    private byte[] containers = new byte[INITIAL_DEPTH];
+    /** Number of open containers. */
+    private int depth;
+    /** Read position. */
+    private int pos;
+    /** Start of the current string or scalar. */
+    private int tokenStart;
+    /** End of the current string or scalar, exclusive. */
+    private int tokenEnd;
+    /** Whether the current string contains escapes. */
+    private boolean escaped;
+
+    /**
+     * Creates a tokenizer over a byte region.
+     *
+     * @param bytes the input
+     * @param offset first index of the region
+     * @param length length of the region
+     */
+    JsonTokenizer(final byte[] bytes, final int offset, final int length) {
+        this.data = bytes;
+        this.pos = offset;
+        this.limit = offset + length;
+    }
+
+    /**
+     * Reads the next token.
+     *
+     * @return the token type
+     * @throws FormatException if the input is malformed
+     */
+    int next() {
+        skipSeparators();
+        int result = END;
+        if (pos < limit) {
+            final byte c = data[pos];
+            if (c == '{' || c == '[') {
+                push(c);
+                pos++;
+                result = c == '{' ? BEGIN_OBJECT : BEGIN_ARRAY;
+            } else if (c == '}' || c == ']') {
+                pop(c == '}' ? (byte) '{' : (byte) '[');
+                pos++;
+                result = c == '}' ? END_OBJECT : END_ARRAY;
+            } else if (c == '"') {
+                readString();
+                skipWhitespace();
+                result = pos < limit && data[pos] == ':' ? NAME : STRING;
+            } else {
+                readScalar();
+                result = SCALAR;
+            }
+        } else if (depth > 0) {
+            throw new FormatException("Unexpected end of JSON input", pos);
+        }
+        return result;
+    }
+
+    /**
+     * Returns the number of open containers.
+     *
+     * @return the nesting depth
+     */
+    int depth() {
+        return depth;
+    }
+
+    /**
+     * Returns the start of the current string's content or scalar.
+     *
+     * @return the start index
+     */
+    int start() {
+        return tokenStart;
+    }
+
+    /**
+     * Returns the end of the current string's content or scalar.
+     *
+     * @return the end index, exclusive
+     */
+    int end() {
+        return tokenEnd;
+    }
+
+    /**
+     * Returns whether the current string contains escape sequences.
+     *
+     * @return true if it must be decoded before use
+     */
+    boolean isEscaped() {
+        return escaped;
+    }
+
+    /**
+     * Decodes the current string.
+     *
+     * @return the string value
+     */
+    String text() {
+        return decode(data, tokenStart, tokenEnd, escaped);
+    }
+
+    /**
+     * Returns whether the current string equals an ASCII literal.
+     *
+     * @param literal the literal
+     * @return true if equal
+     */
+    boolean textEquals(final String literal) {
+        return regionEquals(data, tokenStart, tokenEnd, escaped, literal);
+    }
+
+    /**
+     * Returns whether a string region equals an ASCII literal.
+     *
+     * @param bytes the input
+     * @param start start of the string content
+     * @param end end of the string content
+     * @param hasEscapes whether the region contains escapes
+     * @param literal the literal
+     * @return true if equal
+     */
+    static boolean regionEquals(
+        final byte[] bytes,
+        final int start,
+        final int end,
+        final boolean hasEscapes,
+        final String literal
+    ) {
+        boolean result;
+        if (hasEscapes) {
+            result = literal.equals(decode(bytes, start, end, true));
+        } else {
+            result = end - start == literal.length();
+            for (int i = 0; result && i < literal.length(); i++) {
+                result = bytes[start + i] == literal.charAt(i);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Decodes a string region.
+     *
+     * @param bytes the input
+     * @param start start of the string content
+     * @param end end of the string content
+     * @param hasEscapes whether the region contains escapes
+     * @return the string value
+     */
+    static String decode(
+        final byte[] bytes,
+        final int start,
+        final int end,
+        final boolean hasEscapes
+    ) {
+        String result;
+        if (!hasEscapes) {
+            result = new String(bytes, start, end - start,
+                StandardCharsets.UTF_8);
+        } else {
+            final StringBuilder builder = new StringBuilder(end - start);
+            int segment = start;
+            int i = start;
+            while (i < end) {
+                if (bytes[i] == '\\') {
+                    builder.append(new String(bytes, segment, i - segment,
+                        StandardCharsets.UTF_8));
+                    i = unescape(bytes, i + 1, end, builder);
+                    segment = i;
+                } else {
+                    i++;
+                }
+            }
+            builder.append(new String(bytes, segment, end - segment,
+                StandardCharsets.UTF_8));
+            result = builder.toString();
+        }
+        return result;
+    }
+
+    /**
+     * Appends one escape sequence.
+     *
+     * @param bytes the input
+     * @param index index of the character after the backslash
+     * @param end end of the string content
+     * @param builder receives the character
+     * @return the index after the escape sequence
+     */
+    private static int unescape(
+        final byte[] bytes,
+        final int index,
+        final int end,
+        final StringBuilder builder
+    ) {
+        if (index >= end) {
+            throw new FormatException("Truncated escape sequence", index);
+        }
+        int next = index + 1;
+        final byte c = bytes[index];
+        switch (c) {
+            case 'b':
+                builder.append('\b');
+                break;
+            case 'f':
+                builder.append('\f');
+                break;
+            case 'n':
+                builder.append('\n');
+                break;
+            case 'r':
+                builder.append('\r');
+                break;
+            case 't':
+                builder.append('\t');
+                break;
+            case 'u':
+                if (next + UNICODE_DIGITS > end) {
+                    throw new FormatException("Truncated unicode escape",
+                        index);
+                }
+                try {
+                    builder.append((char) Integer.parseInt(new String(bytes,
+                        next, UNICODE_DIGITS, StandardCharsets.US_ASCII),
+                        HEX_RADIX));
+                } catch (NumberFormatException e) {
+                    throw new FormatException("Invalid unicode escape",
+                        index, e);
+                }
+                next += UNICODE_DIGITS;
+                break;
+            default:
+                builder.append((char) c);
+                break;
+        }
+        return next;
+    }
+
+    /** Skips whitespace. */
+    private void skipWhitespace() {
+        while (pos < limit && isWhitespace(data[pos])) {
+            pos++;
+        }
+    }
+
+    /** Skips whitespace, commas and colons. */
+    private void skipSeparators() {
+        while (pos < limit && (isWhitespace(data[pos]) || data[pos] == ','
+            || data[pos] == ':')) {
+            pos++;
+        }
+    }
+
+    /**
+     * Returns whether a byte is JSON whitespace.
+     *
+     * @param c the byte
+     * @return true if whitespace
+     */
+    private static boolean isWhitespace(final byte c) {
+        return c == ' ' || c == '\n' || c == '\r' || c == '\t';
+    }
+
+    /** Reads a string, leaving the position after its closing quote. */
+    private void readString() {
+        pos++;
+        tokenStart = pos;
+        escaped = false;
+        while (pos < limit && data[pos] != '"') {
+            if (data[pos] == '\\') {
+                escaped = true;
+                pos++;
+            }
+            pos++;
+        }
+        if (pos >= limit) {
+            throw new FormatException("Unterminated string", tokenStart - 1);
+        }
+        tokenEnd = pos;
+        pos++;
+    }
+
+    /** Reads a number or literal. */
+    private void readScalar() {
+        tokenStart = pos;
+        while (pos < limit && !isWhitespace(data[pos]) && data[pos] != ','
+            && data[pos] != '}' && data[pos] != ']' && data[pos] != ':') {
+            final byte c = data[pos];
+            if (c == '{' || c == '[' || c == '"') {
+                throw new FormatException("Unexpected character '"
+                    + (char) c + "'", pos);
+            }
+            pos++;
+        }
+        tokenEnd = pos;
+        if (tokenEnd == tokenStart) {
+            throw new FormatException("Unexpected character", pos);
+        }
+    }
+
+    /**
+     * Opens a container.
+     *
+     * @param bracket the opening bracket
+     */
+    private void push(final byte bracket) {
+        if (depth == containers.length) {
+            containers = Arrays.copyOf(containers, depth * 2);
+        }
+        containers[depth++] = bracket;
+    }
+
+    /**
+     * Closes a container.
+     *
+     * @param bracket the opening bracket that must match
+     */
+    private void pop(final byte bracket) {
+        if (depth == 0 || containers[depth - 1] != bracket) {
+            throw new FormatException("Mismatched bracket", pos);
+        }
+        depth--;
+    }
+}
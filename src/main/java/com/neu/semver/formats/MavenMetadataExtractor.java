@@ -0,0 +1,203 @@
+package com.neu.semver.formats;
+
+import com.neu.semver.SemVer;
+import com.neu.semver.SemVerParser;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.CharBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+/**
+ * Extracts versions from Maven {@code maven-metadata.xml} files.
+ *
+ * The document is read with a StAX stream reader. Each
+ * {@code metadata/versioning/versions/version} element is parsed
+ * straight from the reader's character buffer, and the versions are
+ * reported with {@code groupId:artifactId} coordinates once the
+ * document has been read, since the coordinates may follow the version
+ * list. Versions that are not strict semantic versions, such as
+ * {@code 1.0} or {@code 2.3-SNAPSHOT}, are skipped; {@code 2.3.0-SNAPSHOT}
+ * is kept as a prerelease. DTDs and external
+ * entities are not processed.
+ *
+ * @author Yinlu Gong
+ * @version 0.1.0
+ */
+public final class MavenMetadataExtractor {
+
+    /** Depth of the root element's children. */
+    private static final int COORDINATE_DEPTH = 2;
+    /** Depth of the version elements. */
+    private static final int VERSION_DEPTH = 4;
+
+    /** Shared factory; creating one per document is expensive. */
+    private static final XMLInputFactory FACTORY = createFactory();
+
+    /** Private constructor to prevent instantiation. */
+    private MavenMetadataExtractor() { }
+
+    /**
+     * Extracts versions from a region of XML bytes.
+     *
+     * @param data the input
+     * @param offset first index of the region
+     * @param length length of the region
+     * @param sink receives the versions
+     * @return the number of versions reported
+     * @throws IllegalArgumentException if data or sink is null
+     * @throws IndexOutOfBoundsException if the region is out of bounds
+     * @throws FormatException if the input is not well-formed XML
+     */
+    public static int extract(
+        final byte[] data,
+        final int offset,
+        final int length,
+        final VersionSink sink
+    ) {
+        if (data == null) {
+            throw new IllegalArgumentException("Data cannot be null");
+        }
+        if (offset < 0 || length < 0 || offset > data.length - length) {
+            throw new IndexOutOfBoundsException(
+                "Invalid region: offset " + offset + ", length " + length);
+        }
+        try {
+            return extract(new ByteArrayInputStream(data, offset, length),
+                sink);
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Extracts versions from a stream of XML.
+     *
+     * @param in the input, not closed
+     * @param sink receives the versions
+     * @return the number of versions reported
+     * @throws IllegalArgumentException if in or sink is null
+     * @throws IOException if the stream cannot be read
+     * @throws FormatException if the input is not well-formed XML
+     */
+    public static int extract(final InputStream in, final VersionSink sink)
+        throws IOException {
+        if (in == null || sink == null) {
+            throw new IllegalArgumentException(
+                "Input and sink cannot be null");
+        }
+        String groupId = null;
+        String artifactId = null;
+        final List<SemVer> versions = new ArrayList<>();
+        try {
+            // The reader does not own the stream, so it needs no closing
+            // when the document turns out to be malformed.
+            final XMLStreamReader reader = FACTORY.createXMLStreamReader(in);
+            // Names of the open elements down to the version elements.
+            final String[] path = new String[VERSION_DEPTH + 1];
+            int depth = 0;
+            String element = null;
+            while (reader.hasNext()) {
+                final int event = reader.next();
+                if (event == XMLStreamConstants.START_ELEMENT) {
+                    depth++;
+                    element = reader.getLocalName();
+                    if (depth <= VERSION_DEPTH) {
+                        path[depth] = element;
+                    }
+                    if (depth == COORDINATE_DEPTH
+                        && "groupId".equals(element)) {
+                        groupId = reader.getElementText().trim();
+                        depth--;
+                    } else if (depth == COORDINATE_DEPTH
+                        && "artifactId".equals(element)) {
+                        artifactId = reader.getElementText().trim();
+                        depth--;
+                    }
+                } else if (event == XMLStreamConstants.END_ELEMENT) {
+                    depth--;
+                    element = null;
+                } else if (event == XMLStreamConstants.CHARACTERS
+                    && depth == VERSION_DEPTH && "version".equals(element)
+                    && "versioning".equals(path[VERSION_DEPTH - 2])
+                    && "versions".equals(path[VERSION_DEPTH - 1])) {
+                    final SemVer version = parse(reader);
+                    if (version != null) {
+                        versions.add(version);
+                    }
+                }
+            }
+            reader.close();
+        } catch (XMLStreamException e) {
+            throw new FormatException("Malformed metadata: " + e.getMessage(),
+                e.getLocation() == null ? -1
+                    : e.getLocation().getCharacterOffset(), e);
+        }
+        final String coordinates = coordinates(groupId, artifactId);
+        for (final SemVer version : versions) {
+            sink.accept(coordinates, version);
+        }
+        return versions.size();
+    }
+
+    /**
+     * Parses the current text event in place, ignoring surrounding
+     * whitespace.
+     *
+     * @param reader the reader positioned on a text event
+     * @return the version, or null if the text is not one
+     */
+    private static SemVer parse(final XMLStreamReader reader) {
+        final char[] chars = reader.getTextCharacters();
+        int start = reader.getTextStart();
+        int end = start + reader.getTextLength();
+        while (start < end && Character.isWhitespace(chars[start])) {
+            start++;
+        }
+        while (end > start && Character.isWhitespace(chars[end - 1])) {
+            end--;
+        }
+        return SemVerParser.tryParse(CharBuffer.wrap(chars), start, end);
+    }
+
+    /**
+     * Formats Maven coordinates.
+     *
+     * @param groupId the group id, or null
+     * @param artifactId the artifact id, or null
+     * @return {@code groupId:artifactId}, omitting missing parts
+     */
+    private static String coordinates(
+        final String groupId,
+        final String artifactId
+    ) {
+        String result;
+        if (groupId == null) {
+            result = artifactId == null ? "" : artifactId;
+        } else {
+            result = artifactId == null ? groupId : groupId + ':' + artifactId;
+        }
+        return result;
+    }
+
+    /**
+     * Creates the reader factory with DTDs and external entities off.
+     *
+     * @return the factory
+     */
+    private static XMLInputFactory createFactory() {
+        final XMLInputFactory factory = XMLInputFactory.newFactory();
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, Boolean.FALSE);
+        factory.setProperty(
+            XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, Boolean.FALSE);
+        factory.setProperty(XMLInputFactory.IS_COALESCING, Boolean.TRUE);
+        return factory;
+    }
+}
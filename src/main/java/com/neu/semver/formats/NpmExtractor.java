@@ -0,0 +1,281 @@
+package com.neu.semver.formats;
+
+import com.neu.semver.SemVer;
+import com.neu.semver.SemVerParser;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+
+/**
+ * Extracts versions from npm {@code package.json} and
+ * {@code package-lock.json} files.
+ *
+ * The document's own {@code name} and {@code version} are reported
+ * first. Lockfile entries are reported as they are met: for lockfile
+ * versions 2 and 3 the {@code version} of each entry under
+ * {@code packages}, named by the path after its last
+ * {@code node_modules/}; for version 1 the {@code version} of each
+ * entry under {@code dependencies}, at any nesting level. Version 2
+ * lockfiles repeat their entries in a legacy {@code dependencies}
+ * tree; it is ignored once a {@code lockfileVersion} other than 1 or a
+ * top-level {@code packages} member has been seen. Dependency
+ * ranges in {@code package.json} are not versions and are ignored, as
+ * are versions that do not parse strictly, such as git or file
+ * references.
+ *
+ * @author Yinlu Gong
+ * @version 0.1.0
+ */
+public final class NpmExtractor {
+
+    /** Member holding lockfile v2 and v3 entries. */
+    private static final String PACKAGES = "packages";
+    /** Member holding lockfile v1 entries. */
+    private static final String DEPENDENCIES = "dependencies";
+    /** Member holding the lockfile format version. */
+    private static final String LOCKFILE_VERSION = "lockfileVersion";
+    /** The lockfile format version that has no {@code packages}. */
+    private static final String LEGACY_LOCKFILE = "1";
+    /** Member holding a version. */
+    private static final String VERSION = "version";
+    /** Member holding the document's package name. */
+    private static final String NAME = "name";
+    /** Directory marker in lockfile entry paths. */
+    private static final String NODE_MODULES = "node_modules/";
+    /** Initial nesting capacity. */
+    private static final int INITIAL_DEPTH = 16;
+
+    /** The input. */
+    private final byte[] data;
+    /** Tokenizer over the input. */
+    private final JsonTokenizer tokenizer;
+    /** Receives the versions. */
+    private final VersionSink sink;
+    /** Start of the member name of each open container, or -1. */
+    private int[] keyStarts = new int[INITIAL_DEPTH];
+    /** End of the member name of each open container. */
+    private int[] keyEnds = new int[INITIAL_DEPTH];
+    /** Whether the member name of each open container has escapes. */
+    private boolean[] keyEscapes = new boolean[INITIAL_DEPTH];
+    /** Start of the pending member name, or -1 if none. */
+    private int nameStart = -1;
+    /** End of the pending member name. */
+    private int nameEnd;
+    /** Whether the pending member name has escapes. */
+    private boolean nameEscaped;
+    /** The document's package name, or null until read. */
+    private String rootName;
+    /** The document's version, or null until read. */
+    private SemVer rootVersion;
+    /** Whether {@code dependencies} entries duplicate {@code packages}. */
+    private boolean packagesFormat;
+    /** Number of versions reported. */
+    private int count;
+
+    /**
+     * Creates an extraction over a byte region.
+     *
+     * @param bytes the input
+     * @param offset first index of the region
+     * @param length length of the region
+     * @param target receives the versions
+     */
+    private NpmExtractor(
+        final byte[] bytes,
+        final int offset,
+        final int length,
+        final VersionSink target
+    ) {
+        this.data = bytes;
+        this.tokenizer = new JsonTokenizer(bytes, offset, length);
+        this.sink = target;
+    }
+
+    /**
+     * Extracts versions from a region of UTF-8 JSON.
+     *
+     * @param data the input
+     * @param offset first index of the region
+     * @param length length of the region
+     * @param sink receives the versions
+     * @return the number of versions reported
+     * @throws IllegalArgumentException if data or sink is null
+     * @throws IndexOutOfBoundsException if the region is out of bounds
+     * @throws FormatException if the input is not well-formed JSON
+     */
+    public static int extract(
+        final byte[] data,
+        final int offset,
+        final int length,
+        final VersionSink sink
+    ) {
+        if (data == null || sink == null) {
+            throw new IllegalArgumentException(
+                "Data and sink cannot be null");
+        }
+        if (offset < 0 || length < 0 || offset > data.length - length) {
+            throw new IndexOutOfBoundsException(
+                "Invalid region: offset " + offset + ", length " + length);
+        }
+        return new NpmExtractor(data, offset, length, sink).run();
+    }
+
+    /**
+     * Extracts versions from a stream of UTF-8 JSON.
+     *
+     * @param in the input, read to its end but not closed
+     * @param sink receives the versions
+     * @return the number of versions reported
+     * @throws IllegalArgumentException if in or sink is null
+     * @throws IOException if the stream cannot be read
+     * @throws FormatException if the input is not well-formed JSON
+     */
+    public static int extract(final InputStream in, final VersionSink sink)
+        throws IOException {
+        if (in == null) {
+            throw new IllegalArgumentException("Input cannot be null");
+        }
+        final byte[] bytes = in.readAllBytes();
+        return extract(bytes, 0, bytes.length, sink);
+    }
+
+    /**
+     * Walks the document.
+     *
+     * @return the number of versions reported
+     */
+    private int run() {
+        int token = tokenizer.next();
+        while (token != JsonTokenizer.END) {
+            if (token == JsonTokenizer.NAME) {
+                nameStart = tokenizer.start();
+                nameEnd = tokenizer.end();
+                nameEscaped = tokenizer.isEscaped();
+            } else {
+                if (token == JsonTokenizer.BEGIN_OBJECT
+                    || token == JsonTokenizer.BEGIN_ARRAY) {
+                    open(tokenizer.depth() - 1);
+                } else if (token == JsonTokenizer.STRING && nameStart >= 0) {
+                    member();
+                } else if (token == JsonTokenizer.SCALAR
+                    && tokenizer.depth() == 1 && nameIs(LOCKFILE_VERSION)) {
+                    packagesFormat |= !tokenizer.textEquals(LEGACY_LOCKFILE);
+                }
+                nameStart = -1;
+            }
+            token = tokenizer.next();
+        }
+        if (rootVersion != null && rootName == null) {
+            report("", rootVersion);
+        }
+        return count;
+    }
+
+    /**
+     * Records the member name of a container that was just opened.
+     *
+     * @param level the container's nesting level
+     */
+    private void open(final int level) {
+        if (level == keyStarts.length) {
+            keyStarts = Arrays.copyOf(keyStarts, level * 2);
+            keyEnds = Arrays.copyOf(keyEnds, level * 2);
+            keyEscapes = Arrays.copyOf(keyEscapes, level * 2);
+        }
+        keyStarts[level] = nameStart;
+        keyEnds[level] = nameEnd;
+        keyEscapes[level] = nameEscaped;
+        if (level == 1 && nameStart >= 0 && nameIs(PACKAGES)) {
+            packagesFormat = true;
+        }
+    }
+
+    /** Handles a string member of the current object. */
+    private void member() {
+        final int level = tokenizer.depth();
+        if (level == 1 && nameIs(NAME)) {
+            rootName = tokenizer.text();
+            if (rootVersion != null) {
+                report(rootName, rootVersion);
+            }
+        } else if (nameIs(VERSION)) {
+            final SemVer version = parseValue();
+            if (version != null && level == 1) {
+                rootVersion = version;
+                if (rootName != null) {
+                    report(rootName, rootVersion);
+                }
+            } else if (version != null && level >= 2
+                && keyStarts[level - 1] >= 0 && keyStarts[level - 2] >= 0) {
+                entry(level, version);
+            }
+        }
+    }
+
+    /**
+     * Reports the version of a lockfile entry if it is one.
+     *
+     * @param level the nesting level of the entry object
+     * @param version the entry's version
+     */
+    private void entry(final int level, final SemVer version) {
+        final int parent = level - 2;
+        final int self = level - 1;
+        if (JsonTokenizer.regionEquals(data, keyStarts[parent],
+            keyEnds[parent], keyEscapes[parent], PACKAGES)) {
+            final String path = JsonTokenizer.decode(data, keyStarts[self],
+                keyEnds[self], keyEscapes[self]);
+            if (!path.isEmpty()) {
+                final int marker = path.lastIndexOf(NODE_MODULES);
+                report(marker < 0 ? path
+                    : path.substring(marker + NODE_MODULES.length()),
+                    version);
+            }
+        } else if (!packagesFormat
+            && JsonTokenizer.regionEquals(data, keyStarts[parent],
+            keyEnds[parent], keyEscapes[parent], DEPENDENCIES)) {
+            report(JsonTokenizer.decode(data, keyStarts[self], keyEnds[self],
+                keyEscapes[self]), version);
+        }
+    }
+
+    /**
+     * Returns whether the pending member name equals a literal.
+     *
+     * @param literal the literal
+     * @return true if equal
+     */
+    private boolean nameIs(final String literal) {
+        return JsonTokenizer.regionEquals(data, nameStart, nameEnd,
+            nameEscaped, literal);
+    }
+
+    /**
+     * Parses the current string value in place.
+     *
+     * @return the version, or null if the value is not one
+     */
+    private SemVer parseValue() {
+        SemVer result;
+        if (tokenizer.isEscaped()) {
+            final String text = tokenizer.text();
+            result = SemVerParser.tryParse(text, 0, text.length());
+        } else {
+            result = SemVerParser.tryParseAscii(data, tokenizer.start(),
+                tokenizer.end() - tokenizer.start());
+        }
+        return result;
+    }
+
+    /**
+     * Passes a version to the sink.
+     *
+     * @param coordinates the package name
+     * @param version the version
+     */
+    private void report(final String coordinates, final SemVer version) {
+        sink.accept(coordinates, version);
+        count++;
+    }
+}
@@ -0,0 +1,22 @@
+package com.neu.semver.formats;
+
+import com.neu.semver.SemVer;
+
+/**
+ * Receives the versions found by an extractor.
+ *
+ * @author Yinlu Gong
+ * @version 0.1.0
+ */
+@FunctionalInterface
+public interface VersionSink {
+
+    /**
+     * Called once for each version found.
+     *
+     * @param coordinates the package the version belongs to, in the
+     *                    format's own notation
+     * @param version the version
+     */
+    void accept(String coordinates, SemVer version);
+}
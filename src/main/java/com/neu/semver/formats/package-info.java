@@ -0,0 +1,18 @@
+/**
+ * Streaming extraction of versions from package manager files.
+ *
+ * <p>Each extractor walks its format once and hands every version it
+ * finds, with the coordinates of the package it belongs to, to a
+ * {@link com.neu.semver.formats.VersionSink}. No document tree is built:
+ * {@code maven-metadata.xml} is read with StAX, npm
+ * {@code package.json} and {@code package-lock.json} with a minimal JSON
+ * tokenizer over the raw bytes, and {@code Cargo.lock} with a line
+ * scanner. Version text is parsed in place with
+ * {@link com.neu.semver.SemVerParser#tryParseAscii(byte[], int, int)} and
+ * values that are not strict versions are skipped.
+ *
+ * @author Yinlu Gong
+ * @version 0.1.0
+ * @since 0.1.0
+ */
+package com.neu.semver.formats;
@@ -0,0 +1,415 @@
+package com.neu.semver.git;
+
+import com.neu.semver.InvalidSemVerException;
+import com.neu.semver.SemVer;
+import com.neu.semver.SemVerComparator;
+import com.neu.semver.SemVerParser;
+import com.neu.semver.SortedVersionList;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * The semantic versions named by the tags of a local git repository.
+ *
+ * Tags are read from the loose refs under {@code refs/tags} and from
+ * {@code packed-refs}; only ref names are needed, so loose ref files are
+ * listed but never opened. Each tag name has the first matching
+ * configured prefix (such as {@code "v"} or {@code "release-"}) removed
+ * and is then parsed strictly; tags that are not versions are ignored.
+ * A linked worktree shares its tags with the main repository, so when
+ * the git directory has a {@code commondir} file the refs are read from
+ * the directory it names.
+ *
+ * {@link #refresh()} compares the modification time of
+ * {@code packed-refs} and of every directory under {@code refs/tags}
+ * with the previous scan, re-reads only what changed and reports
+ * whether the set of tags did. Instances are not thread-safe.
+ *
+ * @author Yinlu Gong
+ * @version 0.1.0
+ */
+public final class GitTagVersionSource {
+
+    /** Prefix of tag refs in packed-refs. */
+    private static final String TAG_REF_PREFIX = "refs/tags/";
+    /** Separator between the object id and the ref name. */
+    private static final char REF_SEPARATOR = ' ';
+
+    /** The git directory. */
+    private final Path gitDir;
+    /** The loose tag directory. */
+    private final Path tagsDir;
+    /** The packed refs file. */
+    private final Path packedRefs;
+    /** Prefixes stripped from tag names, longest first. */
+    private final List<String> prefixes;
+    /** Loose tag directories by path. */
+    private final Map<Path, Directory> directories = new HashMap<>();
+    /** Tag names from packed-refs. */
+    private Set<String> packedTags = Collections.emptySet();
+    /** Modification time of packed-refs at the last read, or null. */
+    private FileTime packedTime;
+    /**
+     * Distinct versions found at the last scan, in ascending order, so
+     * that {@link #versions()} appends each one at the end of its list.
+     */
+    private SemVer[] versions = new SemVer[0];
+    /** Whether a scan has run. */
+    private boolean scanned;
+
+    /**
+     * Creates a source for a repository. Nothing is read until the first
+     * call to {@link #versions()} or {@link #refresh()}.
+     *
+     * @param repository the working tree, or the git directory itself
+     * @param tagPrefixes prefixes to strip from tag names
+     * @throws IllegalArgumentException if an argument is null
+     * @throws IOException if a {@code .git} or {@code commondir} file
+     *         cannot be read
+     */
+    public GitTagVersionSource(
+        final Path repository,
+        final String... tagPrefixes
+    ) throws IOException {
+        if (repository == null || tagPrefixes == null) {
+            throw new IllegalArgumentException(
+                "Repository and prefixes cannot be null");
+        }
+        final List<String> sorted = new ArrayList<>();
+        for (final String prefix : tagPrefixes) {
+            if (prefix == null) {
+                throw new IllegalArgumentException("Prefix cannot be null");
+            }
+            sorted.add(prefix);
+        }
+        sorted.sort((a, b) -> Integer.compare(b.length(), a.length()));
+        this.prefixes = Collections.unmodifiableList(sorted);
+        this.gitDir = locateGitDir(repository);
+        final Path commonDir = locateCommonDir(gitDir);
+        this.tagsDir = commonDir.resolve("refs").resolve("tags");
+        this.packedRefs = commonDir.resolve("packed-refs");
+    }
+
+    /**
+     * Returns the git directory of the repository. For a linked worktree
+     * this is the worktree's own directory, not the common directory
+     * the tags are read from.
+     *
+     * @return the git directory
+     */
+    public Path getGitDirectory() {
+        return gitDir;
+    }
+
+    /**
+     * Returns the tag versions in ascending order, scanning the
+     * repository first if it has not been scanned yet. Tags that name
+     * the same version keep the first one found. The versions are sorted
+     * once per change found by {@link #refresh()}, so building the list
+     * takes linear time.
+     *
+     * @return a new list of the versions
+     * @throws IOException if the refs cannot be read
+     */
+    public SortedVersionList versions() throws IOException {
+        if (!scanned) {
+            refresh();
+        }
+        final SortedVersionList result = new SortedVersionList();
+        for (final SemVer version : versions) {
+            result.insert(version);
+        }
+        return result;
+    }
+
+    /**
+     * Rescans the parts of the refs that changed since the last scan.
+     *
+     * @return true if the set of tags changed
+     * @throws IOException if the refs cannot be read
+     */
+    public boolean refresh() throws IOException {
+        boolean changed = !scanned;
+        final FileTime time = modifiedTime(packedRefs);
+        if (time == null ? packedTime != null : !time.equals(packedTime)) {
+            final Set<String> tags = time == null
+                ? Collections.<String>emptySet() : readPackedRefs();
+            changed |= !tags.equals(packedTags);
+            packedTags = tags;
+            packedTime = time;
+        }
+        final Set<Path> seen = new HashSet<>();
+        changed |= scanDirectory(tagsDir, "", seen);
+        changed |= directories.keySet().retainAll(seen);
+        if (changed) {
+            versions = parseTags();
+        }
+        scanned = true;
+        return changed;
+    }
+
+    /**
+     * Rescans a loose tag directory if it changed, then its
+     * subdirectories.
+     *
+     * @param dir the directory
+     * @param namePrefix the tag name prefix for entries of dir
+     * @param seen collects the directories that still exist
+     * @return true if any tag was added or removed
+     * @throws IOException if the directory cannot be listed
+     */
+    private boolean scanDirectory(
+        final Path dir,
+        final String namePrefix,
+        final Set<Path> seen
+    ) throws IOException {
+        boolean changed = false;
+        final FileTime time = modifiedTime(dir);
+        if (time != null) {
+            seen.add(dir);
+            Directory state = directories.get(dir);
+            if (state == null || !time.equals(state.time)) {
+                final Directory listed = list(dir, namePrefix, time);
+                changed = state == null ? !listed.tags.isEmpty()
+                    : !listed.tags.equals(state.tags);
+                state = listed;
+                directories.put(dir, state);
+            }
+            for (final String child : state.children) {
+                changed |= scanDirectory(dir.resolve(child),
+                    namePrefix + child + "/", seen);
+            }
+        }
+        return changed;
+    }
+
+    /**
+     * Lists the tags and subdirectories of one directory.
+     *
+     * @param dir the directory
+     * @param namePrefix the tag name prefix for its entries
+     * @param time its modification time
+     * @return the listing
+     * @throws IOException if the directory cannot be listed
+     */
+    private static Directory list(
+        final Path dir,
+        final String namePrefix,
+        final FileTime time
+    ) throws IOException {
+        final Set<String> tags = new HashSet<>();
+        final List<String> children = new ArrayList<>();
+        try (DirectoryStream<Path> entries = Files.newDirectoryStream(dir)) {
+            for (final Path entry : entries) {
+                // Only a root path has no file name; listings never
+                // yield one.
+                final Path fileName = entry.getFileName();
+                if (fileName != null && Files.isDirectory(entry)) {
+                    children.add(fileName.toString());
+                } else if (fileName != null
+                    && !fileName.toString().endsWith(".lock")) {
+                    tags.add(namePrefix + fileName);
+                }
+            }
+        } catch (NoSuchFileException e) {
+            // Removed between the time check and the listing.
+            tags.clear();
+            children.clear();
+        }
+        return new Directory(time, tags, children);
+    }
+
+    /**
+     * Reads the tag names from packed-refs.
+     *
+     * @return the tag names
+     * @throws IOException if the file cannot be read
+     */
+    private Set<String> readPackedRefs() throws IOException {
+        final Set<String> result = new HashSet<>();
+        try (BufferedReader reader =
+                 Files.newBufferedReader(packedRefs, StandardCharsets.UTF_8)) {
+            String line = reader.readLine();
+            while (line != null) {
+                final int separator = line.indexOf(REF_SEPARATOR);
+                if (separator > 0 && line.charAt(0) != '#'
+                    && line.charAt(0) != '^'
+                    && line.startsWith(TAG_REF_PREFIX, separator + 1)) {
+                    result.add(line.substring(
+                        separator + 1 + TAG_REF_PREFIX.length()).trim());
+                }
+                line = reader.readLine();
+            }
+        } catch (NoSuchFileException e) {
+            result.clear();
+        }
+        return result;
+    }
+
+    /**
+     * Parses every known tag name that is a version.
+     *
+     * @return the distinct versions in ascending order; of tags naming
+     *         the same version, the first by name is kept
+     */
+    private SemVer[] parseTags() {
+        // Sorted names, and a stable sort, keep the duplicate stable.
+        final Set<String> names = new TreeSet<>(packedTags);
+        for (final Directory directory : directories.values()) {
+            names.addAll(directory.tags);
+        }
+        final List<SemVer> result = new ArrayList<>(names.size());
+        for (final String name : names) {
+            final SemVer version = toVersion(name);
+            if (version != null) {
+                result.add(version);
+            }
+        }
+        result.sort(SemVerComparator.INSTANCE);
+        final List<SemVer> distinct = new ArrayList<>(result.size());
+        for (final SemVer version : result) {
+            if (distinct.isEmpty() || SemVerComparator.INSTANCE.compare(
+                distinct.get(distinct.size() - 1), version) != 0) {
+                distinct.add(version);
+            }
+        }
+        return distinct.toArray(new SemVer[0]);
+    }
+
+    /**
+     * Converts a tag name to a version.
+     *
+     * @param name the tag name
+     * @return the version, or null if the tag is not a version
+     */
+    private SemVer toVersion(final String name) {
+        String text = name;
+        boolean stripped = false;
+        for (int i = 0; i < prefixes.size() && !stripped; i++) {
+            stripped = name.startsWith(prefixes.get(i));
+            if (stripped) {
+                text = name.substring(prefixes.get(i).length());
+            }
+        }
+        SemVer result = null;
+        if (!text.isEmpty()) {
+            try {
+                result = SemVerParser.parse(text);
+            } catch (InvalidSemVerException e) {
+                result = null;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns a file's modification time.
+     *
+     * @param path the file
+     * @return the time, or null if the file does not exist
+     * @throws IOException if the attributes cannot be read
+     */
+    private static FileTime modifiedTime(final Path path) throws IOException {
+        FileTime result = null;
+        try {
+            result = Files.readAttributes(path, BasicFileAttributes.class)
+                .lastModifiedTime();
+        } catch (NoSuchFileException e) {
+            result = null;
+        }
+        return result;
+    }
+
+    /**
+     * Finds the git directory of a repository, following a {@code .git}
+     * file as used by worktrees and submodules.
+     *
+     * @param repository the working tree or git directory
+     * @return the git directory
+     * @throws IOException if a {@code .git} file cannot be read
+     */
+    private static Path locateGitDir(final Path repository)
+        throws IOException {
+        final Path dotGit = repository.resolve(".git");
+        Path result = repository;
+        if (Files.isDirectory(dotGit)) {
+            result = dotGit;
+        } else if (Files.isRegularFile(dotGit)) {
+            final String content = new String(Files.readAllBytes(dotGit),
+                StandardCharsets.UTF_8).trim();
+            final String marker = "gitdir:";
+            if (content.startsWith(marker)) {
+                result = repository.resolve(
+                    content.substring(marker.length()).trim()).normalize();
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Finds the directory holding the shared refs of a git directory.
+     * A linked worktree's git directory names it in a {@code commondir}
+     * file, relative to the git directory or absolute.
+     *
+     * @param gitDirectory the git directory
+     * @return the common directory, or gitDirectory if it has none
+     * @throws IOException if the {@code commondir} file cannot be read
+     */
+    private static Path locateCommonDir(final Path gitDirectory)
+        throws IOException {
+        final Path file = gitDirectory.resolve("commondir");
+        Path result = gitDirectory;
+        if (Files.isRegularFile(file)) {
+            final String content = new String(Files.readAllBytes(file),
+                StandardCharsets.UTF_8).trim();
+            if (!content.isEmpty()) {
+                result = gitDirectory.resolve(content).normalize();
+            }
+        }
+        return result;
+    }
+
+    /** The cached listing of one loose tag directory. */
+    private static final class Directory {
+
+        /** Modification time at the listing. */
+        private final FileTime time;
+        /** Full tag names of the files in the directory. */
+        private final Set<String> tags;
+        /** Names of the subdirectories. */
+        private final List<String> children;
+
+        /**
+         * Creates a listing.
+         *
+         * @param modified the modification time
+         * @param tagNames the tag names
+         * @param subdirectories the subdirectory names
+         */
+        Directory(
+            final FileTime modified,
+            final Set<String> tagNames,
+            final List<String> subdirectories
+        ) {
+            this.time = modified;
+            this.tags = tagNames;
+            this.children = subdirectories;
+        }
+    }
+}
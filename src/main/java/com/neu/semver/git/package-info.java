@@ -0,0 +1,13 @@
+/**
+ * Discovery of release versions from the tags of local git repositories.
+ *
+ * <p>{@link com.neu.semver.git.GitTagVersionSource} reads loose tag refs
+ * and {@code packed-refs} directly from the repository directory, so no
+ * git process is started, and rescans only what changed since the last
+ * refresh.
+ *
+ * @author Yinlu Gong
+ * @version 0.1.0
+ * @since 0.1.0
+ */
+package com.neu.semver.git;
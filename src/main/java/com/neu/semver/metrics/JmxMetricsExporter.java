@@ -0,0 +1,146 @@
+package com.neu.semver.metrics;
+
+import java.lang.management.ManagementFactory;
+import java.util.Map;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+/**
+ * Exposes a {@link StripedMetrics} instance as a platform MXBean.
+ *
+ * Each attribute read takes a fresh {@link MetricsSnapshot}, so JMX
+ * clients never add work to the instrumented paths.
+ *
+ * @author Yinlu Gong
+ * @version 0.1.0
+ */
+public final class JmxMetricsExporter implements SemVerMetricsMXBean {
+
+    /** Default object name of the exported bean. */
+    public static final String DEFAULT_OBJECT_NAME =
+        "com.neu.semver:type=SemVerMetrics";
+
+    /** The exported metrics. */
+    private final StripedMetrics metrics;
+    /** The name the bean is registered under. */
+    private final ObjectName objectName;
+    /** The server the bean is registered with. */
+    private final MBeanServer server;
+
+    /**
+     * Creates an exporter.
+     *
+     * @param source the metrics to export
+     * @param name the object name
+     * @param mbeanServer the MBean server
+     */
+    private JmxMetricsExporter(
+        final StripedMetrics source,
+        final ObjectName name,
+        final MBeanServer mbeanServer
+    ) {
+        this.metrics = source;
+        this.objectName = name;
+        this.server = mbeanServer;
+    }
+
+    /**
+     * Registers the metrics with the platform MBean server under
+     * {@link #DEFAULT_OBJECT_NAME}.
+     *
+     * @param source the metrics to export
+     * @return the registered exporter
+     * @throws JMException if registration fails
+     * @throws IllegalArgumentException if source is null
+     */
+    public static JmxMetricsExporter register(final StripedMetrics source)
+        throws JMException {
+        return register(source, new ObjectName(DEFAULT_OBJECT_NAME));
+    }
+
+    /**
+     * Registers the metrics with the platform MBean server.
+     *
+     * @param source the metrics to export
+     * @param name the object name to register under
+     * @return the registered exporter
+     * @throws JMException if registration fails
+     * @throws IllegalArgumentException if source or name is null
+     */
+    public static JmxMetricsExporter register(
+        final StripedMetrics source,
+        final ObjectName name
+    ) throws JMException {
+        if (source == null || name == null) {
+            throw new IllegalArgumentException(
+                "Metrics and object name cannot be null"
+            );
+        }
+        final MBeanServer mbeanServer =
+            ManagementFactory.getPlatformMBeanServer();
+        final JmxMetricsExporter exporter =
+            new JmxMetricsExporter(source, name, mbeanServer);
+        mbeanServer.registerMBean(exporter, name);
+        return exporter;
+    }
+
+    /**
+     * Unregisters the bean.
+     *
+     * @throws JMException if the bean cannot be unregistered
+     */
+    public void unregister() throws JMException {
+        server.unregisterMBean(objectName);
+    }
+
+    /**
+     * Returns the name the bean is registered under.
+     *
+     * @return the object name
+     */
+    public ObjectName getObjectName() {
+        return objectName;
+    }
+
+    @Override
+    public long getParseCount() {
+        return metrics.snapshot().getParseCount();
+    }
+
+    @Override
+    public long getParseFailureCount() {
+        return metrics.snapshot().getParseFailureCount();
+    }
+
+    @Override
+    public Map<String, Long> getFailuresByClass() {
+        return metrics.snapshot().getFailuresByClass();
+    }
+
+    @Override
+    public long getIdentifierPoolHits() {
+        return metrics.snapshot().getIdentifierPoolHits();
+    }
+
+    @Override
+    public long getComparisonCount() {
+        return metrics.snapshot().getComparisonCount();
+    }
+
+    @Override
+    public long getParseLatencyP50Nanos() {
+        return metrics.snapshot().getParseLatencyP50Nanos();
+    }
+
+    @Override
+    public long getParseLatencyP99Nanos() {
+        return metrics.snapshot().getParseLatencyP99Nanos();
+    }
+
+    @Override
+    public Map<String, Long> getBulkOperations() {
+        return metrics.snapshot().getBulkOperations();
+    }
+}
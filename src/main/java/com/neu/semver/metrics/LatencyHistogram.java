@@ -0,0 +1,123 @@
+package com.neu.semver.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lock-free latency histogram with power-of-two nanosecond buckets.
+ *
+ * Bucket {@code i} counts samples in {@code [2^i, 2^(i+1))} nanoseconds
+ * (bucket 0 also holds zero). Each bucket is a {@link LongAdder}, so
+ * concurrent recorders update separate cells instead of contending on
+ * one counter. Percentiles are reported as the upper bound of the bucket
+ * holding them, which is accurate to within a factor of two.
+ *
+ * @author Yinlu Gong
+ * @version 0.1.0
+ */
+public final class LatencyHistogram {
+
+    /** Number of buckets, one per bit of a long. */
+    private static final int BUCKETS = Long.SIZE;
+    /** Scale of percentile arguments. */
+    private static final double PERCENT = 100.0;
+
+    /** Sample counts per bucket. */
+    private final LongAdder[] buckets = new LongAdder[BUCKETS];
+
+    /**
+     * Creates an empty histogram.
+     */
+    public LatencyHistogram() {
+        for (int i = 0; i < BUCKETS; i++) {
+            buckets[i] = new LongAdder();
+        }
+    }
+
+    /**
+     * Records one sample.
+     *
+     * @param nanos the latency in nanoseconds; negative values count as 0
+     */
+    public void record(final long nanos) {
+        buckets[bucketOf(nanos)].increment();
+    }
+
+    /**
+     * Returns the bucket index of a latency.
+     *
+     * @param nanos the latency in nanoseconds
+     * @return the bucket index
+     */
+    private static int bucketOf(final long nanos) {
+        int index = 0;
+        if (nanos > 0) {
+            index = BUCKETS - 1 - Long.numberOfLeadingZeros(nanos);
+        }
+        return index;
+    }
+
+    /**
+     * Returns the current bucket counts.
+     *
+     * @return a copy of the counts, index {@code i} covering
+     *         {@code [2^i, 2^(i+1))} nanoseconds
+     */
+    public long[] counts() {
+        final long[] counts = new long[BUCKETS];
+        for (int i = 0; i < BUCKETS; i++) {
+            counts[i] = buckets[i].sum();
+        }
+        return counts;
+    }
+
+    /**
+     * Estimates a percentile from bucket counts.
+     *
+     * @param counts bucket counts as returned by {@link #counts()}
+     * @param percentile the percentile between 0 and 100
+     * @return the upper bound in nanoseconds of the bucket holding the
+     *         percentile, or 0 if there are no samples
+     */
+    public static long percentile(final long[] counts, final double percentile) {
+        long total = 0;
+        for (final long count : counts) {
+            total += count;
+        }
+        long result = 0;
+        if (total > 0) {
+            final long rank = Math.max(1L,
+                (long) Math.ceil(total * percentile / PERCENT));
+            long seen = 0;
+            int index = 0;
+            while (seen < rank && index < counts.length) {
+                seen += counts[index];
+                index++;
+            }
+            result = upperBound(index - 1);
+        }
+        return result;
+    }
+
+    /**
+     * Returns the exclusive upper bound of a bucket.
+     *
+     * @param index the bucket index
+     * @return the upper bound in nanoseconds
+     */
+    private static long upperBound(final int index) {
+        long bound = Long.MAX_VALUE;
+        if (index < BUCKETS - 2) {
+            bound = 2L << index;
+        }
+        return bound;
+    }
+
+    /**
+     * Clears all buckets.
+     */
+    public void reset() {
+        for (final LongAdder bucket : buckets) {
+            bucket.reset();
+        }
+    }
+}
@@ -0,0 +1,165 @@
+package com.neu.semver.metrics;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Immutable point-in-time copy of the counters of a
+ * {@link StripedMetrics}.
+ *
+ * Counters are read one after another without a global lock, so a
+ * snapshot taken under load may mix values from slightly different
+ * instants; each individual counter is exact.
+ *
+ * @author Yinlu Gong
+ * @version 0.1.0
+ */
+public final class MetricsSnapshot {
+
+    /** Median percentile. */
+    private static final double P50 = 50.0;
+    /** Tail percentile. */
+    private static final double P99 = 99.0;
+
+    /** Successful parses. */
+    private final long parseCount;
+    /** Failed parses by simple exception class name. */
+    private final Map<String, Long> failuresByClass;
+    /** Identifier pool hits. */
+    private final long identifierPoolHits;
+    /** Precedence comparisons. */
+    private final long comparisonCount;
+    /** Parse latency bucket counts. */
+    private final long[] parseLatency;
+    /** Bulk operation calls by operation name. */
+    private final Map<String, Long> bulkOperations;
+    /** Bulk operation input elements by operation name. */
+    private final Map<String, Long> bulkElements;
+
+    /**
+     * Creates a snapshot.
+     *
+     * @param parses successful parses
+     * @param failures failed parses by exception class name
+     * @param poolHits identifier pool hits
+     * @param comparisons precedence comparisons
+     * @param latencyCounts parse latency bucket counts
+     * @param bulkCalls bulk operation calls by name
+     * @param bulkSizes bulk operation input elements by name
+     */
+    MetricsSnapshot(
+        final long parses,
+        final Map<String, Long> failures,
+        final long poolHits,
+        final long comparisons,
+        final long[] latencyCounts,
+        final Map<String, Long> bulkCalls,
+        final Map<String, Long> bulkSizes
+    ) {
+        this.parseCount = parses;
+        this.failuresByClass = Collections.unmodifiableMap(
+            new TreeMap<>(failures));
+        this.identifierPoolHits = poolHits;
+        this.comparisonCount = comparisons;
+        this.parseLatency = latencyCounts.clone();
+        this.bulkOperations = Collections.unmodifiableMap(
+            new TreeMap<>(bulkCalls));
+        this.bulkElements = Collections.unmodifiableMap(
+            new TreeMap<>(bulkSizes));
+    }
+
+    /**
+     * Returns the number of successful parses.
+     *
+     * @return the parse count
+     */
+    public long getParseCount() {
+        return parseCount;
+    }
+
+    /**
+     * Returns the total number of failed parses.
+     *
+     * @return the failure count
+     */
+    public long getParseFailureCount() {
+        long total = 0;
+        for (final long count : failuresByClass.values()) {
+            total += count;
+        }
+        return total;
+    }
+
+    /**
+     * Returns failed parses keyed by simple exception class name.
+     *
+     * @return an unmodifiable sorted map of failure counts
+     */
+    public Map<String, Long> getFailuresByClass() {
+        return failuresByClass;
+    }
+
+    /**
+     * Returns the number of identifier pool hits.
+     *
+     * @return the hit count
+     */
+    public long getIdentifierPoolHits() {
+        return identifierPoolHits;
+    }
+
+    /**
+     * Returns the number of precedence comparisons.
+     *
+     * @return the comparison count
+     */
+    public long getComparisonCount() {
+        return comparisonCount;
+    }
+
+    /**
+     * Returns the parse latency bucket counts.
+     *
+     * @return a copy of the counts, see {@link LatencyHistogram#counts()}
+     */
+    public long[] getParseLatencyCounts() {
+        return parseLatency.clone();
+    }
+
+    /**
+     * Returns the estimated median parse latency.
+     *
+     * @return the median upper bound in nanoseconds
+     */
+    public long getParseLatencyP50Nanos() {
+        return LatencyHistogram.percentile(parseLatency, P50);
+    }
+
+    /**
+     * Returns the estimated 99th percentile parse latency.
+     *
+     * @return the 99th percentile upper bound in nanoseconds
+     */
+    public long getParseLatencyP99Nanos() {
+        return LatencyHistogram.percentile(parseLatency, P99);
+    }
+
+    /**
+     * Returns bulk operation calls keyed by operation name.
+     *
+     * @return an unmodifiable sorted map of call counts
+     */
+    public Map<String, Long> getBulkOperations() {
+        return bulkOperations;
+    }
+
+    /**
+     * Returns bulk operation input elements keyed by operation name.
+     *
+     * @return an unmodifiable sorted map of element counts
+     */
+    public Map<String, Long> getBulkElements() {
+        return bulkElements;
+    }
+}
@@ -0,0 +1,68 @@
+package com.neu.semver.metrics;
+
+import java.util.Map;
+
+/**
+ * JMX view of the library's metrics.
+ *
+ * @author Yinlu Gong
+ * @version 0.1.0
+ */
+public interface SemVerMetricsMXBean {
+
+    /**
+     * Returns the number of successful parses.
+     *
+     * @return the parse count
+     */
+    long getParseCount();
+
+    /**
+     * Returns the number of failed parses.
+     *
+     * @return the failure count
+     */
+    long getParseFailureCount();
+
+    /**
+     * Returns failed parses keyed by exception class name.
+     *
+     * @return the failure counts
+     */
+    Map<String, Long> getFailuresByClass();
+
+    /**
+     * Returns the number of identifier pool hits.
+     *
+     * @return the hit count
+     */
+    long getIdentifierPoolHits();
+
+    /**
+     * Returns the number of precedence comparisons.
+     *
+     * @return the comparison count
+     */
+    long getComparisonCount();
+
+    /**
+     * Returns the estimated median parse latency.
+     *
+     * @return the latency in nanoseconds
+     */
+    long getParseLatencyP50Nanos();
+
+    /**
+     * Returns the estimated 99th percentile parse latency.
+     *
+     * @return the latency in nanoseconds
+     */
+    long getParseLatencyP99Nanos();
+
+    /**
+     * Returns bulk operation calls keyed by operation name.
+     *
+     * @return the call counts
+     */
+    Map<String, Long> getBulkOperations();
+}
@@ -0,0 +1,160 @@
+package com.neu.semver.metrics;
+
+import com.neu.semver.SemVerMetrics;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * {@link SemVerMetrics} implementation built on striped
+ * {@link LongAdder} counters.
+ *
+ * Every event is a single {@code LongAdder} increment, which spreads
+ * concurrent updates across cells instead of contending on one memory
+ * location, so recording stays cheap on hot multi-threaded paths. Keyed
+ * counters (failure classes, bulk operations) are created once per key
+ * and then only read from their map.
+ *
+ * @author Yinlu Gong
+ * @version 0.1.0
+ */
+public final class StripedMetrics implements SemVerMetrics {
+
+    /** Successful parses. */
+    private final LongAdder parses = new LongAdder();
+    /** Identifier pool hits. */
+    private final LongAdder poolHits = new LongAdder();
+    /** Precedence comparisons. */
+    private final LongAdder comparisons = new LongAdder();
+    /** Parse latencies. */
+    private final LatencyHistogram parseLatency = new LatencyHistogram();
+    /** Failed parses by simple exception class name. */
+    private final ConcurrentMap<String, LongAdder> failures =
+        new ConcurrentHashMap<>();
+    /** Bulk operation calls by name. */
+    private final ConcurrentMap<String, LongAdder> bulkCalls =
+        new ConcurrentHashMap<>();
+    /** Bulk operation input elements by name. */
+    private final ConcurrentMap<String, LongAdder> bulkElements =
+        new ConcurrentHashMap<>();
+    /** Bulk operation latencies by name. */
+    private final ConcurrentMap<String, LatencyHistogram> bulkLatency =
+        new ConcurrentHashMap<>();
+
+    /** Creates metrics with all counters at zero. */
+    public StripedMetrics() { }
+
+    @Override
+    public void parsed(final long nanos) {
+        parses.increment();
+        parseLatency.record(nanos);
+    }
+
+    @Override
+    public void parseFailed(final Class<? extends Throwable> errorClass) {
+        counter(failures, errorClass.getSimpleName()).increment();
+    }
+
+    @Override
+    public void identifierPoolHit() {
+        poolHits.increment();
+    }
+
+    @Override
+    public void compared() {
+        comparisons.increment();
+    }
+
+    @Override
+    public void bulkOperation(
+        final String operation,
+        final int size,
+        final long nanos
+    ) {
+        counter(bulkCalls, operation).increment();
+        counter(bulkElements, operation).add(size);
+        LatencyHistogram histogram = bulkLatency.get(operation);
+        if (histogram == null) {
+            histogram = bulkLatency.computeIfAbsent(
+                operation, key -> new LatencyHistogram());
+        }
+        histogram.record(nanos);
+    }
+
+    /**
+     * Returns the latency histogram of a bulk operation.
+     *
+     * @param operation the operation name
+     * @return the histogram, or null if the operation was never recorded
+     */
+    public LatencyHistogram bulkLatency(final String operation) {
+        return bulkLatency.get(operation);
+    }
+
+    /**
+     * Takes a snapshot of all counters.
+     *
+     * @return the snapshot
+     */
+    public MetricsSnapshot snapshot() {
+        return new MetricsSnapshot(
+            parses.sum(),
+            sums(failures),
+            poolHits.sum(),
+            comparisons.sum(),
+            parseLatency.counts(),
+            sums(bulkCalls),
+            sums(bulkElements));
+    }
+
+    /**
+     * Resets all counters.
+     */
+    public void reset() {
+        parses.reset();
+        poolHits.reset();
+        comparisons.reset();
+        parseLatency.reset();
+        failures.clear();
+        bulkCalls.clear();
+        bulkElements.clear();
+        bulkLatency.clear();
+    }
+
+    /**
+     * Returns the counter for a key, creating it on first use.
+     *
+     * @param counters the keyed counters
+     * @param key the key
+     * @return the counter
+     */
+    private static LongAdder counter(
+        final ConcurrentMap<String, LongAdder> counters,
+        final String key
+    ) {
+        LongAdder counter = counters.get(key);
+        if (counter == null) {
+            counter = counters.computeIfAbsent(key, k -> new LongAdder());
+        }
+        return counter;
+    }
+
+    /**
+     * Sums keyed counters into plain values.
+     *
+     * @param counters the keyed counters
+     * @return the current sums
+     */
+    private static Map<String, Long> sums(
+        final ConcurrentMap<String, LongAdder> counters
+    ) {
+        final Map<String, Long> result = new HashMap<>();
+        for (final Map.Entry<String, LongAdder> entry : counters.entrySet()) {
+            result.put(entry.getKey(), entry.getValue().sum());
+        }
+        return result;
+    }
+}
@@ -0,0 +1,9 @@
+/**
+ * Contention-free implementation of the {@link com.neu.semver.SemVerMetrics}
+ * SPI, immutable snapshots of its counters and a JMX MBean adapter.
+ *
+ * @author Yinlu Gong
+ * @version 0.1.0
+ * @since 0.1.0
+ */
+package com.neu.semver.metrics;
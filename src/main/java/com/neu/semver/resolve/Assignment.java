@@ -0,0 +1,85 @@
+package com.neu.semver.resolve;
+
+/**
+ * One entry of the partial solution: a decision to select a version, or
+ * a term derived from an incompatibility by unit propagation.
+ *
+ * @author Yinlu Gong
+ * @version 0.1.0
+ */
+final class Assignment {
+
+    /** The assigned term. */
+    private final Term term;
+    /** Decision level at which the assignment was made. */
+    private final int decisionLevel;
+    /** Position of the assignment in the partial solution. */
+    private final int index;
+    /** The incompatibility it was derived from, or null for a decision. */
+    private final Incompatibility cause;
+
+    /**
+     * Creates an assignment.
+     *
+     * @param assigned the assigned term
+     * @param level the decision level
+     * @param position the position in the partial solution
+     * @param derivedFrom the cause, or null for a decision
+     */
+    Assignment(
+        final Term assigned,
+        final int level,
+        final int position,
+        final Incompatibility derivedFrom
+    ) {
+        this.term = assigned;
+        this.decisionLevel = level;
+        this.index = position;
+        this.cause = derivedFrom;
+    }
+
+    /**
+     * Returns the assigned term.
+     *
+     * @return the term
+     */
+    Term term() {
+        return term;
+    }
+
+    /**
+     * Returns the decision level.
+     *
+     * @return the level
+     */
+    int decisionLevel() {
+        return decisionLevel;
+    }
+
+    /**
+     * Returns the position in the partial solution.
+     *
+     * @return the index
+     */
+    int index() {
+        return index;
+    }
+
+    /**
+     * Returns the incompatibility this assignment was derived from.
+     *
+     * @return the cause, or null for a decision
+     */
+    Incompatibility cause() {
+        return cause;
+    }
+
+    /**
+     * Returns whether this assignment is a decision.
+     *
+     * @return true for a decision
+     */
+    boolean isDecision() {
+        return cause == null;
+    }
+}
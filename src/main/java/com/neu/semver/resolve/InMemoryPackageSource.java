@@ -0,0 +1,133 @@
+package com.neu.semver.resolve;
+
+import com.neu.semver.SemVer;
+import com.neu.semver.SemVerComparator;
+import com.neu.semver.VersionRange;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+/**
+ * A {@link PackageSource} held in memory, for tests, tooling and
+ * pre-fetched registries. Not thread-safe while it is being filled; once
+ * populated it may be shared by any number of resolvers.
+ *
+ * @author Yinlu Gong
+ * @version 0.1.0
+ */
+public final class InMemoryPackageSource implements PackageSource {
+
+    /** Versions of each package with their dependencies. */
+    private final Map<String, NavigableMap<SemVer, Map<String, VersionRange>>>
+        packages = new HashMap<>();
+
+    /** Creates an empty source. */
+    public InMemoryPackageSource() { }
+
+    /**
+     * Adds a version of a package, replacing any earlier entry for the
+     * same version.
+     *
+     * @param name the package name
+     * @param version the version
+     * @param dependencies the dependency ranges by package name
+     * @return this source
+     * @throws IllegalArgumentException if any argument is null
+     */
+    public InMemoryPackageSource add(
+        final String name,
+        final SemVer version,
+        final Map<String, VersionRange> dependencies
+    ) {
+        if (name == null || version == null || dependencies == null) {
+            throw new IllegalArgumentException(
+                "Name, version and dependencies must not be null");
+        }
+        packages.computeIfAbsent(name,
+            key -> new TreeMap<>(SemVerComparator.INSTANCE))
+            .put(version, Collections.unmodifiableMap(
+                new TreeMap<>(dependencies)));
+        return this;
+    }
+
+    /**
+     * Adds a version of a package from strings. Each dependency is a
+     * package name followed by whitespace and a range, e.g.
+     * {@code "json ^2.1.0"}.
+     *
+     * @param name the package name
+     * @param version the version string
+     * @param dependencies the dependencies as name and range
+     * @return this source
+     * @throws IllegalArgumentException if an argument is null or a
+     *         dependency has no range
+     * @throws com.neu.semver.InvalidSemVerException if a version or range
+     *         is invalid
+     */
+    public InMemoryPackageSource add(
+        final String name,
+        final String version,
+        final String... dependencies
+    ) {
+        if (dependencies == null) {
+            throw new IllegalArgumentException(
+                "Dependencies must not be null");
+        }
+        final Map<String, VersionRange> parsed = new TreeMap<>();
+        for (String dependency : dependencies) {
+            final String trimmed = dependency == null ? "" : dependency.trim();
+            int split = 0;
+            while (split < trimmed.length()
+                && !Character.isWhitespace(trimmed.charAt(split))) {
+                split++;
+            }
+            if (split == 0 || split == trimmed.length()) {
+                throw new IllegalArgumentException(
+                    "Dependency must be a name and a range: " + dependency);
+            }
+            parsed.put(trimmed.substring(0, split),
+                VersionRange.parse(trimmed.substring(split)));
+        }
+        return add(name, new SemVer(version), parsed);
+    }
+
+    @Override
+    public List<SemVer> versions(final String name) {
+        final NavigableMap<SemVer, Map<String, VersionRange>> versions =
+            packages.get(name);
+        List<SemVer> result = Collections.emptyList();
+        if (versions != null) {
+            result = Collections.unmodifiableList(
+                new ArrayList<>(versions.keySet()));
+        }
+        return result;
+    }
+
+    @Override
+    public Map<String, VersionRange> dependencies(
+        final String name,
+        final SemVer version
+    ) {
+        final NavigableMap<SemVer, Map<String, VersionRange>> versions =
+            packages.get(name);
+        Map<String, VersionRange> result = null;
+        if (versions != null) {
+            result = versions.get(version);
+        }
+        return result == null ? Collections.emptyMap() : result;
+    }
+
+    /**
+     * Returns the number of packages.
+     *
+     * @return the package count
+     */
+    public int packageCount() {
+        return packages.size();
+    }
+}
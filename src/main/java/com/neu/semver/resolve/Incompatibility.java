@@ -0,0 +1,104 @@
+package com.neu.semver.resolve;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A set of terms that must not all hold at once. External
+ * incompatibilities come from the package source and carry a
+ * description; derived ones record the two incompatibilities they were
+ * learned from.
+ *
+ * @author Yinlu Gong
+ * @version 0.1.0
+ */
+final class Incompatibility {
+
+    /** The terms, at most one per package, in first-seen order. */
+    private final List<Term> terms;
+    /** Description of an external incompatibility, or null if derived. */
+    private final String description;
+    /** First cause of a derived incompatibility, or null. */
+    private final Incompatibility cause;
+    /** Second cause of a derived incompatibility, or null. */
+    private final Incompatibility otherCause;
+
+    /**
+     * Creates an incompatibility, merging terms for the same package and
+     * dropping negative terms over no versions, which always hold.
+     *
+     * @param termList the terms
+     * @param externalDescription the description if external, else null
+     * @param firstCause the first cause if derived, else null
+     * @param secondCause the second cause if derived, else null
+     */
+    Incompatibility(
+        final List<Term> termList,
+        final String externalDescription,
+        final Incompatibility firstCause,
+        final Incompatibility secondCause
+    ) {
+        final Map<String, Term> merged = new LinkedHashMap<>();
+        for (Term term : termList) {
+            merged.merge(term.name(), term, Term::intersect);
+        }
+        final List<Term> kept = new ArrayList<>(merged.size());
+        for (Term term : merged.values()) {
+            if (term.isPositive() || !term.versions().isEmpty()) {
+                kept.add(term);
+            }
+        }
+        this.terms = Collections.unmodifiableList(kept);
+        this.description = externalDescription;
+        this.cause = firstCause;
+        this.otherCause = secondCause;
+    }
+
+    /**
+     * Returns the terms.
+     *
+     * @return an unmodifiable list with one term per package
+     */
+    List<Term> terms() {
+        return terms;
+    }
+
+    /**
+     * Returns whether this incompatibility came from the package source.
+     *
+     * @return true if external
+     */
+    boolean isExternal() {
+        return cause == null;
+    }
+
+    /**
+     * Returns the description of an external incompatibility.
+     *
+     * @return the description, or null if derived
+     */
+    String description() {
+        return description;
+    }
+
+    /**
+     * Returns the first cause of a derived incompatibility.
+     *
+     * @return the cause, or null if external
+     */
+    Incompatibility cause() {
+        return cause;
+    }
+
+    /**
+     * Returns the second cause of a derived incompatibility.
+     *
+     * @return the cause, or null if external
+     */
+    Incompatibility otherCause() {
+        return otherCause;
+    }
+}
@@ -0,0 +1,36 @@
+package com.neu.semver.resolve;
+
+import com.neu.semver.SemVer;
+import com.neu.semver.VersionRange;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Supplies the versions of packages and their dependency ranges to a
+ * {@link Resolver}. A resolver asks for each package's versions once and
+ * for a version's dependencies at most once per resolution, so
+ * implementations backed by slow storage need no caching of their own.
+ *
+ * @author Yinlu Gong
+ * @version 0.1.0
+ */
+public interface PackageSource {
+
+    /**
+     * Returns the available versions of a package, in any order.
+     *
+     * @param name the package name
+     * @return the versions, or an empty list if the package is unknown
+     */
+    List<SemVer> versions(String name);
+
+    /**
+     * Returns the dependencies of one version of a package.
+     *
+     * @param name the package name
+     * @param version one of the versions returned by {@link #versions}
+     * @return the dependency ranges by package name, empty if none
+     */
+    Map<String, VersionRange> dependencies(String name, SemVer version);
+}
@@ -0,0 +1,209 @@
+package com.neu.semver.resolve;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * The resolver's current assignments in order, with the combined term of
+ * every package kept up to date so relations are answered without
+ * walking the assignment list.
+ *
+ * @author Yinlu Gong
+ * @version 0.1.0
+ */
+final class PartialSolution {
+
+    /** All assignments in the order they were made. */
+    private final List<Assignment> assignments = new ArrayList<>();
+    /** Assignments of each package in order. */
+    private final Map<String, List<Assignment>> byPackage = new HashMap<>();
+    /** Intersection of each package's assigned terms. */
+    private final Map<String, Term> combined = new HashMap<>();
+    /** Selected version index of each decided package. */
+    private final Map<String, Integer> decisions = new HashMap<>();
+    /** Packages that must be selected but are not decided yet. */
+    private final NavigableSet<String> pending = new TreeSet<>();
+    /** Current decision level. */
+    private int decisionLevel;
+
+    /**
+     * Records the decision to select one version of a package.
+     *
+     * @param name the package name
+     * @param version the version index
+     * @param universe the number of versions of the package
+     */
+    void decide(final String name, final int version, final int universe) {
+        decisionLevel++;
+        final BitSet set = new BitSet(universe);
+        set.set(version);
+        decisions.put(name, version);
+        add(new Term(name, true, set, universe), null);
+    }
+
+    /**
+     * Records a term derived by unit propagation.
+     *
+     * @param term the derived term
+     * @param cause the incompatibility it follows from
+     */
+    void derive(final Term term, final Incompatibility cause) {
+        add(term, cause);
+    }
+
+    /**
+     * Appends an assignment and updates the package's combined term.
+     *
+     * @param term the assigned term
+     * @param cause the cause, or null for a decision
+     */
+    private void add(final Term term, final Incompatibility cause) {
+        final Assignment assignment =
+            new Assignment(term, decisionLevel, assignments.size(), cause);
+        assignments.add(assignment);
+        final String name = term.name();
+        byPackage.computeIfAbsent(name, key -> new ArrayList<>())
+            .add(assignment);
+        combined.merge(name, term, Term::intersect);
+        updatePending(name);
+    }
+
+    /**
+     * Removes every assignment above a decision level.
+     *
+     * @param level the decision level to return to
+     */
+    void backtrack(final int level) {
+        final Set<String> touched = new LinkedHashSet<>();
+        while (!assignments.isEmpty()
+            && assignments.get(assignments.size() - 1).decisionLevel()
+                > level) {
+            final Assignment removed =
+                assignments.remove(assignments.size() - 1);
+            final String name = removed.term().name();
+            final List<Assignment> own = byPackage.get(name);
+            own.remove(own.size() - 1);
+            if (removed.isDecision()) {
+                decisions.remove(name);
+            }
+            touched.add(name);
+        }
+        for (String name : touched) {
+            Term term = null;
+            for (Assignment assignment : byPackage.get(name)) {
+                term = term == null ? assignment.term()
+                    : term.intersect(assignment.term());
+            }
+            if (term == null) {
+                combined.remove(name);
+            } else {
+                combined.put(name, term);
+            }
+            updatePending(name);
+        }
+        decisionLevel = level;
+    }
+
+    /**
+     * Keeps the pending set in step with one package's state.
+     *
+     * @param name the package name
+     */
+    private void updatePending(final String name) {
+        final Term term = combined.get(name);
+        if (term != null && term.isPositive()
+            && !decisions.containsKey(name)) {
+            pending.add(name);
+        } else {
+            pending.remove(name);
+        }
+    }
+
+    /**
+     * Returns whether the assignments imply a term.
+     *
+     * @param term the term
+     * @return true if satisfied
+     */
+    boolean satisfies(final Term term) {
+        return combinedOrAny(term).satisfies(term);
+    }
+
+    /**
+     * Returns whether the assignments exclude a term.
+     *
+     * @param term the term
+     * @return true if contradicted
+     */
+    boolean contradicts(final Term term) {
+        return combinedOrAny(term).contradicts(term);
+    }
+
+    /**
+     * Returns the combined term for the term's package, or the
+     * unconstrained term if nothing is assigned to it.
+     *
+     * @param term a term naming the package
+     * @return the combined term
+     */
+    private Term combinedOrAny(final Term term) {
+        final Term result = combined.get(term.name());
+        return result == null ? Term.any(term.name(), term.universe())
+            : result;
+    }
+
+    /**
+     * Returns the combined term of a package.
+     *
+     * @param name the package name
+     * @return the term, or null if nothing is assigned to the package
+     */
+    Term combined(final String name) {
+        return combined.get(name);
+    }
+
+    /**
+     * Returns the assignments of one package in order.
+     *
+     * @param name the package name
+     * @return the assignments, empty if none
+     */
+    List<Assignment> assignments(final String name) {
+        final List<Assignment> result = byPackage.get(name);
+        return result == null ? new ArrayList<>() : result;
+    }
+
+    /**
+     * Returns the packages that must be selected but are not decided.
+     *
+     * @return the pending packages in name order
+     */
+    NavigableSet<String> pending() {
+        return pending;
+    }
+
+    /**
+     * Returns the decided version index of each package.
+     *
+     * @return the decisions by package name
+     */
+    Map<String, Integer> decisions() {
+        return decisions;
+    }
+
+    /**
+     * Returns the current decision level.
+     *
+     * @return the level
+     */
+    int decisionLevel() {
+        return decisionLevel;
+    }
+}
@@ -0,0 +1,83 @@
+package com.neu.semver.resolve;
+
+import com.neu.semver.SemVer;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.SortedMap;
+
+/**
+ * The result of a successful {@link Resolver#resolve}: one version per
+ * selected package, plus counters describing the search.
+ *
+ * @author Yinlu Gong
+ * @version 0.1.0
+ */
+public final class Resolution {
+
+    /** Selected versions by package name. */
+    private final SortedMap<String, SemVer> versions;
+    /** Number of decisions made. */
+    private final int decisions;
+    /** Number of conflicts resolved. */
+    private final int conflicts;
+
+    /**
+     * Creates a resolution.
+     *
+     * @param selected the selected versions, owned by the resolution
+     * @param decisionCount the number of decisions made
+     * @param conflictCount the number of conflicts resolved
+     */
+    Resolution(
+        final SortedMap<String, SemVer> selected,
+        final int decisionCount,
+        final int conflictCount
+    ) {
+        this.versions = Collections.unmodifiableSortedMap(selected);
+        this.decisions = decisionCount;
+        this.conflicts = conflictCount;
+    }
+
+    /**
+     * Returns the selected version of every package in the solution.
+     *
+     * @return an unmodifiable map in package name order
+     */
+    public Map<String, SemVer> getVersions() {
+        return versions;
+    }
+
+    /**
+     * Returns the selected version of one package.
+     *
+     * @param name the package name
+     * @return the version, or null if the package is not selected
+     */
+    public SemVer getVersion(final String name) {
+        return versions.get(name);
+    }
+
+    /**
+     * Returns the number of version decisions the search made.
+     *
+     * @return the decision count
+     */
+    public int getDecisions() {
+        return decisions;
+    }
+
+    /**
+     * Returns the number of conflicts the search resolved by learning.
+     *
+     * @return the conflict count
+     */
+    public int getConflicts() {
+        return conflicts;
+    }
+
+    @Override
+    public String toString() {
+        return versions.toString();
+    }
+}
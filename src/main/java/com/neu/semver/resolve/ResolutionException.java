@@ -0,0 +1,24 @@
+package com.neu.semver.resolve;
+
+/**
+ * Thrown when no set of versions satisfies a resolution's constraints.
+ * The message lists the facts from the package source that together
+ * rule out every solution.
+ *
+ * @author Yinlu Gong
+ * @version 0.1.0
+ */
+public class ResolutionException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Constructs a new ResolutionException with the specified detail
+     * message.
+     *
+     * @param message the detail message
+     */
+    public ResolutionException(final String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,613 @@
+package com.neu.semver.resolve;
+
+import com.neu.semver.SemVer;
+import com.neu.semver.VersionRange;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+/**
+ * Selects one version of every package reachable from a set of root
+ * dependencies so that all dependency ranges hold.
+ *
+ * The search follows PubGrub. Unit propagation derives every term the
+ * current decisions force. When an incompatibility becomes fully
+ * satisfied, conflict resolution walks back through the assignments that
+ * caused it, learns a new incompatibility that explains the conflict,
+ * and backjumps to the earliest decision level where that
+ * incompatibility forces a different choice. Learned incompatibilities
+ * are kept for the rest of the run, and the dependency incompatibility
+ * of a package on a range is built once, covering every version of the
+ * package that declares the same range.
+ *
+ * Decisions pick the pending package with the fewest remaining
+ * candidates, breaking ties by name, and select its highest candidate in
+ * {@link com.neu.semver.SemVerComparator} order. Given the same source
+ * and root dependencies the result is always the same. A resolver is not
+ * thread-safe, but each call to {@link #resolve} is independent.
+ *
+ * @author Yinlu Gong
+ * @version 0.1.0
+ */
+public final class Resolver {
+
+    /** Name of the synthetic root package. */
+    static final String ROOT = "<root>";
+    /** The synthetic root package's only version. */
+    private static final SemVer ROOT_VERSION = new SemVer("0.0.0");
+    /** Description of the incompatibility that requires the root. */
+    private static final String ROOT_REQUIRED = "the root package is required";
+    /** Most versions listed when describing a term. */
+    private static final int MAX_LISTED_VERSIONS = 4;
+
+    /** The package source. */
+    private final PackageSource source;
+
+    /**
+     * Creates a resolver over a package source.
+     *
+     * @param packageSource the source of versions and dependencies
+     * @throws IllegalArgumentException if packageSource is null
+     */
+    public Resolver(final PackageSource packageSource) {
+        if (packageSource == null) {
+            throw new IllegalArgumentException("Source must not be null");
+        }
+        this.source = packageSource;
+    }
+
+    /**
+     * Resolves the given root dependencies.
+     *
+     * @param dependencies the root dependency ranges by package name
+     * @return the selected versions
+     * @throws IllegalArgumentException if dependencies is null
+     * @throws ResolutionException if no selection satisfies every range
+     */
+    public Resolution resolve(final Map<String, VersionRange> dependencies) {
+        if (dependencies == null) {
+            throw new IllegalArgumentException(
+                "Dependencies must not be null");
+        }
+        return new Run(new VersionIndex(
+            new RootedSource(source, new TreeMap<>(dependencies)))).solve();
+    }
+
+    /**
+     * State of one resolution.
+     */
+    private static final class Run {
+
+        /** Memoized view of the source. */
+        private final VersionIndex index;
+        /** The partial solution. */
+        private final PartialSolution solution = new PartialSolution();
+        /** Incompatibilities that mention each package, oldest first. */
+        private final Map<String, List<Incompatibility>> incompatibilities =
+            new HashMap<>();
+        /** Keys of dependency incompatibilities already added. */
+        private final Set<String> addedDependencies = new HashSet<>();
+        /** Number of decisions made. */
+        private int decisions;
+        /** Number of conflicts resolved. */
+        private int conflicts;
+
+        /**
+         * Creates a run.
+         *
+         * @param versionIndex the memoized source
+         */
+        Run(final VersionIndex versionIndex) {
+            this.index = versionIndex;
+        }
+
+        /**
+         * Runs the search.
+         *
+         * @return the resolution
+         */
+        Resolution solve() {
+            final BitSet rootSet = new BitSet(1);
+            rootSet.set(0);
+            addIncompatibility(new Incompatibility(
+                Collections.singletonList(new Term(ROOT, false, rootSet, 1)),
+                ROOT_REQUIRED, null, null));
+            String next = ROOT;
+            while (next != null) {
+                propagate(next);
+                next = decideNext();
+            }
+            final SortedMap<String, SemVer> selected = new TreeMap<>();
+            for (Map.Entry<String, Integer> entry
+                : solution.decisions().entrySet()) {
+                if (!ROOT.equals(entry.getKey())) {
+                    selected.put(entry.getKey(),
+                        index.versions(entry.getKey())[entry.getValue()]);
+                }
+            }
+            return new Resolution(selected, decisions, conflicts);
+        }
+
+        /**
+         * Registers an incompatibility under each of its packages.
+         *
+         * @param incompatibility the incompatibility
+         */
+        private void addIncompatibility(final Incompatibility incompatibility) {
+            for (Term term : incompatibility.terms()) {
+                incompatibilities.computeIfAbsent(term.name(),
+                    key -> new ArrayList<>()).add(incompatibility);
+            }
+        }
+
+        /**
+         * Derives everything the partial solution forces, starting from
+         * one changed package, resolving conflicts as they appear.
+         *
+         * @param start the package whose assignments changed
+         */
+        private void propagate(final String start) {
+            final Deque<String> changed = new ArrayDeque<>();
+            changed.add(start);
+            while (!changed.isEmpty()) {
+                final String name = changed.poll();
+                final List<Incompatibility> candidates =
+                    incompatibilities.getOrDefault(name,
+                        Collections.emptyList());
+                boolean conflict = false;
+                for (int i = candidates.size() - 1; i >= 0 && !conflict;
+                    i--) {
+                    final Incompatibility incompatibility = candidates.get(i);
+                    final Term unsatisfied = almostSatisfied(incompatibility);
+                    if (unsatisfied == incompatibility.terms().get(0)
+                        && solution.satisfies(unsatisfied)) {
+                        // Every term holds: learn from the conflict.
+                        final Incompatibility learned =
+                            resolveConflict(incompatibility);
+                        final Term term = firstUnsatisfied(learned);
+                        solution.derive(term.negate(), learned);
+                        changed.clear();
+                        changed.add(term.name());
+                        conflict = true;
+                    } else if (unsatisfied != null) {
+                        solution.derive(unsatisfied.negate(), incompatibility);
+                        if (!changed.contains(unsatisfied.name())) {
+                            changed.add(unsatisfied.name());
+                        }
+                    }
+                }
+            }
+        }
+
+        /**
+         * Classifies an incompatibility against the partial solution.
+         *
+         * @param incompatibility the incompatibility
+         * @return the one term that is neither satisfied nor contradicted
+         *         when all others are satisfied; the first term when every
+         *         term is satisfied; otherwise null
+         */
+        private Term almostSatisfied(final Incompatibility incompatibility) {
+            Term unsatisfied = null;
+            boolean relevant = true;
+            for (Term term : incompatibility.terms()) {
+                if (!relevant) {
+                    break;
+                }
+                if (!solution.satisfies(term)) {
+                    if (unsatisfied != null || solution.contradicts(term)) {
+                        relevant = false;
+                    } else {
+                        unsatisfied = term;
+                    }
+                }
+            }
+            Term result = null;
+            if (relevant) {
+                result = unsatisfied == null
+                    ? incompatibility.terms().get(0) : unsatisfied;
+            }
+            return result;
+        }
+
+        /**
+         * Returns the first term of an incompatibility that the partial
+         * solution does not satisfy.
+         *
+         * @param incompatibility the incompatibility
+         * @return the term
+         */
+        private Term firstUnsatisfied(final Incompatibility incompatibility) {
+            Term result = null;
+            for (Term term : incompatibility.terms()) {
+                if (result == null && !solution.satisfies(term)) {
+                    result = term;
+                }
+            }
+            return result;
+        }
+
+        /**
+         * Learns an incompatibility from a satisfied one and backjumps so
+         * that the learned incompatibility is almost satisfied.
+         *
+         * @param conflict the satisfied incompatibility
+         * @return the learned incompatibility
+         * @throws ResolutionException if the conflict involves no decision
+         */
+        private Incompatibility resolveConflict(
+            final Incompatibility conflict
+        ) {
+            conflicts++;
+            Incompatibility current = conflict;
+            Incompatibility learned = null;
+            boolean learnedNew = false;
+            while (learned == null && !isTerminal(current)) {
+                Assignment satisfier = null;
+                Term satisfied = null;
+                int previousLevel = 1;
+                for (Term term : current.terms()) {
+                    final Assignment found = satisfier(term, null);
+                    if (satisfier == null
+                        || found.index() > satisfier.index()) {
+                        if (satisfier != null) {
+                            previousLevel = Math.max(previousLevel,
+                                satisfier.decisionLevel());
+                        }
+                        satisfier = found;
+                        satisfied = term;
+                    } else {
+                        previousLevel = Math.max(previousLevel,
+                            found.decisionLevel());
+                    }
+                }
+                final Assignment previous = satisfier(satisfied, satisfier);
+                if (previous != null) {
+                    previousLevel = Math.max(previousLevel,
+                        previous.decisionLevel());
+                }
+                if (satisfier.isDecision()
+                    || previousLevel != satisfier.decisionLevel()) {
+                    if (learnedNew) {
+                        addIncompatibility(current);
+                    }
+                    solution.backtrack(previousLevel);
+                    learned = current;
+                } else {
+                    current = priorCause(current, satisfier, satisfied);
+                    learnedNew = true;
+                }
+            }
+            if (learned == null) {
+                throw new ResolutionException(explain(current));
+            }
+            return learned;
+        }
+
+        /**
+         * Combines an incompatibility with the cause of its satisfier,
+         * eliminating the satisfier's package where possible.
+         *
+         * @param current the satisfied incompatibility
+         * @param satisfier the derived assignment that satisfied it last
+         * @param satisfied the term of current the satisfier satisfied
+         * @return the derived incompatibility
+         */
+        private static Incompatibility priorCause(
+            final Incompatibility current,
+            final Assignment satisfier,
+            final Term satisfied
+        ) {
+            final List<Term> prior = new ArrayList<>();
+            for (Term term : current.terms()) {
+                if (!term.name().equals(satisfied.name())) {
+                    prior.add(term);
+                }
+            }
+            for (Term term : satisfier.cause().terms()) {
+                if (!term.name().equals(satisfied.name())) {
+                    prior.add(term);
+                }
+            }
+            if (!satisfier.term().satisfies(satisfied)) {
+                prior.add(satisfier.term().intersect(satisfied.negate())
+                    .negate());
+            }
+            return new Incompatibility(prior, null, current,
+                satisfier.cause());
+        }
+
+        /**
+         * Returns whether an incompatibility proves there is no solution.
+         *
+         * @param incompatibility the incompatibility
+         * @return true if it has no terms or only requires the root
+         */
+        private static boolean isTerminal(
+            final Incompatibility incompatibility
+        ) {
+            final List<Term> terms = incompatibility.terms();
+            return terms.isEmpty() || terms.size() == 1
+                && ROOT.equals(terms.get(0).name())
+                && terms.get(0).isPositive();
+        }
+
+        /**
+         * Finds the earliest assignment after which the partial solution
+         * satisfies a term.
+         *
+         * @param term the term
+         * @param seed an assignment whose term is applied first, searching
+         *             only assignments before it; null to search all
+         * @return the satisfying assignment, or null if none
+         */
+        private Assignment satisfier(final Term term, final Assignment seed) {
+            Term accumulated = seed == null ? null : seed.term();
+            Assignment result = null;
+            boolean searching = accumulated == null
+                || !accumulated.satisfies(term);
+            for (Assignment assignment : solution.assignments(term.name())) {
+                if (!searching
+                    || seed != null && assignment.index() >= seed.index()) {
+                    break;
+                }
+                accumulated = accumulated == null ? assignment.term()
+                    : accumulated.intersect(assignment.term());
+                if (accumulated.satisfies(term)) {
+                    result = assignment;
+                    searching = false;
+                }
+            }
+            return result;
+        }
+
+        /**
+         * Picks the next package to decide and records the decision,
+         * unless one of the version's dependencies already rules it out;
+         * propagation then derives that from the package instead of
+         * discovering it through a conflict.
+         *
+         * @return the package to propagate from, or null when every
+         *         required package has been decided
+         */
+        private String decideNext() {
+            String chosen = null;
+            int fewest = Integer.MAX_VALUE;
+            for (String name : solution.pending()) {
+                final int candidates =
+                    solution.combined(name).versions().cardinality();
+                if (candidates < fewest) {
+                    fewest = candidates;
+                    chosen = name;
+                }
+            }
+            if (chosen != null) {
+                final Term term = solution.combined(chosen);
+                final int version =
+                    term.versions().previousSetBit(term.universe() - 1);
+                if (version < 0) {
+                    addIncompatibility(new Incompatibility(
+                        Collections.singletonList(term),
+                        "no versions of " + describe(term) + " exist",
+                        null, null));
+                } else if (!addDependencies(chosen, version)) {
+                    solution.decide(chosen, version, term.universe());
+                    decisions++;
+                }
+            }
+            return chosen;
+        }
+
+        /**
+         * Adds the dependency incompatibilities of one version that are
+         * not known yet. Each covers every version of the package that
+         * declares the same range on the same dependency.
+         *
+         * @param name the package name
+         * @param version the version index
+         * @return true if deciding the version would satisfy one of the
+         *         added incompatibilities
+         */
+        private boolean addDependencies(final String name, final int version) {
+            final int universe = index.size(name);
+            boolean conflict = false;
+            for (Map.Entry<String, VersionRange> dependency
+                : new TreeMap<>(index.dependencies(name, version))
+                    .entrySet()) {
+                final String target = dependency.getKey();
+                final VersionRange range = dependency.getValue();
+                final String key = name + ' ' + target + ' ' + range;
+                if (addedDependencies.add(key)) {
+                    final BitSet dependents = new BitSet(universe);
+                    for (int i = 0; i < universe; i++) {
+                        final VersionRange declared =
+                            index.dependencies(name, i).get(target);
+                        if (declared != null
+                            && declared.toString().equals(range.toString())) {
+                            dependents.set(i);
+                        }
+                    }
+                    final Term depender =
+                        new Term(name, true, dependents, universe);
+                    final Term required = new Term(target, false,
+                        index.matching(target, range), index.size(target));
+                    final List<Term> terms = new ArrayList<>();
+                    terms.add(depender);
+                    terms.add(required);
+                    final Incompatibility incompatibility =
+                        new Incompatibility(terms, describe(depender)
+                            + " depends on " + target + " " + range
+                            + describeMissing(target, required), null, null);
+                    addIncompatibility(incompatibility);
+                    conflict |= othersSatisfied(incompatibility, name);
+                }
+            }
+            return conflict;
+        }
+
+        /**
+         * Returns whether every term of an incompatibility except the one
+         * for a given package is satisfied.
+         *
+         * @param incompatibility the incompatibility
+         * @param name the package to leave out
+         * @return true if the package's term alone decides it
+         */
+        private boolean othersSatisfied(
+            final Incompatibility incompatibility,
+            final String name
+        ) {
+            boolean result = true;
+            for (Term term : incompatibility.terms()) {
+                if (!term.name().equals(name)) {
+                    result &= solution.satisfies(term);
+                }
+            }
+            return result;
+        }
+
+        /**
+         * Explains why a dependency can never be met, if that is so.
+         *
+         * @param target the dependency name
+         * @param required the negative term over its matching versions
+         * @return a parenthesised note, or an empty string
+         */
+        private static String describeMissing(
+            final String target,
+            final Term required
+        ) {
+            String result = "";
+            if (required.universe() == 0) {
+                result = " (unknown package)";
+            } else if (required.versions().isEmpty()) {
+                result = " (no matching versions)";
+            }
+            return result;
+        }
+
+        /**
+         * Describes a term for error messages.
+         *
+         * @param term the term
+         * @return a readable description
+         */
+        private String describe(final Term term) {
+            final StringBuilder builder = new StringBuilder();
+            if (!term.isPositive()) {
+                builder.append("not ");
+            }
+            final String name = term.name();
+            final BitSet set = term.versions();
+            final int count = set.cardinality();
+            if (ROOT.equals(name)) {
+                builder.append("the root package");
+            } else if (count == term.universe() && count > 1) {
+                builder.append("every version of ").append(name);
+            } else {
+                builder.append(name);
+                final SemVer[] versions = index.versions(name);
+                int listed = 0;
+                for (int i = set.nextSetBit(0);
+                    i >= 0 && listed < MAX_LISTED_VERSIONS;
+                    i = set.nextSetBit(i + 1)) {
+                    builder.append(listed == 0 ? " " : " | ")
+                        .append(versions[i]);
+                    listed++;
+                }
+                if (count > listed) {
+                    builder.append(" and ").append(count - listed)
+                        .append(" more");
+                }
+            }
+            return builder.toString();
+        }
+
+        /**
+         * Builds the failure message from the external incompatibilities
+         * behind a terminal incompatibility.
+         *
+         * @param terminal the terminal incompatibility
+         * @return the message
+         */
+        private static String explain(final Incompatibility terminal) {
+            final Set<String> facts = new LinkedHashSet<>();
+            final Map<Incompatibility, Boolean> seen = new IdentityHashMap<>();
+            final Deque<Incompatibility> stack = new ArrayDeque<>();
+            stack.push(terminal);
+            while (!stack.isEmpty()) {
+                final Incompatibility current = stack.pop();
+                if (seen.put(current, Boolean.TRUE) == null) {
+                    if (current.isExternal()) {
+                        if (!ROOT_REQUIRED.equals(current.description())) {
+                            facts.add(current.description());
+                        }
+                    } else {
+                        stack.push(current.otherCause());
+                        stack.push(current.cause());
+                    }
+                }
+            }
+            final StringBuilder message =
+                new StringBuilder("Version solving failed because:");
+            for (String fact : facts) {
+                message.append(System.lineSeparator()).append("  - ")
+                    .append(fact);
+            }
+            return message.toString();
+        }
+    }
+
+    /**
+     * Source that adds the synthetic root package in front of another.
+     */
+    private static final class RootedSource implements PackageSource {
+
+        /** The wrapped source. */
+        private final PackageSource delegate;
+        /** The root dependencies. */
+        private final Map<String, VersionRange> rootDependencies;
+
+        /**
+         * Creates a rooted source.
+         *
+         * @param wrapped the wrapped source
+         * @param dependencies the root dependencies
+         */
+        RootedSource(
+            final PackageSource wrapped,
+            final Map<String, VersionRange> dependencies
+        ) {
+            this.delegate = wrapped;
+            this.rootDependencies = dependencies;
+        }
+
+        @Override
+        public List<SemVer> versions(final String name) {
+            return ROOT.equals(name)
+                ? Collections.singletonList(ROOT_VERSION)
+                : delegate.versions(name);
+        }
+
+        @Override
+        public Map<String, VersionRange> dependencies(
+            final String name,
+            final SemVer version
+        ) {
+            return ROOT.equals(name) ? rootDependencies
+                : delegate.dependencies(name, version);
+        }
+    }
+}
@@ -0,0 +1,186 @@
+package com.neu.semver.resolve;
+
+import java.util.BitSet;
+
+/**
+ * A statement about one package over its indexed versions. A positive
+ * term says the package is selected at one of the versions in its set; a
+ * negative term says it is either not selected or selected outside the
+ * set. Terms are immutable; their bit sets are never modified after
+ * construction.
+ *
+ * @author Yinlu Gong
+ * @version 0.1.0
+ */
+final class Term {
+
+    /** The package name. */
+    private final String name;
+    /** Whether this is a positive term. */
+    private final boolean positive;
+    /** Version indexes the term refers to. */
+    private final BitSet versions;
+    /** Number of versions the package has. */
+    private final int universe;
+
+    /**
+     * Creates a term.
+     *
+     * @param packageName the package name
+     * @param isPositive whether the term is positive
+     * @param versionSet the version indexes, owned by the term
+     * @param versionCount the number of versions of the package
+     */
+    Term(
+        final String packageName,
+        final boolean isPositive,
+        final BitSet versionSet,
+        final int versionCount
+    ) {
+        this.name = packageName;
+        this.positive = isPositive;
+        this.versions = versionSet;
+        this.universe = versionCount;
+    }
+
+    /**
+     * Returns a term that allows everything: any version, or none.
+     *
+     * @param packageName the package name
+     * @param versionCount the number of versions of the package
+     * @return the unconstrained term
+     */
+    static Term any(final String packageName, final int versionCount) {
+        return new Term(packageName, false, new BitSet(), versionCount);
+    }
+
+    /**
+     * Returns the package name.
+     *
+     * @return the name
+     */
+    String name() {
+        return name;
+    }
+
+    /**
+     * Returns whether this term is positive.
+     *
+     * @return true if the package must be selected
+     */
+    boolean isPositive() {
+        return positive;
+    }
+
+    /**
+     * Returns the version indexes; callers must not modify the set.
+     *
+     * @return the version set
+     */
+    BitSet versions() {
+        return versions;
+    }
+
+    /**
+     * Returns the number of versions of the package.
+     *
+     * @return the version count
+     */
+    int universe() {
+        return universe;
+    }
+
+    /**
+     * Returns the negation of this term. A negative term is by definition
+     * the negation of the positive term over the same set.
+     *
+     * @return a term satisfied exactly when this one is not
+     */
+    Term negate() {
+        return new Term(name, !positive, versions, universe);
+    }
+
+    /**
+     * Returns the term satisfied when both this and other are.
+     *
+     * @param other a term for the same package
+     * @return the intersection
+     */
+    Term intersect(final Term other) {
+        final BitSet set = (BitSet) versions.clone();
+        Term result;
+        if (positive && other.positive) {
+            set.and(other.versions);
+            result = new Term(name, true, set, universe);
+        } else if (positive) {
+            set.andNot(other.versions);
+            result = new Term(name, true, set, universe);
+        } else if (other.positive) {
+            final BitSet allowed = (BitSet) other.versions.clone();
+            allowed.andNot(versions);
+            result = new Term(name, true, allowed, universe);
+        } else {
+            set.or(other.versions);
+            result = new Term(name, false, set, universe);
+        }
+        return result;
+    }
+
+    /**
+     * Returns whether every selection allowed by this term is allowed by
+     * other.
+     *
+     * @param other a term for the same package
+     * @return true if this term implies other
+     */
+    boolean satisfies(final Term other) {
+        boolean result;
+        if (positive && other.positive) {
+            result = isSubset(versions, other.versions);
+        } else if (positive) {
+            result = !versions.intersects(other.versions);
+        } else if (other.positive) {
+            result = false;
+        } else {
+            result = isSubset(other.versions, versions);
+        }
+        return result;
+    }
+
+    /**
+     * Returns whether no selection is allowed by both this term and
+     * other.
+     *
+     * @param other a term for the same package
+     * @return true if the terms are disjoint
+     */
+    boolean contradicts(final Term other) {
+        boolean result;
+        if (positive && other.positive) {
+            result = !versions.intersects(other.versions);
+        } else if (positive) {
+            result = isSubset(versions, other.versions);
+        } else if (other.positive) {
+            result = isSubset(other.versions, versions);
+        } else {
+            result = false;
+        }
+        return result;
+    }
+
+    /**
+     * Returns whether one bit set is contained in another.
+     *
+     * @param subset the candidate subset
+     * @param superset the candidate superset
+     * @return true if every bit of subset is set in superset
+     */
+    private static boolean isSubset(final BitSet subset, final BitSet superset) {
+        boolean result = true;
+        for (int i = subset.nextSetBit(0); i >= 0 && result;
+            i = subset.nextSetBit(i + 1)) {
+            result = superset.get(i);
+        }
+        return result;
+    }
+}
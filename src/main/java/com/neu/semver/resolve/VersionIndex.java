@@ -0,0 +1,121 @@
+package com.neu.semver.resolve;
+
+import com.neu.semver.SemVer;
+import com.neu.semver.SemVerComparator;
+import com.neu.semver.VersionRange;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Memoizing view of a {@link PackageSource} for one resolution. Each
+ * package's versions are fetched once and sorted into ascending
+ * precedence, so a version is identified by its index, and the set of
+ * indexes matching a range is computed once per package and range.
+ *
+ * @author Yinlu Gong
+ * @version 0.1.0
+ */
+final class VersionIndex {
+
+    /** The underlying source. */
+    private final PackageSource source;
+    /** Sorted, distinct versions of each package fetched so far. */
+    private final Map<String, SemVer[]> versions = new HashMap<>();
+    /** Dependencies of each version, filled on first use. */
+    private final Map<String, List<Map<String, VersionRange>>> dependencies =
+        new HashMap<>();
+    /** Version indexes matching a range, keyed by package and range. */
+    private final Map<String, BitSet> matches = new HashMap<>();
+
+    /**
+     * Creates an index over a source.
+     *
+     * @param packageSource the source
+     */
+    VersionIndex(final PackageSource packageSource) {
+        this.source = packageSource;
+    }
+
+    /**
+     * Returns the versions of a package in ascending order.
+     *
+     * @param name the package name
+     * @return the versions; callers must not modify the array
+     */
+    SemVer[] versions(final String name) {
+        SemVer[] result = versions.get(name);
+        if (result == null) {
+            final List<SemVer> listed = source.versions(name);
+            final SemVer[] sorted = listed.toArray(new SemVer[0]);
+            Arrays.sort(sorted, SemVerComparator.INSTANCE);
+            int distinct = 0;
+            for (SemVer version : sorted) {
+                if (distinct == 0 || SemVerComparator.INSTANCE.compare(
+                    sorted[distinct - 1], version) != 0) {
+                    sorted[distinct++] = version;
+                }
+            }
+            result = Arrays.copyOf(sorted, distinct);
+            versions.put(name, result);
+        }
+        return result;
+    }
+
+    /**
+     * Returns the number of versions of a package.
+     *
+     * @param name the package name
+     * @return the version count
+     */
+    int size(final String name) {
+        return versions(name).length;
+    }
+
+    /**
+     * Returns the dependencies of one version.
+     *
+     * @param name the package name
+     * @param index the version index
+     * @return the dependency ranges by package name
+     */
+    Map<String, VersionRange> dependencies(final String name, final int index) {
+        final List<Map<String, VersionRange>> known =
+            dependencies.computeIfAbsent(name, key ->
+                new ArrayList<>(Collections.nCopies(size(key), null)));
+        Map<String, VersionRange> result = known.get(index);
+        if (result == null) {
+            result = source.dependencies(name, versions(name)[index]);
+            known.set(index, result);
+        }
+        return result;
+    }
+
+    /**
+     * Returns the indexes of a package's versions that satisfy a range.
+     *
+     * @param name the package name
+     * @param range the range
+     * @return the matching indexes; callers must not modify the set
+     */
+    BitSet matching(final String name, final VersionRange range) {
+        final String key = name + ' ' + range;
+        BitSet result = matches.get(key);
+        if (result == null) {
+            final SemVer[] candidates = versions(name);
+            result = new BitSet(candidates.length);
+            for (int i = 0; i < candidates.length; i++) {
+                if (range.satisfies(candidates[i])) {
+                    result.set(i);
+                }
+            }
+            matches.put(key, result);
+        }
+        return result;
+    }
+}
@@ -0,0 +1,16 @@
+/**
+ * Dependency resolution over {@link com.neu.semver.VersionRange}
+ * constraints.
+ *
+ * <p>{@link com.neu.semver.resolve.Resolver} implements conflict-driven
+ * backtracking in the style of PubGrub: unit propagation derives what the
+ * current decisions imply, and every conflict is turned into a learned
+ * incompatibility so the same dead end is never explored twice. Versions
+ * of each package are indexed once in {@link com.neu.semver.SemVerComparator}
+ * order and constraints are kept as bit sets over those indexes.
+ *
+ * @author Yinlu Gong
+ * @version 0.1.0
+ * @since 0.1.0
+ */
+package com.neu.semver.resolve;
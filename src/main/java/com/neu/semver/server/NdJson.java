@@ -0,0 +1,134 @@
+package com.neu.semver.server;
+
+/**
+ * Minimal helpers for reading and writing the single JSON strings that
+ * make up the NDJSON request and response lines.
+ *
+ * @author Yinlu Gong
+ * @version 0.1.0
+ */
+final class NdJson {
+
+    /** Length of a {@code \\uXXXX} escape's hex digits. */
+    private static final int UNICODE_DIGITS = 4;
+    /** Radix of unicode escapes. */
+    private static final int HEX = 16;
+    /** First character that does not need escaping. */
+    private static final char FIRST_PRINTABLE = ' ';
+
+    /**
+     * Private constructor to prevent instantiation.
+     */
+    private NdJson() {
+    }
+
+    /**
+     * Decodes one request line. A line holding a JSON string is unquoted
+     * and unescaped; any other line is used as-is after trimming.
+     *
+     * @param line the request line
+     * @return the decoded value
+     * @throws IllegalArgumentException if a quoted line is malformed
+     */
+    static String readValue(final String line) {
+        final String trimmed = line.trim();
+        String result = trimmed;
+        if (!trimmed.isEmpty() && trimmed.charAt(0) == '"') {
+            if (trimmed.length() < 2
+                || trimmed.charAt(trimmed.length() - 1) != '"') {
+                throw new IllegalArgumentException(
+                    "Malformed JSON string: " + trimmed
+                );
+            }
+            result = unescape(trimmed, 1, trimmed.length() - 1);
+        }
+        return result;
+    }
+
+    /**
+     * Unescapes the body of a JSON string.
+     *
+     * @param text the text holding the string
+     * @param start first character after the opening quote
+     * @param end index of the closing quote
+     * @return the unescaped value
+     */
+    private static String unescape(
+        final String text,
+        final int start,
+        final int end
+    ) {
+        final StringBuilder builder = new StringBuilder(end - start);
+        int i = start;
+        while (i < end) {
+            final char c = text.charAt(i);
+            if (c == '\\' && i + 1 < end) {
+                final char escaped = text.charAt(i + 1);
+                i += 2;
+                switch (escaped) {
+                    case 'n':
+                        builder.append('\n');
+                        break;
+                    case 't':
+                        builder.append('\t');
+                        break;
+                    case 'r':
+                        builder.append('\r');
+                        break;
+                    case 'b':
+                        builder.append('\b');
+                        break;
+                    case 'f':
+                        builder.append('\f');
+                        break;
+                    case 'u':
+                        if (i + UNICODE_DIGITS > end) {
+                            throw new IllegalArgumentException(
+                                "Malformed JSON string: " + text
+                            );
+                        }
+                        builder.append((char) Integer.parseInt(
+                            text.substring(i, i + UNICODE_DIGITS), HEX));
+                        i += UNICODE_DIGITS;
+                        break;
+                    default:
+                        builder.append(escaped);
+                        break;
+                }
+            } else if (c == '"' || c == '\\') {
+                throw new IllegalArgumentException(
+                    "Malformed JSON string: " + text
+                );
+            } else {
+                builder.append(c);
+                i++;
+            }
+        }
+        return builder.toString();
+    }
+
+    /**
+     * Appends a value as a quoted JSON string.
+     *
+     * @param builder the destination
+     * @param value the value to quote
+     * @return the destination
+     */
+    static StringBuilder appendString(
+        final StringBuilder builder,
+        final String value
+    ) {
+        builder.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            final char c = value.charAt(i);
+            if (c == '"' || c == '\\') {
+                builder.append('\\').append(c);
+            } else if (c < FIRST_PRINTABLE) {
+                builder.append(String.format("\\u%04x", (int) c));
+            } else {
+                builder.append(c);
+            }
+        }
+        return builder.append('"');
+    }
+}
@@ -0,0 +1,620 @@
+package com.neu.semver.server;
+
+import com.neu.semver.BlockingExecutors;
+import com.neu.semver.SemVerParser;
+import com.neu.semver.SemVerUtils;
+import com.neu.semver.VersionRange;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Semaphore;
+
+/**
+ * HTTP service that validates, sorts and range-checks versions in batch.
+ *
+ * Every endpoint accepts a POST body of newline-delimited JSON strings
+ * (bare lines are accepted too) and answers with newline-delimited JSON:
+ * <ul>
+ *   <li>{@code /validate} streams {@code {"version":..,"valid":..}}
+ *   per input line</li>
+ *   <li>{@code /sort} returns the versions newest first, as
+ *   {@link SemVerUtils#sortVersions} orders them</li>
+ *   <li>{@code /highest} returns the single highest version</li>
+ *   <li>{@code /satisfies?range=..} streams
+ *   {@code {"version":..,"satisfies":..}} per input line</li>
+ * </ul>
+ * Each request runs on its own {@link BlockingExecutors} thread, a
+ * virtual thread on Java 21 and later. Request bodies larger than
+ * the configured limit are rejected with 413, and requests beyond the
+ * concurrency limit are shed immediately with 503 instead of queueing,
+ * so a traffic spike cannot grow unbounded work queues. Before Java 21
+ * the executor has at most {@link BlockingExecutors#concurrency()}
+ * platform threads, and a connection that arrives while all of them
+ * are busy is closed without a response.
+ *
+ * The accept backlog is as large as the concurrency limit, so a burst of
+ * connections waits in the kernel instead of being dropped and retried
+ * by the client a second later. Responses are written as a header and
+ * then chunks; without {@code -Dsun.net.httpserver.nodelay=true},
+ * Nagle's algorithm holds the chunks until the client's delayed
+ * acknowledgement, about 40 ms per request on Linux. {@link #main} sets
+ * it unless it is given; embedders should set it before the first
+ * server in the JVM is created.
+ *
+ * @author Yinlu Gong
+ * @version 0.1.0
+ */
+public final class SemVerServer {
+
+    /** Default maximum request body size in bytes. */
+    public static final long DEFAULT_MAX_REQUEST_BYTES = 1_048_576L;
+    /** Default maximum number of requests processed at once. */
+    public static final int DEFAULT_MAX_CONCURRENT_REQUESTS = 10_000;
+    /** Default port used by {@link #main}. */
+    private static final int DEFAULT_PORT = 8080;
+    /** JDK property that disables Nagle's algorithm on accepted sockets. */
+    private static final String NO_DELAY_PROPERTY =
+        "sun.net.httpserver.nodelay";
+
+    /** HTTP status for a successful response. */
+    private static final int STATUS_OK = 200;
+    /** HTTP status for a malformed request. */
+    private static final int STATUS_BAD_REQUEST = 400;
+    /** HTTP status for an unsupported method. */
+    private static final int STATUS_METHOD_NOT_ALLOWED = 405;
+    /** HTTP status for an oversize body. */
+    private static final int STATUS_TOO_LARGE = 413;
+    /** HTTP status when the server is saturated. */
+    private static final int STATUS_UNAVAILABLE = 503;
+    /** Media type of every response. */
+    private static final String NDJSON = "application/x-ndjson";
+
+    /** The underlying HTTP server. */
+    private final HttpServer server;
+    /** Executor running one thread per request. */
+    private final ExecutorService executor;
+    /** Permits bounding concurrently processed requests. */
+    private final Semaphore permits;
+    /** Maximum accepted body size in bytes. */
+    private final long maxRequestBytes;
+
+    /**
+     * Signals that a request body exceeded the configured limit.
+     */
+    private static final class RequestTooLargeException extends IOException {
+
+        /** Serial version UID for serialization compatibility. */
+        private static final long serialVersionUID = 1L;
+
+        /**
+         * Creates the exception.
+         *
+         * @param limit the exceeded limit in bytes
+         */
+        RequestTooLargeException(final long limit) {
+            super("Request body exceeds " + limit + " bytes");
+        }
+    }
+
+    /**
+     * Input stream that fails once more than a fixed number of bytes has
+     * been read.
+     */
+    private static final class LimitedInputStream extends FilterInputStream {
+
+        /** Bytes that may still be read. */
+        private long remaining;
+        /** The configured limit, for error messages. */
+        private final long limit;
+
+        /**
+         * Wraps a stream.
+         *
+         * @param in the stream to wrap
+         * @param maxBytes the maximum number of bytes
+         */
+        LimitedInputStream(final InputStream in, final long maxBytes) {
+            super(in);
+            this.remaining = maxBytes;
+            this.limit = maxBytes;
+        }
+
+        @Override
+        public int read() throws IOException {
+            final int b = super.read();
+            if (b >= 0) {
+                consume(1);
+            }
+            return b;
+        }
+
+        @Override
+        public int read(final byte[] b, final int off, final int len)
+            throws IOException {
+            final int count = super.read(b, off, len);
+            if (count > 0) {
+                consume(count);
+            }
+            return count;
+        }
+
+        /**
+         * Accounts for bytes read.
+         *
+         * @param count the number of bytes read
+         * @throws RequestTooLargeException if the limit is exceeded
+         */
+        private void consume(final int count)
+            throws RequestTooLargeException {
+            remaining -= count;
+            if (remaining < 0) {
+                throw new RequestTooLargeException(limit);
+            }
+        }
+    }
+
+    /**
+     * Creates a server bound to the given address without starting it.
+     *
+     * @param address the address to bind
+     * @param maxBytes the maximum request body size in bytes
+     * @param maxConcurrent the maximum number of requests in flight,
+     *                      also used as the accept backlog
+     * @throws IOException if the address cannot be bound
+     */
+    private SemVerServer(
+        final InetSocketAddress address,
+        final long maxBytes,
+        final int maxConcurrent
+    ) throws IOException {
+        this.server = HttpServer.create(address, maxConcurrent);
+        this.executor = BlockingExecutors.newExecutor("semver-http");
+        this.permits = new Semaphore(maxConcurrent);
+        this.maxRequestBytes = maxBytes;
+        server.setExecutor(executor);
+        server.createContext("/validate", this::validate);
+        server.createContext("/sort", this::sort);
+        server.createContext("/highest", this::highest);
+        server.createContext("/satisfies", this::satisfies);
+    }
+
+    /**
+     * Starts a server on the given address.
+     *
+     * @param address the address to bind, port 0 picks a free port
+     * @param maxBytes the maximum request body size in bytes
+     * @param maxConcurrent the maximum number of requests in flight
+     * @return the running server
+     * @throws IOException if the address cannot be bound
+     * @throws IllegalArgumentException if address is null or a limit is
+     *         not positive
+     */
+    public static SemVerServer start(
+        final InetSocketAddress address,
+        final long maxBytes,
+        final int maxConcurrent
+    ) throws IOException {
+        if (address == null) {
+            throw new IllegalArgumentException("Address cannot be null");
+        }
+        if (maxBytes <= 0 || maxConcurrent <= 0) {
+            throw new IllegalArgumentException(
+                "Server limits must be positive"
+            );
+        }
+        final SemVerServer semVerServer =
+            new SemVerServer(address, maxBytes, maxConcurrent);
+        semVerServer.server.start();
+        return semVerServer;
+    }
+
+    /**
+     * Returns the port the server is listening on.
+     *
+     * @return the bound port
+     */
+    public int port() {
+        return server.getAddress().getPort();
+    }
+
+    /**
+     * Stops accepting requests and shuts the executor down.
+     */
+    public void stop() {
+        server.stop(0);
+        executor.shutdown();
+    }
+
+    /**
+     * Runs the server until the process is terminated.
+     *
+     * @param args optional port number
+     * @throws IOException if the port cannot be bound
+     */
+    public static void main(final String[] args) throws IOException {
+        if (System.getProperty(NO_DELAY_PROPERTY) == null) {
+            System.setProperty(NO_DELAY_PROPERTY, "true");
+        }
+        int port = DEFAULT_PORT;
+        if (args.length > 0) {
+            port = Integer.parseInt(args[0]);
+        }
+        start(new InetSocketAddress(port), DEFAULT_MAX_REQUEST_BYTES,
+            DEFAULT_MAX_CONCURRENT_REQUESTS);
+    }
+
+    /**
+     * Handles {@code /validate}.
+     *
+     * @param exchange the HTTP exchange
+     * @throws IOException if the exchange fails
+     */
+    private void validate(final HttpExchange exchange) throws IOException {
+        handle(exchange, true, (reader, writer) -> {
+            String line = reader.readLine();
+            while (line != null) {
+                if (!line.isBlank()) {
+                    final String version = NdJson.readValue(line);
+                    final StringBuilder out = new StringBuilder("{\"version\":");
+                    NdJson.appendString(out, version)
+                        .append(",\"valid\":")
+                        .append(SemVerUtils.isValidVersion(version))
+                        .append("}\n");
+                    writer.write(out.toString());
+                }
+                line = reader.readLine();
+            }
+        });
+    }
+
+    /**
+     * Handles {@code /sort}.
+     *
+     * @param exchange the HTTP exchange
+     * @throws IOException if the exchange fails
+     */
+    private void sort(final HttpExchange exchange) throws IOException {
+        handle(exchange, false, (reader, writer) -> {
+            final List<String> sorted =
+                SemVerUtils.sortVersions(readValues(reader));
+            final StringBuilder out = new StringBuilder();
+            for (final String version : sorted) {
+                NdJson.appendString(out, version).append('\n');
+            }
+            writer.write(out.toString());
+        });
+    }
+
+    /**
+     * Handles {@code /highest}.
+     *
+     * @param exchange the HTTP exchange
+     * @throws IOException if the exchange fails
+     */
+    private void highest(final HttpExchange exchange) throws IOException {
+        handle(exchange, false, (reader, writer) -> {
+            final String highest =
+                SemVerUtils.findHighestVersion(readValues(reader));
+            writer.write(
+                NdJson.appendString(new StringBuilder(), highest)
+                    .append('\n').toString());
+        });
+    }
+
+    /**
+     * Handles {@code /satisfies}.
+     *
+     * @param exchange the HTTP exchange
+     * @throws IOException if the exchange fails
+     */
+    private void satisfies(final HttpExchange exchange) throws IOException {
+        handle(exchange, true, request -> {
+            final String rangeText = queryParameter(request, "range");
+            if (rangeText == null) {
+                throw new IllegalArgumentException("Missing range parameter");
+            }
+            return satisfies(VersionRange.parse(rangeText));
+        });
+    }
+
+    /**
+     * Builds the body processing of {@code /satisfies}.
+     *
+     * @param range the range to check against
+     * @return the body processing
+     */
+    private static BodyHandler satisfies(final VersionRange range) {
+        return (reader, writer) -> {
+            String line = reader.readLine();
+            while (line != null) {
+                if (!line.isBlank()) {
+                    final String version = NdJson.readValue(line);
+                    final StringBuilder out = new StringBuilder("{\"version\":");
+                    NdJson.appendString(out, version).append(',');
+                    try {
+                        out.append("\"satisfies\":").append(
+                            range.satisfies(SemVerParser.parse(version)));
+                    } catch (IllegalArgumentException e) {
+                        out.append("\"error\":");
+                        NdJson.appendString(out, e.getMessage());
+                    }
+                    writer.write(out.append("}\n").toString());
+                }
+                line = reader.readLine();
+            }
+        };
+    }
+
+    /**
+     * Request check of an endpoint that depends on more than the body.
+     */
+    @FunctionalInterface
+    private interface Endpoint {
+
+        /**
+         * Checks the request URI and headers.
+         *
+         * @param exchange the HTTP exchange
+         * @return the body processing for this request
+         * @throws IllegalArgumentException if the request is malformed
+         */
+        BodyHandler open(HttpExchange exchange);
+    }
+
+    /**
+     * Body processing step of an endpoint.
+     */
+    @FunctionalInterface
+    private interface BodyHandler {
+
+        /**
+         * Reads the request lines and writes the response lines.
+         *
+         * @param reader the request body
+         * @param writer the response body
+         * @throws IOException if reading or writing fails
+         */
+        void process(BufferedReader reader, Writer writer) throws IOException;
+    }
+
+    /**
+     * Applies method checks, admission control and size limits around an
+     * endpoint's body processing.
+     *
+     * @param exchange the HTTP exchange
+     * @param streaming whether the response is written while reading; a
+     *                  non-streaming endpoint reads the whole body first
+     * @param handler the endpoint body processing
+     * @throws IOException if the exchange fails
+     */
+    private void handle(
+        final HttpExchange exchange,
+        final boolean streaming,
+        final BodyHandler handler
+    ) throws IOException {
+        handle(exchange, streaming, request -> handler);
+    }
+
+    /**
+     * Applies method checks and admission control, then the endpoint's
+     * request check, then size limits around its body processing. A
+     * request that fails its check is answered with 400.
+     *
+     * @param exchange the HTTP exchange
+     * @param streaming whether the response is written while reading; a
+     *                  non-streaming endpoint reads the whole body first
+     * @param endpoint the endpoint request check
+     * @throws IOException if the exchange fails
+     */
+    private void handle(
+        final HttpExchange exchange,
+        final boolean streaming,
+        final Endpoint endpoint
+    ) throws IOException {
+        try {
+            if (!"POST".equals(exchange.getRequestMethod())) {
+                sendError(exchange, STATUS_METHOD_NOT_ALLOWED,
+                    "Only POST is supported");
+            } else if (!permits.tryAcquire()) {
+                exchange.getResponseHeaders().set("Retry-After", "1");
+                sendError(exchange, STATUS_UNAVAILABLE, "Server is busy");
+            } else {
+                try {
+                    process(exchange, streaming, endpoint);
+                } finally {
+                    permits.release();
+                }
+            }
+        } finally {
+            exchange.close();
+        }
+    }
+
+    /**
+     * Runs an endpoint's request check, then its body processing with a
+     * bounded request body.
+     *
+     * @param exchange the HTTP exchange
+     * @param streaming whether the response is written while reading
+     * @param endpoint the endpoint request check
+     * @throws IOException if the exchange fails
+     */
+    private void process(
+        final HttpExchange exchange,
+        final boolean streaming,
+        final Endpoint endpoint
+    ) throws IOException {
+        final BodyHandler handler;
+        final long length;
+        try {
+            handler = endpoint.open(exchange);
+            length = contentLength(exchange);
+        } catch (IllegalArgumentException e) {
+            sendError(exchange, STATUS_BAD_REQUEST, e.getMessage());
+            return;
+        }
+        if (length > maxRequestBytes) {
+            sendError(exchange, STATUS_TOO_LARGE,
+                new RequestTooLargeException(maxRequestBytes).getMessage());
+            return;
+        }
+        final BufferedReader reader = new BufferedReader(
+            new InputStreamReader(
+                new LimitedInputStream(
+                    exchange.getRequestBody(), maxRequestBytes),
+                StandardCharsets.UTF_8));
+        if (streaming) {
+            exchange.getResponseHeaders().set("Content-Type", NDJSON);
+            exchange.sendResponseHeaders(STATUS_OK, 0);
+            try (Writer writer = responseWriter(exchange)) {
+                try {
+                    handler.process(reader, writer);
+                } catch (IllegalArgumentException
+                    | RequestTooLargeException e) {
+                    // Headers are already sent, so report in-band.
+                    writer.write(errorLine(e.getMessage()));
+                }
+            }
+        } else {
+            final StringWriter buffer = new StringWriter();
+            try {
+                handler.process(reader, buffer);
+            } catch (RequestTooLargeException e) {
+                sendError(exchange, STATUS_TOO_LARGE, e.getMessage());
+                return;
+            } catch (IllegalArgumentException e) {
+                sendError(exchange, STATUS_BAD_REQUEST, e.getMessage());
+                return;
+            }
+            final byte[] body =
+                buffer.toString().getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().set("Content-Type", NDJSON);
+            exchange.sendResponseHeaders(STATUS_OK, body.length);
+            exchange.getResponseBody().write(body);
+        }
+    }
+
+    /**
+     * Returns the declared request body length.
+     *
+     * @param exchange the HTTP exchange
+     * @return the Content-Length, or -1 if it is absent
+     * @throws IllegalArgumentException if it is not a number
+     */
+    private static long contentLength(final HttpExchange exchange) {
+        final String length =
+            exchange.getRequestHeaders().getFirst("Content-Length");
+        long result = -1L;
+        if (length != null) {
+            try {
+                result = Long.parseLong(length.trim());
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException(
+                    "Invalid Content-Length: " + length, e);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Reads all non-blank request lines.
+     *
+     * @param reader the request body
+     * @return the decoded values
+     * @throws IOException if reading fails
+     */
+    private static List<String> readValues(final BufferedReader reader)
+        throws IOException {
+        final List<String> values = new ArrayList<>();
+        String line = reader.readLine();
+        while (line != null) {
+            if (!line.isBlank()) {
+                values.add(NdJson.readValue(line));
+            }
+            line = reader.readLine();
+        }
+        return values;
+    }
+
+    /**
+     * Opens a buffered UTF-8 writer on the response body.
+     *
+     * @param exchange the HTTP exchange
+     * @return the response writer
+     */
+    private static Writer responseWriter(final HttpExchange exchange) {
+        return new BufferedWriter(new OutputStreamWriter(
+            exchange.getResponseBody(), StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Sends a complete error response.
+     *
+     * @param exchange the HTTP exchange
+     * @param status the HTTP status
+     * @param message the error message
+     * @throws IOException if the response cannot be written
+     */
+    private static void sendError(
+        final HttpExchange exchange,
+        final int status,
+        final String message
+    ) throws IOException {
+        final byte[] body = errorLine(message).getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", NDJSON);
+        exchange.sendResponseHeaders(status, body.length);
+        exchange.getResponseBody().write(body);
+        exchange.close();
+    }
+
+    /**
+     * Formats an error as one NDJSON line.
+     *
+     * @param message the error message
+     * @return the error line
+     */
+    private static String errorLine(final String message) {
+        return NdJson.appendString(new StringBuilder("{\"error\":"),
+            String.valueOf(message)).append("}\n").toString();
+    }
+
+    /**
+     * Extracts a decoded query parameter.
+     *
+     * @param exchange the HTTP exchange
+     * @param name the parameter name
+     * @return the decoded value, or null if absent
+     */
+    private static String queryParameter(
+        final HttpExchange exchange,
+        final String name
+    ) {
+        final String query = exchange.getRequestURI().getRawQuery();
+        String result = null;
+        if (query != null) {
+            for (final String pair : query.split("&")) {
+                final int eq = pair.indexOf('=');
+                if (eq > 0 && name.equals(pair.substring(0, eq))) {
+                    result = URLDecoder.decode(
+                        pair.substring(eq + 1), StandardCharsets.UTF_8);
+                }
+            }
+        }
+        return result;
+    }
+}
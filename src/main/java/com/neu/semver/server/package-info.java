@@ -0,0 +1,13 @@
+/**
+ * Optional HTTP service exposing batch validation, sorting, highest-version
+ * and range checks over newline-delimited JSON.
+ *
+ * <p>The service is built on the JDK's {@code com.sun.net.httpserver} and
+ * handles each request on its own virtual thread. It has no dependencies
+ * beyond the core {@code com.neu.semver} package.
+ *
+ * @author Yinlu Gong
+ * @version 0.1.0
+ * @since 0.1.0
+ */
+package com.neu.semver.server;
@@ -0,0 +1,63 @@
+package com.neu.semver;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Executors for tasks that spend most of their time blocked on I/O,
+ * such as HTTP requests and version sources read over the network.
+ *
+ * This is the Java 21 implementation from {@code META-INF/versions/21}
+ * of the multi-release JAR. Every task gets its own virtual thread, so
+ * blocked tasks hold no platform thread and a batch can run as many of
+ * them at once as it has work for.
+ *
+ * @author Yinlu Gong
+ * @version 0.1.0
+ */
+public final class BlockingExecutors {
+
+    /**
+     * Private constructor to prevent instantiation.
+     */
+    private BlockingExecutors() {
+    }
+
+    /**
+     * Creates an executor that runs every submitted task at once on its
+     * own thread, named {@code name-1}, {@code name-2} and so on. Threads
+     * do not keep the JVM alive; shut the executor down when done.
+     *
+     * @param name the thread name prefix
+     * @return a new executor
+     * @throws IllegalArgumentException if name is null
+     */
+    public static ExecutorService newExecutor(final String name) {
+        if (name == null) {
+            throw new IllegalArgumentException("Name cannot be null");
+        }
+        return Executors.newThreadPerTaskExecutor(
+            Thread.ofVirtual().name(name + "-", 1).factory());
+    }
+
+    /**
+     * Returns how many blocking tasks can run at once on an executor
+     * created here.
+     *
+     * @return {@link Integer#MAX_VALUE}, as blocked virtual threads cost
+     *         only their heap-allocated stack
+     */
+    public static int concurrency() {
+        return Integer.MAX_VALUE;
+    }
+
+    /**
+     * Returns whether the executors created here run tasks on virtual
+     * threads.
+     *
+     * @return true for this implementation
+     */
+    public static boolean usesVirtualThreads() {
+        return true;
+    }
+}
@@ -0,0 +1,28 @@
+/**
+ * Semantic Versioning 2.0.0 parsing, comparison, ranges and tooling.
+ *
+ * <p>Only {@code jdk.jfr} is needed by the core packages, which emit
+ * flight recorder events while parsing. The JMX exporter, the HTTP
+ * server and the Maven metadata extractor depend on modules that are
+ * declared static, so a runtime image built for the command-line tool
+ * leaves them out; add them to the image when those packages are used.
+ *
+ * @author Yinlu Gong
+ * @version 0.1.0
+ * @since 0.1.0
+ */
+module com.neu.semver {
+    requires jdk.jfr;
+    requires static java.management;
+    requires static java.xml;
+    requires static jdk.httpserver;
+
+    exports com.neu.semver;
+    exports com.neu.semver.cli;
+    exports com.neu.semver.flow;
+    exports com.neu.semver.formats;
+    exports com.neu.semver.git;
+    exports com.neu.semver.metrics;
+    exports com.neu.semver.resolve;
+    exports com.neu.semver.server;
+}
@@ -0,0 +1,252 @@
+package com.neu.semver;
+
+import jdk.incubator.vector.ByteVector;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * Validates ASCII versions of up to 64 bytes with the Vector API.
+ *
+ * The bytes are classified into digits, letters, dots, hyphens and plus
+ * signs a vector at a time, and each class is kept as a bit mask with
+ * one bit per byte. The grammar is then checked on the masks: the
+ * separators are found with {@link Long#numberOfTrailingZeros} instead
+ * of a loop over the bytes, and only the first byte of a number or
+ * identifier is read again for the leading zero and letter rules.
+ *
+ * Longer versions, and cores with a number of 19 or more digits that
+ * might not fit in a {@code long}, are handed to the scalar scanner. At
+ * most 64 bytes, no identifier limit of {@link ParserLimits#DEFAULT} can
+ * be reached. This class is compiled only by the {@code vector} profile
+ * and loaded by {@link BatchValidator}.
+ *
+ * @author Yinlu Gong
+ * @version 0.1.0
+ */
+final class VectorValidator implements AsciiValidator {
+
+    /** Widest vector shape the platform supports, up to 64 lanes. */
+    private static final VectorSpecies<Byte> SPECIES =
+        ByteVector.SPECIES_PREFERRED.length() <= Long.SIZE
+            ? ByteVector.SPECIES_PREFERRED : ByteVector.SPECIES_512;
+    /** Longest version that fits in one bit mask. */
+    private static final int MAX_LENGTH = Long.SIZE;
+    /** Longest number that always fits in a {@code long}. */
+    private static final int SAFE_DIGITS = 18;
+    /** Bit that maps upper case ASCII letters to lower case. */
+    private static final byte LOWER_CASE = 0x20;
+    /** Number of dots in the version core. */
+    private static final int CORE_DOTS = 2;
+
+    /** Index of the digit mask. */
+    private static final int DIGITS = 0;
+    /** Index of the letter mask. */
+    private static final int LETTERS = 1;
+    /** Index of the dot mask. */
+    private static final int DOTS = 2;
+    /** Index of the hyphen mask. */
+    private static final int HYPHENS = 3;
+    /** Index of the plus sign mask. */
+    private static final int PLUSES = 4;
+    /** Number of class masks. */
+    private static final int CLASSES = 5;
+
+    /** Result of a check that the scalar scanner has to repeat. */
+    private static final int UNDECIDED = 0;
+    /** Result of a check that passed. */
+    private static final int PASSED = 1;
+    /** Result of a check that failed. */
+    private static final int FAILED = 2;
+
+    @Override
+    public boolean isValid(
+        final byte[] ascii,
+        final int offset,
+        final int length
+    ) {
+        boolean result;
+        if (length == 0 || length > MAX_LENGTH) {
+            result = BatchValidator.isValidScalar(ascii, offset, length);
+        } else {
+            final long[] masks = classify(ascii, offset, length);
+            final int check = check(ascii, offset, length, masks);
+            if (check == UNDECIDED) {
+                result = BatchValidator.isValidScalar(ascii, offset, length);
+            } else {
+                result = check == PASSED;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Classifies each byte of a region into the class masks.
+     *
+     * @param ascii the bytes holding the version
+     * @param offset first index of the version
+     * @param length length of the version, 1 to 64
+     * @return the masks, indexed by {@link #DIGITS} to {@link #PLUSES}
+     */
+    private static long[] classify(
+        final byte[] ascii,
+        final int offset,
+        final int length
+    ) {
+        final long[] masks = new long[CLASSES];
+        final int lanes = SPECIES.length();
+        for (int i = 0; i < length; i += lanes) {
+            final ByteVector bytes;
+            if (i + lanes <= length) {
+                bytes = ByteVector.fromArray(SPECIES, ascii, offset + i);
+            } else {
+                bytes = ByteVector.fromArray(SPECIES, ascii, offset + i,
+                    SPECIES.indexInRange(i, length));
+            }
+            final ByteVector lower = bytes.or(LOWER_CASE);
+            masks[DIGITS] |= bytes.compare(VectorOperators.GE, '0')
+                .and(bytes.compare(VectorOperators.LE, '9')).toLong() << i;
+            masks[LETTERS] |= lower.compare(VectorOperators.GE, 'a')
+                .and(lower.compare(VectorOperators.LE, 'z')).toLong() << i;
+            masks[DOTS] |= bytes.eq((byte) '.').toLong() << i;
+            masks[HYPHENS] |= bytes.eq((byte) '-').toLong() << i;
+            masks[PLUSES] |= bytes.eq((byte) '+').toLong() << i;
+        }
+        return masks;
+    }
+
+    /**
+     * Checks the grammar on the class masks.
+     *
+     * @param ascii the bytes holding the version
+     * @param offset first index of the version
+     * @param length length of the version, 1 to 64
+     * @param masks the class masks of the version
+     * @return {@link #PASSED}, {@link #FAILED} or {@link #UNDECIDED}
+     */
+    private static int check(
+        final byte[] ascii,
+        final int offset,
+        final int length,
+        final long[] masks
+    ) {
+        final long letters = masks[LETTERS];
+        final long pluses = masks[PLUSES];
+        final long known = masks[DIGITS] | letters | masks[DOTS]
+            | masks[HYPHENS] | pluses;
+        int result = FAILED;
+        if (known == below(length) && Long.bitCount(pluses) <= 1) {
+            final int buildStart = pluses == 0 ? length
+                : Long.numberOfTrailingZeros(pluses);
+            final long hyphens = masks[HYPHENS] & below(buildStart);
+            final int coreEnd = hyphens == 0 ? buildStart
+                : Long.numberOfTrailingZeros(hyphens);
+            final long coreDots = masks[DOTS] & below(coreEnd);
+            if ((letters & below(coreEnd)) == 0
+                && Long.bitCount(coreDots) == CORE_DOTS) {
+                result = checkCore(ascii, offset, coreEnd, coreDots);
+            }
+            if (result != FAILED && coreEnd < buildStart
+                && !checkIdentifiers(ascii, offset, coreEnd + 1,
+                    buildStart, masks, true)) {
+                result = FAILED;
+            }
+            if (result != FAILED && buildStart < length
+                && !checkIdentifiers(ascii, offset, buildStart + 1,
+                    length, masks, false)) {
+                result = FAILED;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Checks the three numbers of the version core.
+     *
+     * @param ascii the bytes holding the version
+     * @param offset first index of the version
+     * @param coreEnd index after the core, relative to offset
+     * @param coreDots mask of the two dots in the core
+     * @return {@link #PASSED}, {@link #FAILED} or {@link #UNDECIDED}
+     */
+    private static int checkCore(
+        final byte[] ascii,
+        final int offset,
+        final int coreEnd,
+        final long coreDots
+    ) {
+        final int minorStart = Long.numberOfTrailingZeros(coreDots) + 1;
+        final int patchStart = Long.SIZE
+            - Long.numberOfLeadingZeros(coreDots);
+        final int[] starts = {0, minorStart, patchStart};
+        final int[] ends = {minorStart - 1, patchStart - 1, coreEnd};
+        int result = PASSED;
+        for (int i = 0; i < starts.length && result != FAILED; i++) {
+            final int digits = ends[i] - starts[i];
+            if (digits == 0
+                || digits > 1 && ascii[offset + starts[i]] == '0') {
+                result = FAILED;
+            } else if (digits > SAFE_DIGITS) {
+                result = UNDECIDED;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Checks dot-separated prerelease or build identifiers, which the
+     * class masks already restrict to digits, letters and hyphens.
+     *
+     * @param ascii the bytes holding the version
+     * @param offset first index of the version
+     * @param start first index of the identifiers, relative to offset
+     * @param end index after the identifiers, relative to offset
+     * @param masks the class masks of the version
+     * @param prerelease whether prerelease identifier rules apply
+     * @return true if every identifier is well formed
+     */
+    private static boolean checkIdentifiers(
+        final byte[] ascii,
+        final int offset,
+        final int start,
+        final int end,
+        final long[] masks,
+        final boolean prerelease
+    ) {
+        long dots = masks[DOTS] & below(end) & ~below(start);
+        boolean valid = true;
+        int identifierStart = start;
+        while (valid && identifierStart <= end) {
+            final int identifierEnd = dots == 0 ? end
+                : Long.numberOfTrailingZeros(dots);
+            dots &= dots - 1;
+            valid = identifierEnd > identifierStart;
+            if (valid && prerelease) {
+                final long span = below(identifierEnd)
+                    & ~below(identifierStart);
+                if ((span & (masks[LETTERS] | masks[HYPHENS])) == 0) {
+                    valid = identifierEnd - identifierStart == 1
+                        || ascii[offset + identifierStart] != '0';
+                } else {
+                    valid = (masks[LETTERS] >>> identifierStart & 1) != 0
+                        && (masks[HYPHENS] >>> (identifierEnd - 1) & 1) == 0;
+                }
+            }
+            identifierStart = identifierEnd + 1;
+        }
+        return valid;
+    }
+
+    /**
+     * Returns a mask of the bits below an index.
+     *
+     * @param index the index, 0 to 64
+     * @return a mask with bits 0 to {@code index - 1} set
+     */
+    private static long below(final int index) {
+        long result = -1L;
+        if (index < MAX_LENGTH) {
+            result = (1L << index) - 1;
+        }
+        return result;
+    }
+}
@@ -0,0 +1,146 @@
+package com.neu.semver;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+
+/**
+ * Unit tests for the BatchValidator class.
+ *
+ * @author Yinlu Gong
+ * @version 0.1.0
+ * @since 0.1.0
+ */
+@DisplayName("BatchValidator Tests")
+class BatchValidatorTest {
+
+    private static final List<String> SAMPLES = Arrays.asList(
+        "0.0.0", "1.2.3", "10.20.30", "1.0.0-alpha", "1.0.0-alpha.1",
+        "1.0.0-0.3.7", "1.0.0-x.7.z.92", "1.0.0-alpha+001", "1.0.0+20130313144700",
+        "1.0.0-beta+exp.sha.5114f85", "1.0.0-a-b", "1.0.0+-", "2147483647.0.0",
+        "", "1", "1.2", "1.2.3.4", "01.2.3", "1.02.3", "1.2.03", "1.2.3-",
+        "1.2.3+", "1.2.3-01", "1.2.3-alpha..1", "1.2.3-alpha-", "1.2.3-1a",
+        "1.2.3-al$pha", "1.2.3+build..1", "1.2.3 ", "v1.2.3", "2147483648.0.0",
+        "1.2.3-ä", "1.2.3+a+b", "-1.2.3", "1..3", "1.2.3-alpha.1+",
+        "9223372036854775807.0.0", "9223372036854775808.0.0",
+        "1.0.0-" + "a".repeat(256), "1.0.0-" + "a".repeat(300),
+        "1.0.0-" + "a.".repeat(127) + "a", "1.0.0-" + "a.".repeat(128) + "a",
+        "1.0.0+" + "1234567.".repeat(127) + "1", "1.0.0+" + "1234567.".repeat(128) + "1",
+        "999999999999999999.0.0", "0.999999999999999999.0-0", "1.2.3-Z.a-1.0+-.0.x",
+        "1.2.3-a.b.c.d.e.f.g.h.i.j.k.l.m.n.o.p.q.r.s.t.u.v.w.x.y.z.0.1.2.3",
+        "1.2.3-a.b.c.d.e.f.g.h.i.j.k.l.m.n.o.p.q.r.s.t.u.v.w.x.y.z.0.1.2.34"
+    );
+
+    private static final String[] TOKENS = {
+        "0", "1", "01", "42", "999999999999999999", "9999999999999999999",
+        "a", "Z", "-", "a-", "-a", "0a", ".", ".", "+", "x", "/", "ä"
+    };
+
+    @Nested
+    @DisplayName("Consistency Tests")
+    class ConsistencyTests {
+
+        @Test
+        @DisplayName("Should agree with the parser on every sample")
+        void shouldAgreeWithParserOnEverySample() {
+            for (String sample : SAMPLES) {
+                boolean accepted;
+                try {
+                    SemVerParser.parse(sample);
+                    accepted = true;
+                } catch (IllegalArgumentException e) {
+                    accepted = false;
+                }
+                boolean parsed = accepted && sample.equals(sample.trim());
+                assertEquals(parsed, BatchValidator.isValid(sample), sample);
+                assertEquals(accepted, SemVerUtils.isValidVersion(sample), sample);
+            }
+        }
+
+        @Test
+        @DisplayName("Should validate bytes like strings")
+        void shouldValidateBytesLikeStrings() {
+            for (String sample : SAMPLES) {
+                byte[] bytes = ("<" + sample + ">").getBytes(StandardCharsets.UTF_8);
+                assertEquals(BatchValidator.isValid(sample),
+                    BatchValidator.isValid(bytes, 1, bytes.length - 2), sample);
+            }
+        }
+
+        @Test
+        @DisplayName("Should validate random bytes like the scalar scanner")
+        void shouldValidateRandomBytesLikeScalarScanner() {
+            Random random = new Random(42);
+            for (int i = 0; i < 100_000; i++) {
+                StringBuilder text = new StringBuilder();
+                int tokens = random.nextInt(24);
+                for (int j = 0; j < tokens; j++) {
+                    text.append(TOKENS[random.nextInt(TOKENS.length)]);
+                }
+                if (random.nextBoolean()) {
+                    text.insert(0, "1.2.3-".substring(0, random.nextInt(7)));
+                }
+                byte[] bytes = ("." + text + ".").getBytes(StandardCharsets.UTF_8);
+                int length = bytes.length - 2;
+                assertEquals(BatchValidator.isValidScalar(bytes, 1, length),
+                    BatchValidator.isValid(bytes, 1, length), text.toString());
+            }
+        }
+
+        @Test
+        @DisplayName("Should use the Vector API when enabled")
+        void shouldUseVectorApiWhenEnabled() {
+            assumeTrue(Boolean.getBoolean(BatchValidator.VECTOR_PROPERTY));
+            assertTrue(BatchValidator.isVectorized());
+        }
+
+        @Test
+        @DisplayName("Should reject bulk entries over the parser limits")
+        void shouldRejectBulkEntriesOverParserLimits() {
+            BitSet valid = BatchValidator.validate(Arrays.asList(
+                "1.0.0-" + "a".repeat(256), "1.0.0-" + "a".repeat(257)));
+            assertEquals("{0}", valid.toString());
+        }
+    }
+
+    @Nested
+    @DisplayName("Bulk Validation Tests")
+    class BulkValidationTests {
+
+        @Test
+        @DisplayName("Should mark valid entries in a bit set")
+        void shouldMarkValidEntriesInBitSet() {
+            BitSet valid = BatchValidator.validate(Arrays.asList("1.0.0", "bad", null, "2.0.0-rc.1"));
+            assertEquals("{0, 3}", valid.toString());
+        }
+
+        @Test
+        @DisplayName("Should validate byte regions")
+        void shouldValidateByteRegions() {
+            byte[] bytes = "xx1.0.0-rc.1yy".getBytes(StandardCharsets.US_ASCII);
+            assertTrue(BatchValidator.isValid(bytes, 2, 10));
+            assertFalse(BatchValidator.isValid(bytes, 0, 12));
+            byte[] latin = {'1', '.', '0', '.', '0', '-', (byte) 0xE4};
+            assertFalse(BatchValidator.isValid(latin, 0, latin.length));
+        }
+
+        @Test
+        @DisplayName("Should reject bad arguments")
+        void shouldRejectBadArguments() {
+            assertFalse(BatchValidator.isValid((CharSequence) null));
+            assertThrows(IllegalArgumentException.class, () -> BatchValidator.validate(null));
+            assertThrows(IllegalArgumentException.class, () -> BatchValidator.isValid(null, 0, 0));
+            assertThrows(IndexOutOfBoundsException.class,
+                () -> BatchValidator.isValid(new byte[2], 1, 2));
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package com.neu.semver;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeFalse;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for BlockingExecutors. Surefire runs them against the
+ * compiled classes and failsafe against the multi-release jar, which
+ * selects the Java 21 implementation on Java 21 and later.
+ *
+ * @author Yinlu Gong
+ * @version 0.1.0
+ * @since 0.1.0
+ */
+@DisplayName("BlockingExecutors Tests")
+class BlockingExecutorsTest {
+
+    @Test
+    @DisplayName("Should load the implementation for the class path and JVM")
+    void shouldLoadImplementationForClassPathAndJvm() {
+        String classes = System.getProperty("semver.classes");
+        assumeTrue(classes != null, "run by surefire or failsafe");
+        boolean versioned = classes.equals("jar") && Runtime.version().feature() >= 21;
+        assertEquals(versioned, BlockingExecutors.usesVirtualThreads());
+        assertEquals(versioned ? Integer.MAX_VALUE : 64, BlockingExecutors.concurrency());
+    }
+
+    @Test
+    @DisplayName("Should run blocked tasks at once on named daemon threads")
+    void shouldRunBlockedTasksAtOnce() throws Exception {
+        int tasks = 32;
+        CountDownLatch started = new CountDownLatch(tasks);
+        ExecutorService executor = BlockingExecutors.newExecutor("test-pool");
+        try {
+            List<Future<Thread>> threads = new ArrayList<>();
+            for (int i = 0; i < tasks; i++) {
+                threads.add(executor.submit(() -> {
+                    started.countDown();
+                    // Every task blocks until all have started.
+                    assertTrue(started.await(10, TimeUnit.SECONDS));
+                    return Thread.currentThread();
+                }));
+            }
+            for (Future<Thread> future : threads) {
+                Thread thread = future.get(10, TimeUnit.SECONDS);
+                assertTrue(thread.getName().startsWith("test-pool-"), thread.getName());
+                assertTrue(thread.isDaemon());
+            }
+        } finally {
+            executor.shutdown();
+        }
+        assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+    }
+
+    @Test
+    @DisplayName("Should reject tasks beyond the platform thread limit")
+    void shouldRejectTasksBeyondPlatformThreadLimit() throws Exception {
+        assumeFalse(BlockingExecutors.usesVirtualThreads(), "platform threads only");
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch started = new CountDownLatch(BlockingExecutors.concurrency());
+        ExecutorService executor = BlockingExecutors.newExecutor("bounded");
+        try {
+            for (int i = 0; i < BlockingExecutors.concurrency(); i++) {
+                executor.execute(() -> {
+                    started.countDown();
+                    try {
+                        release.await();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                });
+            }
+            assertTrue(started.await(10, TimeUnit.SECONDS));
+            assertThrows(RejectedExecutionException.class, () -> executor.execute(() -> { }));
+        } finally {
+            release.countDown();
+            executor.shutdown();
+        }
+        assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+    }
+
+    @Test
+    @DisplayName("Should reject a null name")
+    void shouldRejectNullName() {
+        assertThrows(IllegalArgumentException.class, () -> BlockingExecutors.newExecutor(null));
+    }
+}
@@ -0,0 +1,103 @@
+package com.neu.semver;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Locale;
+import java.util.Random;
+
+/**
+ * Measures sort throughput of {@link SemVerComparator} against a
+ * field-by-field comparator.
+ *
+ * <p>The field-by-field comparator is the comparison without the packed
+ * core key: three {@code long} comparisons through the getters, then the
+ * prerelease identifiers on a tie. Both sort copies of the same arrays.
+ * The release-heavy dataset has one prerelease in twenty versions spread
+ * over many cores; the prerelease-heavy dataset has four prereleases in
+ * five versions over few cores, so most comparisons tie on the core.
+ *
+ * <pre>
+ * java -cp target/classes:target/test-classes com.neu.semver.ComparatorBenchmark [versions]
+ * </pre>
+ *
+ * @author Yinlu Gong
+ * @version 0.1.0
+ * @since 0.1.0
+ */
+final class ComparatorBenchmark {
+
+    private static final int DEFAULT_VERSIONS = 1_000_000;
+    private static final int ROUNDS = 9;
+    private static final double NANOS_PER_SECOND = 1_000_000_000.0;
+    private static final String[] TAGS = {"alpha", "beta", "rc", "SNAPSHOT"};
+
+    private static final Comparator<SemVer> FIELD_BY_FIELD = (version1, version2) -> {
+        int result = Long.compare(version1.getMajorLong(), version2.getMajorLong());
+        if (result == 0) {
+            result = Long.compare(version1.getMinorLong(), version2.getMinorLong());
+        }
+        if (result == 0) {
+            result = Long.compare(version1.getPatchLong(), version2.getPatchLong());
+        }
+        if (result == 0) {
+            result = SemVerComparator.comparePrerelease(
+                version1.getPrerelease(), version2.getPrerelease());
+        }
+        return result;
+    };
+
+    private ComparatorBenchmark() { }
+
+    public static void main(String[] args) {
+        int versions = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_VERSIONS;
+        report("release-heavy", dataset(versions, 5, 1000, 1), versions);
+        report("prerelease-heavy", dataset(versions, 80, 4, 2), versions);
+    }
+
+    /** Builds versions over {@code cores} cores with the given share of prereleases. */
+    private static SemVer[] dataset(int versions, int prereleasePercent, int cores, long seed) {
+        Random random = new Random(seed);
+        SemVer[] result = new SemVer[versions];
+        for (int i = 0; i < versions; i++) {
+            StringBuilder text = new StringBuilder()
+                .append(random.nextInt(cores) / 100).append('.')
+                .append(random.nextInt(cores) / 10 % 10).append('.')
+                .append(random.nextInt(cores) % 10);
+            if (random.nextInt(100) < prereleasePercent) {
+                text.append('-').append(TAGS[random.nextInt(TAGS.length)])
+                    .append('.').append(random.nextInt(50));
+            }
+            result[i] = SemVerParser.parse(text.toString());
+        }
+        return result;
+    }
+
+    private static void report(String label, SemVer[] versions, int count) {
+        long[] interpreted = new long[ROUNDS];
+        long[] keyed = new long[ROUNDS];
+        for (int round = 0; round < ROUNDS; round++) {
+            SemVer[] copy = versions.clone();
+            long start = System.nanoTime();
+            Arrays.sort(copy, FIELD_BY_FIELD);
+            interpreted[round] = System.nanoTime() - start;
+
+            SemVer[] keyedCopy = versions.clone();
+            start = System.nanoTime();
+            Arrays.sort(keyedCopy, SemVerComparator.INSTANCE);
+            keyed[round] = System.nanoTime() - start;
+            if (!Arrays.equals(copy, keyedCopy)) {
+                throw new IllegalStateException("comparators disagree");
+            }
+        }
+        System.out.printf(Locale.ROOT,
+            "%-16s %d versions  field by field: %5.2f M versions/s  core key: %5.2f M versions/s"
+                + "  (medians of %d rounds)%n",
+            label, count, count / median(interpreted) / 1e6, count / median(keyed) / 1e6, ROUNDS);
+    }
+
+    private static double median(long[] nanos) {
+        long[] sorted = nanos.clone();
+        Arrays.sort(sorted);
+        return sorted[sorted.length / 2] / NANOS_PER_SECOND;
+    }
+}
@@ -0,0 +1,106 @@
+package com.neu.semver;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Locale;
+import java.util.Random;
+
+/**
+ * Compares interpreted and compiled range evaluation over many versions.
+ *
+ * <p>Each range is evaluated against the same versions, one in ten of
+ * them a prerelease, by four paths: {@link VersionRange#satisfies} in a
+ * loop, {@link CompiledRange#matches} in a loop,
+ * {@link CompiledRange#filter(SemVer[])} and the columnar
+ * {@link CompiledRange#filter(int[], int[], int[], String[])}. The
+ * number of matches is checked to be the same on every path.
+ *
+ * <pre>
+ * java -cp target/classes:target/test-classes com.neu.semver.CompiledRangeBenchmark [versions]
+ * </pre>
+ *
+ * @author Yinlu Gong
+ * @version 0.1.0
+ * @since 0.1.0
+ */
+final class CompiledRangeBenchmark {
+
+    private static final int DEFAULT_VERSIONS = 2_000_000;
+    private static final int ROUNDS = 9;
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+    private static final String[] RANGES = {
+        ">=2.1.0 <3.0.0", "^1.2.3 || ~2.4.0 || >=5.0.0-rc.1 <6.0.0", "^1.0.0 || ^3.0.0 || ^7.0.0"
+    };
+
+    private CompiledRangeBenchmark() { }
+
+    public static void main(String[] args) {
+        int count = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_VERSIONS;
+        Random random = new Random(1);
+        SemVer[] versions = new SemVer[count];
+        int[] major = new int[count];
+        int[] minor = new int[count];
+        int[] patch = new int[count];
+        String[] prerelease = new String[count];
+        for (int i = 0; i < count; i++) {
+            major[i] = random.nextInt(8);
+            minor[i] = random.nextInt(10);
+            patch[i] = random.nextInt(20);
+            prerelease[i] = random.nextInt(10) == 0 ? "rc." + random.nextInt(5) : null;
+            versions[i] = SemVerParser.parse(major[i] + "." + minor[i] + "." + patch[i]
+                + (prerelease[i] == null ? "" : "-" + prerelease[i]));
+        }
+        for (String text : RANGES) {
+            VersionRange range = VersionRange.parse(text);
+            CompiledRange compiled = range.compile();
+            long[][] nanos = new long[4][ROUNDS];
+            int[] matches = new int[4];
+            for (int round = 0; round < ROUNDS; round++) {
+                long start = System.nanoTime();
+                int found = 0;
+                for (SemVer version : versions) {
+                    if (range.satisfies(version)) {
+                        found++;
+                    }
+                }
+                nanos[0][round] = System.nanoTime() - start;
+                matches[0] = found;
+
+                start = System.nanoTime();
+                found = 0;
+                for (SemVer version : versions) {
+                    if (compiled.matches(version)) {
+                        found++;
+                    }
+                }
+                nanos[1][round] = System.nanoTime() - start;
+                matches[1] = found;
+
+                start = System.nanoTime();
+                BitSet filtered = compiled.filter(versions);
+                nanos[2][round] = System.nanoTime() - start;
+                matches[2] = filtered.cardinality();
+
+                start = System.nanoTime();
+                filtered = compiled.filter(major, minor, patch, prerelease);
+                nanos[3][round] = System.nanoTime() - start;
+                matches[3] = filtered.cardinality();
+            }
+            if (Arrays.stream(matches).distinct().count() != 1) {
+                throw new IllegalStateException("paths disagree on " + text + ": "
+                    + Arrays.toString(matches));
+            }
+            System.out.printf(Locale.ROOT,
+                "%-40s interpreted %6.1f ms  compiled %6.1f ms  filter %6.1f ms  columns %6.1f ms"
+                    + "  (%d of %d match, medians of %d rounds)%n",
+                text, median(nanos[0]), median(nanos[1]), median(nanos[2]), median(nanos[3]),
+                matches[0], count, ROUNDS);
+        }
+    }
+
+    private static double median(long[] nanos) {
+        long[] sorted = nanos.clone();
+        Arrays.sort(sorted);
+        return sorted[sorted.length / 2] / NANOS_PER_MILLI;
+    }
+}
@@ -0,0 +1,170 @@
+package com.neu.semver;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.BitSet;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for the CompiledRange class.
+ *
+ * @author Yinlu Gong
+ * @version 0.1.0
+ * @since 0.1.0
+ */
+@DisplayName("CompiledRange Tests")
+class CompiledRangeTest {
+
+    private static final String[] RANGES = {
+        "*", "^1.2.3", "~1.2.3", ">=1.0.0 <2.0.0", "1.5.0", "<1.0.0 || >=3.0.0",
+        ">1.0.0 <=1.0.0", "^0.2.3 || ^1.0.0 || 2.0.0-rc.1", ">=2.0.0-alpha <2.0.0",
+        "<=1.2.3", ">1.2.3", ">=3000000.0.0 <3000001.0.0", "<2097152.0.0"
+    };
+
+    private static final String[] SAMPLES = {
+        "0.0.0-0", "0.0.1", "0.2.3", "0.2.9", "0.3.0-0", "1.0.0-alpha", "1.0.0",
+        "1.0.1", "1.2.2", "1.2.3", "1.2.3-beta", "1.2.4", "1.3.0-0", "1.5.0",
+        "1.5.0+build", "1.9.9", "2.0.0-0", "2.0.0-alpha", "2.0.0-rc.1", "2.0.0",
+        "3.0.0", "10.0.0", "2097151.0.0", "2097152.0.0", "3000000.0.0-rc.1",
+        "3000000.0.0", "3000000.5.7", "3000001.0.0"
+    };
+
+    @Nested
+    @DisplayName("Agreement Tests")
+    class AgreementTests {
+
+        @Test
+        @DisplayName("Should agree with satisfies for every sample")
+        void testAgreesWithSatisfies() {
+            for (String text : RANGES) {
+                VersionRange range = VersionRange.parse(text);
+                CompiledRange compiled = range.compile();
+                for (String sample : SAMPLES) {
+                    SemVer version = new SemVer(sample);
+                    assertEquals(range.satisfies(version), compiled.matches(version),
+                        text + " on " + sample);
+                }
+            }
+        }
+
+        @Test
+        @DisplayName("Should work as a predicate")
+        void testPredicate() {
+            CompiledRange compiled = VersionRange.parse("^1.0.0").compile();
+            assertTrue(compiled.test(new SemVer("1.4.0")));
+            assertFalse(compiled.test(new SemVer("2.0.0")));
+        }
+    }
+
+    @Nested
+    @DisplayName("Structure Tests")
+    class StructureTests {
+
+        @Test
+        @DisplayName("Should cache the compiled form")
+        void testCached() {
+            VersionRange range = VersionRange.parse("~1.2.3");
+            assertSame(range.compile(), range.compile());
+        }
+
+        @Test
+        @DisplayName("Should merge overlapping alternatives")
+        void testMerged() {
+            assertEquals(1, VersionRange.parse(">=1.0.0 <1.5.0 || >=1.5.0 <2.0.0")
+                .compile().intervalCount());
+            assertEquals(0, VersionRange.parse(">1.0.0 <=1.0.0").compile().intervalCount());
+        }
+
+        @Test
+        @DisplayName("Should reject null versions")
+        void testNull() {
+            assertThrows(IllegalArgumentException.class,
+                () -> VersionRange.parse("*").compile().matches(null));
+        }
+    }
+
+    @Nested
+    @DisplayName("Filter Tests")
+    class FilterTests {
+
+        private SemVer[] versions(int count) {
+            SemVer[] result = new SemVer[count];
+            for (int i = 0; i < count; i++) {
+                result[i] = new SemVer(SAMPLES[i % SAMPLES.length]);
+            }
+            return result;
+        }
+
+        @Test
+        @DisplayName("Should filter version arrays like satisfies")
+        void testFilterVersions() {
+            SemVer[] versions = versions(SAMPLES.length);
+            for (String text : RANGES) {
+                VersionRange range = VersionRange.parse(text);
+                BitSet matches = range.filter(versions);
+                for (int i = 0; i < versions.length; i++) {
+                    assertEquals(range.satisfies(versions[i]), matches.get(i),
+                        text + " on " + versions[i]);
+                }
+            }
+        }
+
+        @Test
+        @DisplayName("Should filter columns like satisfies")
+        void testFilterColumns() {
+            SemVer[] versions = versions(SAMPLES.length);
+            int[] major = new int[versions.length];
+            int[] minor = new int[versions.length];
+            int[] patch = new int[versions.length];
+            String[] prerelease = new String[versions.length];
+            for (int i = 0; i < versions.length; i++) {
+                major[i] = versions[i].getMajor();
+                minor[i] = versions[i].getMinor();
+                patch[i] = versions[i].getPatch();
+                prerelease[i] = versions[i].getPrerelease();
+            }
+            for (String text : RANGES) {
+                VersionRange range = VersionRange.parse(text);
+                assertEquals(range.filter(versions),
+                    range.filter(major, minor, patch, prerelease), text);
+            }
+        }
+
+        @Test
+        @DisplayName("Should treat a missing prerelease column as releases")
+        void testReleaseColumns() {
+            BitSet matches = VersionRange.parse("^1.0.0").filter(
+                new int[] {0, 1, 1, 2}, new int[] {9, 0, 7, 0},
+                new int[] {9, 0, 3, 0}, null);
+            assertEquals("{1, 2}", matches.toString());
+        }
+
+        @Test
+        @DisplayName("Should give the same result in parallel")
+        void testParallel() {
+            SemVer[] versions = versions(50_003);
+            CompiledRange compiled = VersionRange.parse("^0.2.3 || >=2.0.0-alpha <3.0.0")
+                .compile();
+            BitSet sequential = compiled.filter(versions);
+            assertEquals(sequential, compiled.filter(versions, true));
+            assertFalse(sequential.isEmpty());
+        }
+
+        @Test
+        @DisplayName("Should reject malformed columns")
+        void testMalformedColumns() {
+            VersionRange range = VersionRange.parse("*");
+            assertThrows(IllegalArgumentException.class,
+                () -> range.filter(new int[1], new int[2], new int[1], null));
+            assertThrows(IllegalArgumentException.class,
+                () -> range.filter(new int[] {-1}, new int[1], new int[1], null));
+            assertThrows(IllegalArgumentException.class,
+                () -> range.filter(null, new int[1], new int[1], null));
+            assertThrows(IllegalArgumentException.class,
+                () -> range.filter((SemVer[]) null));
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package com.neu.semver;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for Digits.
+ *
+ * @author Yinlu Gong
+ * @version 0.1.0
+ * @since 0.1.0
+ */
+@DisplayName("Digits Tests")
+class DigitsTest {
+
+    @Test
+    @DisplayName("Should append digits below the limit")
+    void shouldAppendDigitsBelowLimit() {
+        assertEquals(7, Digits.append(0, 7));
+        assertEquals(129, Digits.append(12, 9));
+        assertEquals(Long.MAX_VALUE, Digits.append(Long.MAX_VALUE / 10, 7));
+    }
+
+    @Test
+    @DisplayName("Should report overflow at every boundary")
+    void shouldReportOverflowAtEveryBoundary() {
+        assertEquals(Digits.OVERFLOW, Digits.append(Long.MAX_VALUE / 10, 8));
+        assertEquals(Digits.OVERFLOW, Digits.append(Long.MAX_VALUE / 10 + 1, 0));
+        assertEquals(Digits.OVERFLOW, Digits.append(Long.MAX_VALUE / 5, 9));
+        assertEquals(Digits.OVERFLOW, Digits.append(Long.MAX_VALUE, 9));
+        // The product fits in 64 unsigned bits, but adding the digit carries past them.
+        assertEquals(Digits.OVERFLOW, Digits.append(1_844_674_407_370_955_161L, 9));
+    }
+}
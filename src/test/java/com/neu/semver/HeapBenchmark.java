@@ -0,0 +1,80 @@
+package com.neu.semver;
+
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.function.IntFunction;
+
+/**
+ * Measures the retained heap of parsed versions.
+ *
+ * <p>Each scenario fills one preallocated array, forces collections
+ * before and after, and divides the growth in used heap by the number of
+ * elements. Half the versions are releases and half carry a prerelease
+ * and build metadata. The scenarios are the input strings alone, versions
+ * parsed from canonical input, whose text is not kept, the same versions
+ * after {@link SemVer#toString()} has cached their rendering, and
+ * versions parsed leniently from {@code v}-prefixed input, which keep
+ * their original text. Give the JVM enough heap for the count, about
+ * 1 GiB per 5M versions.
+ *
+ * <pre>
+ * java -Xmx4g -cp target/classes:target/test-classes com.neu.semver.HeapBenchmark [versions]
+ * </pre>
+ *
+ * @author Yinlu Gong
+ * @version 0.1.0
+ * @since 0.1.0
+ */
+final class HeapBenchmark {
+
+    private static final int DEFAULT_VERSIONS = 1_000_000;
+    private static final int GC_PASSES = 5;
+    private static final SemVerParser.Options LENIENT =
+        SemVerParser.Options.builder().mode(SemVerParser.Mode.LENIENT).build();
+
+    private HeapBenchmark() { }
+
+    public static void main(String[] args) throws InterruptedException {
+        int versions = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_VERSIONS;
+        Object[] slots = new Object[versions];
+        measure("input strings", slots, HeapBenchmark::text);
+        measure("canonical input", slots, i -> SemVerParser.parse(text(i)));
+        measure("after toString", slots, i -> {
+            SemVer version = SemVerParser.parse(text(i));
+            version.toString();
+            return version;
+        });
+        measure("v-prefixed input", slots, i -> SemVerParser.parse("v" + text(i), LENIENT));
+    }
+
+    private static String text(int i) {
+        StringBuilder text = new StringBuilder()
+            .append(i % 20).append('.').append(i / 20 % 100).append('.').append(i / 2000);
+        if (i % 2 == 1) {
+            text.append("-rc.").append(i % 7).append("+build.").append(i);
+        }
+        return text.toString();
+    }
+
+    private static void measure(String label, Object[] slots, IntFunction<Object> factory)
+            throws InterruptedException {
+        Arrays.fill(slots, null);
+        long before = usedHeap();
+        for (int i = 0; i < slots.length; i++) {
+            slots[i] = factory.apply(i);
+        }
+        long after = usedHeap();
+        System.out.printf(Locale.ROOT, "%-17s %d versions: %6.1f bytes each, %7.1f MiB%n",
+            label, slots.length, (after - before) / (double) slots.length,
+            (after - before) / (1024.0 * 1024.0));
+    }
+
+    private static long usedHeap() throws InterruptedException {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < GC_PASSES; i++) {
+            System.gc();
+            Thread.sleep(20);
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
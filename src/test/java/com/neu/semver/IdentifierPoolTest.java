@@ -0,0 +1,170 @@
+package com.neu.semver;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+
+/**
+ * Unit tests for the IdentifierPool class.
+ *
+ * @author Yinlu Gong
+ * @version 0.1.0
+ * @since 0.1.0
+ */
+@DisplayName("IdentifierPool Tests")
+class IdentifierPoolTest {
+
+    @Nested
+    @DisplayName("Interning Tests")
+    class InterningTests {
+
+        @Test
+        @DisplayName("Should return the same instance for equal values")
+        void shouldReturnSameInstanceForEqualValues() {
+            IdentifierPool pool = new IdentifierPool(16);
+            String first = new String("alpha");
+            assertSame(first, pool.intern(first));
+            assertEquals(0, pool.size());
+            String second = pool.intern(new String("alpha"));
+            String third = pool.intern(new String("alpha"));
+            assertSame(second, third);
+            assertEquals(1, pool.size());
+        }
+
+        @Test
+        @DisplayName("Should pass null through")
+        void shouldPassNullThrough() {
+            IdentifierPool pool = new IdentifierPool(16);
+            assertNull(pool.intern(null));
+            assertEquals(0, pool.lookups());
+        }
+
+        @Test
+        @DisplayName("Should evict to make room once capacity is reached")
+        void shouldEvictOnceCapacityIsReached() {
+            IdentifierPool pool = new IdentifierPool(1);
+            pool.intern("alpha");
+            pool.intern("alpha");
+            pool.intern("beta");
+            String beta = pool.intern(new String("beta"));
+            assertSame(beta, pool.intern(new String("beta")));
+            assertEquals(1, pool.size());
+            assertEquals(1, pool.capacity());
+        }
+
+        @Test
+        @DisplayName("Should still pool common tags after many unique ids")
+        void shouldPoolCommonTagsAfterUniqueIds() {
+            IdentifierPool pool = new IdentifierPool(64);
+            for (int i = 0; i < 100_000; i++) {
+                pool.intern("ci." + i);
+            }
+            assertTrue(pool.size() < 64);
+            pool.intern(new String("SNAPSHOT"));
+            String pooled = pool.intern(new String("SNAPSHOT"));
+            assertSame(pooled, pool.intern(new String("SNAPSHOT")));
+        }
+
+        @Test
+        @DisplayName("Should never exceed capacity under concurrent admission")
+        void shouldNotExceedCapacityConcurrently() throws InterruptedException {
+            IdentifierPool pool = new IdentifierPool(8);
+            CountDownLatch start = new CountDownLatch(1);
+            AtomicBoolean exceeded = new AtomicBoolean();
+            List<Thread> threads = new ArrayList<>();
+            for (int t = 0; t < 4; t++) {
+                Thread thread = new Thread(() -> {
+                    try {
+                        start.await();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    for (int i = 0; i < 20_000; i++) {
+                        String value = "tag." + (i % 200);
+                        pool.intern(value);
+                        if (pool.size() > 8) {
+                            exceeded.set(true);
+                        }
+                    }
+                });
+                threads.add(thread);
+                thread.start();
+            }
+            start.countDown();
+            for (Thread thread : threads) {
+                thread.join();
+            }
+            assertFalse(exceeded.get());
+            assertTrue(pool.size() <= 8);
+            assertTrue(pool.hits() > 0);
+        }
+
+        @Test
+        @DisplayName("Should reject non-positive capacity")
+        void shouldRejectNonPositiveCapacity() {
+            assertThrows(IllegalArgumentException.class, () -> new IdentifierPool(0));
+        }
+    }
+
+    @Nested
+    @DisplayName("Statistics Tests")
+    class StatisticsTests {
+
+        @Test
+        @DisplayName("Should report dedupe ratio")
+        void shouldReportDedupeRatio() {
+            IdentifierPool pool = new IdentifierPool(16);
+            assertEquals(0.0, pool.dedupeRatio());
+            // Noted, pooled, then deduplicated twice.
+            pool.intern("rc.1");
+            pool.intern("rc.1");
+            pool.intern("rc.1");
+            pool.intern("rc.1");
+            assertEquals(4, pool.lookups());
+            assertEquals(2, pool.hits());
+            assertEquals(0.5, pool.dedupeRatio(), 1e-9);
+        }
+
+        @Test
+        @DisplayName("Should reset on clear")
+        void shouldResetOnClear() {
+            IdentifierPool pool = new IdentifierPool(16);
+            pool.intern("alpha");
+            pool.intern("alpha");
+            assertEquals(1, pool.size());
+            pool.clear();
+            assertEquals(0, pool.size());
+            assertEquals(0, pool.lookups());
+        }
+    }
+
+    @Nested
+    @DisplayName("Parser Integration Tests")
+    class ParserIntegrationTests {
+
+        @Test
+        @DisplayName("Should share prerelease and build strings across parses")
+        void shouldSharePrereleaseAndBuildStrings() {
+            IdentifierPool pool = new IdentifierPool(16);
+            SemVerParser.parse("0.9.0-beta.1+ci.42", pool);
+            SemVer version1 = SemVerParser.parse("1.0.0-beta.1+ci.42", pool);
+            SemVer version2 = SemVerParser.parse("2.3.4-beta.1+ci.42", pool);
+            assertSame(version1.getPrerelease(), version2.getPrerelease());
+            assertSame(version1.getBuild(), version2.getBuild());
+        }
+
+        @Test
+        @DisplayName("Should parse without a pool")
+        void shouldParseWithoutPool() {
+            SemVer version = SemVerParser.parse("1.0.0-alpha", (IdentifierPool) null);
+            assertEquals("alpha", version.getPrerelease());
+        }
+    }
+}
@@ -0,0 +1,137 @@
+package com.neu.semver;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.concurrent.Callable;
+
+/**
+ * Compares the baseline and Java 21 classes of the multi-release jar on
+ * the running JVM.
+ *
+ * <p>The jar is run twice in fresh JVMs, once as is and once with
+ * {@code -Djdk.util.jar.enableMultiRelease=false}, which makes the JVM
+ * ignore {@code META-INF/versions} and load the Java 11 baseline. Each
+ * run loads versions from many sources through {@link VersionLoader},
+ * where every source blocks for a few milliseconds before its first
+ * byte, like an HTTP response. It then parses versions with large
+ * numeric components from memory and sorts them with
+ * {@link SemVerComparator}; neither has versioned code, so both serve as
+ * controls.
+ *
+ * <pre>
+ * java -cp target/test-classes com.neu.semver.MultiReleaseBenchmark \
+ *     target/semver-java-0.1.0.jar [sources] [latency-ms]
+ * </pre>
+ *
+ * @author Yinlu Gong
+ * @version 0.1.0
+ * @since 0.1.0
+ */
+final class MultiReleaseBenchmark {
+
+    private static final String RUN = "--run";
+    private static final int DEFAULT_SOURCES = 2000;
+    private static final int DEFAULT_LATENCY_MILLIS = 5;
+    private static final int VERSIONS_PER_SOURCE = 20;
+    private static final int NUMERIC_VERSIONS = 200_000;
+    private static final int ROUNDS = 7;
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+
+    private MultiReleaseBenchmark() { }
+
+    public static void main(String[] args) throws Exception {
+        if (args.length > 0 && args[0].equals(RUN)) {
+            run(args[1], Integer.parseInt(args[2]), Integer.parseInt(args[3]));
+        } else if (args.length >= 1 && args.length <= 3) {
+            String sources = args.length > 1 ? args[1] : String.valueOf(DEFAULT_SOURCES);
+            String latency = args.length > 2 ? args[2] : String.valueOf(DEFAULT_LATENCY_MILLIS);
+            fork(args[0], "baseline", sources, latency, "-Djdk.util.jar.enableMultiRelease=false");
+            fork(args[0], "java" + Runtime.version().feature(), sources, latency);
+        } else {
+            System.err.println("usage: MultiReleaseBenchmark <jar> [sources] [latency-ms]");
+            System.exit(2);
+        }
+    }
+
+    private static void fork(String jar, String label, String sources, String latency,
+            String... options) throws IOException, InterruptedException {
+        String testClasses = new File(MultiReleaseBenchmark.class.getProtectionDomain()
+            .getCodeSource().getLocation().getPath()).getPath();
+        List<String> command = new ArrayList<>();
+        command.add(System.getProperty("java.home") + File.separator + "bin" + File.separator + "java");
+        command.addAll(Arrays.asList(options));
+        command.add("-cp");
+        command.add(jar + File.pathSeparator + testClasses);
+        command.add(MultiReleaseBenchmark.class.getName());
+        command.add(RUN);
+        command.add(label);
+        command.add(sources);
+        command.add(latency);
+        int status = new ProcessBuilder(command).inheritIO().start().waitFor();
+        if (status != 0) {
+            throw new IllegalStateException(label + " run exited with " + status);
+        }
+    }
+
+    private static void run(String label, int sources, int latencyMillis) throws IOException {
+        StringBuilder content = new StringBuilder();
+        for (int i = 0; i < VERSIONS_PER_SOURCE; i++) {
+            content.append("1.").append(i).append(".0-rc.").append(i).append('\n');
+        }
+        String text = content.toString();
+        List<Callable<Reader>> list = new ArrayList<>();
+        for (int i = 0; i < sources; i++) {
+            list.add(() -> {
+                Thread.sleep(latencyMillis);
+                return new StringReader(text);
+            });
+        }
+
+        Random random = new Random(1);
+        String[] numeric = new String[NUMERIC_VERSIONS];
+        for (int i = 0; i < NUMERIC_VERSIONS; i++) {
+            numeric[i] = (random.nextLong() >>> 1) + "." + (random.nextLong() >>> 20) + "."
+                + random.nextInt(Integer.MAX_VALUE) + "-rc." + random.nextInt(1000);
+        }
+        SemVer[] sorted = new SemVer[NUMERIC_VERSIONS];
+
+        long[] load = new long[ROUNDS];
+        long[] parse = new long[ROUNDS];
+        long[] sort = new long[ROUNDS];
+        int results = 0;
+        for (int round = 0; round < ROUNDS; round++) {
+            long start = System.nanoTime();
+            results += VersionLoader.loadAll(list).size();
+            load[round] = System.nanoTime() - start;
+
+            start = System.nanoTime();
+            for (int i = 0; i < NUMERIC_VERSIONS; i++) {
+                sorted[i] = SemVerParser.tryParse(numeric[i], 0, numeric[i].length());
+            }
+            parse[round] = System.nanoTime() - start;
+
+            start = System.nanoTime();
+            Arrays.sort(sorted, SemVerComparator.INSTANCE);
+            sort[round] = System.nanoTime() - start;
+            results += sorted[0].hashCode() & 1;
+        }
+        System.out.printf(Locale.ROOT,
+            "%-9s virtual threads %-5b  load %d sources: %7.1f ms  parse %d: %6.1f ms  "
+                + "sort %d: %6.1f ms  (medians of %d rounds, %d results)%n",
+            label, BlockingExecutors.usesVirtualThreads(), sources, median(load),
+            NUMERIC_VERSIONS, median(parse), NUMERIC_VERSIONS, median(sort), ROUNDS, results);
+    }
+
+    private static double median(long[] nanos) {
+        long[] sorted = nanos.clone();
+        Arrays.sort(sorted);
+        return sorted[sorted.length / 2] / NANOS_PER_MILLI;
+    }
+}
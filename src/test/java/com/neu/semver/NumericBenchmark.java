@@ -0,0 +1,82 @@
+package com.neu.semver;
+
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.Random;
+
+/**
+ * Measures parsing and sorting of versions with small and large numbers.
+ *
+ * <p>The small dataset has core numbers below 1000 and numeric
+ * prerelease identifiers below 100, the common case that must not slow
+ * down. The large dataset has date-based majors such as
+ * {@code 20240101123000} and prerelease build numbers beyond the
+ * {@code int} range. Only public API is used, so the benchmark can be
+ * run against older builds; a build that rejects the large dataset
+ * reports so instead of a time.
+ *
+ * <pre>
+ * java -cp target/classes:target/test-classes com.neu.semver.NumericBenchmark [versions]
+ * </pre>
+ *
+ * @author Yinlu Gong
+ * @version 0.1.0
+ * @since 0.1.0
+ */
+final class NumericBenchmark {
+
+    private static final int DEFAULT_VERSIONS = 500_000;
+    private static final int ROUNDS = 9;
+    private static final double NANOS_PER_SECOND = 1_000_000_000.0;
+    private static final long DATE_BASE = 20_240_101_000_000L;
+    private static final long BUILD_BASE = 10_000_000_000L;
+
+    private NumericBenchmark() { }
+
+    public static void main(String[] args) {
+        int versions = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_VERSIONS;
+        Random random = new Random(1);
+        String[] small = new String[versions];
+        String[] large = new String[versions];
+        for (int i = 0; i < versions; i++) {
+            small[i] = random.nextInt(1000) + "." + random.nextInt(1000) + "."
+                + random.nextInt(1000) + "-rc." + random.nextInt(100);
+            large[i] = (DATE_BASE + random.nextInt(1_000_000)) + ".0." + random.nextInt(10)
+                + "-build." + (BUILD_BASE + random.nextInt(1_000_000));
+        }
+        run("small", small);
+        run("large", large);
+    }
+
+    private static void run(String label, String[] texts) {
+        SemVer[] versions = new SemVer[texts.length];
+        String result;
+        try {
+            long[] parse = new long[ROUNDS];
+            long[] sort = new long[ROUNDS];
+            for (int round = 0; round < ROUNDS; round++) {
+                long start = System.nanoTime();
+                for (int i = 0; i < texts.length; i++) {
+                    versions[i] = SemVerParser.parse(texts[i]);
+                }
+                parse[round] = System.nanoTime() - start;
+
+                start = System.nanoTime();
+                Arrays.sort(versions, SemVerComparator.INSTANCE);
+                sort[round] = System.nanoTime() - start;
+            }
+            result = String.format(Locale.ROOT, "parse %5.2f M/s  sort %5.2f M/s",
+                texts.length / median(parse) / 1e6, texts.length / median(sort) / 1e6);
+        } catch (RuntimeException e) {
+            result = "rejected: " + e;
+        }
+        System.out.printf(Locale.ROOT, "%-6s %d versions  %s  (medians of %d rounds)%n",
+            label, texts.length, result, ROUNDS);
+    }
+
+    private static double median(long[] nanos) {
+        long[] sorted = nanos.clone();
+        Arrays.sort(sorted);
+        return sorted[sorted.length / 2] / NANOS_PER_SECOND;
+    }
+}
@@ -0,0 +1,159 @@
+package com.neu.semver;
+
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.Random;
+import java.util.function.Function;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Measures parse throughput of each {@link SemVerParser.Mode} against
+ * regular expression cleanup followed by a strict parse.
+ *
+ * <p>The cleanup is the kind of code callers wrote before the lenient
+ * and coerce modes existed: find the first version-like match, rebuild
+ * it with leading zeros removed and missing numbers defaulted, then
+ * parse the result strictly. Three datasets are run through every path
+ * that accepts all of their inputs: canonical versions, lenient
+ * spellings such as {@code "v01.2"} and {@code " 3 "}, and versions
+ * embedded in text such as {@code "release v1.2.3 (final)"}.
+ *
+ * <pre>
+ * java -cp target/classes:target/test-classes com.neu.semver.ParserModesBenchmark [inputs]
+ * </pre>
+ *
+ * @author Yinlu Gong
+ * @version 0.1.0
+ * @since 0.1.0
+ */
+final class ParserModesBenchmark {
+
+    private static final int DEFAULT_INPUTS = 200_000;
+    private static final int ROUNDS = 9;
+    private static final double NANOS_PER_SECOND = 1_000_000_000.0;
+    private static final Pattern CLEANUP = Pattern.compile(
+        "(\\d+)(?:\\.(\\d+))?(?:\\.(\\d+))?(?:-([0-9A-Za-z-]+(?:\\.[0-9A-Za-z-]+)*))?"
+            + "(?:\\+([0-9A-Za-z-]+(?:\\.[0-9A-Za-z-]+)*))?");
+    private static final String[] PATHS = {"strict", "lenient", "coerce", "regex cleanup"};
+
+    /** Keeps the parsed results observable so the loop is not removed. */
+    private static volatile long sink;
+
+    private ParserModesBenchmark() { }
+
+    public static void main(String[] args) {
+        int inputs = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_INPUTS;
+        Random random = new Random(1);
+        String[] canonical = new String[inputs];
+        String[] lenient = new String[inputs];
+        String[] text = new String[inputs];
+        for (int i = 0; i < inputs; i++) {
+            int major = random.nextInt(20);
+            int minor = random.nextInt(100);
+            int patch = random.nextInt(1000);
+            String suffix = i % 2 == 0 ? "" : "-rc." + random.nextInt(10);
+            canonical[i] = major + "." + minor + "." + patch + suffix;
+            switch (i % 3) {
+                case 0:
+                    lenient[i] = "v" + major + "." + minor + suffix;
+                    break;
+                case 1:
+                    lenient[i] = " 0" + major + ".0" + minor + "." + patch + suffix + " ";
+                    break;
+                default:
+                    lenient[i] = "V" + major;
+                    break;
+            }
+            text[i] = "release v" + canonical[i] + " (build " + i + ")";
+        }
+        run("canonical", canonical);
+        run("lenient", lenient);
+        run("text", text);
+    }
+
+    private static void run(String label, String[] inputs) {
+        StringBuilder line = new StringBuilder(String.format(Locale.ROOT, "%-10s", label));
+        for (String path : PATHS) {
+            Function<String, SemVer> parser = parser(path);
+            String result;
+            if (acceptsAll(parser, inputs)) {
+                long[] nanos = new long[ROUNDS];
+                long checksum = 0;
+                for (int round = 0; round < ROUNDS; round++) {
+                    long start = System.nanoTime();
+                    for (String input : inputs) {
+                        checksum += parser.apply(input).getPatchLong();
+                    }
+                    nanos[round] = System.nanoTime() - start;
+                }
+                sink = checksum;
+                result = String.format(Locale.ROOT, "%5.2f M/s", inputs.length / median(nanos) / 1e6);
+            } else {
+                result = "rejects";
+            }
+            line.append(String.format(Locale.ROOT, "  %s: %-9s", path, result));
+        }
+        System.out.println(line + "  (" + inputs.length + " inputs, medians of " + ROUNDS + " rounds)");
+    }
+
+    private static Function<String, SemVer> parser(String path) {
+        Function<String, SemVer> result;
+        switch (path) {
+            case "strict":
+                result = SemVerParser::parse;
+                break;
+            case "lenient":
+                result = mode(SemVerParser.Mode.LENIENT);
+                break;
+            case "coerce":
+                result = mode(SemVerParser.Mode.COERCE);
+                break;
+            default:
+                result = ParserModesBenchmark::cleanup;
+                break;
+        }
+        return result;
+    }
+
+    private static Function<String, SemVer> mode(SemVerParser.Mode mode) {
+        SemVerParser.Options options = SemVerParser.Options.builder().mode(mode).build();
+        return input -> SemVerParser.parse(input, options);
+    }
+
+    private static SemVer cleanup(String input) {
+        Matcher matcher = CLEANUP.matcher(input);
+        if (!matcher.find()) {
+            throw new InvalidSemVerException("no version in " + input);
+        }
+        StringBuilder version = new StringBuilder()
+            .append(Long.parseLong(matcher.group(1))).append('.')
+            .append(matcher.group(2) == null ? 0 : Long.parseLong(matcher.group(2))).append('.')
+            .append(matcher.group(3) == null ? 0 : Long.parseLong(matcher.group(3)));
+        if (matcher.group(4) != null) {
+            version.append('-').append(matcher.group(4));
+        }
+        if (matcher.group(5) != null) {
+            version.append('+').append(matcher.group(5));
+        }
+        return SemVerParser.parse(version.toString());
+    }
+
+    private static boolean acceptsAll(Function<String, SemVer> parser, String[] inputs) {
+        boolean result = true;
+        for (int i = 0; i < inputs.length && result; i++) {
+            try {
+                parser.apply(inputs[i]);
+            } catch (IllegalArgumentException e) {
+                result = false;
+            }
+        }
+        return result;
+    }
+
+    private static double median(long[] nanos) {
+        long[] sorted = nanos.clone();
+        Arrays.sort(sorted);
+        return sorted[sorted.length / 2] / NANOS_PER_SECOND;
+    }
+}
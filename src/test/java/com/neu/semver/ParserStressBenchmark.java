@@ -0,0 +1,107 @@
+package com.neu.semver;
+
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.function.IntFunction;
+
+/**
+ * Measures parser latency on hostile inputs as they grow to megabytes.
+ *
+ * <p>Each input shape is built at sizes from 1 KiB to 4 MiB and parsed
+ * under {@link ParserLimits#DEFAULT}, which rejects it before scanning,
+ * and under {@link ParserLimits#UNLIMITED}, which scans it to the end.
+ * The shapes are the ones that hurt a backtracking regular expression or
+ * a whole-input {@code trim()}: a long alphanumeric identifier that fails
+ * on its last character, many short identifiers with a trailing dot,
+ * surrounding whitespace and a huge numeric component. Every shape is
+ * invalid. After a warm-up at small sizes, the report gives
+ * the median and worst latency per size for the default limits, and the
+ * median and worst latency per byte without limits; both should stay flat as the
+ * input grows.
+ *
+ * <pre>
+ * java -cp target/classes:target/test-classes com.neu.semver.ParserStressBenchmark [rounds]
+ * </pre>
+ *
+ * @author Yinlu Gong
+ * @version 0.1.0
+ * @since 0.1.0
+ */
+final class ParserStressBenchmark {
+
+    private static final int DEFAULT_ROUNDS = 15;
+    private static final int WARMUP_SIZE = 1 << 10;
+    private static final int WARMUP_ROUNDS = 5_000;
+    private static final int[] SIZES = {1 << 10, 1 << 14, 1 << 18, 1 << 20, 1 << 22};
+    private static final String[] NAMES = {
+        "long identifier", "many identifiers", "whitespace", "huge number"
+    };
+    private static final IntFunction<?>[] SHAPES = {
+        size -> "1.0.0-" + "a-".repeat(size / 2) + "-",
+        size -> "1.0.0-" + "0a.".repeat(size / 3),
+        size -> " ".repeat(size / 2) + "1.0.0-" + " ".repeat(size / 2),
+        size -> "9".repeat(size) + ".0.0"
+    };
+
+    private ParserStressBenchmark() { }
+
+    public static void main(String[] args) {
+        int rounds = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_ROUNDS;
+        int failures = 0;
+        for (IntFunction<?> shape : SHAPES) {
+            String input = (String) shape.apply(WARMUP_SIZE);
+            for (int round = 0; round < WARMUP_ROUNDS; round++) {
+                failures += Math.min(time(input, ParserLimits.UNLIMITED), 0);
+                failures += Math.min(time(input + input, ParserLimits.DEFAULT), 0);
+            }
+        }
+        for (int shape = 0; shape < SHAPES.length; shape++) {
+            for (int size : SIZES) {
+                String input = (String) SHAPES[shape].apply(size);
+                long[] limited = new long[rounds];
+                long[] unlimited = new long[rounds];
+                for (int round = 0; round < rounds; round++) {
+                    limited[round] = time(input, ParserLimits.DEFAULT);
+                    unlimited[round] = time(input, ParserLimits.UNLIMITED);
+                }
+                failures += Math.min(limited[0], 0) + Math.min(unlimited[0], 0);
+                System.out.printf(Locale.ROOT,
+                    "%-16s %8d bytes  default limits: median %7.1f us, worst %7.1f us"
+                        + "  unlimited: median %5.2f, worst %6.2f ns/byte%n",
+                    NAMES[shape], input.length(), median(limited) / 1000.0,
+                    max(limited) / 1000.0, (double) median(unlimited) / input.length(),
+                    (double) max(unlimited) / input.length());
+            }
+        }
+        if (failures != 0) {
+            throw new IllegalStateException("a hostile input was accepted");
+        }
+    }
+
+    /**
+     * Parses one input and returns the elapsed nanoseconds, negated if
+     * the input was accepted, which none of the shapes should be.
+     */
+    private static long time(String input, ParserLimits limits) {
+        long start = System.nanoTime();
+        boolean accepted;
+        try {
+            SemVerParser.parse(input, limits);
+            accepted = true;
+        } catch (InvalidSemVerException e) {
+            accepted = false;
+        }
+        long elapsed = System.nanoTime() - start;
+        return accepted ? -elapsed : elapsed;
+    }
+
+    private static long median(long[] nanos) {
+        long[] sorted = nanos.clone();
+        Arrays.sort(sorted);
+        return sorted[sorted.length / 2];
+    }
+
+    private static long max(long[] nanos) {
+        return Arrays.stream(nanos).max().getAsLong();
+    }
+}
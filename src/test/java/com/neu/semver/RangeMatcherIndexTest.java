@@ -0,0 +1,145 @@
+package com.neu.semver;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for the RangeMatcherIndex class.
+ *
+ * @author Yinlu Gong
+ * @version 0.1.0
+ * @since 0.1.0
+ */
+@DisplayName("RangeMatcherIndex Tests")
+class RangeMatcherIndexTest {
+
+    private static final String[] RANGES = {
+        "*", "^1.2.3", "~1.2.3", ">=1.0.0 <2.0.0", "1.5.0", "<1.0.0 || >=3.0.0",
+        ">1.0.0 <=1.0.0", "^0.2.3 || ^1.0.0 || 2.0.0-rc.1", ">=2.0.0-alpha <2.0.0",
+        "<=1.2.3", ">1.2.3", ">=1.2.3", ">1.2.3 <1.2.4"
+    };
+
+    private static final String[] SAMPLES = {
+        "0.0.0-0", "0.2.3", "0.2.9", "0.3.0", "1.0.0-alpha", "1.0.0", "1.2.2",
+        "1.2.3", "1.2.3-beta", "1.2.4", "1.5.0", "1.9.9", "2.0.0-alpha",
+        "2.0.0-rc.1", "2.0.0", "3.0.0", "10.0.0"
+    };
+
+    private static int[] expected(List<VersionRange> ranges, List<Integer> ids,
+            SemVer version) {
+        List<Integer> result = new ArrayList<>();
+        for (int i = 0; i < ranges.size(); i++) {
+            if (ranges.get(i) != null && ranges.get(i).satisfies(version)) {
+                result.add(ids.get(i));
+            }
+        }
+        return result.stream().sorted().mapToInt(Integer::intValue).toArray();
+    }
+
+    @Nested
+    @DisplayName("Lookup Tests")
+    class LookupTests {
+
+        @Test
+        @DisplayName("Should return exactly the satisfied ranges")
+        void testMatchesSatisfies() {
+            RangeMatcherIndex index = new RangeMatcherIndex();
+            List<VersionRange> ranges = new ArrayList<>();
+            List<Integer> ids = new ArrayList<>();
+            for (int i = 0; i < RANGES.length; i++) {
+                ranges.add(VersionRange.parse(RANGES[i]));
+                ids.add(100 - i);
+                index.add(100 - i, ranges.get(i));
+            }
+            for (String sample : SAMPLES) {
+                SemVer version = new SemVer(sample);
+                assertArrayEquals(expected(ranges, ids, version), index.matching(version),
+                    sample);
+            }
+        }
+
+        @Test
+        @DisplayName("Should stay consistent under random updates")
+        void testRandomUpdates() {
+            Random random = new Random(42);
+            RangeMatcherIndex index = new RangeMatcherIndex();
+            List<VersionRange> ranges = new ArrayList<>();
+            List<Integer> ids = new ArrayList<>();
+            for (int i = 0; i < 500; i++) {
+                ids.add(i);
+                ranges.add(null);
+            }
+            for (int step = 0; step < 3000; step++) {
+                int id = random.nextInt(500);
+                if (random.nextInt(3) == 0) {
+                    assertEquals(ranges.get(id) != null, index.remove(id));
+                    ranges.set(id, null);
+                } else {
+                    VersionRange range = VersionRange.parse(
+                        RANGES[random.nextInt(RANGES.length)]);
+                    index.add(id, range);
+                    ranges.set(id, range);
+                }
+            }
+            for (String sample : SAMPLES) {
+                SemVer version = new SemVer(sample);
+                assertArrayEquals(expected(ranges, ids, version), index.matching(version),
+                    sample);
+            }
+            assertEquals(ranges.stream().filter(r -> r != null).count(), index.size());
+        }
+
+        @Test
+        @DisplayName("Should return nothing when empty")
+        void testEmpty() {
+            RangeMatcherIndex index = new RangeMatcherIndex();
+            assertEquals(0, index.matching(new SemVer("1.0.0")).length);
+        }
+    }
+
+    @Nested
+    @DisplayName("Update Tests")
+    class UpdateTests {
+
+        @Test
+        @DisplayName("Should replace a range registered under the same id")
+        void testReplace() {
+            RangeMatcherIndex index = new RangeMatcherIndex();
+            index.add(7, VersionRange.parse("^1.0.0 || ^3.0.0"));
+            assertEquals(2, index.intervalCount());
+            index.add(7, VersionRange.parse("^2.0.0"));
+            assertEquals(1, index.size());
+            assertEquals(1, index.intervalCount());
+            assertEquals(0, index.matching(new SemVer("1.2.0")).length);
+            assertArrayEquals(new int[] {7}, index.matching(new SemVer("2.2.0")));
+        }
+
+        @Test
+        @DisplayName("Should remove ranges")
+        void testRemove() {
+            RangeMatcherIndex index = new RangeMatcherIndex();
+            index.add(1, VersionRange.parse("*"));
+            assertTrue(index.contains(1));
+            assertTrue(index.remove(1));
+            assertFalse(index.remove(1));
+            assertFalse(index.contains(1));
+            assertEquals(0, index.intervalCount());
+        }
+
+        @Test
+        @DisplayName("Should reject null arguments")
+        void testNull() {
+            RangeMatcherIndex index = new RangeMatcherIndex();
+            assertThrows(IllegalArgumentException.class,
+                () -> index.add(1, (VersionRange) null));
+            assertThrows(IllegalArgumentException.class, () -> index.matching(null));
+        }
+    }
+}
@@ -319,4 +319,89 @@ class SemVerComparatorTest {
             }
         }
     }
+
+    @Nested
+    @DisplayName("Core Key Fast Path Tests")
+    class CoreKeyFastPathTests {
+
+        @Test
+        @DisplayName("Should order packed cores like component comparison")
+        void shouldOrderPackedCoresLikeComponentComparison() {
+            SemVer lower = new SemVer("1.2097151.2097151");
+            SemVer higher = new SemVer("2.0.0");
+            assertTrue(SemVerComparator.INSTANCE.compare(lower, higher) < 0);
+            assertTrue(SemVerComparator.INSTANCE.compare(higher, lower) > 0);
+        }
+
+        @Test
+        @DisplayName("Should fall back when a component exceeds the key range")
+        void shouldFallBackWhenComponentExceedsKeyRange() {
+            SemVer packed = new SemVer("3.0.0");
+            SemVer unpacked = new SemVer("2.2097152.0");
+            SemVer unpackedHigher = new SemVer("2.2097153.0");
+            assertTrue(SemVerComparator.INSTANCE.compare(unpacked, packed) < 0);
+            assertTrue(SemVerComparator.INSTANCE.compare(packed, unpacked) > 0);
+            assertTrue(SemVerComparator.INSTANCE.compare(unpacked, unpackedHigher) < 0);
+        }
+
+        @Test
+        @DisplayName("Should only consult prerelease on core ties")
+        void shouldOnlyConsultPrereleaseOnCoreTies() {
+            SemVer prerelease = new SemVer("1.0.0-rc.1");
+            SemVer release = new SemVer("1.0.0");
+            SemVer release2 = new SemVer("1.0.0+build");
+            assertTrue(SemVerComparator.INSTANCE.compare(prerelease, release) < 0);
+            assertEquals(0, SemVerComparator.INSTANCE.compare(release, release2));
+            assertEquals(0, SemVerComparator.INSTANCE.compare(prerelease, prerelease));
+        }
+    }
+
+    @Nested
+    @DisplayName("Large Number Tests")
+    class LargeNumberTests {
+
+        @Test
+        @DisplayName("Should order cores beyond the int range")
+        void shouldOrderCoresBeyondIntRange() {
+            SemVer date1 = new SemVer("20240101123000.0.0");
+            SemVer date2 = new SemVer("20240101123001.0.0");
+            SemVer small = new SemVer("2147483647.0.0");
+            assertTrue(SemVerComparator.compareVersions(date1, date2) < 0);
+            assertTrue(SemVerComparator.compareVersions(small, date1) < 0);
+            assertEquals(0, SemVerComparator.compareVersions(date1, new SemVer("20240101123000.0.0")));
+        }
+
+        @Test
+        @DisplayName("Should compare numeric identifiers beyond any primitive range")
+        void shouldCompareHugeNumericIdentifiers() {
+            SemVer shorter = new SemVer("1.0.0-build.99999999999999999999");
+            SemVer longer = new SemVer("1.0.0-build.100000000000000000000");
+            SemVer sameLength = new SemVer("1.0.0-build.99999999999999999998");
+            assertTrue(SemVerComparator.compareVersions(shorter, longer) < 0);
+            assertTrue(SemVerComparator.compareVersions(sameLength, shorter) < 0);
+            assertEquals(0, SemVerComparator.compareVersions(shorter,
+                new SemVer("1.0.0-build.99999999999999999999")));
+        }
+
+        @Test
+        @DisplayName("Should keep overflowing identifiers numeric")
+        void shouldKeepOverflowingIdentifiersNumeric() {
+            SemVer numeric = new SemVer("1.0.0-2147483648");
+            SemVer alpha = new SemVer("1.0.0-a");
+            assertTrue(SemVerComparator.compareVersions(numeric, alpha) < 0);
+            assertTrue(SemVerComparator.compareVersions(
+                new SemVer("1.0.0-2147483647"), numeric) < 0);
+        }
+
+        @Test
+        @DisplayName("Should compare identifier lists of different lengths")
+        void shouldCompareIdentifierListsOfDifferentLengths() {
+            assertTrue(SemVerComparator.compareVersions(
+                new SemVer("1.0.0-alpha"), new SemVer("1.0.0-alpha.1")) < 0);
+            assertTrue(SemVerComparator.compareVersions(
+                new SemVer("1.0.0-alpha.beta"), new SemVer("1.0.0-alpha.1")) > 0);
+            assertTrue(SemVerComparator.compareVersions(
+                new SemVer("1.0.0-alph"), new SemVer("1.0.0-alpha")) < 0);
+        }
+    }
 }
@@ -0,0 +1,131 @@
+package com.neu.semver;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for the SemVerDiff class.
+ *
+ * @author Yinlu Gong
+ * @version 0.1.0
+ * @since 0.1.0
+ */
+@DisplayName("SemVerDiff Tests")
+class SemVerDiffTest {
+
+    private static SemVerDiff.Change classify(String version1, String version2) {
+        return SemVerDiff.classify(new SemVer(version1), new SemVer(version2));
+    }
+
+    private static List<SemVer> history(String... versions) {
+        List<SemVer> result = new ArrayList<>();
+        for (String version : versions) {
+            result.add(new SemVer(version));
+        }
+        return result;
+    }
+
+    @Nested
+    @DisplayName("Classify Tests")
+    class ClassifyTests {
+
+        @Test
+        @DisplayName("Should name the most significant changed field")
+        void testFields() {
+            assertEquals(SemVerDiff.Change.MAJOR, classify("1.2.3", "2.0.0"));
+            assertEquals(SemVerDiff.Change.MINOR, classify("1.2.3", "1.3.3"));
+            assertEquals(SemVerDiff.Change.PATCH, classify("1.2.3-rc.1", "1.2.4"));
+            assertEquals(SemVerDiff.Change.PRERELEASE, classify("1.2.3-rc.1", "1.2.3"));
+            assertEquals(SemVerDiff.Change.PRERELEASE, classify("1.2.3-rc.1", "1.2.3-rc.2"));
+            assertEquals(SemVerDiff.Change.NONE, classify("1.2.3", "1.2.3"));
+        }
+
+        @Test
+        @DisplayName("Should be symmetric")
+        void testSymmetric() {
+            assertEquals(classify("2.0.0", "1.9.0"), classify("1.9.0", "2.0.0"));
+            assertEquals(classify("1.0.0", "1.0.0-alpha"), classify("1.0.0-alpha", "1.0.0"));
+        }
+
+        @Test
+        @DisplayName("Should classify build-only differences as BUILD")
+        void testBuild() {
+            assertEquals(SemVerDiff.Change.BUILD, classify("1.2.3+a", "1.2.3+b"));
+            assertEquals(SemVerDiff.Change.BUILD, classify("1.2.3", "1.2.3+b"));
+            assertEquals(SemVerDiff.Change.BUILD, classify("1.0.0-rc.1+a", "1.0.0-rc.1"));
+            assertEquals(SemVerDiff.Change.NONE, classify("1.2.3+b", "1.2.3+b"));
+            assertEquals(SemVerDiff.Change.MINOR, classify("1.2.3+a", "1.3.0+a"));
+        }
+
+        @Test
+        @DisplayName("Should handle components beyond int range")
+        void testLarge() {
+            assertEquals(SemVerDiff.Change.MAJOR, classify("4294967296.0.0", "4294967297.0.0"));
+        }
+
+        @Test
+        @DisplayName("Should reject null versions")
+        void testNull() {
+            assertThrows(IllegalArgumentException.class,
+                () -> SemVerDiff.classify(null, new SemVer("1.0.0")));
+        }
+    }
+
+    @Nested
+    @DisplayName("Transition Tests")
+    class TransitionTests {
+
+        @Test
+        @DisplayName("Should report each neighbouring pair")
+        void testTransitions() {
+            List<SemVerDiff.Change> changes = new ArrayList<>();
+            int count = SemVerDiff.transitions(
+                history("1.0.0-rc.1", "1.0.0", "1.0.1", "1.1.0", "1.1.0+b", "2.0.0"),
+                (from, to, change) -> changes.add(change));
+            assertEquals(5, count);
+            assertEquals(Arrays.asList(SemVerDiff.Change.PRERELEASE,
+                SemVerDiff.Change.PATCH, SemVerDiff.Change.MINOR,
+                SemVerDiff.Change.BUILD, SemVerDiff.Change.MAJOR), changes);
+        }
+
+        @Test
+        @DisplayName("Should accept a sorted version list")
+        void testSortedVersionList() {
+            SortedVersionList list = new SortedVersionList();
+            for (SemVer version : history("3.0.0", "1.0.0", "1.0.1", "2.0.0")) {
+                list.insert(version);
+            }
+            SemVerDiff.Summary summary = SemVerDiff.summarize(list);
+            assertEquals(3, summary.getTransitions());
+            assertEquals(2, summary.getCount(SemVerDiff.Change.MAJOR));
+            assertEquals(1, summary.getCount(SemVerDiff.Change.PATCH));
+            assertEquals(0, summary.getCount(SemVerDiff.Change.MINOR));
+            assertEquals(SemVerDiff.Change.MAJOR, summary.getOverall());
+        }
+
+        @Test
+        @DisplayName("Should summarize empty and single histories")
+        void testShortHistories() {
+            assertEquals(0, SemVerDiff.summarize(history()).getTransitions());
+            SemVerDiff.Summary summary = SemVerDiff.summarize(history("1.0.0"));
+            assertEquals(0, summary.getTransitions());
+            assertEquals(SemVerDiff.Change.NONE, summary.getOverall());
+        }
+
+        @Test
+        @DisplayName("Should reject unsorted histories")
+        void testUnsorted() {
+            assertThrows(IllegalArgumentException.class,
+                () -> SemVerDiff.summarize(history("1.0.0", "2.0.0", "1.5.0")));
+            assertThrows(IllegalArgumentException.class,
+                () -> SemVerDiff.summarize(null));
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package com.neu.semver;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+
+/**
+ * Unit tests for the Flight Recorder events.
+ *
+ * @author Yinlu Gong
+ * @version 0.1.0
+ * @since 0.1.0
+ */
+@DisplayName("SemVer JFR Event Tests")
+class SemVerEventsTest {
+
+    private static List<RecordedEvent> record(Runnable action) throws Exception {
+        Path file = Files.createTempFile("semver", ".jfr");
+        try (Recording recording = new Recording()) {
+            for (String name : new String[] {
+                "com.neu.semver.Parse", "com.neu.semver.Sort", "com.neu.semver.RangeEvaluate"}) {
+                recording.enable(name).withThreshold(Duration.ZERO);
+            }
+            recording.start();
+            action.run();
+            recording.stop();
+            recording.dump(file);
+            return RecordingFile.readAllEvents(file);
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    private static long count(List<RecordedEvent> events, String name) {
+        return events.stream().filter(e -> e.getEventType().getName().equals(name)).count();
+    }
+
+    @Nested
+    @DisplayName("Recording Tests")
+    class RecordingTests {
+
+        @Test
+        @DisplayName("Should record parse outcomes")
+        void shouldRecordParseOutcomes() throws Exception {
+            List<RecordedEvent> events = record(() -> {
+                SemVerParser.parse("1.2.3");
+                assertThrows(InvalidSemVerException.class, () -> SemVerParser.parse("bad"));
+            });
+            assertEquals(2, count(events, "com.neu.semver.Parse"));
+            RecordedEvent failure = events.stream()
+                .filter(e -> e.getEventType().getName().equals("com.neu.semver.Parse"))
+                .filter(e -> !e.getBoolean("success"))
+                .findFirst().orElseThrow();
+            assertEquals(3, failure.getInt("inputLength"));
+            assertNotNull(failure.getString("error"));
+        }
+
+        @Test
+        @DisplayName("Should record sort and highest operations")
+        void shouldRecordSortAndHighestOperations() throws Exception {
+            List<RecordedEvent> events = record(
+                () -> SemVerUtils.findHighestVersion(Arrays.asList("1.0.0", "2.0.0")));
+            assertEquals(1, count(events, "com.neu.semver.Sort"));
+            assertTrue(events.stream()
+                .filter(e -> e.getEventType().getName().equals("com.neu.semver.Sort"))
+                .allMatch(e -> e.getInt("inputSize") == 2 && e.getBoolean("success")));
+        }
+
+        @Test
+        @DisplayName("Should record range evaluations")
+        void shouldRecordRangeEvaluations() throws Exception {
+            VersionRegistry registry = new VersionRegistry();
+            registry.add("lib", new SemVer("1.0.0"));
+            registry.add("lib", new SemVer("2.0.0"));
+            List<RecordedEvent> events = record(
+                () -> registry.matching("lib", VersionRange.parse(">=1.5.0")));
+            RecordedEvent event = events.stream()
+                .filter(e -> e.getEventType().getName().equals("com.neu.semver.RangeEvaluate"))
+                .findFirst().orElseThrow();
+            assertEquals(">=1.5.0", event.getString("range"));
+            assertEquals(2, event.getInt("candidates"));
+            assertEquals(1, event.getInt("matches"));
+        }
+    }
+}
@@ -2,6 +2,9 @@ package com.neu.semver;
 
 import static org.junit.jupiter.api.Assertions.*;
 
+import java.nio.charset.StandardCharsets;
+import java.util.EnumSet;
+
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -319,4 +322,224 @@ class SemVerParserTest {
             assertEquals("1.0.0-alpha1.beta2.gamma3+build1.build2.build3", version.getOriginalVersion());
         }
     }
+
+    @Nested
+    @DisplayName("Parser Limit Tests")
+    class ParserLimitTests {
+
+        @Test
+        @DisplayName("Should reject input longer than the limit before trimming")
+        void shouldRejectOversizeInput() {
+            ParserLimits limits = ParserLimits.of(8, 4, 4);
+            InvalidSemVerException e = assertThrows(InvalidSemVerException.class,
+                () -> SemVerParser.parse(" 1.0.0  ", ParserLimits.of(7, 4, 4)));
+            assertTrue(e.getMessage().contains("maximum length of 7"));
+            assertEquals("1.0.0", SemVerParser.parse(" 1.0.0  ", limits).toString());
+        }
+
+        @Test
+        @DisplayName("Should not echo oversize input in the error message")
+        void shouldNotEchoOversizeInput() {
+            String huge = "1.0.0-" + "a".repeat(1_000_000);
+            InvalidSemVerException e = assertThrows(InvalidSemVerException.class,
+                () -> SemVerParser.parse(huge));
+            assertTrue(e.getMessage().length() < 100);
+        }
+
+        @Test
+        @DisplayName("Should enforce the identifier count across prerelease and build")
+        void shouldEnforceIdentifierCount() {
+            ParserLimits limits = ParserLimits.of(100, 3, 10);
+            assertNotNull(SemVerParser.parse("1.0.0-a.b+c", limits));
+            InvalidSemVerException e = assertThrows(InvalidSemVerException.class,
+                () -> SemVerParser.parse("1.0.0-a.b+c.d", limits));
+            assertTrue(e.getMessage().contains("more than 3 identifiers"));
+        }
+
+        @Test
+        @DisplayName("Should enforce the identifier length")
+        void shouldEnforceIdentifierLength() {
+            ParserLimits limits = ParserLimits.of(100, 10, 5);
+            assertNotNull(SemVerParser.parse("1.0.0-alpha+build", limits));
+            InvalidSemVerException e = assertThrows(InvalidSemVerException.class,
+                () -> SemVerParser.parse("1.0.0-alpha.sixsix", limits));
+            assertTrue(e.getMessage().contains("maximum length of 5"));
+        }
+
+        @Test
+        @DisplayName("Should accept long input when unlimited")
+        void shouldAcceptLongInputWhenUnlimited() {
+            String prerelease = "a" + "-b".repeat(50_000);
+            SemVer version = SemVerParser.parse("1.0.0-" + prerelease, ParserLimits.UNLIMITED);
+            assertEquals(prerelease, version.getPrerelease());
+        }
+
+        @Test
+        @DisplayName("Should reject pathological input in linear time")
+        void shouldRejectPathologicalInputQuickly() {
+            String input = "1.0.0-" + "a-".repeat(200_000) + "!";
+            assertTimeoutPreemptively(java.time.Duration.ofSeconds(2),
+                () -> assertThrows(InvalidSemVerException.class,
+                    () -> SemVerParser.parse(input, ParserLimits.UNLIMITED)));
+        }
+
+        @Test
+        @DisplayName("Should reject non-positive or null limits")
+        void shouldRejectInvalidLimits() {
+            assertThrows(IllegalArgumentException.class, () -> ParserLimits.of(0, 1, 1));
+            assertThrows(IllegalArgumentException.class, () -> ParserLimits.of(1, -1, 1));
+            assertThrows(IllegalArgumentException.class,
+                () -> SemVerParser.parse("1.0.0", (ParserLimits) null));
+        }
+    }
+
+    @Nested
+    @DisplayName("Parse Mode Tests")
+    class ParseModeTests {
+
+        private final SemVerParser.Options lenient =
+            SemVerParser.Options.builder().mode(SemVerParser.Mode.LENIENT).build();
+        private final SemVerParser.Options coerce =
+            SemVerParser.Options.builder().mode(SemVerParser.Mode.COERCE).build();
+
+        @Test
+        @DisplayName("Strict options should behave like parse")
+        void strictOptionsShouldMatchParse() {
+            assertEquals(SemVerParser.parse("1.2.3-beta"),
+                SemVerParser.parse("1.2.3-beta", SemVerParser.Options.DEFAULT));
+            assertThrows(InvalidSemVerException.class,
+                () -> SemVerParser.parse("v1.2.3", SemVerParser.Options.DEFAULT));
+            assertThrows(InvalidSemVerException.class,
+                () -> SemVerParser.parse("1.2", SemVerParser.Options.DEFAULT));
+        }
+
+        @Test
+        @DisplayName("Lenient mode should accept prefixes, short cores and leading zeros")
+        void lenientShouldNormalize() {
+            ParseResult result = SemVerParser.parseResult(" v01.2 ", lenient);
+            assertEquals("1.2.0", result.getVersion().toString());
+            assertEquals(EnumSet.of(Normalization.TRIMMED_WHITESPACE,
+                Normalization.STRIPPED_PREFIX, Normalization.DEFAULTED_PATCH,
+                Normalization.STRIPPED_LEADING_ZEROS), result.getNormalizations());
+            assertEquals(2, result.getStart());
+            assertEquals(6, result.getEnd());
+
+            result = SemVerParser.parseResult("3-SNAPSHOT", lenient);
+            assertEquals("3.0.0-SNAPSHOT", result.getVersion().toString());
+            assertEquals(EnumSet.of(Normalization.DEFAULTED_MINOR,
+                Normalization.DEFAULTED_PATCH), result.getNormalizations());
+        }
+
+        @Test
+        @DisplayName("Normalized versions should keep the input as their original version")
+        void normalizedVersionsShouldKeepOriginal() {
+            SemVer version = SemVerParser.parse("  v01.2 ", lenient);
+            assertEquals("1.2.0", version.toString());
+            assertEquals("v01.2", version.getOriginalVersion());
+            assertEquals(new SemVer("1.2.0"), version);
+            assertEquals("07.1", SemVerParser.parse("release v07.1 (final)", coerce).getOriginalVersion());
+            assertEquals("1.2.3", SemVerParser.parse(" 1.2.3 ", lenient).getOriginalVersion());
+            assertEquals("1.2.3", SemVerParser.parse("build 1.2.3.4", coerce).getOriginalVersion());
+        }
+
+        @Test
+        @DisplayName("Lenient mode should report nothing for canonical input")
+        void lenientShouldNotNormalizeCanonicalInput() {
+            ParseResult result = SemVerParser.parseResult("1.2.3-rc.1+b5", lenient);
+            assertFalse(result.isNormalized());
+            assertEquals("1.2.3-rc.1+b5", result.getVersion().toString());
+        }
+
+        @Test
+        @DisplayName("Lenient mode should still reject malformed input")
+        void lenientShouldRejectMalformedInput() {
+            for (String input : new String[] {"v", "1.2.3.4", "1.", "x1.2.3", "1.2.3-01"}) {
+                assertThrows(InvalidSemVerException.class,
+                    () -> SemVerParser.parse(input, lenient), input);
+            }
+        }
+
+        @Test
+        @DisplayName("Coerce mode should extract the first version from text")
+        void coerceShouldExtract() {
+            ParseResult result = SemVerParser.parseResult("release 1.2.3.4 (final)", coerce);
+            assertEquals("1.2.3", result.getVersion().toString());
+            assertEquals(EnumSet.of(Normalization.EXTRACTED_SUBSTRING),
+                result.getNormalizations());
+            assertEquals(8, result.getStart());
+            assertEquals(13, result.getEnd());
+
+            assertEquals("2.0.0-beta.1", SemVerParser.parse("app-v2-beta.1 build", coerce).toString());
+            assertEquals("1.2.3", SemVerParser.parse("1.2.3-", coerce).toString());
+            assertEquals("7.1.0", SemVerParser.parse("v07.1", coerce).toString());
+        }
+
+        @Test
+        @DisplayName("Coerce mode should skip candidates that are too large")
+        void coerceShouldSkipOversizeNumbers() {
+            assertEquals("4.5.0", SemVerParser.parse("99999999999999999999 then 4.5", coerce).toString());
+        }
+
+        @Test
+        @DisplayName("Coerce mode should fail when no version is present")
+        void coerceShouldFailWithoutDigits() {
+            InvalidSemVerException e = assertThrows(InvalidSemVerException.class,
+                () -> SemVerParser.parse("no version here", coerce));
+            assertTrue(e.getMessage().contains("No semantic version found"));
+        }
+
+        @Test
+        @DisplayName("Options should carry the pool and limits")
+        void optionsShouldCarryPoolAndLimits() {
+            IdentifierPool pool = new IdentifierPool(16);
+            SemVerParser.Options options = SemVerParser.Options.builder()
+                .mode(SemVerParser.Mode.LENIENT).pool(pool)
+                .limits(ParserLimits.of(16, 2, 8)).build();
+            SemVerParser.parse("v1-alpha", options);
+            SemVer second = SemVerParser.parse("v2-alpha", options);
+            SemVer third = SemVerParser.parse("v3-alpha", options);
+            assertSame(second.getPrerelease(), third.getPrerelease());
+            assertThrows(InvalidSemVerException.class,
+                () -> SemVerParser.parse("v1-a.b.c", options));
+            assertThrows(IllegalArgumentException.class,
+                () -> SemVerParser.Options.builder().mode(null));
+            assertThrows(IllegalArgumentException.class,
+                () -> SemVerParser.parse("1.0.0", (SemVerParser.Options) null));
+        }
+    }
+
+    @Nested
+    @DisplayName("Region Parsing Tests")
+    class RegionParsingTests {
+
+        @Test
+        @DisplayName("Should parse a region of text in place")
+        void testCharSequenceRegion() {
+            String text = "version=1.2.3-rc.1+b5;";
+            SemVer version = SemVerParser.tryParse(text, 8, text.length() - 1);
+            assertEquals(new SemVer("1.2.3-rc.1"), version);
+            assertEquals("b5", version.getBuild());
+            assertNull(SemVerParser.tryParse(text, 0, text.length()));
+            assertNull(SemVerParser.tryParse(text, 8, 8));
+        }
+
+        @Test
+        @DisplayName("Should parse a region of bytes in place")
+        void testByteRegion() {
+            byte[] bytes = "[\"2.0.0\",\"v1\"]".getBytes(StandardCharsets.US_ASCII);
+            assertEquals(new SemVer("2.0.0"), SemVerParser.tryParseAscii(bytes, 2, 5));
+            assertNull(SemVerParser.tryParseAscii(bytes, 10, 2));
+        }
+
+        @Test
+        @DisplayName("Should reject bad regions")
+        void testBadRegions() {
+            assertThrows(IllegalArgumentException.class,
+                () -> SemVerParser.tryParse((CharSequence) null, 0, 0));
+            assertThrows(IndexOutOfBoundsException.class,
+                () -> SemVerParser.tryParse("1.0.0", 2, 9));
+            assertThrows(IndexOutOfBoundsException.class,
+                () -> SemVerParser.tryParseAscii(new byte[3], -1, 2));
+        }
+    }
 }
@@ -403,4 +403,65 @@ class SemVerTest {
             assertNotEquals(version, "1.2.3");
         }
     }
+
+    @Nested
+    @DisplayName("Canonical Rendering Tests")
+    class CanonicalRenderingTests {
+
+        @Test
+        @DisplayName("Should render canonical string from fields")
+        void shouldRenderCanonicalStringFromFields() {
+            SemVer version = new SemVer("1.2.3-alpha.1+build.5");
+            assertEquals("1.2.3-alpha.1+build.5", version.toString());
+            assertEquals("1.2.3-alpha.1+build.5", version.getOriginalVersion());
+        }
+
+        @Test
+        @DisplayName("Should cache the rendered string")
+        void shouldCacheTheRenderedString() {
+            SemVer version = new SemVer("10.20.30-rc.1");
+            assertSame(version.toString(), version.toString());
+            assertSame(version.toString(), version.getOriginalVersion());
+        }
+
+        @Test
+        @DisplayName("Should render trimmed input without surrounding whitespace")
+        void shouldRenderTrimmedInput() {
+            SemVer version = new SemVer("  4.5.6+meta  ");
+            assertEquals("4.5.6+meta", version.toString());
+        }
+    }
+
+    @Nested
+    @DisplayName("Long Component Tests")
+    class LongComponentTests {
+
+        @Test
+        @DisplayName("Should parse date-based core numbers")
+        void shouldParseDateBasedCoreNumbers() {
+            SemVer version = new SemVer("20240101123000.0.0");
+            assertEquals(20240101123000L, version.getMajorLong());
+            assertEquals(0L, version.getMinorLong());
+            assertEquals("20240101123000.0.0", version.toString());
+            assertThrows(ArithmeticException.class, version::getMajor);
+        }
+
+        @Test
+        @DisplayName("Should accept long bounds and reject beyond them")
+        void shouldAcceptLongBounds() {
+            SemVer max = new SemVer("1.2." + Long.MAX_VALUE);
+            assertEquals(Long.MAX_VALUE, max.getPatchLong());
+            assertThrows(InvalidSemVerException.class,
+                () -> new SemVer("1.2.9223372036854775808"));
+        }
+
+        @Test
+        @DisplayName("Should keep int getters for small numbers")
+        void shouldKeepIntGettersForSmallNumbers() {
+            SemVer version = new SemVer(Integer.MAX_VALUE + ".1.2");
+            assertEquals(Integer.MAX_VALUE, version.getMajor());
+            assertEquals(1, version.getMinor());
+            assertEquals(2, version.getPatch());
+        }
+    }
 }
@@ -225,6 +225,17 @@ class SemVerUtilsTest {
                     "Version should be invalid: " + version);
             }
         }
+
+        @Test
+        @DisplayName("Should agree with the parser on padded versions")
+        void shouldAgreeWithParserOnPaddedVersions() {
+            String padded = " ".repeat(2000) + "1.0.0";
+            assertFalse(SemVerUtils.isValidVersion(padded));
+            assertThrows(InvalidSemVerException.class, () -> SemVerParser.parse(padded));
+            String trimmable = "\t 1.0.0-rc.1 \n";
+            assertTrue(SemVerUtils.isValidVersion(trimmable));
+            assertEquals("1.0.0-rc.1", SemVerParser.parse(trimmable).toString());
+        }
     }
 
     @Nested
@@ -253,6 +264,20 @@ class SemVerUtilsTest {
             assertFalse(incremented.hasBuild());
         }
 
+        @Test
+        @DisplayName("Should reject incrementing a number at Long.MAX_VALUE")
+        void shouldRejectIncrementOverflow() {
+            InvalidSemVerException e = assertThrows(InvalidSemVerException.class,
+                () -> SemVerUtils.nextMajor(new SemVer("9223372036854775807.0.0")));
+            assertEquals("Major version 9223372036854775807 cannot be incremented", e.getMessage());
+            assertThrows(InvalidSemVerException.class,
+                () -> SemVerUtils.nextMinor(new SemVer("1.9223372036854775807.0")));
+            assertThrows(InvalidSemVerException.class,
+                () -> SemVerUtils.nextPatch(new SemVer("1.0.9223372036854775807")));
+            assertEquals("9223372036854775807.0.0",
+                SemVerUtils.nextMajor(new SemVer("9223372036854775806.5.5")).toString());
+        }
+
         @Test
         @DisplayName("Should set major version correctly")
         void shouldSetMajorVersionCorrectly() {
@@ -0,0 +1,169 @@
+package com.neu.semver;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Random;
+import java.util.TreeSet;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+
+/**
+ * Unit tests for the SortedVersionList class.
+ *
+ * @author Yinlu Gong
+ * @version 0.1.0
+ * @since 0.1.0
+ */
+@DisplayName("SortedVersionList Tests")
+class SortedVersionListTest {
+
+    private static SortedVersionList listOf(String... versions) {
+        SortedVersionList list = new SortedVersionList();
+        for (String version : versions) {
+            list.insert(new SemVer(version));
+        }
+        return list;
+    }
+
+    @Nested
+    @DisplayName("Insert and Remove Tests")
+    class InsertAndRemoveTests {
+
+        @Test
+        @DisplayName("Should keep versions in ascending order")
+        void shouldKeepVersionsInAscendingOrder() {
+            SortedVersionList list = listOf("2.0.0", "1.0.0-alpha", "1.0.0", "1.10.0", "1.2.0");
+            List<String> actual = new ArrayList<>();
+            for (SemVer version : list) {
+                actual.add(version.toString());
+            }
+            assertEquals(List.of("1.0.0-alpha", "1.0.0", "1.2.0", "1.10.0", "2.0.0"), actual);
+        }
+
+        @Test
+        @DisplayName("Should remove by precedence")
+        void shouldRemoveByPrecedence() {
+            SortedVersionList list = listOf("1.0.0", "2.0.0", "3.0.0");
+            assertTrue(list.remove(new SemVer("2.0.0+other")));
+            assertFalse(list.remove(new SemVer("2.0.0")));
+            assertEquals(2, list.size());
+            assertEquals("3.0.0", list.select(1).toString());
+        }
+
+        @Test
+        @DisplayName("Should match a TreeSet under random operations")
+        void shouldMatchTreeSetUnderRandomOperations() {
+            Random random = new Random(42);
+            SortedVersionList list = new SortedVersionList();
+            TreeSet<SemVer> expected = new TreeSet<>(SemVerComparator.INSTANCE);
+            for (int i = 0; i < 5000; i++) {
+                SemVer version = new SemVer(random.nextInt(5) + "." + random.nextInt(20) + "." + random.nextInt(20));
+                if (random.nextInt(3) == 0) {
+                    assertEquals(expected.remove(version), list.remove(version));
+                } else {
+                    assertEquals(expected.add(version), list.insert(version));
+                }
+            }
+            assertArrayEquals(expected.toArray(), list.toArray());
+        }
+
+        @Test
+        @DisplayName("Should reject null versions")
+        void shouldRejectNullVersions() {
+            SortedVersionList list = new SortedVersionList();
+            assertThrows(IllegalArgumentException.class, () -> list.insert(null));
+            assertThrows(IllegalArgumentException.class, () -> list.remove(null));
+            assertThrows(IllegalArgumentException.class,
+                () -> new SortedVersionList(null));
+        }
+    }
+
+    @Nested
+    @DisplayName("Duplicate Policy Tests")
+    class DuplicatePolicyTests {
+
+        @Test
+        @DisplayName("Should keep existing element by default")
+        void shouldKeepExistingElementByDefault() {
+            SortedVersionList list = listOf("1.0.0+first");
+            assertFalse(list.insert(new SemVer("1.0.0+second")));
+            assertEquals("first", list.first().getBuild());
+        }
+
+        @Test
+        @DisplayName("Should replace existing element when configured")
+        void shouldReplaceExistingElementWhenConfigured() {
+            SortedVersionList list = new SortedVersionList(SortedVersionList.DuplicatePolicy.REPLACE);
+            list.insert(new SemVer("1.0.0+first"));
+            assertTrue(list.insert(new SemVer("1.0.0+second")));
+            assertEquals(1, list.size());
+            assertEquals("second", list.first().getBuild());
+        }
+    }
+
+    @Nested
+    @DisplayName("Rank and Select Tests")
+    class RankAndSelectTests {
+
+        @Test
+        @DisplayName("Should rank present and absent versions")
+        void shouldRankPresentAndAbsentVersions() {
+            SortedVersionList list = listOf("1.0.0", "2.0.0", "3.0.0");
+            assertEquals(0, list.rank(new SemVer("1.0.0")));
+            assertEquals(1, list.rank(new SemVer("1.5.0")));
+            assertEquals(3, list.rank(new SemVer("9.0.0")));
+            assertTrue(list.contains(new SemVer("2.0.0")));
+        }
+
+        @Test
+        @DisplayName("Should select by ascending index")
+        void shouldSelectByAscendingIndex() {
+            SortedVersionList list = listOf("3.0.0", "1.0.0", "2.0.0");
+            assertEquals("1.0.0", list.first().toString());
+            assertEquals("2.0.0", list.select(1).toString());
+            assertEquals("3.0.0", list.last().toString());
+            assertThrows(IndexOutOfBoundsException.class, () -> list.select(3));
+        }
+
+        @Test
+        @DisplayName("Should fail on empty list")
+        void shouldFailOnEmptyList() {
+            SortedVersionList list = new SortedVersionList();
+            assertTrue(list.isEmpty());
+            assertThrows(NoSuchElementException.class, list::first);
+            assertThrows(NoSuchElementException.class, list::last);
+        }
+    }
+
+    @Nested
+    @DisplayName("Iteration Tests")
+    class IterationTests {
+
+        @Test
+        @DisplayName("Should iterate in descending order")
+        void shouldIterateInDescendingOrder() {
+            SortedVersionList list = listOf("1.0.0", "3.0.0", "2.0.0");
+            Iterator<SemVer> iterator = list.descendingIterator();
+            assertEquals("3.0.0", iterator.next().toString());
+            assertEquals("2.0.0", iterator.next().toString());
+            assertEquals("1.0.0", iterator.next().toString());
+            assertFalse(iterator.hasNext());
+            assertThrows(NoSuchElementException.class, iterator::next);
+        }
+
+        @Test
+        @DisplayName("Should fail fast on concurrent modification")
+        void shouldFailFastOnConcurrentModification() {
+            SortedVersionList list = listOf("1.0.0", "2.0.0");
+            Iterator<SemVer> iterator = list.iterator();
+            list.insert(new SemVer("3.0.0"));
+            assertThrows(java.util.ConcurrentModificationException.class, iterator::next);
+        }
+    }
+}
@@ -0,0 +1,145 @@
+package com.neu.semver;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.regex.Pattern;
+
+/**
+ * Compares the scalar and Vector API validators for byte regions.
+ *
+ * <p>The jar is run twice in fresh JVMs, once as is and once with
+ * {@code --add-modules jdk.incubator.vector -Dsemver.vector=true}, which
+ * makes {@link BatchValidator} use the Vector API validator when the jar
+ * was built with the {@code vector} profile. Each run validates a buffer
+ * of newline-separated versions of up to 64 bytes, three of its eight
+ * shapes invalid, through {@link BatchValidator#isValid(byte[], int, int)}. As a
+ * reference it also decodes each region and matches it against the
+ * regular expression from semver.org.
+ *
+ * <pre>
+ * mvn -Pvector clean package
+ * java -cp target/test-classes com.neu.semver.VectorValidatorBenchmark \
+ *     target/semver-java-0.1.0.jar [versions]
+ * </pre>
+ *
+ * @author Yinlu Gong
+ * @version 0.1.0
+ * @since 0.1.0
+ */
+final class VectorValidatorBenchmark {
+
+    private static final String RUN = "--run";
+    private static final int DEFAULT_VERSIONS = 1_000_000;
+    private static final int ROUNDS = 9;
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+    private static final Pattern SEMVER = Pattern.compile(
+        "^(0|[1-9]\\d*)\\.(0|[1-9]\\d*)\\.(0|[1-9]\\d*)"
+            + "(?:-((?:0|[1-9]\\d*|\\d*[a-zA-Z-][0-9a-zA-Z-]*)"
+            + "(?:\\.(?:0|[1-9]\\d*|\\d*[a-zA-Z-][0-9a-zA-Z-]*))*))?"
+            + "(?:\\+([0-9a-zA-Z-]+(?:\\.[0-9a-zA-Z-]+)*))?$");
+    private static final String[] SHAPES = {
+        "%d.%d.%d", "%d.%d.%d-rc.%d", "%d.%d.%d-alpha.%d+build.%d",
+        "%d.%d.%d-beta.%d.x-y-z+sha.%d.exp", "%d.%d.%d-SNAPSHOT.%d+20240101%d",
+        "%d.%d.%d-0%d", "%d.%d.%d-alpha..%d", "v%d.%d.%d+%d"
+    };
+
+    private VectorValidatorBenchmark() { }
+
+    public static void main(String[] args) throws Exception {
+        if (args.length > 0 && args[0].equals(RUN)) {
+            run(args[1], Integer.parseInt(args[2]));
+        } else if (args.length >= 1 && args.length <= 2) {
+            String versions = args.length > 1 ? args[1] : String.valueOf(DEFAULT_VERSIONS);
+            fork(args[0], "scalar", versions);
+            fork(args[0], "vector", versions, "--add-modules", "jdk.incubator.vector",
+                "-D" + BatchValidator.VECTOR_PROPERTY + "=true");
+        } else {
+            System.err.println("usage: VectorValidatorBenchmark <jar> [versions]");
+            System.exit(2);
+        }
+    }
+
+    private static void fork(String jar, String label, String versions, String... options)
+            throws IOException, InterruptedException {
+        String testClasses = new File(VectorValidatorBenchmark.class.getProtectionDomain()
+            .getCodeSource().getLocation().getPath()).getPath();
+        List<String> command = new ArrayList<>();
+        command.add(System.getProperty("java.home") + File.separator + "bin" + File.separator + "java");
+        command.addAll(Arrays.asList(options));
+        command.add("-cp");
+        command.add(jar + File.pathSeparator + testClasses);
+        command.add(VectorValidatorBenchmark.class.getName());
+        command.add(RUN);
+        command.add(label);
+        command.add(versions);
+        int status = new ProcessBuilder(command).inheritIO().start().waitFor();
+        if (status != 0) {
+            throw new IllegalStateException(label + " run exited with " + status);
+        }
+    }
+
+    private static void run(String label, int versions) {
+        Random random = new Random(1);
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < versions; i++) {
+            String shape = SHAPES[random.nextInt(SHAPES.length)];
+            text.append(String.format(Locale.ROOT, shape, random.nextInt(20), random.nextInt(100),
+                random.nextInt(1000), random.nextInt(100_000), random.nextInt(1000))).append('\n');
+        }
+        byte[] bytes = text.toString().getBytes(StandardCharsets.US_ASCII);
+        int[] starts = new int[versions];
+        int[] lengths = new int[versions];
+        int start = 0;
+        for (int i = 0; i < versions; i++) {
+            int end = start;
+            while (bytes[end] != '\n') {
+                end++;
+            }
+            starts[i] = start;
+            lengths[i] = end - start;
+            start = end + 1;
+        }
+
+        long[] regex = new long[ROUNDS];
+        long[] validator = new long[ROUNDS];
+        int regexValid = 0;
+        int validatorValid = 0;
+        for (int round = 0; round < ROUNDS; round++) {
+            long begin = System.nanoTime();
+            regexValid = 0;
+            for (int i = 0; i < versions; i++) {
+                String version = new String(bytes, starts[i], lengths[i], StandardCharsets.US_ASCII);
+                if (SEMVER.matcher(version).matches()) {
+                    regexValid++;
+                }
+            }
+            regex[round] = System.nanoTime() - begin;
+
+            begin = System.nanoTime();
+            validatorValid = 0;
+            for (int i = 0; i < versions; i++) {
+                if (BatchValidator.isValid(bytes, starts[i], lengths[i])) {
+                    validatorValid++;
+                }
+            }
+            validator[round] = System.nanoTime() - begin;
+        }
+        System.out.printf(Locale.ROOT,
+            "%-6s vectorized %-5b  regex: %7.1f ms (%d valid)  validator: %7.1f ms (%d valid)  "
+                + "(%d versions, medians of %d rounds)%n",
+            label, BatchValidator.isVectorized(), median(regex), regexValid,
+            median(validator), validatorValid, versions, ROUNDS);
+    }
+
+    private static double median(long[] nanos) {
+        long[] sorted = nanos.clone();
+        Arrays.sort(sorted);
+        return sorted[sorted.length / 2] / NANOS_PER_MILLI;
+    }
+}
@@ -0,0 +1,113 @@
+package com.neu.semver;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for the VersionLoader class.
+ *
+ * @author Yinlu Gong
+ * @version 0.1.0
+ * @since 0.1.0
+ */
+@DisplayName("VersionLoader Tests")
+class VersionLoaderTest {
+
+    private static Callable<Reader> text(String content) {
+        return () -> new StringReader(content);
+    }
+
+    @Nested
+    @DisplayName("Loading Tests")
+    class LoadingTests {
+
+        @Test
+        @DisplayName("Should keep source and line order and skip invalid lines")
+        void shouldKeepOrderAndSkipInvalidLines() throws IOException {
+            List<List<SemVer>> loaded = VersionLoader.loadAll(Arrays.asList(
+                text("2.0.0\n\n  1.0.0-rc.1 \nnot-a-version\n1.0.0+b\n"),
+                text(""),
+                text("0.1.0")));
+            assertEquals(3, loaded.size());
+            assertEquals("[2.0.0, 1.0.0-rc.1, 1.0.0+b]", loaded.get(0).toString());
+            assertEquals("[]", loaded.get(1).toString());
+            assertEquals("[0.1.0]", loaded.get(2).toString());
+            assertThrows(UnsupportedOperationException.class, () -> loaded.remove(0));
+        }
+
+        @Test
+        @DisplayName("Should return nothing for no sources")
+        void shouldReturnNothingForNoSources() throws IOException {
+            assertTrue(VersionLoader.loadAll(Collections.emptyList()).isEmpty());
+        }
+
+        @Test
+        @DisplayName("Should read blocked sources at once")
+        void shouldReadBlockedSourcesAtOnce() throws IOException {
+            // Fewer sources than the platform concurrency, so each source
+            // can wait for all the others on any implementation.
+            int sources = 16;
+            CountDownLatch opened = new CountDownLatch(sources);
+            List<Callable<Reader>> list = new ArrayList<>();
+            for (int i = 0; i < sources; i++) {
+                String version = "1.0." + i;
+                list.add(() -> {
+                    opened.countDown();
+                    if (!opened.await(10, TimeUnit.SECONDS)) {
+                        throw new IOException("sources were read one by one");
+                    }
+                    return new StringReader(version);
+                });
+            }
+            List<List<SemVer>> loaded = VersionLoader.loadAll(list);
+            for (int i = 0; i < sources; i++) {
+                assertEquals("1.0." + i, loaded.get(i).get(0).toString());
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("Failure Tests")
+    class FailureTests {
+
+        @Test
+        @DisplayName("Should throw the first failure and suppress the rest")
+        void shouldThrowFirstFailure() {
+            Callable<Reader> missing = () -> {
+                throw new FileNotFoundException("missing");
+            };
+            Callable<Reader> broken = () -> {
+                throw new IllegalStateException("broken");
+            };
+            IOException e = assertThrows(IOException.class,
+                () -> VersionLoader.loadAll(Arrays.asList(text("1.0.0"), missing, broken)));
+            assertEquals("Cannot load version source 1", e.getMessage());
+            assertInstanceOf(FileNotFoundException.class, e.getCause());
+            assertEquals(1, e.getSuppressed().length);
+            assertInstanceOf(IllegalStateException.class, e.getSuppressed()[0]);
+        }
+
+        @Test
+        @DisplayName("Should reject null sources")
+        void shouldRejectNullSources() {
+            assertThrows(IllegalArgumentException.class, () -> VersionLoader.loadAll(null));
+            assertThrows(IllegalArgumentException.class,
+                () -> VersionLoader.loadAll(Arrays.asList(text("1.0.0"), null)));
+        }
+    }
+}
@@ -0,0 +1,183 @@
+package com.neu.semver;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for the VersionRangeSet class.
+ *
+ * @author Yinlu Gong
+ * @version 0.1.0
+ * @since 0.1.0
+ */
+@DisplayName("VersionRangeSet Tests")
+class VersionRangeSetTest {
+
+    private static final String[] RANGES = {
+        "*", "^1.2.3", "~1.2.3", ">=1.0.0 <2.0.0", "1.5.0", "<1.0.0 || >=3.0.0",
+        ">1.0.0 <=1.0.0", "^0.2.3 || ^1.0.0 || 2.0.0-rc.1", ">=2.0.0-alpha <2.0.0",
+        ">=1.0.0 <1.5.0 || >=1.5.0 <2.0.0", "<=1.2.3", ">1.2.3"
+    };
+
+    private static List<SemVer> samples() {
+        List<SemVer> result = new ArrayList<>();
+        for (String version : new String[] {
+            "0.0.0-0", "0.0.1", "0.2.3", "0.2.9", "0.3.0-0", "0.3.0", "1.0.0-alpha",
+            "1.0.0", "1.0.1", "1.2.2", "1.2.3", "1.2.4", "1.3.0-0", "1.3.0", "1.5.0",
+            "1.9.9", "2.0.0-0", "2.0.0-alpha", "2.0.0-rc.1", "2.0.0", "2.5.0",
+            "3.0.0-0", "3.0.0", "10.0.0"}) {
+            result.add(new SemVer(version));
+        }
+        return result;
+    }
+
+    private static void assertSameMembers(String message, VersionRangeSet expected,
+        VersionRangeSet actual) {
+        for (SemVer version : samples()) {
+            assertEquals(expected.contains(version), actual.contains(version),
+                message + " at " + version);
+        }
+    }
+
+    @Nested
+    @DisplayName("Conversion Tests")
+    class ConversionTests {
+
+        @Test
+        @DisplayName("Should contain exactly what the range satisfies")
+        void shouldAgreeWithRange() {
+            for (String text : RANGES) {
+                VersionRange range = VersionRange.parse(text);
+                VersionRangeSet set = VersionRangeSet.of(range);
+                for (SemVer version : samples()) {
+                    assertEquals(range.satisfies(version), set.contains(version),
+                        text + " at " + version);
+                }
+            }
+        }
+
+        @Test
+        @DisplayName("Should normalize touching and overlapping alternatives")
+        void shouldNormalize() {
+            VersionRangeSet set = VersionRangeSet.parse(">=1.0.0 <1.5.0 || >=1.5.0 <2.0.0 || ^1.2.0");
+            assertEquals(1, set.intervalCount());
+            assertEquals(">=1.0.0 <2.0.0", set.toString());
+            assertEquals(VersionRangeSet.parse(">=1.0.0 <2.0.0"), set);
+            assertTrue(VersionRangeSet.parse(">1.0.0 <=1.0.0").isEmpty());
+            assertEquals(2, VersionRangeSet.parse("<1.0.0 || >1.0.0").intervalCount());
+        }
+
+        @Test
+        @DisplayName("Should treat precedence as discrete")
+        void shouldUseSuccessors() {
+            assertTrue(VersionRangeSet.parse(">1.0.0 <1.0.1-0").isEmpty());
+            assertEquals(VersionRangeSet.parse(">=1.0.1-0"), VersionRangeSet.parse(">1.0.0"));
+            assertEquals(VersionRangeSet.parse(">1.0.0").hashCode(),
+                VersionRangeSet.parse(">=1.0.1-0").hashCode());
+            assertTrue(VersionRangeSet.parse(">1.0.0").isSubsetOf(VersionRangeSet.parse(">=1.0.1-0")));
+            assertEquals(VersionRangeSet.parse("<1.0.0-alpha.0"), VersionRangeSet.parse("<=1.0.0-alpha"));
+            assertEquals(VersionRangeSet.parse("1.0.0"), VersionRangeSet.parse(">=1.0.0 <1.0.1-0"));
+            assertEquals(VersionRangeSet.parse("1.0.0"), VersionRangeSet.parse("1.0.0+build.1"));
+            assertEquals(1, VersionRangeSet.parse("<=1.0.0 || >1.0.0").intervalCount());
+            assertEquals("1.0.0", VersionRangeSet.parse(">=1.0.0 <1.0.1-0").toString());
+            assertEquals(">1.0.0", VersionRangeSet.parse(">=1.0.1-0").toString());
+        }
+
+        @Test
+        @DisplayName("Should handle the highest version")
+        void shouldHandleHighestVersion() {
+            String max = "9223372036854775807.9223372036854775807.9223372036854775807";
+            assertTrue(VersionRangeSet.parse(">" + max).isEmpty());
+            assertEquals(VersionRangeSet.ALL, VersionRangeSet.parse("<=" + max));
+            assertEquals(VersionRangeSet.parse(">=" + max), VersionRangeSet.parse(max));
+            assertEquals(new SemVer("1.0.0-0"),
+                VersionRangeSet.successor(new SemVer("0." + Long.MAX_VALUE + "." + Long.MAX_VALUE)));
+        }
+
+        @Test
+        @DisplayName("Should round-trip through range syntax")
+        void shouldRoundTrip() {
+            for (String text : RANGES) {
+                VersionRangeSet set = VersionRangeSet.parse(text);
+                assertEquals(set, VersionRangeSet.of(set.toRange()), text);
+            }
+            assertEquals("*", VersionRangeSet.ALL.toString());
+            assertFalse(VersionRangeSet.EMPTY.toRange().satisfies(new SemVer("0.0.0-0")));
+        }
+    }
+
+    @Nested
+    @DisplayName("Algebra Tests")
+    class AlgebraTests {
+
+        @Test
+        @DisplayName("Should unite, intersect and complement consistently")
+        void shouldObeySetLaws() {
+            for (String left : RANGES) {
+                for (String right : RANGES) {
+                    VersionRangeSet a = VersionRangeSet.parse(left);
+                    VersionRangeSet b = VersionRangeSet.parse(right);
+                    VersionRangeSet union = a.union(b);
+                    VersionRangeSet intersection = a.intersect(b);
+                    for (SemVer version : samples()) {
+                        String context = left + " / " + right + " at " + version;
+                        assertEquals(a.contains(version) || b.contains(version),
+                            union.contains(version), context);
+                        assertEquals(a.contains(version) && b.contains(version),
+                            intersection.contains(version), context);
+                    }
+                    assertEquals(union, b.union(a));
+                    assertEquals(intersection, b.intersect(a));
+                    assertEquals(a.complement().intersect(b.complement()),
+                        union.complement(), left + " / " + right);
+                    assertEquals(intersection.equals(a), a.isSubsetOf(b), left + " / " + right);
+                }
+            }
+        }
+
+        @Test
+        @DisplayName("Should complement to the opposite membership")
+        void shouldComplement() {
+            for (String text : RANGES) {
+                VersionRangeSet set = VersionRangeSet.parse(text);
+                VersionRangeSet complement = set.complement();
+                for (SemVer version : samples()) {
+                    assertNotEquals(set.contains(version), complement.contains(version));
+                }
+                assertEquals(set, complement.complement(), text);
+                assertTrue(set.intersect(complement).isEmpty());
+                assertEquals(VersionRangeSet.ALL, set.union(complement));
+            }
+            assertEquals(VersionRangeSet.EMPTY, VersionRangeSet.ALL.complement());
+            assertEquals(">=1.0.0 <2.0.0 || >2.0.0",
+                VersionRangeSet.parse("<1.0.0 || 2.0.0").complement().toString());
+        }
+
+        @Test
+        @DisplayName("Should decide subsets")
+        void shouldDecideSubsets() {
+            assertTrue(VersionRangeSet.parse("~1.2.3").isSubsetOf(VersionRangeSet.parse("^1.0.0")));
+            assertFalse(VersionRangeSet.parse("^1.0.0").isSubsetOf(VersionRangeSet.parse("~1.2.3")));
+            assertTrue(VersionRangeSet.EMPTY.isSubsetOf(VersionRangeSet.EMPTY));
+            assertTrue(VersionRangeSet.parse("1.5.0").isSubsetOf(VersionRangeSet.ALL));
+            assertFalse(VersionRangeSet.parse(">=1.0.0 <3.0.0").isSubsetOf(
+                VersionRangeSet.parse("<2.0.0 || >2.0.0")));
+            assertTrue(VersionRangeSet.exactly(new SemVer("1.2.3"))
+                .isSubsetOf(VersionRangeSet.parse("<=1.2.3")));
+        }
+
+        @Test
+        @DisplayName("Should reject null arguments")
+        void shouldRejectNulls() {
+            assertThrows(IllegalArgumentException.class, () -> VersionRangeSet.ALL.union(null));
+            assertThrows(IllegalArgumentException.class, () -> VersionRangeSet.ALL.contains(null));
+            assertThrows(IllegalArgumentException.class, () -> VersionRangeSet.of(null));
+        }
+    }
+}
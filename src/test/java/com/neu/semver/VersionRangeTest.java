@@ -0,0 +1,118 @@
+package com.neu.semver;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+
+/**
+ * Unit tests for the VersionRange class.
+ *
+ * @author Yinlu Gong
+ * @version 0.1.0
+ * @since 0.1.0
+ */
+@DisplayName("VersionRange Tests")
+class VersionRangeTest {
+
+    private static boolean satisfies(String range, String version) {
+        return VersionRange.parse(range).satisfies(new SemVer(version));
+    }
+
+    @Nested
+    @DisplayName("Comparator Tests")
+    class ComparatorTests {
+
+        @Test
+        @DisplayName("Should evaluate primitive comparators")
+        void shouldEvaluatePrimitiveComparators() {
+            assertTrue(satisfies(">=1.2.0", "1.2.0"));
+            assertFalse(satisfies(">1.2.0", "1.2.0"));
+            assertTrue(satisfies("<2.0.0", "1.9.9"));
+            assertTrue(satisfies("<=2.0.0", "2.0.0"));
+            assertTrue(satisfies("=1.0.0", "1.0.0+build"));
+            assertTrue(satisfies("1.0.0", "1.0.0"));
+            assertFalse(satisfies("1.0.0", "1.0.1"));
+        }
+
+        @Test
+        @DisplayName("Should intersect comparators within an alternative")
+        void shouldIntersectComparatorsWithinAlternative() {
+            assertTrue(satisfies(">=2.1.0 <3.0.0", "2.5.0"));
+            assertFalse(satisfies(">=2.1.0 <3.0.0", "3.0.0"));
+            assertFalse(satisfies(">=2.1.0 <3.0.0", "2.0.9"));
+        }
+
+        @Test
+        @DisplayName("Should union alternatives")
+        void shouldUnionAlternatives() {
+            assertTrue(satisfies("1.0.0 || >=3.0.0", "1.0.0"));
+            assertTrue(satisfies("1.0.0 || >=3.0.0", "4.0.0"));
+            assertFalse(satisfies("1.0.0 || >=3.0.0", "2.0.0"));
+        }
+
+        @Test
+        @DisplayName("Should accept any version for wildcard")
+        void shouldAcceptAnyVersionForWildcard() {
+            assertTrue(satisfies("*", "0.0.1-alpha"));
+        }
+    }
+
+    @Nested
+    @DisplayName("Shorthand Tests")
+    class ShorthandTests {
+
+        @Test
+        @DisplayName("Should expand caret ranges")
+        void shouldExpandCaretRanges() {
+            assertTrue(satisfies("^1.2.3", "1.9.0"));
+            assertFalse(satisfies("^1.2.3", "2.0.0-alpha"));
+            assertFalse(satisfies("^1.2.3", "1.2.2"));
+            assertTrue(satisfies("^0.2.3", "0.2.9"));
+            assertFalse(satisfies("^0.2.3", "0.3.0"));
+            assertFalse(satisfies("^0.0.3", "0.0.4"));
+        }
+
+        @Test
+        @DisplayName("Should expand tilde ranges")
+        void shouldExpandTildeRanges() {
+            assertTrue(satisfies("~1.2.3", "1.2.9"));
+            assertFalse(satisfies("~1.2.3", "1.3.0"));
+        }
+    }
+
+    @Nested
+    @DisplayName("Parsing Tests")
+    class ParsingTests {
+
+        @Test
+        @DisplayName("Should reject malformed ranges")
+        void shouldRejectMalformedRanges() {
+            assertThrows(IllegalArgumentException.class, () -> VersionRange.parse(null));
+            assertThrows(InvalidSemVerException.class, () -> VersionRange.parse(" "));
+            assertThrows(InvalidSemVerException.class, () -> VersionRange.parse(">="));
+            assertThrows(InvalidSemVerException.class, () -> VersionRange.parse("1.0.0 ||"));
+            assertThrows(InvalidSemVerException.class,
+                () -> VersionRange.parse("^9223372036854775807.0.0"));
+            assertThrows(InvalidSemVerException.class,
+                () -> VersionRange.parse("^0.0.9223372036854775807"));
+            assertThrows(InvalidSemVerException.class,
+                () -> VersionRange.parse("~1.9223372036854775807.0"));
+            assertThrows(InvalidSemVerException.class, () -> VersionRange.parse(">=1.0"));
+        }
+
+        @Test
+        @DisplayName("Should keep the source text")
+        void shouldKeepSourceText() {
+            assertEquals(">=1.0.0 <2.0.0", VersionRange.parse(" >=1.0.0 <2.0.0 ").toString());
+        }
+
+        @Test
+        @DisplayName("Should reject null versions")
+        void shouldRejectNullVersions() {
+            VersionRange range = VersionRange.parse("*");
+            assertThrows(IllegalArgumentException.class, () -> range.satisfies(null));
+        }
+    }
+}
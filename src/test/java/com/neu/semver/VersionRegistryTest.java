@@ -0,0 +1,140 @@
+package com.neu.semver;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+
+/**
+ * Unit tests for the VersionRegistry class.
+ *
+ * @author Yinlu Gong
+ * @version 0.1.0
+ * @since 0.1.0
+ */
+@DisplayName("VersionRegistry Tests")
+class VersionRegistryTest {
+
+    private static VersionRegistry registryOf(String name, String... versions) {
+        VersionRegistry registry = new VersionRegistry();
+        for (String version : versions) {
+            registry.add(name, new SemVer(version));
+        }
+        return registry;
+    }
+
+    @Nested
+    @DisplayName("Write Tests")
+    class WriteTests {
+
+        @Test
+        @DisplayName("Should keep versions sorted and reject duplicates")
+        void shouldKeepVersionsSortedAndRejectDuplicates() {
+            VersionRegistry registry = registryOf("lib", "2.0.0", "1.0.0", "1.5.0");
+            assertFalse(registry.add("lib", new SemVer("1.5.0+rebuild")));
+            assertEquals("[1.0.0, 1.5.0, 2.0.0]", registry.versions("lib").toString());
+        }
+
+        @Test
+        @DisplayName("Should add many versions at once")
+        void shouldAddManyVersionsAtOnce() {
+            VersionRegistry registry = registryOf("lib", "1.0.0", "3.0.0");
+            int added = registry.addAll("lib", Arrays.asList(
+                new SemVer("2.0.0"), new SemVer("1.0.0"), new SemVer("4.0.0")));
+            assertEquals(2, added);
+            assertEquals("[1.0.0, 2.0.0, 3.0.0, 4.0.0]", registry.versions("lib").toString());
+        }
+
+        @Test
+        @DisplayName("Should remove versions")
+        void shouldRemoveVersions() {
+            VersionRegistry registry = registryOf("lib", "1.0.0", "2.0.0");
+            assertTrue(registry.remove("lib", new SemVer("1.0.0")));
+            assertFalse(registry.remove("lib", new SemVer("1.0.0")));
+            assertFalse(registry.remove("other", new SemVer("1.0.0")));
+            assertEquals("[2.0.0]", registry.versions("lib").toString());
+        }
+
+        @Test
+        @DisplayName("Should reject null arguments")
+        void shouldRejectNullArguments() {
+            VersionRegistry registry = new VersionRegistry();
+            assertThrows(IllegalArgumentException.class, () -> registry.add(null, new SemVer("1.0.0")));
+            assertThrows(IllegalArgumentException.class, () -> registry.add("lib", null));
+            assertThrows(IllegalArgumentException.class, () -> registry.addAll("lib", null));
+            assertThrows(IllegalArgumentException.class, () -> registry.matching("lib", null));
+        }
+
+        @Test
+        @DisplayName("Should accept concurrent writers")
+        void shouldAcceptConcurrentWriters() throws Exception {
+            VersionRegistry registry = new VersionRegistry();
+            ExecutorService executor = Executors.newFixedThreadPool(4);
+            try {
+                List<Future<?>> futures = new ArrayList<>();
+                for (int t = 0; t < 4; t++) {
+                    final int thread = t;
+                    futures.add(executor.submit(() -> {
+                        for (int i = 0; i < 250; i++) {
+                            registry.add("lib", new SemVer(thread + "." + i + ".0"));
+                            registry.latest("lib");
+                        }
+                    }));
+                }
+                for (Future<?> future : futures) {
+                    future.get();
+                }
+            } finally {
+                executor.shutdown();
+            }
+            List<SemVer> versions = registry.versions("lib");
+            assertEquals(1000, versions.size());
+            for (int i = 1; i < versions.size(); i++) {
+                assertTrue(versions.get(i - 1).compareTo(versions.get(i)) < 0);
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("Query Tests")
+    class QueryTests {
+
+        @Test
+        @DisplayName("Should find latest and latest stable")
+        void shouldFindLatestAndLatestStable() {
+            VersionRegistry registry = registryOf("lib", "1.0.0", "2.0.0-rc.1", "1.1.0");
+            assertEquals("2.0.0-rc.1", registry.latest("lib").get().toString());
+            assertEquals("1.1.0", registry.latestStable("lib").get().toString());
+            assertEquals(Optional.empty(), registry.latest("missing"));
+            assertTrue(registry.versions("missing").isEmpty());
+        }
+
+        @Test
+        @DisplayName("Should find latest in a major line")
+        void shouldFindLatestInMajorLine() {
+            VersionRegistry registry = registryOf("lib", "1.0.0", "1.4.0", "1.5.0-beta", "2.0.0");
+            assertEquals("1.5.0-beta", registry.latestInMajor("lib", 1, true).get().toString());
+            assertEquals("1.4.0", registry.latestInMajor("lib", 1, false).get().toString());
+            assertFalse(registry.latestInMajor("lib", 3, true).isPresent());
+            assertFalse(registry.latestInMajor("lib", 0, false).isPresent());
+        }
+
+        @Test
+        @DisplayName("Should match ranges")
+        void shouldMatchRanges() {
+            VersionRegistry registry = registryOf("lib", "1.0.0", "2.1.0", "2.5.0", "3.0.0");
+            List<SemVer> matches = registry.matching("lib", VersionRange.parse(">=2.1.0 <3.0.0"));
+            assertEquals("[2.1.0, 2.5.0]", matches.toString());
+            assertEquals(1, registry.packages().size());
+        }
+    }
+}
@@ -0,0 +1,173 @@
+package com.neu.semver;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for the VersionTimeline class.
+ *
+ * @author Yinlu Gong
+ * @version 0.1.0
+ * @since 0.1.0
+ */
+@DisplayName("VersionTimeline Tests")
+class VersionTimelineTest {
+
+    private static final Instant EPOCH = Instant.parse("2024-01-01T00:00:00Z");
+
+    private VersionTimeline timeline;
+
+    private void record(String version, int day) {
+        timeline.record(new SemVer(version), EPOCH.plus(Duration.ofDays(day)));
+    }
+
+    @BeforeEach
+    void setUp() {
+        timeline = new VersionTimeline();
+        // Deliberately out of order.
+        record("1.1.0", 30);
+        record("1.0.1", 12);
+        record("2.0.0-rc.1", 40);
+        record("1.0.0", 10);
+        record("1.1.0-beta", 25);
+        record("1.0.0-rc.1", 7);
+        record("2.0.0", 44);
+        record("1.0.2", 50);
+        record("1.0.0-rc.2", 9);
+    }
+
+    @Nested
+    @DisplayName("Line Tests")
+    class LineTests {
+
+        @Test
+        @DisplayName("Should list lines in ascending order")
+        void testOrder() {
+            assertEquals(9, timeline.size());
+            assertEquals(2, timeline.majorLines().size());
+            assertEquals(1L, timeline.majorLines().get(0).getMajor());
+            assertTrue(timeline.majorLines().get(0).isMajorLine());
+            assertEquals(0L, timeline.minorLines(1).get(0).getMinor());
+            assertEquals(1L, timeline.minorLines(1).get(1).getMinor());
+            assertTrue(timeline.minorLines(7).isEmpty());
+            assertNull(timeline.line(3));
+        }
+
+        @Test
+        @DisplayName("Should track first, last and latest releases")
+        void testReleases() {
+            VersionTimeline.Line line = timeline.line(1);
+            assertEquals(new SemVer("1.0.0"), line.getFirstRelease());
+            assertEquals(EPOCH.plus(Duration.ofDays(10)), line.getFirstReleaseTime());
+            assertEquals(new SemVer("1.0.2"), line.getLastRelease());
+            assertEquals(new SemVer("1.1.0"), line.getLatest());
+            assertEquals(4, line.getReleaseCount());
+            assertEquals(3, line.getPrereleaseCount());
+            assertEquals(new SemVer("1.0.2"), timeline.line(1, 0).getLatest());
+        }
+
+        @Test
+        @DisplayName("Should leave release fields empty for prerelease-only lines")
+        void testPrereleaseOnly() {
+            timeline.record(new SemVer("3.0.0-alpha"), EPOCH);
+            VersionTimeline.Line line = timeline.line(3, 0);
+            assertNull(line.getFirstRelease());
+            assertNull(line.getLastReleaseTime());
+            assertNull(line.getLatest());
+            assertEquals(1, line.getPrereleaseCount());
+            assertNull(line.getMeanLatency());
+        }
+    }
+
+    @Nested
+    @DisplayName("Latency Tests")
+    class LatencyTests {
+
+        @Test
+        @DisplayName("Should pair the earliest waiting prerelease with its release")
+        void testMinorLatency() {
+            VersionTimeline.Line line = timeline.line(1, 0);
+            assertEquals(1, line.getLatencyCount());
+            assertEquals(Duration.ofDays(3), line.getMaxLatency());
+        }
+
+        @Test
+        @DisplayName("Should aggregate latency over a major line")
+        void testMajorLatency() {
+            VersionTimeline.Line line = timeline.line(1);
+            assertEquals(2, line.getLatencyCount());
+            assertEquals(Duration.ofDays(4), line.getMeanLatency());
+            assertEquals(Duration.ofDays(5), line.getMaxLatency());
+            assertEquals(Duration.ofDays(4), timeline.line(2).getMaxLatency());
+        }
+
+        @Test
+        @DisplayName("Should not depend on arrival order")
+        void testArrivalOrder() {
+            timeline = new VersionTimeline();
+            record("1.0.0-rc.2", 5);
+            record("1.0.0", 10);
+            record("1.0.0-rc.1", 1);
+            VersionTimeline.Line line = timeline.line(1, 0);
+            assertEquals(1, line.getLatencyCount());
+            assertEquals(Duration.ofDays(9), line.getMaxLatency());
+            assertEquals(Duration.ofDays(9), timeline.line(1).getMeanLatency());
+        }
+
+        @Test
+        @DisplayName("Should keep a release whose prerelease is published later")
+        void testLatePrerelease() {
+            record("1.0.2-rc.1", 51);
+            assertEquals(1, timeline.line(1, 0).getLatencyCount());
+            record("1.0.2-rc.0", 45);
+            assertEquals(2, timeline.line(1, 0).getLatencyCount());
+            assertEquals(Duration.ofDays(5), timeline.line(1, 0).getMaxLatency());
+        }
+
+        @Test
+        @DisplayName("Should fold evicted patch versions into the totals")
+        void testPendingLimit() {
+            timeline = new VersionTimeline(2);
+            record("1.0.0-rc.1", 1);
+            record("1.0.0", 10);
+            record("1.0.1", 11);
+            record("1.0.2", 12);
+            VersionTimeline.Line line = timeline.line(1, 0);
+            assertEquals(2, line.pendingCount());
+            assertEquals(1, line.getLatencyCount());
+            assertEquals(Duration.ofDays(9), line.getMaxLatency());
+            record("1.0.2-rc.1", 11);
+            assertEquals(2, line.getLatencyCount());
+            assertEquals(Duration.ofDays(5), line.getMeanLatency());
+            assertEquals(2, timeline.line(1).getLatencyCount());
+            for (int patch = 3; patch < 10_000; patch++) {
+                record("1.0." + patch + "-rc.1", 0);
+            }
+            assertEquals(2, line.pendingCount());
+            assertEquals(2, timeline.line(1).getLatencyCount());
+        }
+
+        @Test
+        @DisplayName("Should reject a limit below one")
+        void testInvalidLimit() {
+            assertThrows(IllegalArgumentException.class,
+                () -> new VersionTimeline(0));
+        }
+
+        @Test
+        @DisplayName("Should reject null arguments")
+        void testNull() {
+            assertThrows(IllegalArgumentException.class,
+                () -> timeline.record(null, EPOCH));
+            assertThrows(IllegalArgumentException.class,
+                () -> timeline.record(new SemVer("1.0.0"), null));
+        }
+    }
+}
@@ -0,0 +1,191 @@
+package com.neu.semver.cli;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Unit tests for the command-line tool.
+ *
+ * @author Yinlu Gong
+ * @version 0.1.0
+ * @since 0.1.0
+ */
+@DisplayName("Main Tests")
+class MainTest {
+
+    private static final String INPUT = "1.10.0\n1.2.0\nfoo\n\n  2.0.0-rc.1  \n1.2.0+b\n";
+
+    private StringWriter out;
+    private StringWriter err;
+
+    private int run(String stdin, String... args) throws IOException {
+        out = new StringWriter();
+        err = new StringWriter();
+        return Main.run(args, new ByteArrayInputStream(stdin.getBytes(StandardCharsets.UTF_8)),
+            out, err);
+    }
+
+    @Nested
+    @DisplayName("Command Tests")
+    class CommandTests {
+
+        @Test
+        @DisplayName("Should print invalid lines on validate")
+        void testValidate() throws IOException {
+            assertEquals(Main.INVALID, run(INPUT, "validate"));
+            assertEquals("foo\n", out.toString());
+            assertEquals(Main.OK, run("1.0.0\n", "validate"));
+            assertEquals("", out.toString());
+        }
+
+        @Test
+        @DisplayName("Should sort stably and report invalid input")
+        void testSort() throws IOException {
+            assertEquals(Main.INVALID, run(INPUT, "sort"));
+            assertEquals("1.2.0\n1.2.0+b\n1.10.0\n2.0.0-rc.1\n", out.toString());
+            assertEquals("semver: invalid version: foo\n", err.toString());
+            assertEquals(Main.OK, run("1.0.0\n3.0.0\n2.0.0\n", "sort", "--reverse"));
+            assertEquals("3.0.0\n2.0.0\n1.0.0\n", out.toString());
+        }
+
+        @Test
+        @DisplayName("Should print the highest version")
+        void testMax() throws IOException {
+            assertEquals(Main.OK, run("1.0.0\n1.10.0\n1.9.0\n", "max"));
+            assertEquals("1.10.0\n", out.toString());
+            assertEquals(Main.INVALID, run("", "max"));
+            assertEquals("", out.toString());
+        }
+
+        @Test
+        @DisplayName("Should filter by range in input order")
+        void testFilter() throws IOException {
+            assertEquals(Main.OK, run("1.5.0\n0.9.0\n1.0.0\n2.0.0\n", "filter",
+                "--range", ">=1.0.0 <2.0.0"));
+            assertEquals("1.5.0\n1.0.0\n", out.toString());
+            assertEquals(Main.OK, run("1.5.0\n", "filter", "--range=^1.0.0"));
+            assertEquals("1.5.0\n", out.toString());
+        }
+
+        @Test
+        @DisplayName("Should bump the selected part")
+        void testBump() throws IOException {
+            assertEquals(Main.OK, run("1.2.3\n2.0.0-rc.1\n", "bump", "minor"));
+            assertEquals("1.3.0\n2.1.0\n", out.toString());
+            assertEquals(Main.OK, run("1.2.3\n", "bump", "patch"));
+            assertEquals("1.2.4\n", out.toString());
+        }
+
+        @Test
+        @DisplayName("Should report versions that cannot be bumped and go on")
+        void testBumpOverflow() throws IOException {
+            assertEquals(Main.INVALID, run("9223372036854775807.0.0\n1.0.0\n", "bump", "major"));
+            assertEquals("2.0.0\n", out.toString());
+            assertEquals("semver: cannot bump major of 9223372036854775807.0.0\n", err.toString());
+            assertEquals(Main.INVALID, run("bump patch 1.0.9223372036854775807 1.0.0\n", "batch"));
+            assertEquals("1.0.1\n", out.toString());
+        }
+
+        @Test
+        @DisplayName("Should read files in order")
+        void testFiles(@TempDir Path dir) throws IOException {
+            Path first = Files.write(dir.resolve("a.txt"), "2.0.0\n".getBytes(StandardCharsets.UTF_8));
+            Path second = Files.write(dir.resolve("b.txt"), "1.0.0\n".getBytes(StandardCharsets.UTF_8));
+            assertEquals(Main.OK, run("3.0.0\n", "filter", "--range", "*",
+                first.toString(), "-", second.toString()));
+            assertEquals("2.0.0\n3.0.0\n1.0.0\n", out.toString());
+            assertEquals(Main.USAGE, run("", "sort", dir.resolve("missing").toString()));
+        }
+
+        @Test
+        @DisplayName("Should report inputs that cannot be read")
+        void testUnreadable(@TempDir Path dir) throws IOException {
+            assertEquals(Main.USAGE, run("", "sort", dir.toString()));
+            assertEquals("semver: cannot read " + dir + "\n", err.toString());
+            Path latin = Files.write(dir.resolve("latin.txt"), new byte[] {'1', '.', '0', '.', '0', '-', (byte) 0xE4, '\n'});
+            assertEquals(Main.USAGE, run("", "validate", latin.toString()));
+            assertEquals("semver: cannot read " + latin + "\n", err.toString());
+            assertEquals("", out.toString());
+        }
+
+        @Test
+        @DisplayName("Should give the same output for large inputs")
+        void testLargeInput() throws IOException {
+            StringBuilder input = new StringBuilder();
+            StringBuilder expected = new StringBuilder();
+            for (int i = 0; i < VersionInput.PARALLEL_THRESHOLD + 100; i++) {
+                input.append(i % 7).append('.').append(i).append(".0\n");
+                if (i % 7 == 1) {
+                    expected.append(1).append('.').append(i).append(".0\n");
+                }
+            }
+            assertEquals(Main.OK, run(input.toString(), "filter", "--range", "^1.0.0"));
+            assertEquals(expected.toString(), out.toString());
+        }
+    }
+
+    @Nested
+    @DisplayName("Batch Tests")
+    class BatchTests {
+
+        @Test
+        @DisplayName("Should answer one line per command")
+        void testBatch() throws IOException {
+            assertEquals(Main.OK, run("max 1.0.0 3.0.0 2.0.0\n"
+                + "filter --range \">=1.0.0 <2.0.0\" 0.9.0 1.5.0 2.0.0\n"
+                + "validate 1.0.0\n"
+                + "sort 2.0.0 1.0.0\n", "batch"));
+            assertEquals("3.0.0\n1.5.0\n\n1.0.0 2.0.0\n", out.toString());
+        }
+
+        @Test
+        @DisplayName("Should keep going after a bad command")
+        void testBadCommand() throws IOException {
+            assertEquals(Main.USAGE, run("nope\nbatch\nmax 1.0.0\n", "batch"));
+            assertEquals("\n\n1.0.0\n", out.toString());
+        }
+
+        @Test
+        @DisplayName("Should split quoted words")
+        void testSplit() {
+            assertArrayEquals(new String[] {"filter", "--range", ">=1.0.0 <2.0.0", ""},
+                Main.split("filter  --range \">=1.0.0 <2.0.0\" \"\""));
+        }
+    }
+
+    @Nested
+    @DisplayName("Usage Tests")
+    class UsageTests {
+
+        @Test
+        @DisplayName("Should reject bad command lines")
+        void testUsage() throws IOException {
+            assertEquals(Main.USAGE, run(""));
+            assertEquals(Main.USAGE, run("", "frob"));
+            assertEquals(Main.USAGE, run("", "filter"));
+            assertEquals(Main.USAGE, run("", "filter", "--range", "not a range"));
+            assertEquals(Main.USAGE, run("", "sort", "--range", "*"));
+            assertEquals(Main.USAGE, run("", "bump", "huge"));
+            assertEquals(Main.USAGE, run("", "max", "--verbose"));
+            assertTrue(err.toString().contains("unknown option: --verbose"));
+        }
+
+        @Test
+        @DisplayName("Should print help")
+        void testHelp() throws IOException {
+            assertEquals(Main.OK, run("", "--help"));
+            assertTrue(out.toString().startsWith("usage: semver"));
+        }
+    }
+}
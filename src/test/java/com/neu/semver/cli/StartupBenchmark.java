@@ -0,0 +1,114 @@
+package com.neu.semver.cli;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Measures cold-start time to the first parse result of the command-line
+ * tool in a runtime image built by the {@code startup} profile.
+ *
+ * <p>Each run starts a fresh JVM with {@code semver max}, writes one
+ * version to its standard input and stops the clock when the parsed
+ * version comes back on standard output. Runs alternate between the
+ * image's AppCDS archive and {@code -Xshare:off} so both see the same
+ * machine load, and one unmeasured run of each warms the file cache.
+ *
+ * <pre>
+ * java StartupBenchmark &lt;image&gt;/bin/java [runs] [budget-ms]
+ * </pre>
+ *
+ * If a budget is given the exit status is 1 when the median with the
+ * archive exceeds it, so the profile can catch cold-start regressions.
+ *
+ * @author Yinlu Gong
+ * @version 0.1.0
+ * @since 0.1.0
+ */
+final class StartupBenchmark {
+
+    private static final String MAIN = "com.neu.semver/com.neu.semver.cli.Main";
+    private static final String VERSION = "1.2.3";
+    private static final int DEFAULT_RUNS = 20;
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+
+    private static final String[] NAMES = {"appcds", "no-cds"};
+    private static final String[][] OPTIONS = {{}, {"-Xshare:off"}};
+
+    private StartupBenchmark() { }
+
+    public static void main(String[] args) throws IOException, InterruptedException {
+        if (args.length < 1 || args.length > 3) {
+            System.err.println("usage: StartupBenchmark <image>/bin/java [runs] [budget-ms]");
+            System.exit(2);
+        }
+        String java = args[0];
+        int runs = args.length > 1 ? Integer.parseInt(args[1]) : DEFAULT_RUNS;
+        double budget = args.length > 2 ? Double.parseDouble(args[2]) : 0;
+
+        for (String[] options : OPTIONS) {
+            firstParse(java, options);
+        }
+        long[][] nanos = new long[OPTIONS.length][runs];
+        for (int run = 0; run < runs; run++) {
+            for (int i = 0; i < OPTIONS.length; i++) {
+                nanos[i][run] = firstParse(java, OPTIONS[i]);
+            }
+        }
+
+        double median = 0;
+        for (int i = 0; i < OPTIONS.length; i++) {
+            long[] sorted = nanos[i].clone();
+            Arrays.sort(sorted);
+            double middle = sorted[runs / 2] / NANOS_PER_MILLI;
+            System.out.printf(Locale.ROOT, "%-8s min %7.1f ms  median %7.1f ms  max %7.1f ms  (%d runs)%n",
+                NAMES[i], sorted[0] / NANOS_PER_MILLI, middle,
+                sorted[runs - 1] / NANOS_PER_MILLI, runs);
+            if (i == 0) {
+                median = middle;
+            }
+        }
+        if (budget > 0 && median > budget) {
+            System.err.printf(Locale.ROOT, "time to first parse %.1f ms exceeds budget %.1f ms%n",
+                median, budget);
+            System.exit(1);
+        }
+    }
+
+    private static long firstParse(String java, String[] options)
+        throws IOException, InterruptedException {
+        List<String> command = new ArrayList<>();
+        command.add(java);
+        command.addAll(Arrays.asList(options));
+        command.add("-m");
+        command.add(MAIN);
+        command.add("max");
+        ProcessBuilder builder = new ProcessBuilder(command)
+            .redirectError(ProcessBuilder.Redirect.INHERIT);
+
+        long start = System.nanoTime();
+        Process process = builder.start();
+        try (OutputStream stdin = process.getOutputStream()) {
+            stdin.write((VERSION + "\n").getBytes(StandardCharsets.US_ASCII));
+        }
+        String line;
+        try (BufferedReader stdout = new BufferedReader(
+                new InputStreamReader(process.getInputStream(), StandardCharsets.US_ASCII))) {
+            line = stdout.readLine();
+        }
+        long elapsed = System.nanoTime() - start;
+
+        int status = process.waitFor();
+        if (status != Main.OK || !VERSION.equals(line)) {
+            throw new IllegalStateException(String.join(" ", command)
+                + " exited with " + status + " and printed " + line);
+        }
+        return elapsed;
+    }
+}
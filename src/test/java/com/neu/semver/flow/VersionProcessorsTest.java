@@ -0,0 +1,224 @@
+package com.neu.semver.flow;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.neu.semver.SemVer;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Flow;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+
+/**
+ * Unit tests for the Flow version processors.
+ *
+ * @author Yinlu Gong
+ * @version 0.1.0
+ * @since 0.1.0
+ */
+@DisplayName("Version Processor Tests")
+class VersionProcessorsTest {
+
+    /** Synchronous publisher that emits only what was requested. */
+    static final class ListPublisher<T> implements Flow.Publisher<T> {
+        private final List<T> items;
+        int emitted;
+
+        ListPublisher(List<T> items) {
+            this.items = items;
+        }
+
+        @Override
+        public void subscribe(Flow.Subscriber<? super T> subscriber) {
+            subscriber.onSubscribe(new Flow.Subscription() {
+                private long demand;
+                private boolean emitting;
+                private boolean done;
+
+                @Override
+                public void request(long n) {
+                    demand += n;
+                    if (emitting) {
+                        return;
+                    }
+                    emitting = true;
+                    while (demand > 0 && emitted < items.size() && !done) {
+                        demand--;
+                        subscriber.onNext(items.get(emitted++));
+                    }
+                    if (emitted == items.size() && !done) {
+                        done = true;
+                        subscriber.onComplete();
+                    }
+                    emitting = false;
+                }
+
+                @Override
+                public void cancel() {
+                    done = true;
+                }
+            });
+        }
+    }
+
+    /** Subscriber recording everything it receives. */
+    static final class Recorder<T> implements Flow.Subscriber<T> {
+        final List<T> items = new ArrayList<>();
+        final long initialDemand;
+        Flow.Subscription subscription;
+        boolean completed;
+        Throwable error;
+
+        Recorder(long initialDemand) {
+            this.initialDemand = initialDemand;
+        }
+
+        @Override
+        public void onSubscribe(Flow.Subscription s) {
+            subscription = s;
+            if (initialDemand > 0) {
+                s.request(initialDemand);
+            }
+        }
+
+        @Override
+        public void onNext(T item) {
+            items.add(item);
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            error = throwable;
+        }
+
+        @Override
+        public void onComplete() {
+            completed = true;
+        }
+    }
+
+    @Nested
+    @DisplayName("Parsing Processor Tests")
+    class ParsingProcessorTests {
+
+        @Test
+        @DisplayName("Should parse valid items and reject invalid ones")
+        void shouldParseValidItemsAndRejectInvalidOnes() {
+            List<String> rejected = new ArrayList<>();
+            SemVerParsingProcessor processor = new SemVerParsingProcessor(
+                (item, error) -> rejected.add(item), null);
+            Recorder<SemVer> recorder = new Recorder<>(Long.MAX_VALUE);
+            processor.subscribe(recorder);
+            new ListPublisher<>(Arrays.asList("1.0.0", "bad", "2.0.0")).subscribe(processor);
+            assertEquals(2, recorder.items.size());
+            assertEquals(List.of("bad"), rejected);
+            assertTrue(recorder.completed);
+        }
+
+        @Test
+        @DisplayName("Should honour downstream demand")
+        void shouldHonourDownstreamDemand() {
+            SemVerParsingProcessor processor = new SemVerParsingProcessor((item, error) -> { }, null);
+            Recorder<SemVer> recorder = new Recorder<>(1);
+            ListPublisher<String> publisher = new ListPublisher<>(
+                Arrays.asList("1.0.0", "bad", "2.0.0", "3.0.0"));
+            publisher.subscribe(processor);
+            processor.subscribe(recorder);
+            assertEquals(1, recorder.items.size());
+            assertEquals(1, publisher.emitted);
+            recorder.subscription.request(1);
+            assertEquals("2.0.0", recorder.items.get(1).toString());
+            assertEquals(3, publisher.emitted);
+            assertFalse(recorder.completed);
+            recorder.subscription.request(5);
+            assertTrue(recorder.completed);
+        }
+
+        @Test
+        @DisplayName("Should signal an error for non-positive demand")
+        void shouldSignalErrorForNonPositiveDemand() {
+            SemVerParsingProcessor processor = new SemVerParsingProcessor((item, error) -> { }, null);
+            Recorder<SemVer> recorder = new Recorder<>(0);
+            processor.subscribe(recorder);
+            new ListPublisher<>(List.of("1.0.0")).subscribe(processor);
+            recorder.subscription.request(0);
+            assertTrue(recorder.error instanceof IllegalArgumentException);
+        }
+
+        @Test
+        @DisplayName("Should reject a second subscriber")
+        void shouldRejectSecondSubscriber() {
+            SemVerParsingProcessor processor = new SemVerParsingProcessor((item, error) -> { }, null);
+            processor.subscribe(new Recorder<>(0));
+            Recorder<SemVer> second = new Recorder<>(0);
+            processor.subscribe(second);
+            assertTrue(second.error instanceof IllegalStateException);
+        }
+
+        @Test
+        @DisplayName("Should keep a rejected subscriber away from the pipeline")
+        void shouldKeepRejectedSubscriberAwayFromPipeline() {
+            SemVerParsingProcessor processor = new SemVerParsingProcessor((item, error) -> { }, null);
+            Recorder<SemVer> first = new Recorder<>(1);
+            ListPublisher<String> publisher = new ListPublisher<>(
+                Arrays.asList("1.0.0", "2.0.0", "3.0.0", "4.0.0", "5.0.0"));
+            publisher.subscribe(processor);
+            processor.subscribe(first);
+            Recorder<SemVer> second = new Recorder<>(0);
+            processor.subscribe(second);
+            second.subscription.request(4);
+            assertEquals(1, first.items.size());
+            second.subscription.cancel();
+            first.subscription.request(1);
+            assertEquals(2, first.items.size());
+            assertTrue(second.items.isEmpty());
+        }
+    }
+
+    @Nested
+    @DisplayName("Highest Version Processor Tests")
+    class HighestVersionProcessorTests {
+
+        @Test
+        @DisplayName("Should emit only new maxima per key")
+        void shouldEmitOnlyNewMaximaPerKey() {
+            HighestVersionProcessor processor = new HighestVersionProcessor();
+            Recorder<KeyedVersion> recorder = new Recorder<>(Long.MAX_VALUE);
+            processor.subscribe(recorder);
+            new ListPublisher<>(Arrays.asList(
+                new KeyedVersion("a", new SemVer("1.0.0")),
+                new KeyedVersion("b", new SemVer("5.0.0")),
+                new KeyedVersion("a", new SemVer("0.9.0")),
+                new KeyedVersion("a", new SemVer("1.1.0")),
+                new KeyedVersion("a", new SemVer("1.1.0+rebuild")))).subscribe(processor);
+            assertEquals("[a@1.0.0, b@5.0.0, a@1.1.0]", recorder.items.toString());
+        }
+    }
+
+    @Nested
+    @DisplayName("Dedup Processor Tests")
+    class DedupProcessorTests {
+
+        @Test
+        @DisplayName("Should drop duplicates within the window")
+        void shouldDropDuplicatesWithinWindow() {
+            DedupProcessor processor = new DedupProcessor(2);
+            Recorder<SemVer> recorder = new Recorder<>(Long.MAX_VALUE);
+            processor.subscribe(recorder);
+            new ListPublisher<>(Arrays.asList(
+                new SemVer("1.0.0"), new SemVer("1.0.0+b"), new SemVer("2.0.0"),
+                new SemVer("3.0.0"), new SemVer("1.0.0"))).subscribe(processor);
+            assertEquals("[1.0.0, 2.0.0, 3.0.0, 1.0.0]", recorder.items.toString());
+        }
+
+        @Test
+        @DisplayName("Should reject invalid capacity")
+        void shouldRejectInvalidCapacity() {
+            assertThrows(IllegalArgumentException.class, () -> new DedupProcessor(0));
+        }
+    }
+}
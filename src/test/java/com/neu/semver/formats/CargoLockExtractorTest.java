@@ -0,0 +1,83 @@
+package com.neu.semver.formats;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for the CargoLockExtractor class.
+ *
+ * @author Yinlu Gong
+ * @version 0.1.0
+ * @since 0.1.0
+ */
+@DisplayName("CargoLockExtractor Tests")
+class CargoLockExtractorTest {
+
+    private static List<String> extract(String lock) {
+        List<String> found = new ArrayList<>();
+        byte[] bytes = lock.getBytes(StandardCharsets.UTF_8);
+        int count = CargoLockExtractor.extract(bytes, 0, bytes.length,
+            (coordinates, version) -> found.add(coordinates + " " + version));
+        assertEquals(found.size(), count);
+        return found;
+    }
+
+    @Nested
+    @DisplayName("Lockfile Tests")
+    class LockfileTests {
+
+        @Test
+        @DisplayName("Should report every package table")
+        void testPackages() {
+            assertEquals(List.of("serde 1.0.197", "my-crate 0.1.0-alpha.1", "libc 0.2.153"),
+                extract("# This file is automatically @generated by Cargo.\n"
+                    + "version = 3\n\n"
+                    + "[[package]]\n"
+                    + "name = \"serde\"\n"
+                    + "version = \"1.0.197\"\n"
+                    + "source = \"registry+https://github.com/rust-lang/crates.io-index\"\n"
+                    + "dependencies = [\n \"serde_derive\",\n]\n\n"
+                    + "[[package]]\r\n"
+                    + "version = \"0.1.0-alpha.1\"\r\n"
+                    + "name = \"my-crate\"\r\n\r\n"
+                    + "[[package]]\n"
+                    + "name = \"broken\"\n"
+                    + "version = \"1.0\"\n\n"
+                    + "[[package]]\n"
+                    + "name   =   \"libc\"\n"
+                    + "version=\"0.2.153\""));
+        }
+
+        @Test
+        @DisplayName("Should ignore keys outside package tables")
+        void testOtherTables() {
+            assertEquals(List.of(), extract("version = \"1.0.0\"\n[metadata]\n"
+                + "name = \"x\"\nversion = \"1.0.0\"\n"));
+        }
+
+        @Test
+        @DisplayName("Should read a region of a larger buffer")
+        void testRegion() {
+            byte[] bytes = ("garbage[[package]]\nname = \"a\"\nversion = \"1.2.3\"\ntrailing")
+                .getBytes(StandardCharsets.UTF_8);
+            List<String> found = new ArrayList<>();
+            CargoLockExtractor.extract(bytes, 7, bytes.length - 15,
+                (coordinates, version) -> found.add(coordinates + " " + version));
+            assertEquals(List.of("a 1.2.3"), found);
+        }
+
+        @Test
+        @DisplayName("Should reject unterminated strings")
+        void testUnterminated() {
+            assertThrows(FormatException.class,
+                () -> extract("[[package]]\nname = \"a\nversion = \"1.0.0\"\n"));
+        }
+    }
+}
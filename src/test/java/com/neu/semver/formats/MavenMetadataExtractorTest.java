@@ -0,0 +1,94 @@
+package com.neu.semver.formats;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for the MavenMetadataExtractor class.
+ *
+ * @author Yinlu Gong
+ * @version 0.1.0
+ * @since 0.1.0
+ */
+@DisplayName("MavenMetadataExtractor Tests")
+class MavenMetadataExtractorTest {
+
+    private static List<String> extract(String xml) {
+        List<String> found = new ArrayList<>();
+        byte[] bytes = xml.getBytes(StandardCharsets.UTF_8);
+        int count = MavenMetadataExtractor.extract(bytes, 0, bytes.length,
+            (coordinates, version) -> found.add(coordinates + ":" + version));
+        assertEquals(found.size(), count);
+        return found;
+    }
+
+    @Nested
+    @DisplayName("Metadata Tests")
+    class MetadataTests {
+
+        @Test
+        @DisplayName("Should report listed versions with coordinates")
+        void testVersions() {
+            assertEquals(List.of("org.example:lib:1.0.0", "org.example:lib:1.1.0-rc.1",
+                    "org.example:lib:1.2.0-SNAPSHOT", "org.example:lib:2.0.0"),
+                extract("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n"
+                    + "<metadata>\n"
+                    + "  <groupId>org.example</groupId>\n"
+                    + "  <artifactId>lib</artifactId>\n"
+                    + "  <versioning>\n"
+                    + "    <latest>2.0.0</latest>\n"
+                    + "    <versions>\n"
+                    + "      <version>1.0.0</version>\n"
+                    + "      <version>1.0</version>\n"
+                    + "      <version> 1.1.0-rc.1 </version>\n"
+                    + "      <version>1.2.0-SNAPSHOT</version>\n"
+                    + "      <version>1.3-SNAPSHOT</version>\n"
+                    + "      <version>2.0.0</version>\n"
+                    + "    </versions>\n"
+                    + "  </versioning>\n"
+                    + "</metadata>\n"));
+        }
+
+        @Test
+        @DisplayName("Should use coordinates that follow the versions")
+        void testLateCoordinates() {
+            assertEquals(List.of("g:a:3.0.0"), extract("<metadata><versioning><versions>"
+                + "<version>3.0.0</version></versions></versioning>"
+                + "<artifactId>a</artifactId><groupId>g</groupId></metadata>"));
+        }
+
+        @Test
+        @DisplayName("Should ignore versions outside the version list")
+        void testOtherVersions() {
+            assertEquals(List.of(), extract("<metadata><groupId>g</groupId>"
+                + "<version>1.0.0</version><plugins><plugin><version>1.0.0</version>"
+                + "</plugin></plugins></metadata>"));
+        }
+    }
+
+    @Nested
+    @DisplayName("Error Tests")
+    class ErrorTests {
+
+        @Test
+        @DisplayName("Should reject malformed XML")
+        void testMalformed() {
+            assertThrows(FormatException.class, () -> extract("<metadata><versioning>"));
+        }
+
+        @Test
+        @DisplayName("Should not resolve external entities")
+        void testExternalEntity() {
+            assertThrows(FormatException.class, () -> extract(
+                "<!DOCTYPE m [<!ENTITY x SYSTEM \"file:///etc/passwd\">]>"
+                    + "<metadata><groupId>&x;</groupId></metadata>"));
+        }
+    }
+}
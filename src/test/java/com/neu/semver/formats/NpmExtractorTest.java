@@ -0,0 +1,135 @@
+package com.neu.semver.formats;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for the NpmExtractor class.
+ *
+ * @author Yinlu Gong
+ * @version 0.1.0
+ * @since 0.1.0
+ */
+@DisplayName("NpmExtractor Tests")
+class NpmExtractorTest {
+
+    private static List<String> extract(String json) {
+        List<String> found = new ArrayList<>();
+        byte[] bytes = json.getBytes(StandardCharsets.UTF_8);
+        int count = NpmExtractor.extract(bytes, 0, bytes.length,
+            (coordinates, version) -> found.add(coordinates + "@" + version));
+        assertEquals(found.size(), count);
+        return found;
+    }
+
+    @Nested
+    @DisplayName("Document Tests")
+    class DocumentTests {
+
+        @Test
+        @DisplayName("Should report the package's own version only")
+        void testPackageJson() {
+            assertEquals(List.of("my-app@1.4.0"), extract("{\n"
+                + "  \"name\": \"my-app\",\n"
+                + "  \"version\": \"1.4.0\",\n"
+                + "  \"keywords\": [\"a\", {\"version\": \"9.9.9\"}],\n"
+                + "  \"private\": true,\n"
+                + "  \"dependencies\": {\"version\": \"1.0.0\", \"left-pad\": \"^1.3.0\"}\n"
+                + "}"));
+        }
+
+        @Test
+        @DisplayName("Should report a version that precedes the name")
+        void testVersionFirst() {
+            assertEquals(List.of("late@2.0.0"),
+                extract("{\"version\": \"2.0.0\", \"name\": \"late\"}"));
+            assertEquals(List.of("@2.0.0"), extract("{\"version\": \"2.0.0\"}"));
+        }
+
+        @Test
+        @DisplayName("Should read lockfile v2 packages")
+        void testLockV2() {
+            assertEquals(List.of("app@1.0.0", "a@2.1.0", "b@3.0.0-beta.1", "@scope/c@1.2.3"),
+                extract("{\"name\": \"app\", \"version\": \"1.0.0\", \"lockfileVersion\": 3,\n"
+                    + " \"packages\": {\n"
+                    + "  \"\": {\"name\": \"app\", \"version\": \"1.0.0\"},\n"
+                    + "  \"node_modules/a\": {\"version\": \"2.1.0\", \"dev\": true},\n"
+                    + "  \"node_modules/a/node_modules/b\": {\"version\": \"3.0.0-beta.1\"},\n"
+                    + "  \"node_modules/@scope/c\": {\"version\": \"1.2.3\",\n"
+                    + "     \"dependencies\": {\"a\": \"^2.0.0\"}},\n"
+                    + "  \"node_modules/d\": {\"version\": \"file:../d\"}\n"
+                    + " }}"));
+        }
+
+        @Test
+        @DisplayName("Should skip the legacy dependencies of a lockfile v2")
+        void testLockV2Legacy() {
+            assertEquals(List.of("app@1.0.0", "a@2.1.0"),
+                extract("{\"name\":\"app\",\"version\":\"1.0.0\",\"lockfileVersion\":2,"
+                    + "\"packages\":{\"\":{\"name\":\"app\",\"version\":\"1.0.0\"},"
+                    + "\"node_modules/a\":{\"version\":\"2.1.0\"}},"
+                    + "\"dependencies\":{\"a\":{\"version\":\"2.1.0\"}}}"));
+            assertEquals(List.of("a@2.1.0"),
+                extract("{\"lockfileVersion\":2,"
+                    + "\"dependencies\":{\"a\":{\"version\":\"2.1.0\"}},"
+                    + "\"packages\":{\"node_modules/a\":{\"version\":\"2.1.0\"}}}"));
+        }
+
+        @Test
+        @DisplayName("Should read nested lockfile v1 dependencies")
+        void testLockV1() {
+            assertEquals(List.of("app@1.0.0", "a@1.1.0", "b@0.2.0"),
+                extract("{\"name\":\"app\",\"version\":\"1.0.0\",\"lockfileVersion\":1,"
+                    + "\"dependencies\":{\"a\":{\"version\":\"1.1.0\",\"requires\":{\"b\":\"^0.2.0\"},"
+                    + "\"dependencies\":{\"b\":{\"version\":\"0.2.0\"}}}}}"));
+        }
+
+        @Test
+        @DisplayName("Should decode escaped names and values")
+        void testEscapes() {
+            assertEquals(List.of("café\"x@1.0.0"),
+                extract("{\"n\\u0061me\": \"café\\\"x\", \"version\": \"1.0\\u002e0\"}"));
+        }
+
+        @Test
+        @DisplayName("Should read from a stream")
+        void testStream() throws IOException {
+            List<String> found = new ArrayList<>();
+            NpmExtractor.extract(new ByteArrayInputStream(
+                "{\"name\":\"s\",\"version\":\"0.1.0\"}".getBytes(StandardCharsets.UTF_8)),
+                (coordinates, version) -> found.add(coordinates));
+            assertEquals(List.of("s"), found);
+        }
+    }
+
+    @Nested
+    @DisplayName("Error Tests")
+    class ErrorTests {
+
+        @Test
+        @DisplayName("Should reject malformed JSON")
+        void testMalformed() {
+            assertThrows(FormatException.class, () -> extract("{\"name\": \"x\""));
+            assertThrows(FormatException.class, () -> extract("{\"name\": \"x}"));
+            assertThrows(FormatException.class, () -> extract("{\"a\": [1}"));
+        }
+
+        @Test
+        @DisplayName("Should reject bad arguments")
+        void testArguments() {
+            assertThrows(IllegalArgumentException.class,
+                () -> NpmExtractor.extract(null, 0, 0, (c, v) -> { }));
+            assertThrows(IndexOutOfBoundsException.class,
+                () -> NpmExtractor.extract(new byte[2], 1, 2, (c, v) -> { }));
+        }
+    }
+}
@@ -0,0 +1,210 @@
+package com.neu.semver.git;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.neu.semver.SemVer;
+import com.neu.semver.SortedVersionList;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Unit tests for the GitTagVersionSource class.
+ *
+ * @author Yinlu Gong
+ * @version 0.1.0
+ * @since 0.1.0
+ */
+@DisplayName("GitTagVersionSource Tests")
+class GitTagVersionSourceTest {
+
+    private static final String SHA = "0123456789abcdef0123456789abcdef01234567";
+
+    @TempDir
+    Path repository;
+
+    private Path tags;
+
+    private void looseTag(String name) throws IOException {
+        Path file = tags.resolve(name);
+        Files.createDirectories(file.getParent());
+        Files.write(file, (SHA + "\n").getBytes(StandardCharsets.UTF_8));
+        // Directory times are what refresh() compares; make every change visible.
+        touch(file.getParent());
+    }
+
+    private void touch(Path path) throws IOException {
+        FileTime current = Files.getLastModifiedTime(path);
+        Files.setLastModifiedTime(path,
+            FileTime.from(current.toInstant().plusSeconds(1)));
+    }
+
+    private void packedRefs(String... refs) throws IOException {
+        StringBuilder content = new StringBuilder("# pack-refs with: peeled fully-peeled sorted\n");
+        for (String ref : refs) {
+            content.append(SHA).append(' ').append(ref).append('\n');
+            content.append('^').append(SHA).append('\n');
+        }
+        Path file = repository.resolve(".git").resolve("packed-refs");
+        Files.write(file, content.toString().getBytes(StandardCharsets.UTF_8));
+        Files.setLastModifiedTime(file, FileTime.from(Instant.now().plusSeconds(60)));
+    }
+
+    private static List<String> strings(SortedVersionList versions) {
+        List<String> result = new ArrayList<>();
+        for (SemVer version : versions) {
+            result.add(version.toString());
+        }
+        return result;
+    }
+
+    @BeforeEach
+    void setUp() throws IOException {
+        tags = repository.resolve(".git").resolve("refs").resolve("tags");
+        Files.createDirectories(tags);
+    }
+
+    @Nested
+    @DisplayName("Scan Tests")
+    class ScanTests {
+
+        @Test
+        @DisplayName("Should read loose and packed tags in order")
+        void testScan() throws IOException {
+            looseTag("v1.2.0");
+            looseTag("release/v2.0.0-rc.1");
+            looseTag("nightly");
+            packedRefs("refs/tags/v1.0.0", "refs/heads/main", "refs/tags/release-1.1.0");
+            GitTagVersionSource source = new GitTagVersionSource(repository, "v", "release-");
+            assertEquals(repository.resolve(".git"), source.getGitDirectory());
+            assertEquals(List.of("1.0.0", "1.1.0", "1.2.0"), strings(source.versions()));
+        }
+
+        @Test
+        @DisplayName("Should strip the longest matching prefix")
+        void testPrefixes() throws IOException {
+            looseTag("release-v3.0.0");
+            looseTag("4.0.0");
+            GitTagVersionSource source =
+                new GitTagVersionSource(repository, "release-", "release-v");
+            assertEquals(List.of("3.0.0", "4.0.0"), strings(source.versions()));
+        }
+
+        @Test
+        @DisplayName("Should order by precedence and keep the first duplicate by name")
+        void testOrderAndDuplicates() throws IOException {
+            looseTag("v10.0.0");
+            looseTag("v2.0.0");
+            looseTag("v2.0.0-rc.1");
+            looseTag("v1.0.0+b");
+            looseTag("1.0.0+a");
+            GitTagVersionSource source = new GitTagVersionSource(repository, "v");
+            SortedVersionList versions = source.versions();
+            assertEquals(List.of("1.0.0+a", "2.0.0-rc.1", "2.0.0", "10.0.0"), strings(versions));
+            versions.insert(new SemVer("3.0.0"));
+            assertEquals(4, source.versions().size());
+        }
+
+        @Test
+        @DisplayName("Should accept the git directory itself")
+        void testGitDirectory() throws IOException {
+            looseTag("1.0.0");
+            GitTagVersionSource source = new GitTagVersionSource(repository.resolve(".git"));
+            assertEquals(List.of("1.0.0"), strings(source.versions()));
+        }
+
+        @Test
+        @DisplayName("Should follow a .git file")
+        void testGitFile(@TempDir Path worktree) throws IOException {
+            looseTag("5.0.0");
+            Files.write(worktree.resolve(".git"),
+                ("gitdir: " + repository.resolve(".git") + "\n").getBytes(StandardCharsets.UTF_8));
+            assertEquals(List.of("5.0.0"),
+                strings(new GitTagVersionSource(worktree).versions()));
+        }
+
+        @Test
+        @DisplayName("Should read the tags of a linked worktree from the common directory")
+        void testLinkedWorktree(@TempDir Path worktree) throws IOException {
+            looseTag("6.0.0");
+            packedRefs("refs/tags/6.1.0");
+            Path worktreeGitDir = repository.resolve(".git").resolve("worktrees").resolve("feature");
+            Files.createDirectories(worktreeGitDir.resolve("refs"));
+            Files.write(worktreeGitDir.resolve("commondir"), "../..\n".getBytes(StandardCharsets.UTF_8));
+            Files.write(worktree.resolve(".git"),
+                ("gitdir: " + worktreeGitDir + "\n").getBytes(StandardCharsets.UTF_8));
+            GitTagVersionSource source = new GitTagVersionSource(worktree);
+            assertEquals(worktreeGitDir, source.getGitDirectory());
+            assertEquals(List.of("6.0.0", "6.1.0"), strings(source.versions()));
+            looseTag("6.2.0");
+            assertTrue(source.refresh());
+            assertEquals(List.of("6.0.0", "6.1.0", "6.2.0"), strings(source.versions()));
+        }
+
+        @Test
+        @DisplayName("Should reject null arguments")
+        void testNull() {
+            assertThrows(IllegalArgumentException.class, () -> new GitTagVersionSource(null));
+            assertThrows(IllegalArgumentException.class,
+                () -> new GitTagVersionSource(repository, (String) null));
+        }
+    }
+
+    @Nested
+    @DisplayName("Refresh Tests")
+    class RefreshTests {
+
+        @Test
+        @DisplayName("Should report nothing when refs are unchanged")
+        void testUnchanged() throws IOException {
+            looseTag("1.0.0");
+            GitTagVersionSource source = new GitTagVersionSource(repository);
+            assertTrue(source.refresh());
+            assertFalse(source.refresh());
+        }
+
+        @Test
+        @DisplayName("Should pick up new and removed loose tags")
+        void testLooseChanges() throws IOException {
+            looseTag("1.0.0");
+            GitTagVersionSource source = new GitTagVersionSource(repository);
+            source.refresh();
+            looseTag("ci/2.0.0");
+            assertTrue(source.refresh());
+            assertEquals(List.of("1.0.0"), strings(source.versions()));
+            looseTag("1.1.0");
+            assertTrue(source.refresh());
+            assertEquals(List.of("1.0.0", "1.1.0"), strings(source.versions()));
+            Files.delete(tags.resolve("1.0.0"));
+            touch(tags);
+            assertTrue(source.refresh());
+            assertEquals(List.of("1.1.0"), strings(source.versions()));
+        }
+
+        @Test
+        @DisplayName("Should pick up rewritten and deleted packed-refs")
+        void testPackedChanges() throws IOException {
+            packedRefs("refs/tags/1.0.0");
+            GitTagVersionSource source = new GitTagVersionSource(repository);
+            assertEquals(List.of("1.0.0"), strings(source.versions()));
+            packedRefs("refs/tags/1.0.0", "refs/tags/2.0.0");
+            assertTrue(source.refresh());
+            assertEquals(List.of("1.0.0", "2.0.0"), strings(source.versions()));
+            Files.delete(repository.resolve(".git").resolve("packed-refs"));
+            assertTrue(source.refresh());
+            assertTrue(source.versions().isEmpty());
+        }
+    }
+}
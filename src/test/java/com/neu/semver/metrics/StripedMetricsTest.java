@@ -0,0 +1,150 @@
+package com.neu.semver.metrics;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.neu.semver.IdentifierPool;
+import com.neu.semver.SemVer;
+import com.neu.semver.SemVerMetrics;
+import com.neu.semver.SemVerParser;
+import com.neu.semver.SemVerUtils;
+
+import java.lang.management.ManagementFactory;
+import java.util.Arrays;
+
+import javax.management.ObjectName;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+
+/**
+ * Unit tests for the StripedMetrics class and its JMX exporter.
+ *
+ * @author Yinlu Gong
+ * @version 0.1.0
+ * @since 0.1.0
+ */
+@DisplayName("StripedMetrics Tests")
+class StripedMetricsTest {
+
+    private StripedMetrics metrics;
+
+    @BeforeEach
+    void install() {
+        metrics = new StripedMetrics();
+        SemVerMetrics.install(metrics);
+    }
+
+    @AfterEach
+    void uninstall() {
+        SemVerMetrics.install(null);
+    }
+
+    @Nested
+    @DisplayName("Recording Tests")
+    class RecordingTests {
+
+        @Test
+        @DisplayName("Should count parses and failures by class")
+        void shouldCountParsesAndFailuresByClass() {
+            SemVerParser.parse("1.0.0");
+            SemVerParser.parse("2.0.0");
+            assertThrows(IllegalArgumentException.class, () -> SemVerParser.parse("bad"));
+            assertThrows(IllegalArgumentException.class, () -> SemVerParser.parse(null));
+            MetricsSnapshot snapshot = metrics.snapshot();
+            assertEquals(2, snapshot.getParseCount());
+            assertEquals(2, snapshot.getParseFailureCount());
+            assertEquals(1L, snapshot.getFailuresByClass().get("InvalidSemVerException"));
+            assertEquals(1L, snapshot.getFailuresByClass().get("IllegalArgumentException"));
+            assertTrue(snapshot.getParseLatencyP99Nanos() >= snapshot.getParseLatencyP50Nanos());
+        }
+
+        @Test
+        @DisplayName("Should count comparisons, pool hits and bulk operations")
+        void shouldCountComparisonsPoolHitsAndBulkOperations() {
+            new SemVer("1.0.0").compareTo(new SemVer("2.0.0"));
+            IdentifierPool pool = new IdentifierPool(4);
+            SemVerParser.parse("1.0.0-rc", pool);
+            SemVerParser.parse("2.0.0-rc", pool);
+            SemVerParser.parse("3.0.0-rc", pool);
+            SemVerUtils.findHighestVersion(Arrays.asList("1.0.0", "2.0.0", "3.0.0"));
+            MetricsSnapshot snapshot = metrics.snapshot();
+            assertTrue(snapshot.getComparisonCount() >= 1);
+            assertEquals(1, snapshot.getIdentifierPoolHits());
+            assertEquals(1L, snapshot.getBulkOperations().get("findHighestVersion"));
+            assertNull(snapshot.getBulkOperations().get("sortVersions"));
+            assertEquals(3L, snapshot.getBulkElements().get("findHighestVersion"));
+            assertNotNull(metrics.bulkLatency("findHighestVersion"));
+        }
+
+        @Test
+        @DisplayName("Should stop recording once uninstalled")
+        void shouldStopRecordingOnceUninstalled() {
+            SemVerMetrics.install(null);
+            assertNull(SemVerMetrics.installed());
+            SemVerParser.parse("1.0.0");
+            assertEquals(0, metrics.snapshot().getParseCount());
+        }
+
+        @Test
+        @DisplayName("Should reset all counters")
+        void shouldResetAllCounters() {
+            SemVerParser.parse("1.0.0");
+            metrics.reset();
+            assertEquals(0, metrics.snapshot().getParseCount());
+            assertEquals(0, metrics.snapshot().getParseLatencyP50Nanos());
+        }
+    }
+
+    @Nested
+    @DisplayName("Histogram Tests")
+    class HistogramTests {
+
+        @Test
+        @DisplayName("Should estimate percentiles from power-of-two buckets")
+        void shouldEstimatePercentilesFromBuckets() {
+            LatencyHistogram histogram = new LatencyHistogram();
+            for (int i = 0; i < 99; i++) {
+                histogram.record(100);
+            }
+            histogram.record(5000);
+            histogram.record(-1);
+            long[] counts = histogram.counts();
+            assertEquals(99, counts[6]);
+            assertEquals(1, counts[0]);
+            assertEquals(128, LatencyHistogram.percentile(counts, 50.0));
+            assertEquals(8192, LatencyHistogram.percentile(counts, 100.0));
+            assertEquals(0, LatencyHistogram.percentile(new long[64], 50.0));
+        }
+    }
+
+    @Nested
+    @DisplayName("JMX Tests")
+    class JmxTests {
+
+        @Test
+        @DisplayName("Should expose counters as MBean attributes")
+        void shouldExposeCountersAsMBeanAttributes() throws Exception {
+            ObjectName name = new ObjectName("com.neu.semver:type=SemVerMetricsTest");
+            JmxMetricsExporter exporter = JmxMetricsExporter.register(metrics, name);
+            try {
+                SemVerParser.parse("1.2.3");
+                Object parseCount = ManagementFactory.getPlatformMBeanServer()
+                    .getAttribute(name, "ParseCount");
+                assertEquals(1L, parseCount);
+                assertEquals(name, exporter.getObjectName());
+            } finally {
+                exporter.unregister();
+            }
+            assertFalse(ManagementFactory.getPlatformMBeanServer().isRegistered(name));
+        }
+
+        @Test
+        @DisplayName("Should reject null arguments")
+        void shouldRejectNullArguments() {
+            assertThrows(IllegalArgumentException.class, () -> JmxMetricsExporter.register(null));
+        }
+    }
+}
@@ -0,0 +1,128 @@
+package com.neu.semver.resolve;
+
+import com.neu.semver.SemVer;
+import com.neu.semver.VersionRange;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Measures resolution time on synthetic ecosystems as they grow.
+ *
+ * <p>Package {@code i} has majors 1 to 3 with four minors each, and every
+ * version depends on three packages further along a window of the next
+ * 50, so the graph is acyclic and about as deep as it is wide. Every
+ * version asks for the same major of its dependencies, and the newest
+ * minor of each major asks for the newest minor of its dependencies. In
+ * a given percentage of packages the newest minors are broken: they
+ * depend on a package that does not exist. The resolver first tries the
+ * newest versions, so each broken release makes every newest release
+ * that reaches it fail, and the resolver has to backtrack and learn
+ * its way down to the previous minors. The root depends on the first
+ * 100 packages. Each size is resolved several times with a fresh
+ * {@link Resolver}, and the results are checked to be identical.
+ *
+ * <pre>
+ * java -cp target/classes:target/test-classes com.neu.semver.resolve.ResolverBenchmark \
+ *     [broken-percent] [sizes...]
+ * </pre>
+ *
+ * @author Yinlu Gong
+ * @version 0.1.0
+ * @since 0.1.0
+ */
+final class ResolverBenchmark {
+
+    private static final int[] DEFAULT_SIZES = {1_000, 2_500, 5_000, 10_000};
+    private static final int DEFAULT_BROKEN_PERCENT = 1;
+    private static final String MISSING = "missing";
+    private static final int ROUNDS = 3;
+    private static final int MAJORS = 3;
+    private static final int MINORS = 4;
+    private static final int DEPENDENCIES = 3;
+    private static final int WINDOW = 50;
+    private static final int ROOTS = 100;
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+
+    private ResolverBenchmark() { }
+
+    public static void main(String[] args) {
+        int brokenPercent = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_BROKEN_PERCENT;
+        int[] sizes = args.length > 1
+            ? Arrays.stream(args).skip(1).mapToInt(Integer::parseInt).toArray() : DEFAULT_SIZES;
+        for (int size : sizes) {
+            run(size, brokenPercent);
+        }
+    }
+
+    private static void run(int packages, int brokenPercent) {
+        InMemoryPackageSource source = ecosystem(packages, brokenPercent);
+        Map<String, VersionRange> root = new HashMap<>();
+        for (int i = 0; i < Math.min(ROOTS, packages); i++) {
+            root.put(name(i), VersionRange.parse(">=1.0.0"));
+        }
+        long[] nanos = new long[ROUNDS];
+        Resolution first = null;
+        String outcome = null;
+        for (int round = 0; round < ROUNDS; round++) {
+            long start = System.nanoTime();
+            try {
+                Resolution resolution = new Resolver(source).resolve(root);
+                nanos[round] = System.nanoTime() - start;
+                if (first == null) {
+                    first = resolution;
+                } else if (!first.getVersions().equals(resolution.getVersions())) {
+                    throw new IllegalStateException("resolution is not deterministic");
+                }
+            } catch (ResolutionException e) {
+                nanos[round] = System.nanoTime() - start;
+                outcome = "no solution";
+            }
+        }
+        if (outcome == null) {
+            outcome = String.format(Locale.ROOT, "%d selected, %d decisions, %d conflicts",
+                first.getVersions().size(), first.getDecisions(), first.getConflicts());
+        }
+        System.out.printf(Locale.ROOT,
+            "%6d packages, %6d versions, %d%% broken: %8.1f ms  %s  (median of %d)%n",
+            packages, packages * MAJORS * MINORS, brokenPercent, median(nanos), outcome, ROUNDS);
+    }
+
+    private static InMemoryPackageSource ecosystem(int packages, int brokenPercent) {
+        Random random = new Random(packages);
+        InMemoryPackageSource source = new InMemoryPackageSource();
+        for (int i = 0; i < packages; i++) {
+            boolean broken = random.nextInt(100) < brokenPercent;
+            for (int major = 1; major <= MAJORS; major++) {
+                for (int minor = 0; minor < MINORS; minor++) {
+                    Map<String, VersionRange> dependencies = new HashMap<>();
+                    boolean newest = minor == MINORS - 1;
+                    int window = Math.min(WINDOW, packages - i - 1);
+                    for (int d = 0; d < DEPENDENCIES && window > 0; d++) {
+                        int target = i + 1 + random.nextInt(window);
+                        dependencies.put(name(target), VersionRange.parse(
+                            "^" + major + "." + (newest ? minor : 0) + ".0"));
+                    }
+                    if (broken && newest) {
+                        dependencies.put(MISSING, VersionRange.parse("^1.0.0"));
+                    }
+                    source.add(name(i), new SemVer(major + "." + minor + ".0"), dependencies);
+                }
+            }
+        }
+        return source;
+    }
+
+    private static String name(int index) {
+        return "pkg" + index;
+    }
+
+    private static double median(long[] nanos) {
+        long[] sorted = nanos.clone();
+        Arrays.sort(sorted);
+        return sorted[sorted.length / 2] / NANOS_PER_MILLI;
+    }
+}
@@ -0,0 +1,219 @@
+package com.neu.semver.resolve;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.neu.semver.SemVer;
+import com.neu.semver.VersionRange;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for the Resolver class.
+ *
+ * @author Yinlu Gong
+ * @version 0.1.0
+ * @since 0.1.0
+ */
+@DisplayName("Resolver Tests")
+class ResolverTest {
+
+    private static Map<String, VersionRange> deps(String... pairs) {
+        Map<String, VersionRange> result = new LinkedHashMap<>();
+        for (int i = 0; i < pairs.length; i += 2) {
+            result.put(pairs[i], VersionRange.parse(pairs[i + 1]));
+        }
+        return result;
+    }
+
+    private static String selected(Resolution resolution, String name) {
+        SemVer version = resolution.getVersion(name);
+        return version == null ? null : version.toString();
+    }
+
+    @Nested
+    @DisplayName("Solving Tests")
+    class SolvingTests {
+
+        @Test
+        @DisplayName("Should pick the highest versions when there is no conflict")
+        void shouldPickHighestWithoutConflict() {
+            InMemoryPackageSource source = new InMemoryPackageSource()
+                .add("foo", "1.0.0", "bar ^1.0.0")
+                .add("foo", "1.1.0", "bar ^1.0.0")
+                .add("bar", "1.0.0")
+                .add("bar", "1.2.0")
+                .add("bar", "2.0.0");
+            Resolution resolution = new Resolver(source).resolve(deps("foo", "^1.0.0"));
+            assertEquals("1.1.0", selected(resolution, "foo"));
+            assertEquals("1.2.0", selected(resolution, "bar"));
+            assertEquals(2, resolution.getVersions().size());
+            assertEquals(0, resolution.getConflicts());
+        }
+
+        @Test
+        @DisplayName("Should avoid a conflict found during decision making")
+        void shouldAvoidConflictDuringDecisionMaking() {
+            InMemoryPackageSource source = new InMemoryPackageSource()
+                .add("foo", "1.0.0")
+                .add("foo", "1.1.0", "bar ^2.0.0")
+                .add("bar", "1.0.0")
+                .add("bar", "1.1.0")
+                .add("bar", "2.0.0");
+            Resolution resolution = new Resolver(source)
+                .resolve(deps("foo", "^1.0.0", "bar", "^1.0.0"));
+            assertEquals("1.0.0", selected(resolution, "foo"));
+            assertEquals("1.1.0", selected(resolution, "bar"));
+        }
+
+        @Test
+        @DisplayName("Should resolve a conflict by learning")
+        void shouldResolveConflictByLearning() {
+            InMemoryPackageSource source = new InMemoryPackageSource()
+                .add("foo", "1.0.0")
+                .add("foo", "2.0.0", "bar ^1.0.0")
+                .add("bar", "1.0.0", "foo ^1.0.0");
+            Resolution resolution = new Resolver(source).resolve(deps("foo", ">=1.0.0"));
+            assertEquals("1.0.0", selected(resolution, "foo"));
+            assertNull(selected(resolution, "bar"));
+            assertTrue(resolution.getConflicts() > 0);
+        }
+
+        @Test
+        @DisplayName("Should backjump over a partially satisfied conflict")
+        void shouldBackjumpWithPartialSatisfier() {
+            InMemoryPackageSource source = new InMemoryPackageSource()
+                .add("foo", "1.0.0")
+                .add("foo", "1.1.0", "left ^1.0.0", "right ^1.0.0")
+                .add("left", "1.0.0", "shared >=1.0.0")
+                .add("right", "1.0.0", "shared <2.0.0")
+                .add("shared", "2.0.0")
+                .add("shared", "1.0.0", "target ^1.0.0")
+                .add("target", "2.0.0")
+                .add("target", "1.0.0");
+            Resolution resolution = new Resolver(source)
+                .resolve(deps("foo", "^1.0.0", "target", "^2.0.0"));
+            assertEquals("1.0.0", selected(resolution, "foo"));
+            assertEquals("2.0.0", selected(resolution, "target"));
+            assertEquals(2, resolution.getVersions().size());
+        }
+
+        @Test
+        @DisplayName("Should resolve an empty root")
+        void shouldResolveEmptyRoot() {
+            Resolution resolution = new Resolver(new InMemoryPackageSource())
+                .resolve(Collections.emptyMap());
+            assertTrue(resolution.getVersions().isEmpty());
+        }
+
+        @Test
+        @DisplayName("Should give identical results on repeated runs")
+        void shouldBeDeterministic() {
+            InMemoryPackageSource source = new InMemoryPackageSource();
+            for (int major = 1; major <= 3; major++) {
+                for (String name : new String[] {"a", "b", "c", "d"}) {
+                    source.add(name, major + ".0.0", "e ^" + major + ".0.0");
+                }
+                source.add("e", major + ".0.0");
+            }
+            Map<String, VersionRange> root = deps("a", "*", "b", "*", "c", "<3.0.0", "d", "*");
+            Resolution first = new Resolver(source).resolve(root);
+            for (int i = 0; i < 5; i++) {
+                assertEquals(first.getVersions(), new Resolver(source).resolve(root).getVersions());
+            }
+            assertEquals("2.0.0", selected(first, "e"));
+        }
+    }
+
+    @Nested
+    @DisplayName("Failure Tests")
+    class FailureTests {
+
+        @Test
+        @DisplayName("Should explain a linear chain of conflicts")
+        void shouldExplainLinearConflict() {
+            InMemoryPackageSource source = new InMemoryPackageSource()
+                .add("foo", "1.0.0", "bar ^2.0.0")
+                .add("bar", "2.0.0", "baz ^3.0.0")
+                .add("baz", "1.0.0")
+                .add("baz", "3.0.0");
+            ResolutionException e = assertThrows(ResolutionException.class,
+                () -> new Resolver(source).resolve(deps("foo", "^1.0.0", "baz", "^1.0.0")));
+            assertTrue(e.getMessage().contains("foo 1.0.0 depends on bar ^2.0.0"), e.getMessage());
+            assertTrue(e.getMessage().contains("bar 2.0.0 depends on baz ^3.0.0"), e.getMessage());
+            assertTrue(e.getMessage().contains("the root package depends on baz ^1.0.0"), e.getMessage());
+        }
+
+        @Test
+        @DisplayName("Should report unknown packages")
+        void shouldReportUnknownPackage() {
+            ResolutionException e = assertThrows(ResolutionException.class,
+                () -> new Resolver(new InMemoryPackageSource()).resolve(deps("ghost", "^1.0.0")));
+            assertTrue(e.getMessage().contains("ghost ^1.0.0 (unknown package)"), e.getMessage());
+        }
+
+        @Test
+        @DisplayName("Should report ranges with no matching versions")
+        void shouldReportNoMatchingVersions() {
+            InMemoryPackageSource source = new InMemoryPackageSource().add("foo", "1.0.0");
+            ResolutionException e = assertThrows(ResolutionException.class,
+                () -> new Resolver(source).resolve(deps("foo", "^2.0.0")));
+            assertTrue(e.getMessage().contains("(no matching versions)"), e.getMessage());
+        }
+
+        @Test
+        @DisplayName("Should reject null arguments")
+        void shouldRejectNullArguments() {
+            assertThrows(IllegalArgumentException.class, () -> new Resolver(null));
+            assertThrows(IllegalArgumentException.class,
+                () -> new Resolver(new InMemoryPackageSource()).resolve(null));
+            assertThrows(IllegalArgumentException.class,
+                () -> new InMemoryPackageSource().add("a", "1.0.0", "b"));
+        }
+    }
+
+    @Nested
+    @DisplayName("Scale Tests")
+    class ScaleTests {
+
+        @Test
+        @DisplayName("Should resolve a layered synthetic ecosystem")
+        void shouldResolveLayeredEcosystem() {
+            int layers = 20;
+            int width = 100;
+            InMemoryPackageSource source = new InMemoryPackageSource();
+            for (int layer = 0; layer < layers; layer++) {
+                for (int i = 0; i < width; i++) {
+                    String name = "p" + layer + "_" + i;
+                    for (int major = 1; major <= 3; major++) {
+                        if (layer + 1 < layers) {
+                            String next = "p" + (layer + 1) + "_";
+                            // The newest major of every package needs a
+                            // dependency major that does not exist.
+                            int wanted = major == 3 ? 4 : major;
+                            source.add(name, major + ".0.0",
+                                next + i + " ^" + wanted + ".0.0",
+                                next + ((i + 1) % width) + " >=1.0.0 <3.0.0");
+                        } else {
+                            source.add(name, major + ".0.0");
+                        }
+                    }
+                }
+            }
+            Map<String, VersionRange> root = new LinkedHashMap<>();
+            for (int i = 0; i < width; i++) {
+                root.put("p0_" + i, VersionRange.parse("*"));
+            }
+            Resolution resolution = new Resolver(source).resolve(root);
+            assertEquals(layers * width, resolution.getVersions().size());
+            for (Map.Entry<String, SemVer> entry : resolution.getVersions().entrySet()) {
+                assertEquals(2, entry.getValue().getMajor(), entry.getKey());
+            }
+        }
+    }
+}
@@ -0,0 +1,172 @@
+package com.neu.semver.server;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.ConnectException;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Load test for {@link SemVerServer} with many concurrent clients on
+ * localhost.
+ *
+ * <p>The server runs from the jar in its own JVM with the default limits,
+ * so client and server do not share file descriptors or a heap. The
+ * clients are asynchronous requests of one {@link HttpClient}, each on
+ * its own connection. All clients start at once, and each sends its
+ * requests one after another, cycling through {@code /validate},
+ * {@code /sort}, {@code /highest} and {@code /satisfies} with 20
+ * versions per body. The report gives throughput over the whole run,
+ * the p50, p99 and maximum latency of successful requests, and the
+ * number of requests shed with 503 or failed at the connection.
+ *
+ * <pre>
+ * mvn clean package
+ * java -cp target/test-classes com.neu.semver.server.SemVerServerLoadBenchmark \
+ *     target/semver-java-0.1.0.jar [clients] [requests-per-client]
+ * </pre>
+ *
+ * @author Yinlu Gong
+ * @version 0.1.0
+ * @since 0.1.0
+ */
+final class SemVerServerLoadBenchmark {
+
+    private static final String SERVER = "com.neu.semver.server.SemVerServer";
+    private static final int DEFAULT_CLIENTS = 10_000;
+    private static final int DEFAULT_REQUESTS = 5;
+    private static final int VERSIONS_PER_REQUEST = 20;
+    private static final int STATUS_OK = 200;
+    private static final int STATUS_UNAVAILABLE = 503;
+    private static final Duration TIMEOUT = Duration.ofSeconds(60);
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+    private static final String[] PATHS = {
+        "/validate", "/sort", "/highest", "/satisfies?range=%5E1.2.0"
+    };
+
+    private SemVerServerLoadBenchmark() { }
+
+    public static void main(String[] args) throws Exception {
+        if (args.length < 1 || args.length > 3) {
+            System.err.println("usage: SemVerServerLoadBenchmark <jar> [clients] [requests-per-client]");
+            System.exit(2);
+        }
+        int clients = args.length > 1 ? Integer.parseInt(args[1]) : DEFAULT_CLIENTS;
+        int requests = args.length > 2 ? Integer.parseInt(args[2]) : DEFAULT_REQUESTS;
+        int port;
+        try (ServerSocket socket = new ServerSocket(0)) {
+            port = socket.getLocalPort();
+        }
+        Process server = new ProcessBuilder(
+                System.getProperty("java.home") + File.separator + "bin" + File.separator + "java",
+                "-cp", args[0], SERVER, String.valueOf(port))
+            .inheritIO().start();
+        try {
+            awaitListening(port);
+            run(port, clients, requests);
+        } finally {
+            server.destroy();
+            server.waitFor();
+        }
+    }
+
+    private static void awaitListening(int port) throws InterruptedException, IOException {
+        boolean listening = false;
+        while (!listening) {
+            try (Socket socket = new Socket(InetAddress.getLoopbackAddress(), port)) {
+                listening = true;
+            } catch (ConnectException e) {
+                Thread.sleep(50);
+            }
+        }
+    }
+
+    private static void run(int port, int clients, int requests) {
+        StringBuilder body = new StringBuilder();
+        for (int i = 0; i < VERSIONS_PER_REQUEST; i++) {
+            body.append("\"1.").append(i).append(".0-rc.").append(i).append("\"\n");
+        }
+        HttpClient client = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(TIMEOUT)
+            .build();
+        List<HttpRequest> templates = new ArrayList<>();
+        for (String path : PATHS) {
+            templates.add(HttpRequest.newBuilder(URI.create("http://127.0.0.1:" + port + path))
+                .timeout(TIMEOUT)
+                .POST(HttpRequest.BodyPublishers.ofString(body.toString()))
+                .build());
+        }
+
+        long[] latencies = new long[clients * requests];
+        AtomicInteger completed = new AtomicInteger();
+        AtomicInteger shed = new AtomicInteger();
+        AtomicInteger failed = new AtomicInteger();
+        long start = System.nanoTime();
+        CompletableFuture<?>[] done = new CompletableFuture<?>[clients];
+        for (int c = 0; c < clients; c++) {
+            done[c] = send(client, templates, c, requests, latencies, completed, shed, failed);
+        }
+        CompletableFuture.allOf(done).join();
+        long elapsed = System.nanoTime() - start;
+
+        int ok = completed.get();
+        long[] sorted = Arrays.copyOf(latencies, ok);
+        Arrays.sort(sorted);
+        System.out.printf(Locale.ROOT,
+            "%d clients x %d requests on Java %d: %.0f requests/s over %.1f s%n"
+                + "  latency p50 %.1f ms  p99 %.1f ms  max %.1f ms (%d ok, %d shed with 503, %d failed)%n",
+            clients, requests, Runtime.version().feature(),
+            ok / (elapsed / NANOS_PER_MILLI / 1000.0), elapsed / NANOS_PER_MILLI / 1000.0,
+            percentile(sorted, 50), percentile(sorted, 99), percentile(sorted, 100),
+            ok, shed.get(), failed.get());
+    }
+
+    /** Sends one client's requests in sequence. */
+    private static CompletableFuture<?> send(HttpClient client, List<HttpRequest> templates,
+            int index, int remaining, long[] latencies, AtomicInteger completed,
+            AtomicInteger shed, AtomicInteger failed) {
+        CompletableFuture<?> result = CompletableFuture.completedFuture(null);
+        if (remaining > 0) {
+            long start = System.nanoTime();
+            HttpRequest request = templates.get((index + remaining) % templates.size());
+            result = client.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+                .handle((response, error) -> {
+                    if (error != null) {
+                        failed.incrementAndGet();
+                    } else if (response.statusCode() == STATUS_OK) {
+                        latencies[completed.getAndIncrement()] = System.nanoTime() - start;
+                    } else if (response.statusCode() == STATUS_UNAVAILABLE) {
+                        shed.incrementAndGet();
+                    } else {
+                        failed.incrementAndGet();
+                    }
+                    return null;
+                })
+                .thenCompose(ignored -> send(client, templates, index, remaining - 1,
+                    latencies, completed, shed, failed));
+        }
+        return result;
+    }
+
+    private static double percentile(long[] sorted, int percent) {
+        double result = 0;
+        if (sorted.length > 0) {
+            int index = (int) Math.ceil(percent / 100.0 * sorted.length) - 1;
+            result = sorted[Math.max(index, 0)] / NANOS_PER_MILLI;
+        }
+        return result;
+    }
+}
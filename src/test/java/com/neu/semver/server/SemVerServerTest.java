@@ -0,0 +1,164 @@
+package com.neu.semver.server;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+
+/**
+ * Unit tests for the SemVerServer class.
+ *
+ * @author Yinlu Gong
+ * @version 0.1.0
+ * @since 0.1.0
+ */
+@DisplayName("SemVerServer Tests")
+class SemVerServerTest {
+
+    private SemVerServer server;
+    private final HttpClient client = HttpClient.newHttpClient();
+
+    @BeforeEach
+    void startServer() throws IOException {
+        server = SemVerServer.start(
+            new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 256, 4);
+    }
+
+    @AfterEach
+    void stopServer() {
+        server.stop();
+    }
+
+    private HttpResponse<String> post(String path, String body) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(
+                URI.create("http://127.0.0.1:" + server.port() + path))
+            .POST(HttpRequest.BodyPublishers.ofString(body))
+            .build();
+        return client.send(request, HttpResponse.BodyHandlers.ofString());
+    }
+
+    @Nested
+    @DisplayName("Endpoint Tests")
+    class EndpointTests {
+
+        @Test
+        @DisplayName("Should validate each line")
+        void shouldValidateEachLine() throws Exception {
+            HttpResponse<String> response = post("/validate", "\"1.0.0\"\nnot-a-version\n\n");
+            assertEquals(200, response.statusCode());
+            assertEquals("{\"version\":\"1.0.0\",\"valid\":true}\n"
+                + "{\"version\":\"not-a-version\",\"valid\":false}\n", response.body());
+        }
+
+        @Test
+        @DisplayName("Should sort newest first")
+        void shouldSortNewestFirst() throws Exception {
+            HttpResponse<String> response = post("/sort", "\"1.0.0\"\n\"2.0.0\"\n\"1.5.0-rc.1\"\n");
+            assertEquals(200, response.statusCode());
+            assertEquals("\"2.0.0\"\n\"1.5.0-rc.1\"\n\"1.0.0\"\n", response.body());
+        }
+
+        @Test
+        @DisplayName("Should reject invalid versions when sorting")
+        void shouldRejectInvalidVersionsWhenSorting() throws Exception {
+            HttpResponse<String> response = post("/sort", "\"1.0.0\"\n\"bad\"\n");
+            assertEquals(400, response.statusCode());
+            assertTrue(response.body().startsWith("{\"error\":"));
+        }
+
+        @Test
+        @DisplayName("Should return the highest version")
+        void shouldReturnHighestVersion() throws Exception {
+            HttpResponse<String> response = post("/highest", "1.0.0\n3.0.0\n2.0.0\n");
+            assertEquals("\"3.0.0\"\n", response.body());
+        }
+
+        @Test
+        @DisplayName("Should check versions against a range")
+        void shouldCheckVersionsAgainstRange() throws Exception {
+            String range = URLEncoder.encode(">=2.0.0 <3.0.0", StandardCharsets.UTF_8);
+            HttpResponse<String> response = post("/satisfies?range=" + range, "\"2.1.0\"\n\"3.0.0\"\n");
+            assertEquals("{\"version\":\"2.1.0\",\"satisfies\":true}\n"
+                + "{\"version\":\"3.0.0\",\"satisfies\":false}\n", response.body());
+        }
+
+        @Test
+        @DisplayName("Should require a range parameter")
+        void shouldRequireRangeParameter() throws Exception {
+            assertEquals(400, post("/satisfies", "\"1.0.0\"\n").statusCode());
+        }
+    }
+
+    @Nested
+    @DisplayName("Limit Tests")
+    class LimitTests {
+
+        @Test
+        @DisplayName("Should reject oversize bodies")
+        void shouldRejectOversizeBodies() throws Exception {
+            String body = "\"1.0.0\"\n".repeat(100);
+            assertEquals(413, post("/sort", body).statusCode());
+        }
+
+        @Test
+        @DisplayName("Should reject non-POST requests")
+        void shouldRejectNonPostRequests() throws Exception {
+            HttpRequest request = HttpRequest.newBuilder(
+                    URI.create("http://127.0.0.1:" + server.port() + "/sort"))
+                .GET()
+                .build();
+            assertEquals(405, client.send(request, HttpResponse.BodyHandlers.ofString()).statusCode());
+        }
+
+        @Test
+        @DisplayName("Should check the method before the range")
+        void shouldCheckMethodBeforeRange() throws Exception {
+            HttpRequest request = HttpRequest.newBuilder(
+                    URI.create("http://127.0.0.1:" + server.port() + "/satisfies"))
+                .GET()
+                .build();
+            assertEquals(405, client.send(request, HttpResponse.BodyHandlers.ofString()).statusCode());
+        }
+
+        @Test
+        @DisplayName("Should reject a malformed Content-Length")
+        void shouldRejectMalformedContentLength() throws Exception {
+            try (Socket socket = new Socket(InetAddress.getLoopbackAddress(), server.port())) {
+                OutputStream out = socket.getOutputStream();
+                out.write(("POST /sort HTTP/1.1\r\nHost: localhost\r\n"
+                    + "Content-Length: 12abc\r\nConnection: close\r\n\r\n")
+                    .getBytes(StandardCharsets.US_ASCII));
+                out.flush();
+                BufferedReader in = new BufferedReader(new InputStreamReader(
+                    socket.getInputStream(), StandardCharsets.US_ASCII));
+                assertTrue(in.readLine().startsWith("HTTP/1.1 400"));
+            }
+        }
+
+        @Test
+        @DisplayName("Should reject invalid limits")
+        void shouldRejectInvalidLimits() {
+            assertThrows(IllegalArgumentException.class,
+                () -> SemVerServer.start(new InetSocketAddress(0), 0, 1));
+            assertThrows(IllegalArgumentException.class,
+                () -> SemVerServer.start(null, 1, 1));
+        }
+    }
+}